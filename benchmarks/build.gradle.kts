@@ -0,0 +1,112 @@
+import groovy.json.JsonSlurper
+
+plugins {
+  id("te.java-conventions")
+  alias(libs.plugins.jmh)
+}
+
+dependencies {
+  jmh(projects.truthExtensionsCurrency)
+  jmh(projects.truthExtensionsTime)
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("baselines/results.json")
+
+jmh {
+  jmhVersion.set(libs.versions.jmh)
+  benchmarkMode.add("avgt")
+  timeUnit.set("ns")
+  fork.set(1)
+  warmupIterations.set(3)
+  iterations.set(5)
+  profilers.add("gc")
+  resultFormat.set("JSON")
+  resultsFile.set(jmhResults)
+  (findProperty("jmh.includes") as String?)?.let { includes.add(it) }
+}
+
+tasks {
+  // The benchmarks are never published, even though the conventions configure a publication for every Java project.
+  withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+  }
+
+  // Neither baseline task runs the benchmarks, so the results of one run can be checked and recorded without running them again.
+  register("jmhUpdateBaseline") {
+    group = "benchmark"
+    description = "Replaces the local JMH baseline with the results of the last jmh run."
+    inputs.file(jmhResults).optional()
+    outputs.file(jmhBaseline)
+
+    doLast {
+      val resultsFile = jmhResults.get().asFile
+      requireJmhResults(resultsFile)
+      resultsFile.copyTo(jmhBaseline.asFile, overwrite = true)
+    }
+  }
+
+  register("jmhCheckBaseline") {
+    group = "benchmark"
+    description = "Fails if the last jmh run regressed in time or allocation against the local baseline. Not part of any build gate."
+    inputs.file(jmhResults).optional()
+    inputs.file(jmhBaseline).optional()
+
+    doLast {
+      requireJmhResults(jmhResults.get().asFile)
+      val baselineFile = jmhBaseline.asFile
+      // The check only runs when asked for, so a missing baseline is an error rather than a silent pass.
+      if (!baselineFile.isFile) {
+        throw GradleException(
+            "No JMH baseline at ${baselineFile.relativeTo(rootDir)}; run jmh and then jmhUpdateBaseline on this machine to record one."
+        )
+      }
+
+      // Tolerance is relative; the default allows for the noise between two runs on the same CI agent.
+      val tolerance = (findProperty("jmh.tolerance") as String?)?.toDouble() ?: 0.15
+      val baseline = readJmhScores(baselineFile)
+      val current = readJmhScores(jmhResults.get().asFile)
+      val regressions = current.mapNotNull { (key, score) ->
+        val expected = baseline[key] ?: return@mapNotNull null
+        if (score > expected * (1 + tolerance) && score - expected > 1.0) {
+          "$key: %.2f -> %.2f".format(expected, score)
+        } else {
+          null
+        }
+      }
+
+      if (regressions.isNotEmpty()) {
+        throw GradleException("JMH results regressed by more than ${tolerance * 100}%:\n  " + regressions.joinToString("\n  "))
+      }
+    }
+  }
+}
+
+/**
+ * Fails if no JMH run has written its results yet.
+ */
+fun requireJmhResults(file: File) {
+  if (!file.isFile) {
+    throw GradleException("No JMH results at ${file.relativeTo(rootDir)}; run jmh first.")
+  }
+}
+
+/**
+ * Reads the average time and, if profiled, the normalised allocation rate of every benchmark in a JMH JSON result file.
+ */
+fun readJmhScores(file: File): Map<String, Double> {
+  @Suppress("UNCHECKED_CAST")
+  val runs = JsonSlurper().parse(file) as List<Map<String, Any?>>
+  val scores = mutableMapOf<String, Double>()
+  for (run in runs) {
+    val params = (run["params"] as Map<*, *>?)?.entries?.joinToString(",", "[", "]") { "${it.key}=${it.value}" } ?: ""
+    val name = "${run["benchmark"]}$params"
+    scores["$name time"] = ((run["primaryMetric"] as Map<*, *>)["score"] as Number).toDouble()
+    // JMH prefixes secondary metrics with a middle dot before 1.36, and not after.
+    (run["secondaryMetrics"] as Map<*, *>?)
+        ?.entries
+        ?.firstOrNull { (it.key as String).endsWith("gc.alloc.rate.norm") }
+        ?.let { scores["$name alloc"] = ((it.value as Map<*, *>)["score"] as Number).toDouble() }
+  }
+  return scores
+}
@@ -0,0 +1,46 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import dev.mardroemmar.truthext.currency.AmountScalesSubject;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for checking the scales of a million amounts with {@link AmountScalesSubject}.
+ */
+@State(Scope.Benchmark)
+public class AmountScalesSubjectBenchmark {
+  private static final int ROWS = 1_000_000;
+  private static final Currency[] CURRENCIES = {
+      Currency.getInstance("EUR"), Currency.getInstance("JPY"), Currency.getInstance("KWD"),
+  };
+
+  private List<BigDecimal> amounts;
+  private List<Currency> currencies;
+
+  @Setup
+  public void setUp() {
+    this.amounts = new ArrayList<>(ROWS);
+    this.currencies = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; ++i) {
+      final Currency currency = CURRENCIES[i % CURRENCIES.length];
+      this.amounts.add(BigDecimal.valueOf(i, currency.getDefaultFractionDigits()));
+      this.currencies.add(currency);
+    }
+  }
+
+  @Benchmark
+  public void allHaveCurrencyScalePass() {
+    AmountScalesSubject.assertThat(this.amounts, this.currencies).allHaveCurrencyScale();
+  }
+
+  @Benchmark
+  public void allFitCurrencyScalePass() {
+    AmountScalesSubject.assertThat(this.amounts, this.currencies).allFitCurrencyScale();
+  }
+}
@@ -0,0 +1,54 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import dev.mardroemmar.truthext.currency.CurrencyCodeSet;
+import dev.mardroemmar.truthext.currency.CurrencyCodesSubject;
+import java.nio.charset.StandardCharsets;
+import java.util.Currency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for checking a column of a million currency codes with {@link CurrencyCodesSubject}, against checking each code through
+ * {@link Currency#getInstance(String)}.
+ */
+@State(Scope.Benchmark)
+public class CurrencyCodesSubjectBenchmark {
+  private static final int ROWS = 1_000_000;
+  private static final String[] CODES = {"EUR", "USD", "GBP", "JPY", "SEK", "CHF"};
+
+  private byte[] bytes;
+  private String[] strings;
+  private CurrencyCodeSet allowed = CurrencyCodeSet.of(CODES);
+
+  @Setup
+  public void setUp() {
+    final StringBuilder builder = new StringBuilder(ROWS * 3);
+    this.strings = new String[ROWS];
+    for (int i = 0; i < ROWS; ++i) {
+      this.strings[i] = CODES[i % CODES.length];
+      builder.append(this.strings[i]);
+    }
+    this.bytes = builder.toString().getBytes(StandardCharsets.US_ASCII);
+  }
+
+  @Benchmark
+  public void bytesAvailable() {
+    CurrencyCodesSubject.assertThat(this.bytes).areAllAvailable();
+  }
+
+  @Benchmark
+  public void stringsAllowed() {
+    CurrencyCodesSubject.assertThat(this.strings).areAllIn(this.allowed);
+  }
+
+  @Benchmark
+  public int stringsGetInstance() {
+    int valid = 0;
+    for (final String code : this.strings) {
+      valid += Currency.getInstance(code).getDefaultFractionDigits() >= 0 ? 1 : 0;
+    }
+    return valid;
+  }
+}
@@ -0,0 +1,67 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import static dev.mardroemmar.truthext.benchmarks.Failures.expectFailure;
+
+import dev.mardroemmar.truthext.currency.CurrencySubject;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the pass and fail paths of {@link CurrencySubject}.
+ */
+@State(Scope.Benchmark)
+public class CurrencySubjectBenchmark {
+  private Currency euro = Currency.getInstance("EUR");
+  private Locale germany = Locale.GERMANY;
+  private List<Locale> locales = Arrays.asList(Locale.getAvailableLocales());
+
+  @Benchmark
+  public void currencyCodePass() {
+    CurrencySubject.assertThat(this.euro).currencyCode().isEqualTo("EUR");
+  }
+
+  @Benchmark
+  public AssertionError currencyCodeFail() {
+    return expectFailure(() -> CurrencySubject.assertThat(this.euro).currencyCode().isEqualTo("SEK"));
+  }
+
+  @Benchmark
+  public void symbolPass() {
+    CurrencySubject.assertThat(this.euro).symbol(this.germany).isEqualTo("\u20ac");
+  }
+
+  @Benchmark
+  public AssertionError symbolFail() {
+    return expectFailure(() -> CurrencySubject.assertThat(this.euro).symbol(this.germany).isEqualTo("kr"));
+  }
+
+  @Benchmark
+  public void displayNamePass() {
+    CurrencySubject.assertThat(this.euro).displayName(Locale.ENGLISH).isEqualTo("Euro");
+  }
+
+  @Benchmark
+  public void defaultFractionDigitsPass() {
+    CurrencySubject.assertThat(this.euro).defaultFractionDigits().isEqualTo(2);
+  }
+
+  @Benchmark
+  public void isOneOfPass() {
+    CurrencySubject.assertThat(this.euro).isOneOf("USD", "GBP", "EUR");
+  }
+
+  @Benchmark
+  public void isAvailablePass() {
+    CurrencySubject.assertThat(this.euro).isAvailable();
+  }
+
+  @Benchmark
+  public void symbolsInPass() {
+    CurrencySubject.assertThat(this.euro).symbolsIn(this.locales).containsEntry(this.germany, "\u20ac");
+  }
+}
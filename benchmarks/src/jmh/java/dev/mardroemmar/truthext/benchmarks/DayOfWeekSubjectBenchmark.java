@@ -0,0 +1,38 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import static dev.mardroemmar.truthext.benchmarks.Failures.expectFailure;
+
+import dev.mardroemmar.truthext.time.DayOfWeekSubject;
+import java.time.DayOfWeek;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the pass and fail paths of {@link DayOfWeekSubject}.
+ */
+@State(Scope.Benchmark)
+public class DayOfWeekSubjectBenchmark {
+  private DayOfWeek monday = DayOfWeek.MONDAY;
+  private DayOfWeek friday = DayOfWeek.FRIDAY;
+
+  @Benchmark
+  public void isBeforePass() {
+    DayOfWeekSubject.assertThat(this.monday).isBefore(this.friday);
+  }
+
+  @Benchmark
+  public AssertionError isBeforeFail() {
+    return expectFailure(() -> DayOfWeekSubject.assertThat(this.friday).isBefore(this.monday));
+  }
+
+  @Benchmark
+  public void valuePass() {
+    DayOfWeekSubject.assertThat(this.friday).value().isEqualTo(5);
+  }
+
+  @Benchmark
+  public AssertionError valueFail() {
+    return expectFailure(() -> DayOfWeekSubject.assertThat(this.friday).value().isEqualTo(1));
+  }
+}
@@ -0,0 +1,40 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import static dev.mardroemmar.truthext.benchmarks.Failures.expectFailure;
+
+import dev.mardroemmar.truthext.time.DurationSubject;
+import java.time.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the pass and fail paths of {@link DurationSubject}.
+ */
+@State(Scope.Benchmark)
+public class DurationSubjectBenchmark {
+  private Duration max = Duration.ofMillis(5L);
+  private Duration tolerance = Duration.ofNanos(500L);
+  private long start = 1_000_000L;
+  private long end = 4_000_000L;
+
+  @Benchmark
+  public void isAtMostPass() {
+    DurationSubject.assertThat(Duration.ofNanos(this.end - this.start)).isAtMost(this.max);
+  }
+
+  @Benchmark
+  public void elapsedIsAtMostPass() {
+    DurationSubject.assertThatElapsed(this.start, this.end).isAtMost(this.max);
+  }
+
+  @Benchmark
+  public AssertionError elapsedIsAtMostFail() {
+    return expectFailure(() -> DurationSubject.assertThatElapsed(this.end, this.start + this.max.toNanos() * 2).isAtMost(this.max));
+  }
+
+  @Benchmark
+  public void isWithinOfNanosPass() {
+    DurationSubject.assertThatElapsed(this.start, this.end).isWithin(this.tolerance).ofNanos(this.end - this.start + 100L);
+  }
+}
@@ -0,0 +1,25 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+/**
+ * Helpers for benchmarking the failing path of an assertion.
+ */
+final class Failures {
+  private Failures() {
+  }
+
+  /**
+   * Run the {@code assertion}, expecting it to fail.
+   *
+   * @param assertion the assertion to run
+   * @return the failure thrown by the {@code assertion}, so it escapes to the benchmark harness
+   * @throws IllegalStateException if the {@code assertion} passed
+   */
+  static AssertionError expectFailure(final Runnable assertion) {
+    try {
+      assertion.run();
+    } catch (final AssertionError ex) {
+      return ex;
+    }
+    throw new IllegalStateException("assertion was expected to fail");
+  }
+}
@@ -0,0 +1,64 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import static dev.mardroemmar.truthext.benchmarks.Failures.expectFailure;
+
+import dev.mardroemmar.truthext.time.InstantSubject;
+import java.time.Instant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the pass and fail paths of {@link InstantSubject}.
+ */
+@State(Scope.Benchmark)
+public class InstantSubjectBenchmark {
+  private Instant earlier = Instant.parse("2022-01-11T12:00:00Z");
+  private Instant later = this.earlier.plusSeconds(1L);
+  private String iso = "2022-01-11T12:00:00.123456789Z";
+
+  @Benchmark
+  public void isBeforePass() {
+    InstantSubject.assertThat(this.earlier).isBefore(this.later);
+  }
+
+  @Benchmark
+  public AssertionError isBeforeFail() {
+    return expectFailure(() -> InstantSubject.assertThat(this.later).isBefore(this.earlier));
+  }
+
+  @Benchmark
+  public void isAfterOrEqualToPass() {
+    InstantSubject.assertThat(this.later).isAfterOrEqualTo(this.earlier);
+  }
+
+  @Benchmark
+  public AssertionError isAfterOrEqualToFail() {
+    return expectFailure(() -> InstantSubject.assertThat(this.earlier).isAfterOrEqualTo(this.later));
+  }
+
+  @Benchmark
+  public void epochMilliPass() {
+    InstantSubject.assertThat(this.earlier).epochMilli().isEqualTo(this.earlier.toEpochMilli());
+  }
+
+  @Benchmark
+  public AssertionError epochMilliFail() {
+    return expectFailure(() -> InstantSubject.assertThat(this.earlier).epochMilli().isEqualTo(this.later.toEpochMilli()));
+  }
+
+  @Benchmark
+  public void atUtcHourPass() {
+    InstantSubject.assertThat(this.earlier).atUtc().hour().isEqualTo(12);
+  }
+
+  @Benchmark
+  public void assertThatIsoPass() {
+    InstantSubject.assertThatIso(this.iso).isAfter(this.earlier);
+  }
+
+  @Benchmark
+  public void parseThenAssertThatPass() {
+    InstantSubject.assertThat(Instant.parse(this.iso)).isAfter(this.earlier);
+  }
+}
@@ -0,0 +1,51 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import static dev.mardroemmar.truthext.benchmarks.Failures.expectFailure;
+
+import dev.mardroemmar.truthext.time.LatencyDistributionSubject;
+import dev.mardroemmar.truthext.time.LatencyHistogram;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for recording into a {@link LatencyHistogram} and for the pass and fail paths of {@link LatencyDistributionSubject}.
+ */
+@State(Scope.Benchmark)
+public class LatencyDistributionSubjectBenchmark {
+  private final LatencyHistogram histogram = new LatencyHistogram();
+  private final LatencyHistogram recorder = new LatencyHistogram();
+  private Duration max = Duration.ofMillis(5L);
+  private long sample = 1_234_567L;
+
+  @Setup
+  public void setUp() {
+    final SplittableRandom random = new SplittableRandom(42L);
+    for (int i = 0; i < 1_000_000; ++i) {
+      this.histogram.record(random.nextLong(4_000_000L));
+    }
+  }
+
+  @Benchmark
+  public void record() {
+    this.recorder.record(this.sample);
+  }
+
+  @Benchmark
+  public void p99IsAtMostPass() {
+    LatencyDistributionSubject.assertThat(this.histogram).p99().isAtMost(this.max);
+  }
+
+  @Benchmark
+  public AssertionError p99IsAtMostFail() {
+    return expectFailure(() -> LatencyDistributionSubject.assertThat(this.histogram).p99().isAtMost(Duration.ofMillis(1L)));
+  }
+
+  @Benchmark
+  public void correctedP99IsAtMostPass() {
+    LatencyDistributionSubject.assertThat(this.histogram).correctedForCoordinatedOmission(this.max).p99().isAtMost(this.max);
+  }
+}
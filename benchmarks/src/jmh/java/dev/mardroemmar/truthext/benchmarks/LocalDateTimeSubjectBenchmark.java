@@ -0,0 +1,45 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import static dev.mardroemmar.truthext.benchmarks.Failures.expectFailure;
+
+import dev.mardroemmar.truthext.time.LocalDateTimeSubject;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the pass and fail paths of {@link LocalDateTimeSubject}.
+ */
+@State(Scope.Benchmark)
+public class LocalDateTimeSubjectBenchmark {
+  private ZoneId stockholm = ZoneId.of("Europe/Stockholm");
+  private LocalDateTime actual = LocalDateTime.of(2022, 1, 11, 12, 0);
+  private LocalDateTime later = this.actual.plusMinutes(1L);
+
+  @Benchmark
+  public void isSameLocalTimeAsPass() {
+    LocalDateTimeSubject.assertThat(this.actual).isSameLocalTimeAs(this.actual);
+  }
+
+  @Benchmark
+  public AssertionError isSameLocalTimeAsFail() {
+    return expectFailure(() -> LocalDateTimeSubject.assertThat(this.actual).isSameLocalTimeAs(this.later));
+  }
+
+  @Benchmark
+  public void zonedHourPass() {
+    LocalDateTimeSubject.assertThat(this.actual).zoned(this.stockholm).hour().isEqualTo(12);
+  }
+
+  @Benchmark
+  public AssertionError zonedHourFail() {
+    return expectFailure(() -> LocalDateTimeSubject.assertThat(this.actual).zoned(this.stockholm).hour().isEqualTo(13));
+  }
+
+  @Benchmark
+  public void epochMilliPass() {
+    LocalDateTimeSubject.assertThat(this.actual).epochMilli().isEqualTo(1_641_902_400_000L);
+  }
+}
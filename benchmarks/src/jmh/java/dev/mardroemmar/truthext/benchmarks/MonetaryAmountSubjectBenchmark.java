@@ -0,0 +1,33 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import static dev.mardroemmar.truthext.benchmarks.Failures.expectFailure;
+
+import dev.mardroemmar.truthext.currency.MonetaryAmountSubject;
+import java.util.Currency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the pass and fail paths of {@link MonetaryAmountSubject}.
+ */
+@State(Scope.Benchmark)
+public class MonetaryAmountSubjectBenchmark {
+  private Currency euro = Currency.getInstance("EUR");
+  private long minorUnits = 123_456L;
+
+  @Benchmark
+  public void isPositivePass() {
+    MonetaryAmountSubject.assertThat(this.minorUnits, this.euro).isPositive();
+  }
+
+  @Benchmark
+  public void isWithinMinorUnitsPass() {
+    MonetaryAmountSubject.assertThat(this.minorUnits, this.euro).isWithinMinorUnits(1).of(123_457L);
+  }
+
+  @Benchmark
+  public AssertionError isWithinMinorUnitsFail() {
+    return expectFailure(() -> MonetaryAmountSubject.assertThat(this.minorUnits, this.euro).isWithinMinorUnits(1).of(123_458L));
+  }
+}
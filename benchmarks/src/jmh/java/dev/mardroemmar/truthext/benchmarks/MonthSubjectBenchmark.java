@@ -0,0 +1,38 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import static dev.mardroemmar.truthext.benchmarks.Failures.expectFailure;
+
+import dev.mardroemmar.truthext.time.MonthSubject;
+import java.time.Month;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the pass and fail paths of {@link MonthSubject}.
+ */
+@State(Scope.Benchmark)
+public class MonthSubjectBenchmark {
+  private Month february = Month.FEBRUARY;
+  private Month march = Month.MARCH;
+
+  @Benchmark
+  public void isBeforePass() {
+    MonthSubject.assertThat(this.february).isBefore(this.march);
+  }
+
+  @Benchmark
+  public AssertionError isBeforeFail() {
+    return expectFailure(() -> MonthSubject.assertThat(this.march).isBefore(this.february));
+  }
+
+  @Benchmark
+  public void lengthPass() {
+    MonthSubject.assertThat(this.february).length(true).isEqualTo(29);
+  }
+
+  @Benchmark
+  public AssertionError lengthFail() {
+    return expectFailure(() -> MonthSubject.assertThat(this.february).length(false).isEqualTo(29));
+  }
+}
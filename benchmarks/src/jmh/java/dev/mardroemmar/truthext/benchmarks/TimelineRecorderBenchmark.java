@@ -0,0 +1,27 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import dev.mardroemmar.truthext.time.TimelineRecorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmarks for recording into a {@link TimelineRecorder}, alone and with threads contending for its slots.
+ */
+@State(Scope.Benchmark)
+public class TimelineRecorderBenchmark {
+  private final TimelineRecorder timeline = TimelineRecorder.create(1 << 20);
+  private final int event = this.timeline.event("event");
+
+  @Benchmark
+  public void record() {
+    this.timeline.record(this.event);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void recordContended() {
+    this.timeline.record(this.event);
+  }
+}
@@ -0,0 +1,79 @@
+package dev.mardroemmar.truthext.benchmarks;
+
+import static dev.mardroemmar.truthext.benchmarks.Failures.expectFailure;
+
+import dev.mardroemmar.truthext.time.ZonedDateTimeSubject;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the pass and fail paths of {@link ZonedDateTimeSubject}.
+ */
+@State(Scope.Benchmark)
+public class ZonedDateTimeSubjectBenchmark {
+  private ZoneId stockholm = ZoneId.of("Europe/Stockholm");
+  private ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+  private ZonedDateTime actual = ZonedDateTime.of(2022, 1, 11, 12, 0, 0, 0, this.stockholm);
+  private Instant sameInstant = this.actual.toInstant();
+  private Instant otherInstant = this.sameInstant.plusSeconds(1L);
+  private String iso = this.actual.toString();
+
+  @Benchmark
+  public void isSameInstantAsPass() {
+    ZonedDateTimeSubject.assertThat(this.actual).isSameInstantAs(this.sameInstant);
+  }
+
+  @Benchmark
+  public AssertionError isSameInstantAsFail() {
+    return expectFailure(() -> ZonedDateTimeSubject.assertThat(this.actual).isSameInstantAs(this.otherInstant));
+  }
+
+  @Benchmark
+  public void withZoneSameInstantHourPass() {
+    ZonedDateTimeSubject.assertThat(this.actual).withZoneSameInstant(this.tokyo).hour().isEqualTo(20);
+  }
+
+  @Benchmark
+  public AssertionError withZoneSameInstantHourFail() {
+    return expectFailure(() -> ZonedDateTimeSubject.assertThat(this.actual).withZoneSameInstant(this.tokyo).hour().isEqualTo(12));
+  }
+
+  @Benchmark
+  public void epochMilliPass() {
+    ZonedDateTimeSubject.assertThat(this.actual).epochMilli().isEqualTo(this.sameInstant.toEpochMilli());
+  }
+
+  @Benchmark
+  public AssertionError epochMilliFail() {
+    return expectFailure(() -> ZonedDateTimeSubject.assertThat(this.actual).epochMilli().isEqualTo(this.otherInstant.toEpochMilli()));
+  }
+
+  @Benchmark
+  public void assertThatIsoPass() {
+    ZonedDateTimeSubject.assertThatIso(this.iso).isSameInstantAs(this.sameInstant);
+  }
+
+  @Benchmark
+  public AssertionError assertThatIsoFail() {
+    return expectFailure(() -> ZonedDateTimeSubject.assertThatIso(this.iso).isSameInstantAs(this.otherInstant));
+  }
+
+  @Benchmark
+  public void isNotInDaylightSavingTimePass() {
+    ZonedDateTimeSubject.assertThat(this.actual).isNotInDaylightSavingTime();
+  }
+
+  @Benchmark
+  public void isNotInOverlapPass() {
+    ZonedDateTimeSubject.assertThat(this.actual).isNotInOverlap();
+  }
+
+  @Benchmark
+  public void nearestTransitionPass() {
+    ZonedDateTimeSubject.assertThat(this.actual).nearestTransition().isBefore(this.sameInstant);
+  }
+}
@@ -7,6 +7,7 @@ plugins {
 dependencies {
   constraints {
     api(projects.truthExtensionsCurrency)
+    api(projects.truthExtensionsInstrumentation)
     api(projects.truthExtensionsTime)
   }
 }
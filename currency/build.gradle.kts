@@ -6,8 +6,10 @@ dependencies {
   api(libs.checker.qual)
   api(libs.apiguardian)
   api(libs.truth)
+  implementation(projects.truthExtensionsInstrumentation)
 
   testImplementation(libs.junit.api)
   testImplementation(libs.junit.params)
+  testImplementation(testFixtures(projects.truthExtensionsInstrumentation))
   testRuntimeOnly(libs.junit.engine)
 }
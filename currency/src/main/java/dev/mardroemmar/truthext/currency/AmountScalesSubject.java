@@ -0,0 +1,180 @@
+package dev.mardroemmar.truthext.currency;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+
+import com.google.common.truth.Fact;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.RandomAccess;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for the scales of many {@link BigDecimal} amounts, such as those of a ledger,
+ * against the {@linkplain Currency#getDefaultFractionDigits() default fraction digits} of their currencies.
+ *
+ * <p>The amounts are checked on the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} once there are enough of them, in
+ * chunks of {@value ParallelScaleCheck#CHUNK_SIZE}. Failures report the first {@value CurrencyCodesSubject#REPORTED_VIOLATIONS}
+ * violations in row order, however the work was scheduled, and checking stops once they are found. Amounts in pseudo-currencies without
+ * fraction digits, such as XAU, are not checked. Anything but a {@link RandomAccess random access} {@link List} is copied into one
+ * first.</p>
+ *
+ * @see Subject
+ * @see CurrencySubject#defaultFractionDigits()
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class AmountScalesSubject extends Subject {
+  /**
+   * Assert upon amounts all in the same currency.
+   *
+   * @param actual   the amounts
+   * @param currency the currency of every amount
+   * @return a new assertion subject
+   * @throws NullPointerException if the {@code currency} is {@code null}
+   */
+  public static AmountScalesSubject assertThat(final @Nullable Collection<? extends @Nullable BigDecimal> actual,
+      final Currency currency) {
+    return assertAbout(amounts(currency)).that(actual);
+  }
+
+  /**
+   * Assert upon amounts each in its own currency, such as the amount and currency columns of a ledger.
+   *
+   * @param actual     the amounts
+   * @param currencies the currency of each amount, in the same order
+   * @return a new assertion subject
+   * @throws NullPointerException if the {@code currencies} is {@code null}
+   */
+  public static AmountScalesSubject assertThat(final @Nullable Collection<? extends @Nullable BigDecimal> actual,
+      final Collection<? extends @Nullable Currency> currencies) {
+    return assertAbout(amounts(currencies)).that(actual);
+  }
+
+  /**
+   * @param currency the currency of every amount
+   * @return a subject factory for asserting about amounts all in the same currency.
+   * @throws NullPointerException if the {@code currency} is {@code null}
+   */
+  public static Subject.Factory<AmountScalesSubject, Collection<? extends @Nullable BigDecimal>> amounts(final Currency currency) {
+    Objects.requireNonNull(currency, "currency must not be null");
+    return (metadata, actual) -> new AmountScalesSubject(metadata, actual,
+        actual == null ? Collections.emptyList() : Collections.nCopies(actual.size(), currency));
+  }
+
+  /**
+   * @param currencies the currency of each amount, in the same order
+   * @return a subject factory for asserting about amounts each in its own currency.
+   * @throws NullPointerException if the {@code currencies} is {@code null}
+   */
+  public static Subject.Factory<AmountScalesSubject, Collection<? extends @Nullable BigDecimal>> amounts(
+      final Collection<? extends @Nullable Currency> currencies) {
+    Objects.requireNonNull(currencies, "currencies must not be null");
+    return (metadata, actual) -> new AmountScalesSubject(metadata, actual, currencies);
+  }
+
+  private final @Nullable Collection<? extends @Nullable BigDecimal> actual;
+  private final Collection<? extends @Nullable Currency> currencies;
+
+  private AmountScalesSubject(final FailureMetadata metadata, final @Nullable Collection<? extends @Nullable BigDecimal> actual,
+      final Collection<? extends @Nullable Currency> currencies) {
+    super(metadata, actual);
+    this.actual = actual;
+    this.currencies = currencies;
+  }
+
+  /**
+   * Asserts that the scale of every amount is exactly the default fraction digits of its currency, such as 12.30 but neither 12.3 nor
+   * 12.300 for EUR.
+   *
+   * @throws AssertionError if the actual is {@code null}, or there are not as many currencies as amounts
+   * @throws AssertionError if any amount or currency is {@code null}, or any amount has another scale than its currency
+   */
+  public void allHaveCurrencyScale() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("AmountScalesSubject", "allHaveCurrencyScale()");
+    try {
+      this.check(false, "expected every amount to have the scale of its currency");
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that no amount needs more fraction digits than its currency has, once
+   * {@linkplain BigDecimal#stripTrailingZeros() trailing zeros are stripped}, such as 12.3 and 12.300 but not 12.305 for EUR.
+   *
+   * @throws AssertionError if the actual is {@code null}, or there are not as many currencies as amounts
+   * @throws AssertionError if any amount or currency is {@code null}, or any amount needs more fraction digits than its currency has
+   */
+  public void allFitCurrencyScale() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("AmountScalesSubject", "allFitCurrencyScale()");
+    try {
+      this.check(true, "expected no amount to need more fraction digits than its currency has");
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  @Override
+  protected String actualCustomStringRepresentation() {
+    // Listing a whole ledger would drown out the violations.
+    return this.actual == null ? "null" : String.format(Locale.ROOT, "%,d amounts", this.actual.size());
+  }
+
+  private void check(final boolean stripTrailingZeros, final String expected) {
+    final Collection<? extends @Nullable BigDecimal> amounts = this.nonNull();
+    if (amounts.size() != this.currencies.size()) {
+      failWithActual(simpleFact("expected as many currencies as amounts"), fact("but had currencies", this.currencies.size()));
+      return;
+    }
+
+    final int limit = CurrencyCodesSubject.REPORTED_VIOLATIONS;
+    final List<String> violations = ParallelScaleCheck.check(randomAccess(amounts), randomAccess(this.currencies), stripTrailingZeros,
+        limit);
+    if (violations.isEmpty()) {
+      return;
+    }
+    final List<Fact> facts = new ArrayList<>();
+    for (final String violation : violations) {
+      facts.add(fact("violation", violation));
+    }
+    if (violations.size() >= limit) {
+      facts.add(simpleFact("stopped checking after " + violations.size() + " violations"));
+    }
+    failWithActual(simpleFact(expected), facts.toArray(new Fact[0]));
+  }
+
+  private static <T> List<? extends @Nullable T> randomAccess(final Collection<? extends @Nullable T> elements) {
+    if (elements instanceof List && elements instanceof RandomAccess) {
+      return (List<? extends @Nullable T>) elements;
+    }
+    return new ArrayList<>(elements);
+  }
+
+  private Collection<? extends @Nullable BigDecimal> nonNull() {
+    if (this.actual != null) {
+      return this.actual;
+    }
+
+    failWithActual(simpleFact("expected amounts to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+}
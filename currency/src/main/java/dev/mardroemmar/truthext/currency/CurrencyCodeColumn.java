@@ -0,0 +1,137 @@
+package dev.mardroemmar.truthext.currency;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A column of 3-letter currency codes, read in place from the array or buffer holding them.
+ *
+ * <p>Its {@link #toString()} summarises the column rather than listing millions of codes in a failure message.</p>
+ */
+abstract class CurrencyCodeColumn {
+  /**
+   * The number of bytes per code in byte columns.
+   */
+  static final int BYTES_PER_CODE = 3;
+
+  static CurrencyCodeColumn of(final @Nullable CharSequence[] codes) {
+    return new Chars(codes);
+  }
+
+  static CurrencyCodeColumn of(final byte[] codes) {
+    return new Bytes(ByteBuffer.wrap(codes), codes.length);
+  }
+
+  static CurrencyCodeColumn of(final ByteBuffer codes) {
+    // Sliced, so reading never moves the position of the caller's buffer.
+    return new Bytes(codes.slice(), codes.remaining());
+  }
+
+  /**
+   * @return the number of bytes left over after the last whole code, always {@code 0} for columns of characters
+   */
+  abstract int trailingBytes();
+
+  /**
+   * @return the number of whole codes in the column
+   */
+  abstract int size();
+
+  /**
+   * @param row the row of the code
+   * @return the {@linkplain CurrencyIndex#pack(CharSequence) packed} code, or {@code -1} if it is not 3 upper-case ASCII letters
+   */
+  abstract int packed(int row);
+
+  /**
+   * @param row the row of the code
+   * @return the code as written, quoted and with anything but printable ASCII escaped, for failure messages
+   */
+  abstract String describe(int row);
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT, "%,d currency codes", this.size());
+  }
+
+  static String quote(final CharSequence code) {
+    final StringBuilder builder = new StringBuilder(code.length() + 2).append('"');
+    for (int i = 0; i < code.length(); ++i) {
+      final char ch = code.charAt(i);
+      if (ch >= ' ' && ch <= '~' && ch != '"' && ch != '\\') {
+        builder.append(ch);
+      } else {
+        builder.append(String.format(Locale.ROOT, "\\u%04x", (int) ch));
+      }
+    }
+    return builder.append('"').toString();
+  }
+
+  private static final class Chars extends CurrencyCodeColumn {
+    private final @Nullable CharSequence[] codes;
+
+    private Chars(final @Nullable CharSequence[] codes) {
+      this.codes = codes;
+    }
+
+    @Override
+    int trailingBytes() {
+      return 0;
+    }
+
+    @Override
+    int size() {
+      return this.codes.length;
+    }
+
+    @Override
+    int packed(final int row) {
+      final @Nullable CharSequence code = this.codes[row];
+      return code == null ? -1 : CurrencyIndex.pack(code);
+    }
+
+    @Override
+    String describe(final int row) {
+      final @Nullable CharSequence code = this.codes[row];
+      return code == null ? "null" : quote(code);
+    }
+  }
+
+  private static final class Bytes extends CurrencyCodeColumn {
+    private final ByteBuffer codes;
+    private final int bytes;
+
+    private Bytes(final ByteBuffer codes, final int bytes) {
+      this.codes = codes;
+      this.bytes = bytes;
+    }
+
+    @Override
+    int trailingBytes() {
+      return this.bytes % BYTES_PER_CODE;
+    }
+
+    @Override
+    int size() {
+      return this.bytes / BYTES_PER_CODE;
+    }
+
+    @Override
+    int packed(final int row) {
+      final int offset = row * BYTES_PER_CODE;
+      // Bytes are sign-extended, so anything outside ASCII is negative and rejected as not a letter.
+      return CurrencyIndex.pack(this.codes.get(offset), this.codes.get(offset + 1), this.codes.get(offset + 2));
+    }
+
+    @Override
+    String describe(final int row) {
+      final int offset = row * BYTES_PER_CODE;
+      final char[] chars = new char[BYTES_PER_CODE];
+      for (int i = 0; i < BYTES_PER_CODE; ++i) {
+        chars[i] = (char) (this.codes.get(offset + i) & 0xFF);
+      }
+      return quote(new String(chars));
+    }
+  }
+}
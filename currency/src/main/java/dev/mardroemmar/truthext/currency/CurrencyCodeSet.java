@@ -0,0 +1,135 @@
+package dev.mardroemmar.truthext.currency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A set of 3-letter alphabetic currency codes, kept as a bitset with one bit per possible code.
+ *
+ * <p>Codes are {@linkplain CurrencyIndex packed into 15 bits}, so the whole set takes 4 KiB and checking a code for membership is a
+ * single bit test. Codes do not need to be those of an available currency.</p>
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @see CurrencyCodesSubject#areAllIn(CurrencyCodeSet)
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class CurrencyCodeSet {
+  private final long[] bits;
+  private final int size;
+
+  private CurrencyCodeSet(final long[] bits) {
+    this.bits = bits;
+    int size = 0;
+    for (final long word : bits) {
+      size += Long.bitCount(word);
+    }
+    this.size = size;
+  }
+
+  /**
+   * @return the codes of the {@linkplain CurrencyIndex#available() available currencies}
+   */
+  public static CurrencyCodeSet available() {
+    return Holder.AVAILABLE;
+  }
+
+  /**
+   * Creates a set of the given codes.
+   *
+   * @param codes the codes, such as {@code EUR}
+   * @return a set of the {@code codes}
+   * @throws IllegalArgumentException if any of the {@code codes} is not 3 upper-case ASCII letters
+   */
+  public static CurrencyCodeSet of(final CharSequence... codes) {
+    Objects.requireNonNull(codes, "codes must not be null");
+    final long[] bits = new long[CurrencyIndex.PACKED_CODES / Long.SIZE];
+    for (final CharSequence code : codes) {
+      final int packed = CurrencyIndex.pack(Objects.requireNonNull(code, "codes must not contain null"));
+      if (packed < 0) {
+        throw new IllegalArgumentException("not a 3-letter currency code: " + code);
+      }
+      bits[packed >>> 6] |= 1L << packed;
+    }
+    return new CurrencyCodeSet(bits);
+  }
+
+  /**
+   * Creates a set of the codes of the given currencies.
+   *
+   * @param currencies the currencies
+   * @return a set of the codes of the {@code currencies}
+   */
+  public static CurrencyCodeSet ofCurrencies(final Iterable<Currency> currencies) {
+    Objects.requireNonNull(currencies, "currencies must not be null");
+    final List<String> codes = new ArrayList<>();
+    for (final Currency currency : currencies) {
+      codes.add(Objects.requireNonNull(currency, "currencies must not contain null").getCurrencyCode());
+    }
+    return of(codes.toArray(new String[0]));
+  }
+
+  /**
+   * @param code the code to look for
+   * @return whether the {@code code} is in this set
+   */
+  public boolean contains(final CharSequence code) {
+    return this.containsPacked(CurrencyIndex.pack(Objects.requireNonNull(code, "code must not be null")));
+  }
+
+  /**
+   * @param packed the {@linkplain CurrencyIndex#pack(CharSequence) packed} code, or {@code -1} for a malformed one
+   * @return whether the code is in this set
+   */
+  boolean containsPacked(final int packed) {
+    return packed >= 0 && (this.bits[packed >>> 6] & (1L << packed)) != 0;
+  }
+
+  /**
+   * @return the number of codes in this set
+   */
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof CurrencyCodeSet)) {
+      return false;
+    }
+    return Arrays.equals(this.bits, ((CurrencyCodeSet) obj).bits);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(this.bits);
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder("[");
+    for (int packed = 0; packed < CurrencyIndex.PACKED_CODES; ++packed) {
+      if (this.containsPacked(packed)) {
+        if (builder.length() > 1) {
+          builder.append(", ");
+        }
+        builder.append(CurrencyIndex.unpack(packed));
+      }
+    }
+    return builder.append(']').toString();
+  }
+
+  private static final class Holder {
+    private static final CurrencyCodeSet AVAILABLE = ofCurrencies(CurrencyIndex.available().currencies());
+  }
+}
@@ -0,0 +1,233 @@
+package dev.mardroemmar.truthext.currency;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+
+import com.google.common.truth.Fact;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.MapSubject;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for a column of 3-letter currency codes, such as one extracted from a ledger.
+ *
+ * <p>Codes are given as {@link CharSequence}s, or as ASCII bytes, {@value CurrencyCodeColumn#BYTES_PER_CODE} per code with no
+ * separators. Every code is {@linkplain CurrencyIndex packed into 15 bits} and checked against a {@link CurrencyCodeSet} with a single
+ * bit test, straight from the array or buffer, so neither {@link java.util.Currency#getInstance(String)} nor its exceptions are involved.
+ * Failures report the first {@value #REPORTED_VIOLATIONS} invalid codes only, with the number of invalid codes in total.</p>
+ *
+ * @see Subject
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class CurrencyCodesSubject extends Subject {
+  /**
+   * The number of invalid codes reported in a failure.
+   */
+  static final int REPORTED_VIOLATIONS = 10;
+
+  /**
+   * Assert upon a column of currency codes.
+   *
+   * @param actual the codes
+   * @return a new assertion subject
+   */
+  public static CurrencyCodesSubject assertThat(final @Nullable CharSequence @Nullable [] actual) {
+    return assertAbout(codeArrays()).that(actual);
+  }
+
+  /**
+   * Assert upon a column of currency codes written as ASCII, {@value CurrencyCodeColumn#BYTES_PER_CODE} bytes per code.
+   *
+   * @param actual the bytes of the codes
+   * @return a new assertion subject
+   */
+  public static CurrencyCodesSubject assertThat(final byte @Nullable [] actual) {
+    return assertAbout(codeBytes()).that(actual);
+  }
+
+  /**
+   * Assert upon a column of currency codes written as ASCII, {@value CurrencyCodeColumn#BYTES_PER_CODE} bytes per code, from the position
+   * of the buffer to its limit. The position of the buffer is left as is.
+   *
+   * @param actual the buffer holding the bytes of the codes
+   * @return a new assertion subject
+   */
+  public static CurrencyCodesSubject assertThat(final @Nullable ByteBuffer actual) {
+    return assertAbout(codeBuffers()).that(actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about arrays of currency codes.
+   */
+  public static Subject.Factory<CurrencyCodesSubject, @Nullable CharSequence[]> codeArrays() {
+    return (metadata, actual) -> new CurrencyCodesSubject(metadata, actual, actual == null ? null : CurrencyCodeColumn.of(actual));
+  }
+
+  /**
+   * @return a subject factory for asserting about currency codes written as ASCII, {@value CurrencyCodeColumn#BYTES_PER_CODE} bytes per
+   *     code.
+   */
+  public static Subject.Factory<CurrencyCodesSubject, byte[]> codeBytes() {
+    return (metadata, actual) -> new CurrencyCodesSubject(metadata, actual, actual == null ? null : CurrencyCodeColumn.of(actual));
+  }
+
+  /**
+   * @return a subject factory for asserting about buffers of currency codes written as ASCII,
+   *     {@value CurrencyCodeColumn#BYTES_PER_CODE} bytes per code.
+   */
+  public static Subject.Factory<CurrencyCodesSubject, ByteBuffer> codeBuffers() {
+    return (metadata, actual) -> new CurrencyCodesSubject(metadata, actual, actual == null ? null : CurrencyCodeColumn.of(actual));
+  }
+
+  // Subject is given the array or buffer itself, so that the inherited checks work on it; the codes are read through this column.
+  private final @Nullable CurrencyCodeColumn codes;
+
+  private CurrencyCodesSubject(final FailureMetadata metadata, final @Nullable Object actual, final @Nullable CurrencyCodeColumn codes) {
+    super(metadata, actual);
+    this.codes = codes;
+  }
+
+  /**
+   * Asserts that every code is that of an {@linkplain CurrencyIndex#available() available currency}.
+   *
+   * @throws AssertionError if the actual is {@code null}, or is not a whole number of codes long
+   * @throws AssertionError if any of the codes is not that of an available currency
+   * @see CurrencyCodeSet#available()
+   */
+  public void areAllAvailable() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencyCodesSubject", "areAllAvailable()");
+    try {
+      this.checkAllIn(CurrencyCodeSet.available(), true);
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that every code is in the {@code allowed} set, such as the currencies a ledger is permitted to hold.
+   *
+   * @param allowed the allowed codes
+   * @throws NullPointerException if the {@code allowed} is {@code null}
+   * @throws AssertionError       if the actual is {@code null}, or is not a whole number of codes long
+   * @throws AssertionError       if any of the codes is not in the {@code allowed} set
+   */
+  public void areAllIn(final CurrencyCodeSet allowed) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencyCodesSubject", "areAllIn(CurrencyCodeSet)");
+    try {
+      Objects.requireNonNull(allowed, "allowed must not be null");
+      this.checkAllIn(allowed, false);
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Assert further upon how often each code occurs, such as {@code assertThatCodes(column).codeCounts().containsEntry("EUR", 3)}.
+   *
+   * <p>Codes that are not 3 upper-case ASCII letters are counted under their quoted form, such as {@code "eur"} with the quotes, so they
+   * cannot be mistaken for valid codes.</p>
+   *
+   * @return a subject about the number of occurrences of each code, sorted by code
+   * @throws AssertionError if the actual is {@code null}, or is not a whole number of codes long
+   */
+  public MapSubject codeCounts() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencyCodesSubject", "codeCounts()");
+    try {
+      final CurrencyCodeColumn column = this.column();
+      final int[] counts = new int[CurrencyIndex.PACKED_CODES];
+      final Map<String, Integer> byCode = new TreeMap<>();
+      for (int row = 0, size = column.size(); row < size; ++row) {
+        final int packed = column.packed(row);
+        if (packed >= 0) {
+          ++counts[packed];
+        } else {
+          byCode.merge(column.describe(row), 1, Integer::sum);
+        }
+      }
+      for (int packed = 0; packed < counts.length; ++packed) {
+        if (counts[packed] != 0) {
+          byCode.put(CurrencyIndex.unpack(packed), counts[packed]);
+        }
+      }
+      return this.check("codeCounts()").that(byCode);
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  @Override
+  protected String actualCustomStringRepresentation() {
+    // Listing millions of codes would drown out the invalid ones.
+    return this.codes == null ? "null" : this.codes.toString();
+  }
+
+  private void checkAllIn(final CurrencyCodeSet allowed, final boolean available) {
+    final CurrencyCodeColumn column = this.column();
+    // Facts are only built on failure; the passing path over a column allocates nothing.
+    @Nullable List<Fact> facts = null;
+    int invalid = 0;
+    for (int row = 0, size = column.size(); row < size; ++row) {
+      if (!allowed.containsPacked(column.packed(row))) {
+        if (facts == null) {
+          facts = new ArrayList<>();
+        }
+        if (++invalid <= REPORTED_VIOLATIONS) {
+          facts.add(fact("row " + row, column.describe(row)));
+        }
+      }
+    }
+    if (facts == null) {
+      return;
+    }
+
+    facts.add(0, fact("but invalid codes were", invalid));
+    if (invalid > REPORTED_VIOLATIONS) {
+      facts.add(simpleFact("and " + (invalid - REPORTED_VIOLATIONS) + " more"));
+    }
+    final Fact expected = available
+        ? simpleFact("expected every code to be that of an available currency")
+        : fact("expected every code to be one of", allowed);
+    this.failWithActual(expected, facts.toArray(new Fact[0]));
+  }
+
+  private CurrencyCodeColumn column() {
+    final CurrencyCodeColumn column = this.nonNull();
+    final int trailing = column.trailingBytes();
+    if (trailing != 0) {
+      // The whole codes are still checked, for failure strategies that do not throw.
+      failWithActual(simpleFact("expected a whole number of " + CurrencyCodeColumn.BYTES_PER_CODE + "-byte codes"),
+          fact("but had bytes left over", trailing));
+    }
+    return column;
+  }
+
+  private CurrencyCodeColumn nonNull() {
+    if (this.codes != null) {
+      return this.codes;
+    }
+
+    failWithActual(simpleFact("expected codes to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+}
@@ -0,0 +1,234 @@
+package dev.mardroemmar.truthext.currency;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An index of the {@linkplain Currency#getAvailableCurrencies() available currencies}, built once, for looking currencies up by their
+ * alphabetic code, numeric code or fraction digits without exceptions or allocation.
+ *
+ * <p>{@link Currency#getAvailableCurrencies()} copies every currency into a new set on each call, and
+ * {@link Currency#getInstance(String)} throws for unknown codes; this index instead keeps them in arrays indexed by the code itself.
+ * Alphabetic codes are packed into 15 bits, 5 per letter, and numeric codes are at most 3 digits.</p>
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class CurrencyIndex {
+  /**
+   * The number of distinct packed alphabetic codes.
+   */
+  static final int PACKED_CODES = 1 << 15;
+  private static final int BITS_PER_LETTER = 5;
+  private static final int NUMERIC_CODES = 1000;
+  // Currency#getDefaultFractionDigits() is -1 for pseudo-currencies such as XAU, so fraction digits are indexed from there.
+  private static final int MIN_FRACTION_DIGITS = -1;
+
+  private final Currency[] byCode = new Currency[PACKED_CODES];
+  private final Currency[] byNumericCode = new Currency[NUMERIC_CODES];
+  // One more than the position of the currency in currencies(), so 0 can mean absent.
+  private final short[] ordinals = new short[PACKED_CODES];
+  private final List<Set<Currency>> byFractionDigits;
+  private final Set<Currency> currencies;
+
+  private CurrencyIndex(final Set<Currency> available) {
+    final List<Currency> sorted = new ArrayList<>(available);
+    sorted.sort(Comparator.comparing(Currency::getCurrencyCode));
+
+    final List<Set<Currency>> byFractionDigits = new ArrayList<>();
+    for (final Currency currency : sorted) {
+      final int packed = pack(currency.getCurrencyCode());
+      if (packed < 0) {
+        // Not an ISO 4217 code; only possible with a custom currency data file.
+        continue;
+      }
+      this.byCode[packed] = currency;
+
+      // A few withdrawn currencies share their numeric code with their replacement; the code sorting first wins.
+      final int numeric = currency.getNumericCode();
+      if (numeric >= 0 && numeric < NUMERIC_CODES && this.byNumericCode[numeric] == null) {
+        this.byNumericCode[numeric] = currency;
+      }
+
+      final int digits = currency.getDefaultFractionDigits() - MIN_FRACTION_DIGITS;
+      while (byFractionDigits.size() <= digits) {
+        byFractionDigits.add(new LinkedHashSet<>());
+      }
+      byFractionDigits.get(digits).add(currency);
+    }
+
+    for (int i = 0; i < byFractionDigits.size(); ++i) {
+      byFractionDigits.set(i, Collections.unmodifiableSet(byFractionDigits.get(i)));
+    }
+    this.byFractionDigits = byFractionDigits;
+    final Set<Currency> currencies = new LinkedHashSet<>();
+    for (int packed = 0; packed < PACKED_CODES; ++packed) {
+      if (this.byCode[packed] != null) {
+        currencies.add(this.byCode[packed]);
+        this.ordinals[packed] = (short) currencies.size();
+      }
+    }
+    this.currencies = Collections.unmodifiableSet(currencies);
+  }
+
+  /**
+   * Gives the index of the currencies available when it was first used.
+   *
+   * @return the index of the available currencies
+   */
+  public static CurrencyIndex available() {
+    return Holder.AVAILABLE;
+  }
+
+  /**
+   * Packs a 3-letter alphabetic code into 15 bits.
+   *
+   * @param code the code to pack
+   * @return the packed code, or {@code -1} if it is not 3 upper-case ASCII letters
+   */
+  static int pack(final CharSequence code) {
+    if (code.length() != 3) {
+      return -1;
+    }
+    return pack(code.charAt(0), code.charAt(1), code.charAt(2));
+  }
+
+  /**
+   * Packs the 3 letters of an alphabetic code into 15 bits.
+   *
+   * @param first  the first letter
+   * @param second the second letter
+   * @param third  the third letter
+   * @return the packed code, or {@code -1} if any of the letters is not an upper-case ASCII letter
+   */
+  static int pack(final int first, final int second, final int third) {
+    final int a = first - 'A';
+    final int b = second - 'A';
+    final int c = third - 'A';
+    // Any letter outside A-Z makes one of these negative or at least 26.
+    if ((a | b | c) < 0 || a >= 26 || b >= 26 || c >= 26) {
+      return -1;
+    }
+    return (a << (2 * BITS_PER_LETTER)) | (b << BITS_PER_LETTER) | c;
+  }
+
+  /**
+   * Unpacks a code {@linkplain #pack(CharSequence) packed} into 15 bits.
+   *
+   * @param packed the packed code
+   * @return the 3-letter code
+   */
+  static String unpack(final int packed) {
+    final int mask = (1 << BITS_PER_LETTER) - 1;
+    return new String(new char[] {
+        (char) ('A' + (packed >>> (2 * BITS_PER_LETTER))),
+        (char) ('A' + ((packed >>> BITS_PER_LETTER) & mask)),
+        (char) ('A' + (packed & mask)),
+    });
+  }
+
+  /**
+   * Looks a currency up by its alphabetic code, such as {@code EUR}.
+   *
+   * @param code the alphabetic code
+   * @return the currency, or {@code null} if there is none with the {@code code}
+   * @see Currency#getInstance(String)
+   */
+  public @Nullable Currency byCode(final CharSequence code) {
+    Objects.requireNonNull(code, "code must not be null");
+    final int packed = pack(code);
+    return packed < 0 ? null : this.byCode[packed];
+  }
+
+  /**
+   * Looks a currency up by its numeric code, such as {@code 978} for the euro.
+   *
+   * <p>If several currencies have the same numeric code, as some withdrawn currencies and their replacements do, this gives the one
+   * whose alphabetic code sorts first.</p>
+   *
+   * @param numericCode the numeric code
+   * @return the currency, or {@code null} if there is none with the {@code numericCode}
+   * @see Currency#getNumericCode()
+   */
+  public @Nullable Currency byNumericCode(final int numericCode) {
+    if (numericCode < 0 || numericCode >= NUMERIC_CODES) {
+      return null;
+    }
+    return this.byNumericCode[numericCode];
+  }
+
+  /**
+   * Gives the currencies with the given default fraction digits.
+   *
+   * @param fractionDigits the default fraction digits, {@code -1} for pseudo-currencies
+   * @return the currencies with the {@code fractionDigits}, sorted by alphabetic code
+   * @see Currency#getDefaultFractionDigits()
+   */
+  public Set<Currency> withFractionDigits(final int fractionDigits) {
+    final int index = fractionDigits - MIN_FRACTION_DIGITS;
+    if (index < 0 || index >= this.byFractionDigits.size()) {
+      return Collections.emptySet();
+    }
+    return this.byFractionDigits.get(index);
+  }
+
+  /**
+   * Checks whether there is a currency with the given alphabetic code.
+   *
+   * @param code the alphabetic code
+   * @return whether there is a currency with the {@code code}
+   */
+  public boolean contains(final CharSequence code) {
+    return this.byCode(code) != null;
+  }
+
+  /**
+   * Checks whether the currency is in this index.
+   *
+   * @param currency the currency
+   * @return whether the {@code currency} is in this index
+   */
+  public boolean contains(final Currency currency) {
+    Objects.requireNonNull(currency, "currency must not be null");
+    final int packed = pack(currency.getCurrencyCode());
+    return packed >= 0 && this.byCode[packed] == currency;
+  }
+
+  /**
+   * @param currency the currency
+   * @return the position of the {@code currency} in {@link #currencies()}, or {@code -1} if it is not in this index
+   */
+  int ordinal(final Currency currency) {
+    final int packed = pack(currency.getCurrencyCode());
+    return packed >= 0 && this.byCode[packed] == currency ? this.ordinals[packed] - 1 : -1;
+  }
+
+  /**
+   * @return the currencies in this index, sorted by alphabetic code
+   */
+  public Set<Currency> currencies() {
+    return this.currencies;
+  }
+
+  /**
+   * @return the number of currencies in this index
+   */
+  public int size() {
+    return this.currencies.size();
+  }
+
+  private static final class Holder {
+    private static final CurrencyIndex AVAILABLE = new CurrencyIndex(Currency.getAvailableCurrencies());
+  }
+}
@@ -0,0 +1,114 @@
+package dev.mardroemmar.truthext.currency;
+
+import java.util.Currency;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A cache of the locale-sensitive symbols and display names of currencies.
+ *
+ * <p>{@link Currency#getSymbol(Locale)} and {@link Currency#getDisplayName(Locale)} go through the locale service providers and their
+ * resource bundles on every call. Here, each is looked up once per currency and locale: every locale gets a table with a slot per
+ * {@linkplain CurrencyIndex#available() available currency}, so a hit needs neither a composite key nor a lock. At most
+ * {@value #MAX_LOCALES} locales are kept; the cache is emptied when it would grow past that, which keeps it bounded without tracking use.
+ * Currencies outside the index are looked up directly.</p>
+ *
+ * <p>The cache can be turned off with the {@value CurrencySubject#NAME_CACHE_PROPERTY} system property, such as to test a custom
+ * {@link java.util.spi.CurrencyNameProvider} that changes its answers.</p>
+ */
+final class CurrencyNames {
+  /**
+   * The most locales the cache keeps tables for.
+   */
+  static final int MAX_LOCALES = 1024;
+  private static final boolean ENABLED = !"false".equals(System.getProperty(CurrencySubject.NAME_CACHE_PROPERTY));
+  private static final CurrencyNames SHARED = new CurrencyNames(CurrencyIndex.available(), MAX_LOCALES);
+
+  private final CurrencyIndex index;
+  private final int maxLocales;
+  private final ConcurrentMap<Locale, Table> tables = new ConcurrentHashMap<>();
+
+  CurrencyNames(final CurrencyIndex index, final int maxLocales) {
+    this.index = index;
+    this.maxLocales = maxLocales;
+  }
+
+  /**
+   * @return the cache shared by subjects, or {@code null} if it is turned off
+   */
+  static @Nullable CurrencyNames shared() {
+    return ENABLED ? SHARED : null;
+  }
+
+  static String symbol(final Currency currency, final Locale locale) {
+    final @Nullable CurrencyNames names = shared();
+    return names != null ? names.cachedSymbol(currency, locale) : currency.getSymbol(locale);
+  }
+
+  static String displayName(final Currency currency, final Locale locale) {
+    final @Nullable CurrencyNames names = shared();
+    return names != null ? names.cachedDisplayName(currency, locale) : currency.getDisplayName(locale);
+  }
+
+  String cachedSymbol(final Currency currency, final Locale locale) {
+    final int ordinal = this.index.ordinal(currency);
+    if (ordinal < 0) {
+      return currency.getSymbol(locale);
+    }
+    final AtomicReferenceArray<@Nullable String> symbols = this.table(locale).symbols;
+    final @Nullable String cached = symbols.get(ordinal);
+    if (cached != null) {
+      return cached;
+    }
+    // Two threads may both look the symbol up; they get the same answer, so neither needs to wait for the other.
+    final String symbol = currency.getSymbol(locale);
+    symbols.lazySet(ordinal, symbol);
+    return symbol;
+  }
+
+  String cachedDisplayName(final Currency currency, final Locale locale) {
+    final int ordinal = this.index.ordinal(currency);
+    if (ordinal < 0) {
+      return currency.getDisplayName(locale);
+    }
+    final AtomicReferenceArray<@Nullable String> displayNames = this.table(locale).displayNames;
+    final @Nullable String cached = displayNames.get(ordinal);
+    if (cached != null) {
+      return cached;
+    }
+    final String displayName = currency.getDisplayName(locale);
+    displayNames.lazySet(ordinal, displayName);
+    return displayName;
+  }
+
+  /**
+   * @return the number of locales with a table
+   */
+  int locales() {
+    return this.tables.size();
+  }
+
+  private Table table(final Locale locale) {
+    final @Nullable Table table = this.tables.get(locale);
+    if (table != null) {
+      return table;
+    }
+    if (this.tables.size() >= this.maxLocales) {
+      this.tables.clear();
+    }
+    return this.tables.computeIfAbsent(locale, key -> new Table(this.index.size()));
+  }
+
+  private static final class Table {
+    private final AtomicReferenceArray<@Nullable String> symbols;
+    private final AtomicReferenceArray<@Nullable String> displayNames;
+
+    private Table(final int currencies) {
+      this.symbols = new AtomicReferenceArray<>(currencies);
+      this.displayNames = new AtomicReferenceArray<>(currencies);
+    }
+  }
+}
@@ -1,14 +1,24 @@
 package dev.mardroemmar.truthext.currency;
 
+import static com.google.common.truth.Fact.fact;
 import static com.google.common.truth.Fact.simpleFact;
 import static com.google.common.truth.Truth.assertAbout;
 
 import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.IntegerSubject;
+import com.google.common.truth.MapSubject;
 import com.google.common.truth.StringSubject;
 import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -16,11 +26,22 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 /**
  * A {@link com.google.common.truth.Truth Truth} subject for {@link Currency}.
  *
+ * <p>Symbols and display names are cached per currency and locale, as looking them up goes through the locale service providers every
+ * time. Set the {@value #NAME_CACHE_PROPERTY} system property to {@code false} to look them up on every assertion instead.</p>
+ *
  * @see Subject
  * @since 0.1.0
  */
 @API(status = Status.MAINTAINED)
 public class CurrencySubject extends Subject {
+  /**
+   * The system property which, if {@code false}, turns off the cache of symbols and display names.
+   *
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public static final String NAME_CACHE_PROPERTY = "dev.mardroemmar.truthext.currency.nameCache";
+
   /**
    * Assert upon a currency.
    *
@@ -53,7 +74,15 @@ public class CurrencySubject extends Subject {
    * @see Currency#getCurrencyCode()
    */
   public StringSubject currencyCode() {
-    return this.check("getCurrencyCode()").that(this.nonNull().getCurrencyCode());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencySubject", "currencyCode()");
+    try {
+      return this.check("getCurrencyCode()").that(this.nonNull().getCurrencyCode());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -64,7 +93,15 @@ public class CurrencySubject extends Subject {
    * @see Currency#getDisplayName()
    */
   public StringSubject displayName() {
-    return this.check("getDisplayName()").that(this.nonNull().getDisplayName());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencySubject", "displayName()");
+    try {
+      return this.check("getDisplayName()").that(CurrencyNames.displayName(this.nonNull(), Locale.getDefault(Locale.Category.DISPLAY)));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -76,7 +113,15 @@ public class CurrencySubject extends Subject {
    * @see Currency#getDisplayName(Locale)
    */
   public StringSubject displayName(final Locale locale) {
-    return this.check("getDisplayName(%s)", locale).that(this.nonNull().getDisplayName(locale));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencySubject", "displayName(Locale)");
+    try {
+      return this.check("getDisplayName(%s)", locale).that(CurrencyNames.displayName(this.nonNull(), locale));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -87,7 +132,15 @@ public class CurrencySubject extends Subject {
    * @see Currency#getNumericCode()
    */
   public IntegerSubject numericCode() {
-    return this.check("getNumericCode()").that(this.nonNull().getNumericCode());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencySubject", "numericCode()");
+    try {
+      return this.check("getNumericCode()").that(this.nonNull().getNumericCode());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -98,7 +151,15 @@ public class CurrencySubject extends Subject {
    * @see Currency#getSymbol()
    */
   public StringSubject symbol() {
-    return this.check("getSymbol()").that(this.nonNull().getSymbol());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencySubject", "symbol()");
+    try {
+      return this.check("getSymbol()").that(CurrencyNames.symbol(this.nonNull(), Locale.getDefault(Locale.Category.DISPLAY)));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -110,7 +171,74 @@ public class CurrencySubject extends Subject {
    * @see Currency#getSymbol(Locale)
    */
   public StringSubject symbol(final Locale locale) {
-    return this.check("getSymbol(%s)", locale).that(this.nonNull().getSymbol(locale));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencySubject", "symbol(Locale)");
+    try {
+      return this.check("getSymbol(%s)", locale).that(CurrencyNames.symbol(this.nonNull(), locale));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Assert further upon the symbols of the currency in many locales at once, such as
+   * {@code assertThat(euro).symbolsIn(locales).containsEntry(Locale.GERMANY, "€")}.
+   *
+   * @param locales the locales to fetch the symbols for
+   * @return a subject about the symbols of the currency by locale, in the order of the {@code locales}
+   * @throws NullPointerException if the {@code locales} is {@code null} or contains {@code null}
+   * @throws AssertionError       if the actual is {@code null}
+   * @see Currency#getSymbol(Locale)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public MapSubject symbolsIn(final Collection<Locale> locales) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencySubject", "symbolsIn(Collection)");
+    try {
+      Objects.requireNonNull(locales, "locales must not be null");
+      final Currency actual = this.nonNull();
+      final Map<Locale, String> symbols = new LinkedHashMap<>();
+      for (final Locale locale : locales) {
+        symbols.put(locale, CurrencyNames.symbol(actual, Objects.requireNonNull(locale, "locales must not contain null")));
+      }
+      return this.check("getSymbol(locales)").that(symbols);
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Assert further upon the display names of the currency in many locales at once.
+   *
+   * @param locales the locales to fetch the display names for
+   * @return a subject about the display names of the currency by locale, in the order of the {@code locales}
+   * @throws NullPointerException if the {@code locales} is {@code null} or contains {@code null}
+   * @throws AssertionError       if the actual is {@code null}
+   * @see Currency#getDisplayName(Locale)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public MapSubject displayNamesIn(final Collection<Locale> locales) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencySubject", "displayNamesIn(Collection)");
+    try {
+      Objects.requireNonNull(locales, "locales must not be null");
+      final Currency actual = this.nonNull();
+      final Map<Locale, String> displayNames = new LinkedHashMap<>();
+      for (final Locale locale : locales) {
+        displayNames.put(locale, CurrencyNames.displayName(actual, Objects.requireNonNull(locale, "locales must not contain null")));
+      }
+      return this.check("getDisplayName(locales)").that(displayNames);
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -121,7 +249,92 @@ public class CurrencySubject extends Subject {
    * @see Currency#getDefaultFractionDigits()
    */
   public IntegerSubject defaultFractionDigits() {
-    return this.check("getDefaultFractionDigits()").that(this.nonNull().getDefaultFractionDigits());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencySubject", "defaultFractionDigits()");
+    try {
+      return this.check("getDefaultFractionDigits()").that(this.nonNull().getDefaultFractionDigits());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Assert that the currency is one of the {@linkplain Currency#getAvailableCurrencies() available currencies}.
+   *
+   * @throws AssertionError if the actual is {@code null}
+   * @see CurrencyIndex#contains(Currency)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public void isAvailable() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencySubject", "isAvailable()");
+    try {
+      final Currency actual = this.nonNull();
+      if (!CurrencyIndex.available().contains(actual)) {
+        this.failWithActual(simpleFact("expected an available currency"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Assert that the currency has one of the given alphabetic codes.
+   *
+   * @param first the first allowed code
+   * @param rest  the other allowed codes
+   * @throws AssertionError           if the actual is {@code null}
+   * @throws IllegalArgumentException if any of the codes is not that of an {@linkplain CurrencyIndex#available() available currency}
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public void isOneOf(final CharSequence first, final CharSequence... rest) {
+    Objects.requireNonNull(rest, "rest must not be null");
+    final List<CharSequence> codes = new ArrayList<>(rest.length + 1);
+    codes.add(first);
+    codes.addAll(Arrays.asList(rest));
+    this.isOneOf(codes);
+  }
+
+  /**
+   * Assert that the currency has one of the given alphabetic codes.
+   *
+   * @param codes the allowed codes
+   * @throws AssertionError           if the actual is {@code null}
+   * @throws IllegalArgumentException if any of the {@code codes} is not that of an
+   *                                  {@linkplain CurrencyIndex#available() available currency}
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public void isOneOf(final Iterable<? extends CharSequence> codes) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("CurrencySubject", "isOneOf(Iterable)");
+    try {
+      Objects.requireNonNull(codes, "codes must not be null");
+      final CurrencyIndex index = CurrencyIndex.available();
+      // Every code is looked up, rather than stopping at a match, so a typo in the expected codes is never hidden.
+      boolean found = false;
+      for (final CharSequence code : codes) {
+        final @Nullable Currency currency = index.byCode(Objects.requireNonNull(code, "codes must not contain null"));
+        if (currency == null) {
+          throw new IllegalArgumentException("not the code of an available currency: " + code);
+        }
+        found |= currency == this.actual;
+      }
+      final Currency actual = this.nonNull();
+      if (!found) {
+        this.failWithActual(fact("expected to have one of the codes", codes), fact("but had", actual.getCurrencyCode()));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   private Currency nonNull() {
@@ -0,0 +1,490 @@
+package dev.mardroemmar.truthext.currency;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+
+import com.google.common.truth.Fact;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for an amount of money held as a {@code long} count of minor units, such as cents,
+ * of a {@link Currency}.
+ *
+ * <p>The scale of an amount is the {@linkplain Currency#getDefaultFractionDigits() default fraction digits} of its currency, so 1234 minor
+ * units of EUR are 12.34 EUR, and of JPY are 1234 JPY; pseudo-currencies without fraction digits, such as XAU, are taken to have none. All
+ * arithmetic is on {@code long}s, so no {@link java.math.BigDecimal} or other object is created for the amount, and it cannot overflow;
+ * failures still describe the amount in major units.</p>
+ *
+ * <p>As there is no object for the amount, checks comparing it to objects, such as {@link #isEqualTo(Object)}, {@link #isIn(Iterable)}
+ * and {@link #isInstanceOf(Class)}, always fail, and so do their negations, such as {@link #isNotEqualTo(Object)}, rather than pass
+ * whatever they are given. Use {@link #hasMinorUnits(long)} and {@link #hasCurrency(Currency)} instead. Only
+ * {@link #isNotSameInstanceAs(Object)}, which subjects cannot override, passes for any object.</p>
+ *
+ * @see Subject
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class MonetaryAmountSubject extends Subject {
+  // 10^0 through 10^18, every power of ten a long holds.
+  private static final long[] POWERS_OF_TEN = new long[19];
+  // What Subject knows as the actual, so that no object is created for the amount. Nothing else is this instance.
+  private static final Object AMOUNT = new Object();
+  private static final Fact NOT_AN_OBJECT = simpleFact("but an amount in minor units is no object; use hasMinorUnits and hasCurrency");
+
+  static {
+    POWERS_OF_TEN[0] = 1L;
+    for (int i = 1; i < POWERS_OF_TEN.length; ++i) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+    }
+  }
+
+  /**
+   * Assert upon an amount of money.
+   *
+   * @param minorUnits the actual amount in minor units of the {@code currency}
+   * @param currency   the currency of the actual amount
+   * @return a new assertion subject
+   * @throws NullPointerException if the {@code currency} is {@code null}
+   */
+  public static MonetaryAmountSubject assertThat(final long minorUnits, final Currency currency) {
+    return assertAbout(amounts(minorUnits, currency)).that(null);
+  }
+
+  private static Subject.Factory<MonetaryAmountSubject, Void> amounts(final long minorUnits, final Currency currency) {
+    Objects.requireNonNull(currency, "currency must not be null");
+    return (metadata, ignored) -> new MonetaryAmountSubject(metadata, minorUnits, currency);
+  }
+
+  private final long minorUnits;
+  private final Currency currency;
+
+  private MonetaryAmountSubject(final FailureMetadata metadata, final long minorUnits, final Currency currency) {
+    super(metadata, AMOUNT);
+    this.minorUnits = minorUnits;
+    this.currency = currency;
+  }
+
+  /**
+   * Asserts that the amount is zero.
+   *
+   * @throws AssertionError if the amount is not zero
+   */
+  public void isZero() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonetaryAmountSubject", "isZero()");
+    try {
+      if (this.minorUnits != 0) {
+        this.failWithActual(simpleFact("expected to be zero"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the amount is not zero.
+   *
+   * @throws AssertionError if the amount is zero
+   */
+  public void isNonZero() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonetaryAmountSubject", "isNonZero()");
+    try {
+      if (this.minorUnits == 0) {
+        this.failWithActual(simpleFact("expected not to be zero"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the amount is more than zero.
+   *
+   * @throws AssertionError if the amount is zero or less
+   */
+  public void isPositive() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonetaryAmountSubject", "isPositive()");
+    try {
+      if (this.minorUnits <= 0) {
+        this.failWithActual(simpleFact("expected to be positive"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the amount is less than zero.
+   *
+   * @throws AssertionError if the amount is zero or more
+   */
+  public void isNegative() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonetaryAmountSubject", "isNegative()");
+    try {
+      if (this.minorUnits >= 0) {
+        this.failWithActual(simpleFact("expected to be negative"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the amount is a whole number of major units, such as 12.00 EUR but not 12.34 EUR.
+   *
+   * @throws AssertionError if the amount has a fractional part
+   */
+  public void isWholeMajorUnits() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonetaryAmountSubject", "isWholeMajorUnits()");
+    try {
+      if (this.minorUnits % POWERS_OF_TEN[fractionDigits(this.currency)] != 0) {
+        this.failWithActual(simpleFact("expected a whole number of major units"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the amount is the given number of minor units, whatever its currency.
+   *
+   * @param expected the expected number of minor units
+   * @throws AssertionError if the amount is another number of minor units
+   */
+  public void hasMinorUnits(final long expected) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonetaryAmountSubject", "hasMinorUnits(long)");
+    try {
+      if (this.minorUnits != expected) {
+        this.failWithActual(fact("expected minor units", expected), fact("but had minor units", this.minorUnits));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the amount is in the given currency.
+   *
+   * @param expected the expected currency
+   * @throws NullPointerException if the {@code expected} is {@code null}
+   * @throws AssertionError       if the amount is in another currency
+   */
+  public void hasCurrency(final Currency expected) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonetaryAmountSubject", "hasCurrency(Currency)");
+    try {
+      Objects.requireNonNull(expected, "expected must not be null");
+      if (!this.currency.equals(expected)) {
+        this.failWithActual(fact("expected currency", expected), fact("but had currency", this.currency));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Prepares for a check that the amount is within {@code tolerance} minor units of an expected amount in the same currency, both
+   * inclusive.
+   *
+   * @param tolerance the largest allowed difference from the expected amount, in minor units
+   * @return a comparison to give the expected amount to
+   * @throws IllegalArgumentException if the {@code tolerance} is negative
+   */
+  public TolerantMinorUnitsComparison isWithinMinorUnits(final long tolerance) {
+    if (tolerance < 0) {
+      throw new IllegalArgumentException("tolerance must not be negative");
+    }
+    return new TolerantMinorUnitsComparison(tolerance);
+  }
+
+  /**
+   * Fails, as no object is equal to the amount.
+   *
+   * @param expected the expected value
+   * @throws AssertionError always
+   * @deprecated use {@link #hasMinorUnits(long)} and {@link #hasCurrency(Currency)}
+   */
+  @Deprecated
+  @Override
+  public void isEqualTo(final @Nullable Object expected) {
+    this.failWithActual(fact("expected", expected), NOT_AN_OBJECT);
+  }
+
+  /**
+   * Fails, as the amount cannot be compared to an object.
+   *
+   * @param unexpected the value to not be equal to
+   * @throws AssertionError always
+   * @deprecated use {@link #hasMinorUnits(long)} and {@link #hasCurrency(Currency)}
+   */
+  @Deprecated
+  @Override
+  public void isNotEqualTo(final @Nullable Object unexpected) {
+    this.failWithActual(fact("expected not to be", unexpected), NOT_AN_OBJECT);
+  }
+
+  /**
+   * Fails, as no object is equal to the amount.
+   *
+   * @param iterable the values to be any of
+   * @throws AssertionError always
+   * @deprecated use {@link #hasMinorUnits(long)} and {@link #hasCurrency(Currency)}
+   */
+  @Deprecated
+  @Override
+  public void isIn(final @Nullable Iterable<?> iterable) {
+    this.failWithActual(fact("expected any of", iterable), NOT_AN_OBJECT);
+  }
+
+  /**
+   * Fails, as no object is equal to the amount.
+   *
+   * @param first  the first value to be any of
+   * @param second the second value to be any of
+   * @param rest   the other values to be any of
+   * @throws AssertionError always
+   * @deprecated use {@link #hasMinorUnits(long)} and {@link #hasCurrency(Currency)}
+   */
+  @Deprecated
+  @Override
+  public void isAnyOf(final @Nullable Object first, final @Nullable Object second, final @Nullable Object @Nullable ... rest) {
+    this.isIn(values(first, second, rest));
+  }
+
+  /**
+   * Fails, as the amount cannot be compared to an object.
+   *
+   * @param iterable the values to not be any of
+   * @throws AssertionError always
+   * @deprecated use {@link #hasMinorUnits(long)} and {@link #hasCurrency(Currency)}
+   */
+  @Deprecated
+  @Override
+  public void isNotIn(final @Nullable Iterable<?> iterable) {
+    this.failWithActual(fact("expected not to be any of", iterable), NOT_AN_OBJECT);
+  }
+
+  /**
+   * Fails, as the amount cannot be compared to an object.
+   *
+   * @param first  the first value to not be any of
+   * @param second the second value to not be any of
+   * @param rest   the other values to not be any of
+   * @throws AssertionError always
+   * @deprecated use {@link #hasMinorUnits(long)} and {@link #hasCurrency(Currency)}
+   */
+  @Deprecated
+  @Override
+  public void isNoneOf(final @Nullable Object first, final @Nullable Object second, final @Nullable Object @Nullable ... rest) {
+    this.isNotIn(values(first, second, rest));
+  }
+
+  /**
+   * Fails, as there is no object for the amount to be an instance of anything.
+   *
+   * @param clazz the class to be an instance of
+   * @throws AssertionError always
+   */
+  @Override
+  public void isInstanceOf(final Class<?> clazz) {
+    Objects.requireNonNull(clazz, "clazz must not be null");
+    this.failWithActual(fact("expected instance of", clazz.getName()), NOT_AN_OBJECT);
+  }
+
+  /**
+   * Fails, as there is no object for the amount to be an instance of anything, or not.
+   *
+   * @param clazz the class to not be an instance of
+   * @throws AssertionError always
+   */
+  @Override
+  public void isNotInstanceOf(final Class<?> clazz) {
+    Objects.requireNonNull(clazz, "clazz must not be null");
+    this.failWithActual(fact("expected not to be an instance of", clazz.getName()), NOT_AN_OBJECT);
+  }
+
+  @Override
+  protected String actualCustomStringRepresentation() {
+    return format(this.minorUnits, this.currency);
+  }
+
+  /**
+   * Formats an amount in major units, such as {@code -12.34 EUR} for -1234 minor units of EUR, without rounding.
+   *
+   * @param minorUnits the amount in minor units
+   * @param currency   the currency of the amount
+   * @return the amount in major units, followed by the currency code
+   */
+  static String format(final long minorUnits, final Currency currency) {
+    final int digits = fractionDigits(currency);
+    // Negated as unsigned, so Long.MIN_VALUE keeps its magnitude.
+    final long magnitude = minorUnits < 0 ? -minorUnits : minorUnits;
+    final StringBuilder builder = new StringBuilder(32);
+    if (minorUnits < 0) {
+      builder.append('-');
+    }
+    builder.append(Long.toUnsignedString(Long.divideUnsigned(magnitude, POWERS_OF_TEN[digits])));
+    if (digits > 0) {
+      final String fraction = Long.toUnsignedString(Long.remainderUnsigned(magnitude, POWERS_OF_TEN[digits]));
+      builder.append('.');
+      for (int i = fraction.length(); i < digits; ++i) {
+        builder.append('0');
+      }
+      builder.append(fraction);
+    }
+    return builder.append(' ').append(currency.getCurrencyCode()).toString();
+  }
+
+  private static List<@Nullable Object> values(final @Nullable Object first, final @Nullable Object second,
+      final @Nullable Object @Nullable [] rest) {
+    final List<@Nullable Object> values = new ArrayList<>(Arrays.asList(first, second));
+    if (rest == null) {
+      // A lone null passed as the rest is taken as a single null value.
+      values.add(null);
+    } else {
+      values.addAll(Arrays.asList(rest));
+    }
+    return values;
+  }
+
+  private static int fractionDigits(final Currency currency) {
+    return Math.max(0, currency.getDefaultFractionDigits());
+  }
+
+  /**
+   * Checks whether the amount is within {@code tolerance} minor units of {@code expected}, both inclusive, without overflowing.
+   */
+  private boolean isWithinTolerance(final long tolerance, final long expected) {
+    // The difference of two longs always fits an unsigned long.
+    final long difference = this.minorUnits >= expected ? this.minorUnits - expected : expected - this.minorUnits;
+    return Long.compareUnsigned(difference, tolerance) <= 0;
+  }
+
+  /**
+   * A check that the amount of a {@link MonetaryAmountSubject} is within a tolerance of an expected amount.
+   *
+   * @see MonetaryAmountSubject#isWithinMinorUnits(long)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public final class TolerantMinorUnitsComparison {
+    private final long tolerance;
+
+    private TolerantMinorUnitsComparison(final long tolerance) {
+      this.tolerance = tolerance;
+    }
+
+    /**
+     * Asserts that the amount is within the tolerance of the {@code expectedMinorUnits} of its own currency.
+     *
+     * @param expectedMinorUnits the expected amount in minor units
+     * @throws AssertionError if the amount is further from the {@code expectedMinorUnits} than the tolerance
+     */
+    public void of(final long expectedMinorUnits) {
+      final @Nullable AssertionProbe probe = AssertionProbe.begin("MonetaryAmountSubject", "isWithinMinorUnits(long).of(long)");
+      try {
+        this.check(expectedMinorUnits, MonetaryAmountSubject.this.currency);
+      } catch (final RuntimeException | Error ex) {
+        AssertionProbe.failed(probe);
+        throw ex;
+      } finally {
+        AssertionProbe.end(probe);
+      }
+    }
+
+    /**
+     * Asserts that the amount is in the {@code expectedCurrency}, and within the tolerance of the {@code expectedMinorUnits}.
+     *
+     * @param expectedMinorUnits the expected amount in minor units of the {@code expectedCurrency}
+     * @param expectedCurrency   the expected currency
+     * @throws NullPointerException if the {@code expectedCurrency} is {@code null}
+     * @throws AssertionError       if the amount is in another currency, or further from the {@code expectedMinorUnits} than the
+     *                              tolerance
+     */
+    public void of(final long expectedMinorUnits, final Currency expectedCurrency) {
+      final @Nullable AssertionProbe probe = AssertionProbe.begin("MonetaryAmountSubject", "isWithinMinorUnits(long).of(long, Currency)");
+      try {
+        Objects.requireNonNull(expectedCurrency, "expectedCurrency must not be null");
+        this.check(expectedMinorUnits, expectedCurrency);
+      } catch (final RuntimeException | Error ex) {
+        AssertionProbe.failed(probe);
+        throw ex;
+      } finally {
+        AssertionProbe.end(probe);
+      }
+    }
+
+    /**
+     * Asserts that the amount is within the tolerance of the {@code expectedMinorUnits}, without being probed again.
+     */
+    private void check(final long expectedMinorUnits, final Currency expectedCurrency) {
+      final MonetaryAmountSubject subject = MonetaryAmountSubject.this;
+      if (!subject.currency.equals(expectedCurrency)) {
+        subject.failWithoutActual(fact("expected", format(expectedMinorUnits, expectedCurrency)),
+            fact("but was", subject.actualCustomStringRepresentation()), simpleFact("which is in another currency"));
+      } else if (!subject.isWithinTolerance(this.tolerance, expectedMinorUnits)) {
+        subject.failWithoutActual(fact("expected", format(expectedMinorUnits, expectedCurrency)),
+            fact("but was", subject.actualCustomStringRepresentation()),
+            fact("outside tolerance", format(this.tolerance, expectedCurrency)));
+      }
+    }
+
+    /**
+     * Asserts that the amount is within the tolerance of the {@code expectedMajorUnits} of its own currency, such as 12 for 12.00 EUR.
+     *
+     * @param expectedMajorUnits the expected amount in major units
+     * @throws AssertionError if the amount is further from the {@code expectedMajorUnits} than the tolerance
+     */
+    public void ofMajorUnits(final long expectedMajorUnits) {
+      final @Nullable AssertionProbe probe = AssertionProbe.begin("MonetaryAmountSubject", "isWithinMinorUnits(long).ofMajorUnits(long)");
+      try {
+        final MonetaryAmountSubject subject = MonetaryAmountSubject.this;
+        final long scale = POWERS_OF_TEN[fractionDigits(subject.currency)];
+        final long expectedMinorUnits;
+        try {
+          expectedMinorUnits = Math.multiplyExact(expectedMajorUnits, scale);
+        } catch (final ArithmeticException ex) {
+          subject.failWithoutActual(fact("expected", expectedMajorUnits + " " + subject.currency.getCurrencyCode()),
+              fact("but was", subject.actualCustomStringRepresentation()), simpleFact("which as minor units does not fit a long"));
+          return;
+        }
+        this.check(expectedMinorUnits, subject.currency);
+      } catch (final RuntimeException | Error ex) {
+        AssertionProbe.failed(probe);
+        throw ex;
+      } finally {
+        AssertionProbe.end(probe);
+      }
+    }
+  }
+}
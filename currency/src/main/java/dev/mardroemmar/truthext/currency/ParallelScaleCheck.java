@@ -0,0 +1,149 @@
+package dev.mardroemmar.truthext.currency;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Checks the scales of amounts against the {@linkplain Currency#getDefaultFractionDigits() default fraction digits} of their currencies
+ * on the {@link ForkJoinPool#commonPool() common pool}.
+ *
+ * <p>The amounts are split into chunks, each checked on its own. Violations are merged in row order, so the first violations overall are
+ * reported however the chunks were scheduled; chunks starting after the last violation that can still be reported are skipped.</p>
+ */
+final class ParallelScaleCheck {
+  /**
+   * The number of rows below which a chunk is not split any further.
+   */
+  static final int CHUNK_SIZE = 1 << 14;
+
+  private final List<? extends @Nullable BigDecimal> amounts;
+  private final List<? extends @Nullable Currency> currencies;
+  private final boolean stripTrailingZeros;
+  private final int limit;
+  // Chunks starting at or after this row cannot hold any of the violations that will be reported.
+  private final AtomicLong cutoff = new AtomicLong(Long.MAX_VALUE);
+
+  private ParallelScaleCheck(final List<? extends @Nullable BigDecimal> amounts, final List<? extends @Nullable Currency> currencies,
+      final boolean stripTrailingZeros, final int limit) {
+    this.amounts = amounts;
+    this.currencies = currencies;
+    this.stripTrailingZeros = stripTrailingZeros;
+    this.limit = limit;
+  }
+
+  /**
+   * Check the scale of every amount against its currency.
+   *
+   * @param amounts            the amounts, in a random access list
+   * @param currencies         the currency of each amount, in a random access list as long as the {@code amounts}
+   * @param stripTrailingZeros whether the scale is taken after {@linkplain BigDecimal#stripTrailingZeros() stripping trailing zeros},
+   *                           and may then be less than the fraction digits; otherwise it must be equal to them
+   * @param limit              the number of violations to report
+   * @return the first violations, at most {@code limit}
+   */
+  static List<String> check(final List<? extends @Nullable BigDecimal> amounts, final List<? extends @Nullable Currency> currencies,
+      final boolean stripTrailingZeros, final int limit) {
+    final ParallelScaleCheck check = new ParallelScaleCheck(amounts, currencies, stripTrailingZeros, limit);
+    if (amounts.size() <= CHUNK_SIZE) {
+      // Not worth handing to another thread.
+      return check.checkChunk(0, amounts.size());
+    }
+    return ForkJoinPool.commonPool().invoke(check.new Chunk(0, amounts.size()));
+  }
+
+  private List<String> checkChunk(final int from, final int to) {
+    if (from >= this.cutoff.get()) {
+      return Collections.emptyList();
+    }
+
+    @Nullable List<String> violations = null;
+    for (int row = from; row < to; ++row) {
+      final @Nullable String violation = this.violation(row);
+      if (violation == null) {
+        continue;
+      }
+      if (violations == null) {
+        violations = new ArrayList<>();
+      }
+      violations.add(violation);
+      if (violations.size() >= this.limit) {
+        final long end = row + 1L;
+        this.cutoff.accumulateAndGet(end, Math::min);
+        break;
+      }
+    }
+    return violations == null ? Collections.emptyList() : violations;
+  }
+
+  private @Nullable String violation(final int row) {
+    final @Nullable BigDecimal amount = this.amounts.get(row);
+    final @Nullable Currency currency = this.currencies.get(row);
+    if (amount == null || currency == null) {
+      return "row " + row + " has " + (amount == null ? "a null amount" : "a null currency");
+    }
+    final int digits = currency.getDefaultFractionDigits();
+    if (digits < 0) {
+      // Pseudo-currencies such as XAU have no fraction digits to check against.
+      return null;
+    }
+    final int scale = amount.scale();
+    if (scale == digits) {
+      return null;
+    }
+    if (this.stripTrailingZeros) {
+      // Only an amount with more fraction digits than the currency needs stripping, which is what allocates.
+      if (scale < digits || amount.stripTrailingZeros().scale() <= digits) {
+        return null;
+      }
+      return "row " + row + ": " + amount.toPlainString() + " " + currency.getCurrencyCode() + " needs "
+          + amount.stripTrailingZeros().scale() + " fraction digits, but " + currency.getCurrencyCode() + " has " + digits;
+    }
+    return "row " + row + ": " + amount.toPlainString() + " " + currency.getCurrencyCode() + " has scale " + scale + ", but "
+        + currency.getCurrencyCode() + " has " + digits + " fraction digits";
+  }
+
+  private List<String> merge(final List<String> left, final List<String> right) {
+    if (right.isEmpty() || left.size() >= this.limit) {
+      return left;
+    }
+    if (left.isEmpty()) {
+      return right;
+    }
+    final List<String> merged = new ArrayList<>(Math.min(this.limit, left.size() + right.size()));
+    merged.addAll(left);
+    merged.addAll(right.subList(0, Math.min(right.size(), this.limit - left.size())));
+    return merged;
+  }
+
+  private final class Chunk extends RecursiveTask<List<String>> {
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+
+    Chunk(final int from, final int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<String> compute() {
+      if (this.to - this.from <= CHUNK_SIZE) {
+        return ParallelScaleCheck.this.checkChunk(this.from, this.to);
+      }
+
+      final int middle = (this.from + this.to) >>> 1;
+      final Chunk right = new Chunk(middle, this.to);
+      right.fork();
+      final List<String> left = new Chunk(this.from, middle).compute();
+      return ParallelScaleCheck.this.merge(left, right.join());
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package dev.mardroemmar.truthext.currency;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Currency;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -25,4 +28,91 @@ public final class TruthCurrency {
   public static CurrencySubject assertThat(final @Nullable Currency actual) {
     return CurrencySubject.assertThat(actual);
   }
+
+  /**
+   * Assert upon a column of currency codes. Alias for {@link CurrencyCodesSubject#assertThat(CharSequence[])}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see CurrencyCodesSubject#assertThat(CharSequence[])
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public static CurrencyCodesSubject assertThatCodes(final @Nullable CharSequence @Nullable [] actual) {
+    return CurrencyCodesSubject.assertThat(actual);
+  }
+
+  /**
+   * Assert upon a column of currency codes written as ASCII, 3 bytes per code. Alias for
+   * {@link CurrencyCodesSubject#assertThat(byte[])}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see CurrencyCodesSubject#assertThat(byte[])
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public static CurrencyCodesSubject assertThatCodes(final byte @Nullable [] actual) {
+    return CurrencyCodesSubject.assertThat(actual);
+  }
+
+  /**
+   * Assert upon a buffer of currency codes written as ASCII, 3 bytes per code. Alias for
+   * {@link CurrencyCodesSubject#assertThat(ByteBuffer)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see CurrencyCodesSubject#assertThat(ByteBuffer)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public static CurrencyCodesSubject assertThatCodes(final @Nullable ByteBuffer actual) {
+    return CurrencyCodesSubject.assertThat(actual);
+  }
+
+  /**
+   * Assert upon an amount of money in minor units. Alias for {@link MonetaryAmountSubject#assertThat(long, Currency)}.
+   *
+   * @param minorUnits the actual amount in minor units of the {@code currency}
+   * @param currency   the currency of the actual amount
+   * @return a new subject for asserting
+   * @see MonetaryAmountSubject#assertThat(long, Currency)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public static MonetaryAmountSubject assertThatAmount(final long minorUnits, final Currency currency) {
+    return MonetaryAmountSubject.assertThat(minorUnits, currency);
+  }
+
+  /**
+   * Assert upon the scales of amounts all in the same currency. Alias for
+   * {@link AmountScalesSubject#assertThat(Collection, Currency)}.
+   *
+   * @param actual   the actual to assert upon
+   * @param currency the currency of every amount
+   * @return a new subject for asserting
+   * @see AmountScalesSubject#assertThat(Collection, Currency)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public static AmountScalesSubject assertThatAmounts(final @Nullable Collection<? extends @Nullable BigDecimal> actual,
+      final Currency currency) {
+    return AmountScalesSubject.assertThat(actual, currency);
+  }
+
+  /**
+   * Assert upon the scales of amounts each in its own currency. Alias for
+   * {@link AmountScalesSubject#assertThat(Collection, Collection)}.
+   *
+   * @param actual     the actual to assert upon
+   * @param currencies the currency of each amount, in the same order
+   * @return a new subject for asserting
+   * @see AmountScalesSubject#assertThat(Collection, Collection)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public static AmountScalesSubject assertThatAmounts(final @Nullable Collection<? extends @Nullable BigDecimal> actual,
+      final Collection<? extends @Nullable Currency> currencies) {
+    return AmountScalesSubject.assertThat(actual, currencies);
+  }
 }
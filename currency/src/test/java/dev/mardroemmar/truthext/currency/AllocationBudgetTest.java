@@ -0,0 +1,42 @@
+package dev.mardroemmar.truthext.currency;
+
+import static dev.mardroemmar.truthext.instrumentation.AllocationBudget.assertAllocatesAtMost;
+import static dev.mardroemmar.truthext.instrumentation.AllocationBudget.truthDerivedSubjectBytes;
+import static dev.mardroemmar.truthext.instrumentation.AllocationBudget.truthSubjectBytes;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Currency;
+import org.junit.jupiter.api.Test;
+
+class AllocationBudgetTest {
+  // What Truth allocates per subject is measured on the running JVM. Each test adds the most its own subject was measured to allocate on
+  // top of that, and a slack for rounding that is smaller than any object, so a new allocation per assertion fails the budget.
+  private static final long SLACK = 8;
+
+  private static long subjectBudget(final long ownBytes) {
+    return truthSubjectBytes() + ownBytes + SLACK;
+  }
+
+  private static long derivedSubjectBudget(final long ownBytes) {
+    return truthDerivedSubjectBytes() + ownBytes + SLACK;
+  }
+
+  @Test
+  void currencyCode() {
+    final Currency euro = Currency.getInstance("EUR");
+    assertAllocatesAtMost(derivedSubjectBudget(72), () -> CurrencySubject.assertThat(euro).currencyCode().isEqualTo("EUR"));
+  }
+
+  @Test
+  void codeColumnAvailable() {
+    // Scanning the column must not allocate per code; the budget is the same as for a single subject.
+    final byte[] codes = new String(new char[1000]).replace("\0", "EUR").getBytes(StandardCharsets.US_ASCII);
+    assertAllocatesAtMost(subjectBudget(80), () -> TruthCurrency.assertThatCodes(codes).areAllAvailable());
+  }
+
+  @Test
+  void monetaryAmountWithin() {
+    final Currency euro = Currency.getInstance("EUR");
+    assertAllocatesAtMost(subjectBudget(56), () -> MonetaryAmountSubject.assertThat(1234, euro).isWithinMinorUnits(1).of(1235));
+  }
+}
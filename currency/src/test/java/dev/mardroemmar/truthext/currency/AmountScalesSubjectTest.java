@@ -0,0 +1,84 @@
+package dev.mardroemmar.truthext.currency;
+
+import static dev.mardroemmar.truthext.currency.TruthCurrency.assertThatAmounts;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.LinkedList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AmountScalesSubjectTest {
+  private static final Currency EUR = Currency.getInstance("EUR");
+  private static final Currency JPY = Currency.getInstance("JPY");
+  private static final Currency XAU = Currency.getInstance("XAU");
+
+  @Test
+  void strict() {
+    assertThatAmounts(amounts("12.30", "0.00", "-5.01"), EUR).allHaveCurrencyScale();
+    assertThatAmounts(amounts("12.30", "1234", "1.2345"), Arrays.asList(EUR, JPY, XAU)).allHaveCurrencyScale();
+    assertThatAmounts(Collections.emptyList(), EUR).allHaveCurrencyScale();
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> assertThatAmounts(amounts("12.30", "12.3", "12.300"), EUR).allHaveCurrencyScale());
+    Assertions.assertTrue(error.getMessage().contains("row 1: 12.3 EUR has scale 1, but EUR has 2 fraction digits"), error.getMessage());
+    Assertions.assertTrue(error.getMessage().contains("row 2: 12.300 EUR has scale 3"), error.getMessage());
+  }
+
+  @Test
+  void strippingTrailingZeros() {
+    assertThatAmounts(amounts("12.3", "12.300", "1E+3", "0.000"), EUR).allFitCurrencyScale();
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> assertThatAmounts(amounts("12.30", "12.305"), EUR).allFitCurrencyScale());
+    Assertions.assertTrue(error.getMessage().contains("row 1: 12.305 EUR needs 3 fraction digits, but EUR has 2"), error.getMessage());
+    Assertions.assertThrows(AssertionError.class, () -> assertThatAmounts(amounts("1.5"), JPY).allFitCurrencyScale());
+  }
+
+  @Test
+  void nullsAndMismatchedColumns() {
+    Assertions.assertThrows(AssertionError.class, () -> assertThatAmounts(Arrays.asList(BigDecimal.ONE, null), EUR).allFitCurrencyScale());
+    Assertions.assertThrows(AssertionError.class, () -> assertThatAmounts(amounts("1.00"), Arrays.asList(EUR, EUR)).allHaveCurrencyScale());
+    Assertions.assertThrows(AssertionError.class, () -> assertThatAmounts(null, EUR).allHaveCurrencyScale());
+  }
+
+  @Test
+  void reportsFirstViolationsInParallel() {
+    final int rows = ParallelScaleCheck.CHUNK_SIZE * 16;
+    final List<BigDecimal> amounts = new ArrayList<>(Collections.nCopies(rows, new BigDecimal("1.00")));
+    for (int row = rows - 1; row >= rows / 2; row -= 1000) {
+      amounts.set(row, new BigDecimal("1.001"));
+    }
+    assertThatAmounts(amounts.subList(0, rows / 2), EUR).allHaveCurrencyScale();
+
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, () -> assertThatAmounts(amounts, EUR).allFitCurrencyScale());
+    final List<Integer> violatingRows = new ArrayList<>();
+    for (int row = rows / 2; row < rows; ++row) {
+      if (amounts.get(row).scale() == 3) {
+        violatingRows.add(row);
+      }
+    }
+    for (int i = 0; i < CurrencyCodesSubject.REPORTED_VIOLATIONS; ++i) {
+      Assertions.assertTrue(error.getMessage().contains("row " + violatingRows.get(i) + ":"), error.getMessage());
+    }
+    Assertions.assertFalse(error.getMessage().contains("row " + violatingRows.get(CurrencyCodesSubject.REPORTED_VIOLATIONS) + ":"),
+        error.getMessage());
+    Assertions.assertTrue(error.getMessage().contains("stopped checking after 10 violations"), error.getMessage());
+    Assertions.assertTrue(error.getMessage().contains(String.format("%,d amounts", rows)), error.getMessage());
+  }
+
+  @Test
+  void copiesOtherCollections() {
+    assertThatAmounts(new LinkedList<>(amounts("1.00", "2.00")), new LinkedList<>(Arrays.asList(EUR, EUR))).allHaveCurrencyScale();
+  }
+
+  private static List<BigDecimal> amounts(final String... amounts) {
+    final List<BigDecimal> list = new ArrayList<>();
+    for (final String amount : amounts) {
+      list.add(new BigDecimal(amount));
+    }
+    return list;
+  }
+}
@@ -0,0 +1,98 @@
+package dev.mardroemmar.truthext.currency;
+
+import static dev.mardroemmar.truthext.currency.TruthCurrency.assertThatCodes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CurrencyCodesSubjectTest {
+  @Test
+  void allAvailable() {
+    assertThatCodes(new CharSequence[] {"EUR", new StringBuilder("USD"), "JPY"}).areAllAvailable();
+    assertThatCodes(ascii("EURUSDJPY")).areAllAvailable();
+    assertThatCodes(ByteBuffer.wrap(ascii("EURUSDJPY"))).areAllAvailable();
+    assertThatCodes(new CharSequence[0]).areAllAvailable();
+  }
+
+  @Test
+  void reportsInvalidCodes() {
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> assertThatCodes(new CharSequence[] {"EUR", "eur", null, "QQQ", "EURO"}).areAllAvailable());
+    Assertions.assertTrue(error.getMessage().contains("but invalid codes were: 4"), error.getMessage());
+    Assertions.assertTrue(error.getMessage().contains("row 1: \"eur\""), error.getMessage());
+    Assertions.assertTrue(error.getMessage().contains("row 2: null"), error.getMessage());
+    Assertions.assertTrue(error.getMessage().contains("row 4: \"EURO\""), error.getMessage());
+
+    final byte[] bytes = ascii("EURUSDJPY");
+    bytes[4] = (byte) 0xC3;
+    final AssertionError byteError = Assertions.assertThrows(AssertionError.class, () -> assertThatCodes(bytes).areAllAvailable());
+    Assertions.assertTrue(byteError.getMessage().contains("row 1: \"U\\u00c3D\""), byteError.getMessage());
+  }
+
+  @Test
+  void boundsReportedCodes() {
+    final CharSequence[] codes = new CharSequence[100];
+    Arrays.fill(codes, "XYZ");
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, () -> assertThatCodes(codes).areAllAvailable());
+    Assertions.assertTrue(error.getMessage().contains("row 9"), error.getMessage());
+    Assertions.assertFalse(error.getMessage().contains("row 10"), error.getMessage());
+    Assertions.assertTrue(error.getMessage().contains("and 90 more"), error.getMessage());
+  }
+
+  @Test
+  void allowedSubset() {
+    final CurrencyCodeSet allowed = CurrencyCodeSet.of("EUR", "SEK");
+    assertThatCodes(ascii("EURSEKEUR")).areAllIn(allowed);
+    Assertions.assertThrows(AssertionError.class, () -> assertThatCodes(ascii("EURUSD")).areAllIn(allowed));
+    Assertions.assertEquals(2, allowed.size());
+    Assertions.assertEquals("[EUR, SEK]", allowed.toString());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> CurrencyCodeSet.of("EU"));
+    Assertions.assertEquals(CurrencyIndex.available().size(), CurrencyCodeSet.available().size());
+  }
+
+  @Test
+  void countsCodes() {
+    final Map<String, Integer> expected = new HashMap<>();
+    expected.put("EUR", 2);
+    expected.put("USD", 1);
+    expected.put("\"eur\"", 1);
+    assertThatCodes(ascii("EURUSDeurEUR")).codeCounts().containsExactlyEntriesIn(expected);
+  }
+
+  @Test
+  void readsBufferInPlace() {
+    final ByteBuffer buffer = ByteBuffer.wrap(ascii("---EURUSD"));
+    buffer.position(3);
+    assertThatCodes(buffer).areAllAvailable();
+    Assertions.assertEquals(3, buffer.position());
+  }
+
+  @Test
+  void rejectsPartialCodes() {
+    Assertions.assertThrows(AssertionError.class, () -> assertThatCodes(ascii("EURUS")).areAllAvailable());
+    Assertions.assertThrows(AssertionError.class, () -> assertThatCodes((byte[]) null).areAllAvailable());
+  }
+
+  @Test
+  void inheritedChecksSeeTheGivenColumn() {
+    final byte[] bytes = ascii("EURUSD");
+    assertThatCodes(bytes).isSameInstanceAs(bytes);
+    assertThatCodes(bytes).isEqualTo(bytes);
+    final CharSequence[] codes = {"EUR", "USD"};
+    assertThatCodes(codes).isSameInstanceAs(codes);
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    assertThatCodes(buffer).isSameInstanceAs(buffer);
+    assertThatCodes((byte[]) null).isNull();
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, () -> assertThatCodes(bytes).isNull());
+    Assertions.assertTrue(error.getMessage().contains("2 currency codes"), error.getMessage());
+  }
+
+  private static byte[] ascii(final String codes) {
+    return codes.getBytes(StandardCharsets.US_ASCII);
+  }
+}
@@ -0,0 +1,54 @@
+package dev.mardroemmar.truthext.currency;
+
+import java.util.Currency;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CurrencyIndexTest {
+  private final CurrencyIndex index = CurrencyIndex.available();
+
+  @Test
+  void indexesEveryAvailableCurrency() {
+    final Set<Currency> available = Currency.getAvailableCurrencies();
+    Assertions.assertEquals(available, this.index.currencies());
+    Assertions.assertEquals(available.size(), this.index.size());
+    for (final Currency currency : available) {
+      Assertions.assertSame(currency, this.index.byCode(currency.getCurrencyCode()));
+      Assertions.assertTrue(this.index.contains(currency));
+      Assertions.assertTrue(this.index.withFractionDigits(currency.getDefaultFractionDigits()).contains(currency));
+      final Currency byNumeric = this.index.byNumericCode(currency.getNumericCode());
+      Assertions.assertNotNull(byNumeric);
+      Assertions.assertEquals(currency.getNumericCode(), byNumeric.getNumericCode());
+    }
+  }
+
+  @Test
+  void looksUp() {
+    Assertions.assertSame(Currency.getInstance("EUR"), this.index.byCode(new StringBuilder("EUR")));
+    Assertions.assertSame(Currency.getInstance("EUR"), this.index.byNumericCode(978));
+    Assertions.assertTrue(this.index.withFractionDigits(0).contains(Currency.getInstance("JPY")));
+    Assertions.assertTrue(this.index.withFractionDigits(3).contains(Currency.getInstance("KWD")));
+    Assertions.assertTrue(this.index.withFractionDigits(-1).contains(Currency.getInstance("XAU")));
+  }
+
+  @Test
+  void missesWithoutThrowing() {
+    Assertions.assertNull(this.index.byCode("eur"));
+    Assertions.assertNull(this.index.byCode("EURO"));
+    Assertions.assertNull(this.index.byCode("E€R"));
+    Assertions.assertNull(this.index.byCode(""));
+    Assertions.assertFalse(this.index.contains("QQQ"));
+    Assertions.assertNull(this.index.byNumericCode(-1));
+    Assertions.assertNull(this.index.byNumericCode(1000));
+    Assertions.assertTrue(this.index.withFractionDigits(42).isEmpty());
+  }
+
+  @Test
+  void packsInto15Bits() {
+    Assertions.assertEquals(0, CurrencyIndex.pack("AAA"));
+    Assertions.assertEquals(CurrencyIndex.PACKED_CODES - 1 - 6 * (1 + 32 + 1024), CurrencyIndex.pack("ZZZ"));
+    Assertions.assertEquals(-1, CurrencyIndex.pack("[AA"));
+    Assertions.assertEquals(-1, CurrencyIndex.pack("AA@"));
+  }
+}
@@ -0,0 +1,63 @@
+package dev.mardroemmar.truthext.currency;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CurrencyNamesTest {
+  @Test
+  void enabledByDefault() {
+    Assertions.assertNotNull(CurrencyNames.shared());
+  }
+
+  @Test
+  void agreesWithCurrency() {
+    final CurrencyNames names = new CurrencyNames(CurrencyIndex.available(), CurrencyNames.MAX_LOCALES);
+    for (final Locale locale : new Locale[] {Locale.ROOT, Locale.GERMANY, Locale.US, Locale.JAPAN, Locale.forLanguageTag("ar-EG")}) {
+      for (final Currency currency : CurrencyIndex.available().currencies()) {
+        // Twice, to check both the miss and the hit.
+        for (int i = 0; i < 2; ++i) {
+          Assertions.assertEquals(currency.getSymbol(locale), names.cachedSymbol(currency, locale));
+          Assertions.assertEquals(currency.getDisplayName(locale), names.cachedDisplayName(currency, locale));
+        }
+      }
+    }
+  }
+
+  @Test
+  void staysBounded() {
+    final CurrencyNames names = new CurrencyNames(CurrencyIndex.available(), 4);
+    final Currency euro = Currency.getInstance("EUR");
+    for (final Locale locale : Locale.getAvailableLocales()) {
+      Assertions.assertEquals(euro.getSymbol(locale), names.cachedSymbol(euro, locale));
+      Assertions.assertTrue(names.locales() <= 4);
+    }
+  }
+
+  @Test
+  void agreesAcrossThreads() throws Exception {
+    final CurrencyNames names = new CurrencyNames(CurrencyIndex.available(), CurrencyNames.MAX_LOCALES);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 4; ++thread) {
+        futures.add(executor.submit(() -> {
+          for (final Currency currency : CurrencyIndex.available().currencies()) {
+            Assertions.assertEquals(currency.getSymbol(Locale.FRANCE), names.cachedSymbol(currency, Locale.FRANCE));
+          }
+        }));
+      }
+      for (final Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
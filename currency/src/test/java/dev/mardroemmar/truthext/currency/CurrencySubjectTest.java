@@ -2,8 +2,12 @@ package dev.mardroemmar.truthext.currency;
 
 import static dev.mardroemmar.truthext.currency.CurrencySubject.assertThat;
 
+import java.util.Arrays;
 import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
@@ -33,6 +37,35 @@ class CurrencySubjectTest {
     expectAssertionError(() -> assertThat(currency).numericCode().isEqualTo("not this"));
   }
 
+  @Test
+  void membership() {
+    final Currency currency = Currency.getInstance("EUR");
+    assertThat(currency).isAvailable();
+    assertThat(currency).isOneOf("USD", "EUR");
+    assertThat(currency).isOneOf(Arrays.asList("EUR", "GBP"));
+    expectAssertionError(() -> assertThat(currency).isOneOf("USD", "GBP"));
+    expectAssertionError(() -> assertThat(null).isOneOf("EUR"));
+    expectAssertionError(() -> assertThat(null).isAvailable());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> assertThat(currency).isOneOf("EUR", "EURO"));
+  }
+
+  @Test
+  void inManyLocales() {
+    final Currency currency = Currency.getInstance("EUR");
+    final List<Locale> locales = Arrays.asList(Locale.GERMANY, Locale.US, Locale.JAPAN);
+    final Map<Locale, String> symbols = new LinkedHashMap<>();
+    final Map<Locale, String> displayNames = new LinkedHashMap<>();
+    for (final Locale locale : locales) {
+      symbols.put(locale, currency.getSymbol(locale));
+      displayNames.put(locale, currency.getDisplayName(locale));
+    }
+    assertThat(currency).symbolsIn(locales).containsExactlyEntriesIn(symbols);
+    assertThat(currency).displayNamesIn(locales).containsExactlyEntriesIn(displayNames);
+    assertThat(currency).symbolsIn(locales).containsEntry(Locale.GERMANY, "\u20ac");
+    expectAssertionError(() -> assertThat(currency).symbolsIn(locales).containsEntry(Locale.GERMANY, "EUR"));
+    expectAssertionError(() -> assertThat(null).symbolsIn(locales));
+  }
+
   private void expectAssertionError(final Executable executable) {
     Assertions.assertThrows(AssertionError.class, executable).printStackTrace();
   }
@@ -0,0 +1,96 @@
+package dev.mardroemmar.truthext.currency;
+
+import static dev.mardroemmar.truthext.currency.MonetaryAmountSubject.assertThat;
+
+import java.util.Collections;
+import java.util.Currency;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+class MonetaryAmountSubjectTest {
+  private static final Currency EUR = Currency.getInstance("EUR");
+  private static final Currency JPY = Currency.getInstance("JPY");
+  private static final Currency KWD = Currency.getInstance("KWD");
+  private static final Currency XAU = Currency.getInstance("XAU");
+
+  @Test
+  void sign() {
+    assertThat(0, EUR).isZero();
+    assertThat(1, EUR).isPositive();
+    assertThat(1, EUR).isNonZero();
+    assertThat(-1, EUR).isNegative();
+    expectFailure(() -> assertThat(1, EUR).isZero());
+    expectFailure(() -> assertThat(0, EUR).isNonZero());
+    expectFailure(() -> assertThat(0, EUR).isPositive());
+    expectFailure(() -> assertThat(0, EUR).isNegative());
+  }
+
+  @Test
+  void minorUnitsAndCurrency() {
+    assertThat(1234, EUR).hasMinorUnits(1234);
+    assertThat(1234, EUR).hasCurrency(EUR);
+    expectFailure(() -> assertThat(1234, EUR).hasMinorUnits(1235));
+    expectFailure(() -> assertThat(1234, EUR).hasCurrency(JPY));
+    Assertions.assertThrows(NullPointerException.class, () -> assertThat(1234, null));
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void noObjectIsTheAmount() {
+    assertThat(1234, EUR).isNotNull();
+    assertThat(1234, EUR).isNotSameInstanceAs(null);
+    expectFailure(() -> assertThat(1234, EUR).isNull());
+    expectFailure(() -> assertThat(1234, EUR).isEqualTo(1234L));
+    expectFailure(() -> assertThat(1234, EUR).isEqualTo(null));
+    expectFailure(() -> assertThat(1234, EUR).isIn(Collections.singletonList(null)));
+    expectFailure(() -> assertThat(1234, EUR).isAnyOf(null, 1234L));
+    expectFailure(() -> assertThat(1234, EUR).isInstanceOf(Object.class));
+    expectFailure(() -> assertThat(1234, EUR).isSameInstanceAs(null));
+    // The negations fail too, rather than pass for anything.
+    expectFailure(() -> assertThat(1234, EUR).isNotEqualTo(1234L));
+    expectFailure(() -> assertThat(1234, EUR).isNotEqualTo(new Object()));
+    expectFailure(() -> assertThat(1234, EUR).isNotIn(Collections.singletonList(null)));
+    expectFailure(() -> assertThat(1234, EUR).isNoneOf(null, 1234L));
+    expectFailure(() -> assertThat(1234, EUR).isNotInstanceOf(String.class));
+  }
+
+  @Test
+  void scale() {
+    assertThat(1200, EUR).isWholeMajorUnits();
+    assertThat(1234, JPY).isWholeMajorUnits();
+    assertThat(1234, XAU).isWholeMajorUnits();
+    expectFailure(() -> assertThat(1234, EUR).isWholeMajorUnits());
+    expectFailure(() -> assertThat(12_345, KWD).isWholeMajorUnits());
+    assertThat(12_000, KWD).isWithinMinorUnits(0).ofMajorUnits(12);
+    assertThat(1234, JPY).isWithinMinorUnits(0).ofMajorUnits(1234);
+  }
+
+  @Test
+  void tolerance() {
+    assertThat(1234, EUR).isWithinMinorUnits(1).of(1235);
+    assertThat(1234, EUR).isWithinMinorUnits(1).of(1233, EUR);
+    assertThat(1234, EUR).isWithinMinorUnits(34).ofMajorUnits(12);
+    assertThat(Long.MIN_VALUE, EUR).isWithinMinorUnits(Long.MAX_VALUE).of(-1);
+    expectFailure(() -> assertThat(1234, EUR).isWithinMinorUnits(1).of(1236));
+    expectFailure(() -> assertThat(1234, EUR).isWithinMinorUnits(1).of(1234, JPY));
+    expectFailure(() -> assertThat(Long.MIN_VALUE, EUR).isWithinMinorUnits(Long.MAX_VALUE).of(Long.MAX_VALUE));
+    expectFailure(() -> assertThat(1234, EUR).isWithinMinorUnits(Long.MAX_VALUE).ofMajorUnits(Long.MAX_VALUE));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> assertThat(1234, EUR).isWithinMinorUnits(-1));
+  }
+
+  @Test
+  void formatsInMajorUnits() {
+    Assertions.assertEquals("12.34 EUR", MonetaryAmountSubject.format(1234, EUR));
+    Assertions.assertEquals("-0.05 EUR", MonetaryAmountSubject.format(-5, EUR));
+    Assertions.assertEquals("1234 JPY", MonetaryAmountSubject.format(1234, JPY));
+    Assertions.assertEquals("1.005 KWD", MonetaryAmountSubject.format(1005, KWD));
+    Assertions.assertEquals("-92233720368547758.08 EUR", MonetaryAmountSubject.format(Long.MIN_VALUE, EUR));
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, () -> assertThat(1234, EUR).isZero());
+    Assertions.assertTrue(error.getMessage().contains("12.34 EUR"), error.getMessage());
+  }
+
+  private static void expectFailure(final Executable executable) {
+    Assertions.assertThrows(AssertionError.class, executable);
+  }
+}
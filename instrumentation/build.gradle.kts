@@ -0,0 +1,22 @@
+plugins {
+  id("te.java-conventions")
+  `java-test-fixtures`
+}
+
+dependencies {
+  api(libs.checker.qual)
+  api(libs.apiguardian)
+
+  compileOnly(libs.junit.api)
+
+  testImplementation(libs.junit.api)
+  testRuntimeOnly(libs.junit.engine)
+
+  testFixturesImplementation(libs.junit.api)
+  testFixturesImplementation(libs.truth)
+}
+
+// The fixtures are shared by the tests of other modules only, and are not part of the published library.
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations.testFixturesApiElements.get()) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations.testFixturesRuntimeElements.get()) { skip() }
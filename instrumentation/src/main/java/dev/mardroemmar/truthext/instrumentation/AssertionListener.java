@@ -0,0 +1,34 @@
+package dev.mardroemmar.truthext.instrumentation;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Told about every assertion evaluated by a probed subject, such as to count them in a metrics system.
+ *
+ * <p>Listeners are found with a {@link java.util.ServiceLoader ServiceLoader} when the first assertion is probed, so implementations
+ * need a public no-argument constructor and a {@code META-INF/services/dev.mardroemmar.truthext.instrumentation.AssertionListener}
+ * entry. The {@linkplain AssertionMetrics#global() built-in counters} are added if the {@value AssertionMetrics#PROPERTY} system property
+ * is {@code true}.</p>
+ *
+ * <p>Listeners are called on the thread that evaluated the assertion, from any number of threads at once, so they must be thread-safe,
+ * and should be cheap.</p>
+ *
+ * @see AssertionProbe
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+@FunctionalInterface
+public interface AssertionListener {
+  /**
+   * Called after an assertion was evaluated.
+   *
+   * @param subject the simple name of the subject type
+   * @param method  the assertion method, as its name and the simple names of its erased parameter types, such as
+   *                {@code isSameInstantAs(Instant)}; a check made on a comparison is prefixed with the method making the comparison,
+   *                such as {@code isWithin(Duration).of(Duration)}
+   * @param nanos   how long the assertion took, in nanoseconds
+   * @param passed  whether the assertion passed
+   */
+  void assertionEvaluated(String subject, String method, long nanos, boolean passed);
+}
@@ -0,0 +1,102 @@
+package dev.mardroemmar.truthext.instrumentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Counts the assertions evaluated and the time they took per subject method, such as {@code CurrencySubject.symbol(Locale)}. Methods are
+ * {@linkplain AssertionListener#assertionEvaluated(String, String, long, boolean) keyed} with their parameter types, so overloads are
+ * counted apart.
+ *
+ * <p>Counts are kept in {@link LongAdder}s, which stripe themselves under contention, so threads asserting at once do not fight over a
+ * single counter. The only allocation is for the counters of a method the first time it is seen.</p>
+ *
+ * <p>Methods returning a further subject, such as {@code ZonedDateTimeSubject.withZoneSameInstant(ZoneId)} or
+ * {@code CurrencySubject.symbol(Locale)}, are counted for making that subject only: the conversion or lookup it takes. The assertion
+ * then chained onto it is neither timed nor counted under the method, and if it fails, the method still counts as passed.</p>
+ *
+ * @see AssertionMetricsExtension
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class AssertionMetrics implements AssertionListener {
+  /**
+   * The system property enabling the {@linkplain #global() global counters}.
+   */
+  public static final String PROPERTY = "dev.mardroemmar.truthext.metrics";
+  private static final AssertionMetrics GLOBAL = new AssertionMetrics();
+
+  private final ConcurrentMap<String, ConcurrentMap<String, Counters>> subjects = new ConcurrentHashMap<>();
+
+  /**
+   * Create counters without any assertions counted, for registering as a {@link AssertionListener}.
+   */
+  public AssertionMetrics() {
+  }
+
+  /**
+   * Gives the counters every probed assertion is counted in if the {@value #PROPERTY} system property is {@code true}.
+   *
+   * @return the global counters
+   * @see #isGlobalEnabled()
+   */
+  public static AssertionMetrics global() {
+    return GLOBAL;
+  }
+
+  /**
+   * @return whether assertions are counted in the {@linkplain #global() global counters}, as read when the first assertion was probed
+   */
+  public static boolean isGlobalEnabled() {
+    return AssertionProbe.isCountingGlobally();
+  }
+
+  @Override
+  public void assertionEvaluated(final String subject, final String method, final long nanos, final boolean passed) {
+    // Keyed in two levels, so counting does not need to allocate a key.
+    ConcurrentMap<String, Counters> methods = this.subjects.get(subject);
+    if (methods == null) {
+      methods = this.subjects.computeIfAbsent(subject, key -> new ConcurrentHashMap<>());
+    }
+    Counters counters = methods.get(method);
+    if (counters == null) {
+      counters = methods.computeIfAbsent(method, key -> new Counters());
+    }
+    counters.count.increment();
+    counters.nanos.add(nanos);
+    if (!passed) {
+      counters.failures.increment();
+    }
+  }
+
+  /**
+   * Gives what was counted so far for every assertion method, the one that took the longest in total first. Assertions counted while
+   * this runs may be left out.
+   *
+   * @return the assertion methods counted so far
+   */
+  public List<AssertionSite> sites() {
+    final List<AssertionSite> sites = new ArrayList<>();
+    for (final Map.Entry<String, ConcurrentMap<String, Counters>> subject : this.subjects.entrySet()) {
+      for (final Map.Entry<String, Counters> method : subject.getValue().entrySet()) {
+        final Counters counters = method.getValue();
+        sites.add(new AssertionSite(subject.getKey(), method.getKey(), counters.count.sum(), counters.failures.sum(),
+            counters.nanos.sum()));
+      }
+    }
+    sites.sort((a, b) -> Long.compare(b.totalNanos(), a.totalNanos()));
+    return sites;
+  }
+
+  private static final class Counters {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+  }
+}
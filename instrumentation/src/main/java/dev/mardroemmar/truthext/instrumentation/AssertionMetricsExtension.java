@@ -0,0 +1,75 @@
+package dev.mardroemmar.truthext.instrumentation;
+
+import java.util.List;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * A JUnit 5 extension that prints the most expensive assertion methods of every test class it is registered on at the end of the run,
+ * as counted by the {@linkplain AssertionMetrics#global() global counters}.
+ *
+ * <pre>{@code
+ * @ExtendWith(AssertionMetricsExtension.class)
+ * class LedgerTest {
+ * }
+ * }</pre>
+ *
+ * <p>Assertions are only counted if the {@value AssertionMetrics#PROPERTY} system property is {@code true}. They are attributed to the
+ * test class by what was counted between its first and last test, so test classes running in parallel are attributed each other's
+ * assertions too.</p>
+ *
+ * <p>Five methods are listed per test class, unless the {@value #TOP_PARAMETER} configuration parameter says otherwise.</p>
+ *
+ * <p>This needs JUnit Jupiter on the class path, which this library does not bring itself.</p>
+ *
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class AssertionMetricsExtension implements BeforeAllCallback, AfterAllCallback {
+  /**
+   * The JUnit configuration parameter giving the number of assertion methods to list per test class.
+   */
+  public static final String TOP_PARAMETER = "dev.mardroemmar.truthext.metrics.top";
+  private static final int DEFAULT_TOP = 5;
+  private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(AssertionMetricsExtension.class);
+  private static final String BEFORE = "before";
+
+  @Override
+  public void beforeAll(final ExtensionContext context) {
+    context.getStore(NAMESPACE).put(BEFORE, AssertionMetrics.global().sites());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void afterAll(final ExtensionContext context) {
+    final List<AssertionSite> before = (List<AssertionSite>) context.getStore(NAMESPACE).remove(BEFORE, List.class);
+    if (before == null) {
+      return;
+    }
+    final int top = context.getConfigurationParameter(TOP_PARAMETER).map(Integer::parseInt).orElse(DEFAULT_TOP);
+    // Resources in the root store are closed once every test has run.
+    context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(PrintedReport.class, key -> new PrintedReport(top), PrintedReport.class)
+        .report.add(context.getRequiredTestClass().getName(), AssertionReport.since(before, AssertionMetrics.global().sites()));
+  }
+
+  private static final class PrintedReport implements ExtensionContext.Store.CloseableResource {
+    private final AssertionReport report = new AssertionReport();
+    private final int top;
+
+    private PrintedReport(final int top) {
+      this.top = top;
+    }
+
+    @Override
+    public void close() {
+      if (AssertionMetrics.isGlobalEnabled()) {
+        System.out.print(this.report.format(this.top));
+      } else {
+        System.out.println("Assertion metrics are disabled; run the tests with -D" + AssertionMetrics.PROPERTY + "=true to collect them.");
+      }
+    }
+  }
+}
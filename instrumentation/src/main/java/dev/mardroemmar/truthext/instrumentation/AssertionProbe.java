@@ -0,0 +1,138 @@
+package dev.mardroemmar.truthext.instrumentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Times a single evaluation of an assertion, for subjects to report to Java Flight Recorder and {@link AssertionListener listeners}.
+ *
+ * <p>Recording is opt-in. JFR events are only recorded if the {@value #JFR_PROPERTY} system property is {@code true} when this class is
+ * loaded, and the running JVM has the {@code jdk.jfr} API; listeners are only told if there are any, including the
+ * {@linkplain AssertionMetrics#global() global counters}. Otherwise {@link #begin(String, String)} returns {@code null} straight away,
+ * and as it checks a constant, the JIT compiler removes the check and the probes along with it. When recording, every assertion is
+ * committed as a {@code dev.mardroemmar.truthext.Assertion} event with its subject type, method and whether it passed, which JFR times
+ * itself.</p>
+ *
+ * <p>Subjects use it as follows, rather than passing the assertion as a lambda, which would allocate even when recording is off:</p>
+ *
+ * <pre>{@code
+ * final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantIterableSubject", "satisfies");
+ * try {
+ *   // the assertion, which may return early
+ * } catch (final RuntimeException | Error ex) {
+ *   AssertionProbe.failed(probe);
+ *   throw ex;
+ * } finally {
+ *   AssertionProbe.end(probe);
+ * }
+ * }</pre>
+ *
+ * <p>An assertion passes if it returns normally. Failures recorded by a failure strategy that does not throw, such as that of a soft
+ * assertion collector, cannot be told apart from passes. Methods returning a further subject end their probe once that subject is made,
+ * so the assertion chained onto it is not part of the probe.</p>
+ *
+ * @since 1.1.0
+ */
+@API(status = Status.INTERNAL)
+public final class AssertionProbe {
+  /**
+   * The system property enabling JFR events for assertions.
+   */
+  public static final String JFR_PROPERTY = "dev.mardroemmar.truthext.jfr";
+  private static final @Nullable JfrAssertionEvents JFR = Boolean.getBoolean(JFR_PROPERTY) ? JfrAssertionEvents.load() : null;
+  private static final boolean GLOBAL_METRICS = Boolean.getBoolean(AssertionMetrics.PROPERTY);
+  private static final AssertionListener[] LISTENERS = listeners();
+  private static final boolean ENABLED = JFR != null || LISTENERS.length != 0;
+
+  private final @Nullable JfrAssertionEvents jfr;
+  private final @Nullable Object event;
+  private final AssertionListener[] listeners;
+  private final String subject;
+  private final String method;
+  private final long startNanos;
+  private boolean failed;
+
+  private AssertionProbe(final @Nullable JfrAssertionEvents jfr, final AssertionListener[] listeners, final String subject,
+      final String method) {
+    this.jfr = jfr;
+    this.listeners = listeners;
+    this.subject = subject;
+    this.method = method;
+    this.event = jfr != null ? jfr.begin() : null;
+    this.startNanos = listeners.length != 0 ? System.nanoTime() : 0L;
+  }
+
+  private static AssertionListener[] listeners() {
+    final List<AssertionListener> listeners = new ArrayList<>();
+    if (GLOBAL_METRICS) {
+      listeners.add(AssertionMetrics.global());
+    }
+    for (final AssertionListener listener : ServiceLoader.load(AssertionListener.class, AssertionProbe.class.getClassLoader())) {
+      listeners.add(listener);
+    }
+    return listeners.toArray(new AssertionListener[0]);
+  }
+
+  /**
+   * Starts timing an assertion.
+   *
+   * @param subject the simple name of the subject type
+   * @param method  the assertion method, named as for {@link AssertionListener#assertionEvaluated(String, String, long, boolean)}
+   * @return the probe to {@linkplain #end(AssertionProbe) end}, or {@code null} if recording is disabled
+   */
+  public static @Nullable AssertionProbe begin(final String subject, final String method) {
+    if (!ENABLED) {
+      return null;
+    }
+    return begin(JFR, LISTENERS, subject, method);
+  }
+
+  static AssertionProbe begin(final @Nullable JfrAssertionEvents jfr, final AssertionListener[] listeners, final String subject,
+      final String method) {
+    return new AssertionProbe(jfr, listeners, subject, method);
+  }
+
+  /**
+   * Marks the assertion as failed, as it threw.
+   *
+   * @param probe the probe {@linkplain #begin(String, String) begun} for the assertion, or {@code null} if recording is disabled
+   */
+  public static void failed(final @Nullable AssertionProbe probe) {
+    if (probe != null) {
+      probe.failed = true;
+    }
+  }
+
+  /**
+   * Stops timing an assertion and records it, as passed unless it was {@linkplain #failed(AssertionProbe) marked failed}.
+   *
+   * @param probe the probe {@linkplain #begin(String, String) begun} for the assertion, or {@code null} if recording is disabled
+   */
+  public static void end(final @Nullable AssertionProbe probe) {
+    if (probe == null) {
+      return;
+    }
+    final long nanos = probe.listeners.length != 0 ? System.nanoTime() - probe.startNanos : 0L;
+    if (probe.jfr != null && probe.event != null) {
+      probe.jfr.commit(probe.event, probe.subject, probe.method, !probe.failed);
+    }
+    for (final AssertionListener listener : probe.listeners) {
+      listener.assertionEvaluated(probe.subject, probe.method, nanos, !probe.failed);
+    }
+  }
+
+  /**
+   * @return whether assertions are recorded
+   */
+  public static boolean isRecording() {
+    return ENABLED;
+  }
+
+  static boolean isCountingGlobally() {
+    return GLOBAL_METRICS;
+  }
+}
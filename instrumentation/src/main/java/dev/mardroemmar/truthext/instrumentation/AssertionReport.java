@@ -0,0 +1,88 @@
+package dev.mardroemmar.truthext.instrumentation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The assertion methods counted per test class, for {@link AssertionMetricsExtension} to print at the end of the run.
+ */
+final class AssertionReport {
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final List<TestClass> testClasses = new ArrayList<>();
+
+  /**
+   * @param before the sites counted before
+   * @param after  the sites counted after
+   * @return what was counted in between, the site that took the longest in total first
+   */
+  static List<AssertionSite> since(final List<AssertionSite> before, final List<AssertionSite> after) {
+    final Map<String, Map<String, AssertionSite>> earlier = new HashMap<>();
+    for (final AssertionSite site : before) {
+      earlier.computeIfAbsent(site.subject(), key -> new HashMap<>()).put(site.method(), site);
+    }
+    final List<AssertionSite> sites = new ArrayList<>();
+    for (final AssertionSite site : after) {
+      final @Nullable Map<String, AssertionSite> methods = earlier.get(site.subject());
+      final AssertionSite since = site.since(methods != null ? methods.get(site.method()) : null);
+      if (since.count() > 0) {
+        sites.add(since);
+      }
+    }
+    sites.sort((a, b) -> Long.compare(b.totalNanos(), a.totalNanos()));
+    return sites;
+  }
+
+  /**
+   * @param testClass the name of the test class
+   * @param sites     what was counted while it ran, the site that took the longest in total first
+   */
+  synchronized void add(final String testClass, final List<AssertionSite> sites) {
+    if (!sites.isEmpty()) {
+      this.testClasses.add(new TestClass(testClass, sites));
+    }
+  }
+
+  /**
+   * @param top the number of sites to list per test class
+   * @return the report, the test class whose assertions took the longest in total first
+   */
+  synchronized String format(final int top) {
+    final StringBuilder report = new StringBuilder();
+    final List<TestClass> testClasses = new ArrayList<>(this.testClasses);
+    testClasses.sort((a, b) -> Long.compare(b.totalNanos, a.totalNanos));
+    report.append("Most expensive assertions per test class:").append(System.lineSeparator());
+    for (final TestClass testClass : testClasses) {
+      report.append(String.format(Locale.ROOT, "  %s: %,d assertions, %,.1f ms", testClass.name, testClass.count,
+          testClass.totalNanos / NANOS_PER_MILLI)).append(System.lineSeparator());
+      for (final AssertionSite site : testClass.sites.subList(0, Math.min(top, testClass.sites.size()))) {
+        report.append("    ").append(site).append(System.lineSeparator());
+      }
+    }
+    return report.toString();
+  }
+
+  private static final class TestClass {
+    private final String name;
+    private final List<AssertionSite> sites;
+    private final long count;
+    private final long totalNanos;
+
+    private TestClass(final String name, final List<AssertionSite> sites) {
+      this.name = name;
+      this.sites = sites;
+      long count = 0;
+      long totalNanos = 0;
+      for (final AssertionSite site : sites) {
+        count += site.count();
+        totalNanos += site.totalNanos();
+      }
+      this.count = count;
+      this.totalNanos = totalNanos;
+    }
+  }
+}
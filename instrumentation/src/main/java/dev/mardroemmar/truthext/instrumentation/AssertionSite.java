@@ -0,0 +1,107 @@
+package dev.mardroemmar.truthext.instrumentation;
+
+import java.util.Locale;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * How often an assertion method was evaluated and how long it took in total, as counted by {@link AssertionMetrics}.
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class AssertionSite {
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final String subject;
+  private final String method;
+  private final long count;
+  private final long failures;
+  private final long totalNanos;
+
+  AssertionSite(final String subject, final String method, final long count, final long failures, final long totalNanos) {
+    this.subject = subject;
+    this.method = method;
+    this.count = count;
+    this.failures = failures;
+    this.totalNanos = totalNanos;
+  }
+
+  /**
+   * @return the simple name of the subject type
+   */
+  public String subject() {
+    return this.subject;
+  }
+
+  /**
+   * @return the assertion method, such as {@code symbol(Locale)}
+   */
+  public String method() {
+    return this.method;
+  }
+
+  /**
+   * @return how often the assertion was evaluated
+   */
+  public long count() {
+    return this.count;
+  }
+
+  /**
+   * @return how often the assertion failed
+   */
+  public long failures() {
+    return this.failures;
+  }
+
+  /**
+   * @return how long the assertion took in total, in nanoseconds
+   */
+  public long totalNanos() {
+    return this.totalNanos;
+  }
+
+  /**
+   * @param earlier the same site counted earlier, or {@code null} if it was not counted then
+   * @return what was counted since the {@code earlier} one
+   */
+  AssertionSite since(final @Nullable AssertionSite earlier) {
+    if (earlier == null) {
+      return this;
+    }
+    return new AssertionSite(this.subject, this.method, this.count - earlier.count, this.failures - earlier.failures,
+        this.totalNanos - earlier.totalNanos);
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof AssertionSite)) {
+      return false;
+    }
+    final AssertionSite other = (AssertionSite) obj;
+    return this.count == other.count
+        && this.failures == other.failures
+        && this.totalNanos == other.totalNanos
+        && this.subject.equals(other.subject)
+        && this.method.equals(other.method);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.subject, this.method, this.count, this.failures, this.totalNanos);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT, "%s.%s: %,d assertions (%,d failed), %,.1f ms", this.subject, this.method, this.count,
+        this.failures, this.totalNanos / NANOS_PER_MILLI);
+  }
+}
@@ -0,0 +1,125 @@
+package dev.mardroemmar.truthext.instrumentation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The {@code dev.mardroemmar.truthext.Assertion} JFR event type, defined at runtime through {@code jdk.jfr.EventFactory}.
+ *
+ * <p>This library is compiled for Java 8, whose API has no {@code jdk.jfr}, so the event cannot extend {@code jdk.jfr.Event}; it is
+ * defined and used reflectively instead, through method handles looked up once.</p>
+ */
+final class JfrAssertionEvents {
+  static final String EVENT_NAME = "dev.mardroemmar.truthext.Assertion";
+  private static final int SUBJECT_FIELD = 0;
+  private static final int METHOD_FIELD = 1;
+  private static final int PASSED_FIELD = 2;
+
+  private final MethodHandle newEvent;
+  private final MethodHandle begin;
+  private final MethodHandle end;
+  private final MethodHandle shouldCommit;
+  private final MethodHandle set;
+  private final MethodHandle commit;
+
+  private JfrAssertionEvents(final MethodHandle newEvent, final MethodHandle begin, final MethodHandle end, final MethodHandle shouldCommit,
+      final MethodHandle set, final MethodHandle commit) {
+    this.newEvent = newEvent;
+    this.begin = begin;
+    this.end = end;
+    this.shouldCommit = shouldCommit;
+    this.set = set;
+    this.commit = commit;
+  }
+
+  /**
+   * @return the event type, or {@code null} if the JVM has no {@code jdk.jfr} API
+   */
+  static @Nullable JfrAssertionEvents load() {
+    try {
+      final ClassLoader loader = JfrAssertionEvents.class.getClassLoader();
+      final Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement", true, loader);
+      final Constructor<?> annotation = annotationElement.getConstructor(Class.class, Object.class);
+      final List<Object> annotations = Arrays.asList(
+          annotation.newInstance(Class.forName("jdk.jfr.Name", true, loader), EVENT_NAME),
+          annotation.newInstance(Class.forName("jdk.jfr.Label", true, loader), "Assertion"),
+          annotation.newInstance(Class.forName("jdk.jfr.Description", true, loader), "A Truth assertion evaluated by Truth Extensions"),
+          annotation.newInstance(Class.forName("jdk.jfr.Category", true, loader), new String[] {"Truth Extensions"})
+      );
+      final Class<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor", true, loader);
+      final Constructor<?> field = valueDescriptor.getConstructor(Class.class, String.class);
+      // The order must match SUBJECT_FIELD, METHOD_FIELD and PASSED_FIELD.
+      final List<Object> fields = Arrays.asList(
+          field.newInstance(String.class, "subject"),
+          field.newInstance(String.class, "method"),
+          field.newInstance(boolean.class, "passed")
+      );
+      final Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory", true, loader);
+      final Object factory = eventFactory.getMethod("create", List.class, List.class).invoke(null, annotations, fields);
+
+      final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      final Class<?> event = Class.forName("jdk.jfr.Event", true, loader);
+      final MethodType toVoid = MethodType.methodType(void.class, Object.class);
+      return new JfrAssertionEvents(
+          lookup.findVirtual(eventFactory, "newEvent", MethodType.methodType(event)).bindTo(factory)
+              .asType(MethodType.methodType(Object.class)),
+          lookup.findVirtual(event, "begin", MethodType.methodType(void.class)).asType(toVoid),
+          lookup.findVirtual(event, "end", MethodType.methodType(void.class)).asType(toVoid),
+          lookup.findVirtual(event, "shouldCommit", MethodType.methodType(boolean.class))
+              .asType(MethodType.methodType(boolean.class, Object.class)),
+          lookup.findVirtual(event, "set", MethodType.methodType(void.class, int.class, Object.class))
+              .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class)),
+          lookup.findVirtual(event, "commit", MethodType.methodType(void.class)).asType(toVoid)
+      );
+    } catch (final ReflectiveOperationException | LinkageError | SecurityException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * @return a new event, begun now
+   */
+  Object begin() {
+    try {
+      final Object event = (Object) this.newEvent.invokeExact();
+      this.begin.invokeExact(event);
+      return event;
+    } catch (final Throwable ex) {
+      throw rethrow(ex);
+    }
+  }
+
+  /**
+   * Ends the {@code event} now, and commits it with the given fields if JFR is recording it.
+   */
+  void commit(final Object event, final String subject, final String method, final boolean passed) {
+    try {
+      this.end.invokeExact(event);
+      if (!(boolean) this.shouldCommit.invokeExact(event)) {
+        return;
+      }
+      this.set.invokeExact(event, SUBJECT_FIELD, (Object) subject);
+      this.set.invokeExact(event, METHOD_FIELD, (Object) method);
+      this.set.invokeExact(event, PASSED_FIELD, (Object) passed);
+      this.commit.invokeExact(event);
+    } catch (final Throwable ex) {
+      throw rethrow(ex);
+    }
+  }
+
+  private static RuntimeException rethrow(final Throwable ex) {
+    if (ex instanceof RuntimeException) {
+      throw (RuntimeException) ex;
+    }
+    if (ex instanceof Error) {
+      throw (Error) ex;
+    }
+    // The methods called declare no checked exceptions.
+    throw new IllegalStateException("could not record assertion event", ex);
+  }
+}
@@ -0,0 +1,61 @@
+package dev.mardroemmar.truthext.instrumentation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AssertionMetricsTest {
+  @Test
+  void countsPerMethod() {
+    final AssertionMetrics metrics = new AssertionMetrics();
+    metrics.assertionEvaluated("CurrencySubject", "symbol(Locale)", 300L, true);
+    metrics.assertionEvaluated("CurrencySubject", "symbol(Locale)", 200L, false);
+    metrics.assertionEvaluated("CurrencySubject", "symbol()", 100L, true);
+    metrics.assertionEvaluated("ZonedDateTimeSubject", "withZoneSameInstant(ZoneId)", 1_000L, true);
+
+    Assertions.assertEquals(Arrays.asList(
+        new AssertionSite("ZonedDateTimeSubject", "withZoneSameInstant(ZoneId)", 1, 0, 1_000L),
+        new AssertionSite("CurrencySubject", "symbol(Locale)", 2, 1, 500L),
+        new AssertionSite("CurrencySubject", "symbol()", 1, 0, 100L)
+    ), metrics.sites());
+    Assertions.assertEquals("CurrencySubject.symbol(Locale): 2 assertions (1 failed), 0.0 ms", metrics.sites().get(1).toString());
+  }
+
+  @Test
+  void countsFromManyThreads() throws InterruptedException {
+    final AssertionMetrics metrics = new AssertionMetrics();
+    final List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; ++i) {
+      final Thread thread = new Thread(() -> {
+        for (int j = 0; j < 10_000; ++j) {
+          metrics.assertionEvaluated("InstantSubject", "isAfter(Instant)", 2L, j % 10 != 0);
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    Assertions.assertEquals(new AssertionSite("InstantSubject", "isAfter(Instant)", 80_000, 8_000, 160_000L), metrics.sites().get(0));
+  }
+
+  @Test
+  void probesTellListeners() {
+    final AssertionMetrics metrics = new AssertionMetrics();
+    final AssertionProbe probe = AssertionProbe.begin(null, new AssertionListener[] {metrics}, "InstantSubject", "isAfter(Instant)");
+    AssertionProbe.failed(probe);
+    AssertionProbe.end(probe);
+    final AssertionSite site = metrics.sites().get(0);
+    Assertions.assertEquals(1, site.count());
+    Assertions.assertEquals(1, site.failures());
+    Assertions.assertTrue(site.totalNanos() >= 0, site.toString());
+  }
+
+  @Test
+  void globalDisabledByDefault() {
+    Assertions.assertFalse(AssertionMetrics.isGlobalEnabled());
+  }
+}
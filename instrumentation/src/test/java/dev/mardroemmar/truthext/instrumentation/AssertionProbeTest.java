@@ -0,0 +1,56 @@
+package dev.mardroemmar.truthext.instrumentation;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+class AssertionProbeTest {
+  @Test
+  void disabledByDefault() {
+    Assertions.assertFalse(AssertionProbe.isRecording());
+    final AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isAfter(Instant)");
+    Assertions.assertNull(probe);
+    AssertionProbe.failed(probe);
+    AssertionProbe.end(probe);
+  }
+
+  @Test
+  void recordsJfrEvents() throws Exception {
+    final JfrAssertionEvents jfr = JfrAssertionEvents.load();
+    Assumptions.assumeTrue(jfr != null, "the JVM has no jdk.jfr API");
+
+    // jdk.jfr is not in the Java 8 API this is compiled against, so the recording is driven reflectively too.
+    final Class<?> recordingType = Class.forName("jdk.jfr.Recording");
+    final Object recording = recordingType.getConstructor().newInstance();
+    recordingType.getMethod("enable", String.class).invoke(recording, JfrAssertionEvents.EVENT_NAME);
+    recordingType.getMethod("start").invoke(recording);
+    final AssertionProbe passing = AssertionProbe.begin(jfr, new AssertionListener[0], "InstantSubject", "isAfter(Instant)");
+    AssertionProbe.end(passing);
+    final AssertionProbe failing = AssertionProbe.begin(jfr, new AssertionListener[0], "CurrencySubject", "symbol(Locale)");
+    AssertionProbe.failed(failing);
+    AssertionProbe.end(failing);
+    recordingType.getMethod("stop").invoke(recording);
+    final Path file = Files.createTempFile("assertions", ".jfr");
+    try {
+      recordingType.getMethod("dump", Path.class).invoke(recording, file);
+      recordingType.getMethod("close").invoke(recording);
+
+      final List<?> events = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile")
+          .getMethod("readAllEvents", Path.class)
+          .invoke(null, file);
+      Assertions.assertEquals(2, events.size());
+      final Method getValue = Class.forName("jdk.jfr.consumer.RecordedObject").getMethod("getValue", String.class);
+      Assertions.assertEquals("InstantSubject", getValue.invoke(events.get(0), "subject"));
+      Assertions.assertEquals("isAfter(Instant)", getValue.invoke(events.get(0), "method"));
+      Assertions.assertEquals(true, getValue.invoke(events.get(0), "passed"));
+      Assertions.assertEquals("symbol(Locale)", getValue.invoke(events.get(1), "method"));
+      Assertions.assertEquals(false, getValue.invoke(events.get(1), "passed"));
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package dev.mardroemmar.truthext.instrumentation;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AssertionReportTest {
+  @Test
+  void reportsPerTestClass() {
+    final List<AssertionSite> before = Arrays.asList(
+        new AssertionSite("CurrencySubject", "symbol(Locale)", 10, 0, 5_000_000L),
+        new AssertionSite("InstantSubject", "isAfter(Instant)", 3, 0, 300L)
+    );
+    final List<AssertionSite> after = Arrays.asList(
+        new AssertionSite("CurrencySubject", "symbol(Locale)", 30, 1, 25_000_000L),
+        new AssertionSite("ZonedDateTimeSubject", "withZoneSameInstant(ZoneId)", 2, 0, 1_000_000L),
+        new AssertionSite("InstantSubject", "isAfter(Instant)", 3, 0, 300L)
+    );
+    final List<AssertionSite> since = AssertionReport.since(before, after);
+    Assertions.assertEquals(Arrays.asList(
+        new AssertionSite("CurrencySubject", "symbol(Locale)", 20, 1, 20_000_000L),
+        new AssertionSite("ZonedDateTimeSubject", "withZoneSameInstant(ZoneId)", 2, 0, 1_000_000L)
+    ), since);
+
+    final AssertionReport report = new AssertionReport();
+    report.add("com.example.CheapTest", since.subList(1, 2));
+    report.add("com.example.LedgerTest", since);
+    report.add("com.example.EmptyTest", AssertionReport.since(after, after));
+    final String n = System.lineSeparator();
+    Assertions.assertEquals("Most expensive assertions per test class:" + n
+        + "  com.example.LedgerTest: 22 assertions, 21.0 ms" + n
+        + "    CurrencySubject.symbol(Locale): 20 assertions (1 failed), 20.0 ms" + n
+        + "  com.example.CheapTest: 2 assertions, 1.0 ms" + n
+        + "    ZonedDateTimeSubject.withZoneSameInstant(ZoneId): 2 assertions (0 failed), 1.0 ms" + n, report.format(1));
+  }
+}
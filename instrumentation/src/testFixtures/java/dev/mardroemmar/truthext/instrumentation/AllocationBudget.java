@@ -0,0 +1,116 @@
+package dev.mardroemmar.truthext.instrumentation;
+
+import static com.google.common.truth.Truth.assertAbout;
+
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.Subject;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+
+/**
+ * Measures how many bytes the current thread allocates per run of a passing assertion, once compiled.
+ *
+ * <p>What Truth itself allocates per subject differs between its versions and between JVMs, so budgets are not fixed numbers: they are
+ * {@linkplain #truthSubjectBytes() measured} from a minimal subject on the running JVM, plus a stated margin for the objects of our
+ * own.</p>
+ */
+public final class AllocationBudget {
+  private static final int WARMUP_ITERATIONS = 20_000;
+  private static final int MEASURED_ITERATIONS = 20_000;
+  private static final int MEASURED_ROUNDS = 5;
+  private static final Object REFERENCE_VALUE = "reference";
+  private static @Nullable ReferenceSubject lastReference;
+  private static long truthSubjectBytes = -1;
+  private static long truthDerivedSubjectBytes = -1;
+
+  private AllocationBudget() {
+  }
+
+  /**
+   * Asserts that the {@code assertion} allocates at most {@code bytes} on average per run, once warmed up.
+   *
+   * <p>The test is skipped if the JVM cannot account for the bytes allocated per thread.</p>
+   *
+   * @param bytes     the budget in bytes per run
+   * @param assertion the passing assertion to measure
+   */
+  public static void assertAllocatesAtMost(final long bytes, final Runnable assertion) {
+    final long perRun = measure(assertion);
+    Assertions.assertTrue(perRun <= bytes, "expected at most " + bytes + " bytes per assertion, but allocated " + perRun);
+  }
+
+  /**
+   * Measures what Truth allocates for a subject made through {@link com.google.common.truth.Truth#assertAbout(Subject.Factory)
+   * assertAbout} and one passing check on it, as every subject of ours is made.
+   *
+   * @return the bytes allocated per run of the reference assertion
+   */
+  public static synchronized long truthSubjectBytes() {
+    if (truthSubjectBytes < 0) {
+      truthSubjectBytes = measure(() -> reference().isNotNull());
+    }
+    return truthSubjectBytes;
+  }
+
+  /**
+   * Measures what Truth allocates for a subject as by {@link #truthSubjectBytes()}, which derives another subject with
+   * {@code check(...).that(...)} and checks that instead.
+   *
+   * @return the bytes allocated per run of the reference assertion
+   */
+  public static synchronized long truthDerivedSubjectBytes() {
+    if (truthDerivedSubjectBytes < 0) {
+      truthDerivedSubjectBytes = measure(() -> reference().derived());
+    }
+    return truthDerivedSubjectBytes;
+  }
+
+  private static ReferenceSubject reference() {
+    // Kept, so the JIT cannot remove the subject by escape analysis; it can in a check this small, but not in the larger checks of ours
+    // that are measured against it, and a reference that sometimes counts nothing would make their budgets noisy.
+    final ReferenceSubject reference = assertAbout(ReferenceSubject::new).that(REFERENCE_VALUE);
+    lastReference = reference;
+    return reference;
+  }
+
+  private static long measure(final Runnable assertion) {
+    final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    Assumptions.assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "thread allocation accounting is unavailable");
+    final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+    Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported(), "thread allocation accounting is unsupported");
+    threads.setThreadAllocatedMemoryEnabled(true);
+
+    for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+      assertion.run();
+    }
+
+    // The JIT may still be compiling the assertion in any one round, which shows as allocations it later removes; the fewest bytes of
+    // several rounds are what the compiled assertion allocates.
+    final long threadId = Thread.currentThread().getId();
+    long fewest = Long.MAX_VALUE;
+    for (int round = 0; round < MEASURED_ROUNDS; ++round) {
+      final long before = threads.getThreadAllocatedBytes(threadId);
+      for (int i = 0; i < MEASURED_ITERATIONS; ++i) {
+        assertion.run();
+      }
+      fewest = Math.min(fewest, (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_ITERATIONS);
+    }
+    return fewest;
+  }
+
+  private static final class ReferenceSubject extends Subject {
+    private final @Nullable Object actual;
+
+    private ReferenceSubject(final FailureMetadata metadata, final @Nullable Object actual) {
+      super(metadata, actual);
+      this.actual = actual;
+    }
+
+    void derived() {
+      this.check("derived()").that(this.actual).isNotNull();
+    }
+  }
+}
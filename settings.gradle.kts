@@ -6,8 +6,10 @@ pluginManagement {
 }
 
 rootProject.name = "truth-extensions"
+proj("benchmarks")
 proj("bom")
 proj("currency")
+proj("instrumentation")
 proj("time")
 
 fun proj(path: String, name: String = "${rootProject.name}-${path.replace('/', '-')}") {
@@ -0,0 +1,131 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+import static dev.mardroemmar.truthext.time.InstantSubject.instants;
+import static dev.mardroemmar.truthext.time.ZonedDateTimeSubject.zonedDateTimes;
+
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.LongSubject;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for a {@link Clock}, such as a {@link MutableClock}, asserting upon the time it
+ * reads when asked.
+ *
+ * @see Subject
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class ClockSubject extends Subject {
+  /**
+   * Assert upon a clock.
+   *
+   * @param actual the actual clock
+   * @return a new assertion subject
+   */
+  public static ClockSubject assertThat(final @Nullable Clock actual) {
+    return assertAbout(clocks()).that(actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about {@link Clock clocks}.
+   */
+  public static Subject.Factory<ClockSubject, Clock> clocks() {
+    return ClockSubject::new;
+  }
+
+  private final @Nullable Clock actual;
+
+  private ClockSubject(final FailureMetadata metadata, final @Nullable Clock actual) {
+    super(metadata, actual);
+    this.actual = actual;
+  }
+
+  /**
+   * Asserts upon the current instant in time of the clock.
+   *
+   * @return a subject for the current instant in time
+   * @throws AssertionError if the actual is {@code null}
+   */
+  public InstantSubject instant() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ClockSubject", "instant()");
+    try {
+      return this.check("instant()").about(instants()).that(this.nonNull().instant());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the current date-time of the clock, in its zone.
+   *
+   * @return a subject for the current date-time
+   * @throws AssertionError if the actual is {@code null}
+   */
+  public ZonedDateTimeSubject zonedDateTime() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ClockSubject", "zonedDateTime()");
+    try {
+      return this.check("zonedDateTime()").about(zonedDateTimes()).that(ZonedDateTime.now(this.nonNull()));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the current milliseconds from Epoch of the clock.
+   *
+   * @return a subject for the current milliseconds from Epoch
+   * @throws AssertionError if the actual is {@code null}
+   */
+  public LongSubject millis() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ClockSubject", "millis()");
+    try {
+      return this.check("millis()").that(this.nonNull().millis());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the time-zone of the clock.
+   *
+   * @return a subject for the time-zone
+   * @throws AssertionError if the actual is {@code null}
+   */
+  public Subject zone() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ClockSubject", "zone()");
+    try {
+      return this.check("getZone()").that(this.nonNull().getZone());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  private Clock nonNull() {
+    if (this.actual != null) {
+      return this.actual;
+    }
+
+    failWithActual(simpleFact("expected clock to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+}
@@ -8,6 +8,7 @@ import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.IntegerSubject;
 import com.google.common.truth.LongSubject;
 import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
 import java.time.DayOfWeek;
 import java.time.temporal.TemporalField;
 import java.util.Objects;
@@ -56,8 +57,16 @@ public class DayOfWeekSubject extends Subject {
    * @throws NullPointerException if {@code otherDayOfWeek} is {@code null}
    */
   public void isBefore(final DayOfWeek otherDayOfWeek) {
-    if (this.nonNull().getValue() >= otherDayOfWeek.getValue()) {
-      this.failWithActual(simpleFact("expected actual to be before otherDayOfWeek"), fact("otherDayOfWeek", otherDayOfWeek));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DayOfWeekSubject", "isBefore(DayOfWeek)");
+    try {
+      if (this.nonNull().getValue() >= otherDayOfWeek.getValue()) {
+        this.failWithActual(simpleFact("expected actual to be before otherDayOfWeek"), fact("otherDayOfWeek", otherDayOfWeek));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -70,8 +79,16 @@ public class DayOfWeekSubject extends Subject {
    * @throws NullPointerException if {@code otherDayOfWeek} is {@code null}
    */
   public void isBeforeOrEqualTo(final DayOfWeek otherDayOfWeek) {
-    if (this.nonNull().getValue() > otherDayOfWeek.getValue()) {
-      this.failWithActual(simpleFact("expected actual to be before or equal to otherDayOfWeek"), fact("otherDayOfWeek", otherDayOfWeek));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DayOfWeekSubject", "isBeforeOrEqualTo(DayOfWeek)");
+    try {
+      if (this.nonNull().getValue() > otherDayOfWeek.getValue()) {
+        this.failWithActual(simpleFact("expected actual to be before or equal to otherDayOfWeek"), fact("otherDayOfWeek", otherDayOfWeek));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -84,8 +101,16 @@ public class DayOfWeekSubject extends Subject {
    * @throws NullPointerException if {@code otherDayOfWeek} is {@code null}
    */
   public void isAfter(final DayOfWeek otherDayOfWeek) {
-    if (this.nonNull().getValue() <= otherDayOfWeek.getValue()) {
-      this.failWithActual(simpleFact("expected actual to be after otherDayOfWeek"), fact("otherDayOfWeek", otherDayOfWeek));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DayOfWeekSubject", "isAfter(DayOfWeek)");
+    try {
+      if (this.nonNull().getValue() <= otherDayOfWeek.getValue()) {
+        this.failWithActual(simpleFact("expected actual to be after otherDayOfWeek"), fact("otherDayOfWeek", otherDayOfWeek));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -98,8 +123,16 @@ public class DayOfWeekSubject extends Subject {
    * @throws NullPointerException if {@code otherDayOfWeek} is {@code null}
    */
   public void isAfterOrEqualTo(final DayOfWeek otherDayOfWeek) {
-    if (this.nonNull().getValue() < otherDayOfWeek.getValue()) {
-      this.failWithActual(simpleFact("expected actual to be after or equal to otherDayOfWeek"), fact("otherDayOfWeek", otherDayOfWeek));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DayOfWeekSubject", "isAfterOrEqualTo(DayOfWeek)");
+    try {
+      if (this.nonNull().getValue() < otherDayOfWeek.getValue()) {
+        this.failWithActual(simpleFact("expected actual to be after or equal to otherDayOfWeek"), fact("otherDayOfWeek", otherDayOfWeek));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -113,9 +146,17 @@ public class DayOfWeekSubject extends Subject {
    * @see DayOfWeek#isSupported(TemporalField)
    */
   public void isSupported(final TemporalField field) {
-    Objects.requireNonNull(field, "field must not be null");
-    if (!this.nonNull().isSupported(field)) {
-      this.failWithActual(simpleFact("expected actual to be supported by field"), fact("field", field));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DayOfWeekSubject", "isSupported(TemporalField)");
+    try {
+      Objects.requireNonNull(field, "field must not be null");
+      if (!this.nonNull().isSupported(field)) {
+        this.failWithActual(simpleFact("expected actual to be supported by field"), fact("field", field));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -129,9 +170,17 @@ public class DayOfWeekSubject extends Subject {
    * @see DayOfWeek#isSupported(TemporalField)
    */
   public void isNotSupported(final TemporalField field) {
-    Objects.requireNonNull(field, "field must not be null");
-    if (this.nonNull().isSupported(field)) {
-      this.failWithActual(simpleFact("expected actual to not be supported by field"), fact("field", field));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DayOfWeekSubject", "isNotSupported(TemporalField)");
+    try {
+      Objects.requireNonNull(field, "field must not be null");
+      if (this.nonNull().isSupported(field)) {
+        this.failWithActual(simpleFact("expected actual to not be supported by field"), fact("field", field));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -143,7 +192,15 @@ public class DayOfWeekSubject extends Subject {
    * @see DayOfWeek#ordinal()
    */
   public IntegerSubject ordinal() {
-    return this.check("ordinal()").that(this.nonNull().ordinal());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DayOfWeekSubject", "ordinal()");
+    try {
+      return this.check("ordinal()").that(this.nonNull().ordinal());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -154,7 +211,15 @@ public class DayOfWeekSubject extends Subject {
    * @see DayOfWeek#getValue()
    */
   public IntegerSubject value() {
-    return this.check("getValue()").that(this.nonNull().getValue());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DayOfWeekSubject", "value()");
+    try {
+      return this.check("getValue()").that(this.nonNull().getValue());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -171,8 +236,16 @@ public class DayOfWeekSubject extends Subject {
    * @see DayOfWeek#get(TemporalField)
    */
   public IntegerSubject get(final TemporalField field) {
-    Objects.requireNonNull(field, "field must not be null");
-    return this.check("get(%s)", field).that(this.nonNull().get(field));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DayOfWeekSubject", "get(TemporalField)");
+    try {
+      Objects.requireNonNull(field, "field must not be null");
+      return this.check("get(%s)", field).that(this.nonNull().get(field));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -187,8 +260,16 @@ public class DayOfWeekSubject extends Subject {
    * @see DayOfWeek#getLong(TemporalField)
    */
   public LongSubject getLong(final TemporalField field) {
-    Objects.requireNonNull(field, "field must not be null");
-    return this.check("getLong(%s)", field).that(this.nonNull().getLong(field));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DayOfWeekSubject", "getLong(TemporalField)");
+    try {
+      Objects.requireNonNull(field, "field must not be null");
+      return this.check("getLong(%s)", field).that(this.nonNull().getLong(field));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   private DayOfWeek nonNull() {
@@ -0,0 +1,332 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.time.Duration;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for {@link Duration}, or for a number of nanoseconds such as the difference of two
+ * {@link System#nanoTime()} readings.
+ *
+ * <p>Given as nanoseconds, the actual is made into a {@link Duration}, which is little next to what Truth itself creates per subject, so
+ * every check of {@link Subject} works on it as on any other duration. The checks here compare seconds and nano of the second without
+ * creating further objects, and cannot overflow, whatever the durations.</p>
+ *
+ * @see Subject
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class DurationSubject extends Subject {
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  /**
+   * Assert upon a duration.
+   *
+   * @param actual the actual duration
+   * @return a new assertion subject
+   */
+  public static DurationSubject assertThat(final @Nullable Duration actual) {
+    return assertAbout(durations()).that(actual);
+  }
+
+  /**
+   * Assert upon a number of nanoseconds as a duration.
+   *
+   * @param actualNanos the actual number of nanoseconds
+   * @return a new assertion subject
+   */
+  public static DurationSubject assertThatNanos(final long actualNanos) {
+    return assertThat(Duration.ofNanos(actualNanos));
+  }
+
+  /**
+   * Assert upon the time elapsed between two {@link System#nanoTime()} readings.
+   *
+   * <p>As {@link System#nanoTime()} may wrap around, the readings are subtracted rather than compared, which is correct for any elapsed
+   * time of less than 2<sup>63</sup> nanoseconds, or about 292 years. An {@code endNanos} before the {@code startNanos} gives a negative
+   * duration.</p>
+   *
+   * @param startNanos the reading at the start
+   * @param endNanos   the reading at the end
+   * @return a new assertion subject
+   */
+  public static DurationSubject assertThatElapsed(final long startNanos, final long endNanos) {
+    return assertThatNanos(endNanos - startNanos);
+  }
+
+  /**
+   * @return a subject factory for asserting about {@link Duration durations}.
+   */
+  public static Subject.Factory<DurationSubject, Duration> durations() {
+    return DurationSubject::new;
+  }
+
+  private final boolean isNull;
+  private final long seconds;
+  private final int nano;
+
+  private DurationSubject(final FailureMetadata metadata, final @Nullable Duration actual) {
+    super(metadata, actual);
+    this.isNull = actual == null;
+    this.seconds = actual == null ? 0L : actual.getSeconds();
+    this.nano = actual == null ? 0 : actual.getNano();
+  }
+
+  /**
+   * Asserts that the {@code actual} is not longer than the {@code max}.
+   *
+   * @param max the longest allowed duration
+   * @throws NullPointerException if the {@code max} is {@code null}
+   * @throws AssertionError       if the actual is {@code null}
+   * @throws AssertionError       if the actual is longer than the {@code max}
+   */
+  public void isAtMost(final Duration max) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DurationSubject", "isAtMost(Duration)");
+    try {
+      Objects.requireNonNull(max, "max must not be null");
+      if (this.compareTo(max) > 0) {
+        this.failWithActual("expected to be at most", max);
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the {@code actual} is not shorter than the {@code min}.
+   *
+   * @param min the shortest allowed duration
+   * @throws NullPointerException if the {@code min} is {@code null}
+   * @throws AssertionError       if the actual is {@code null}
+   * @throws AssertionError       if the actual is shorter than the {@code min}
+   */
+  public void isAtLeast(final Duration min) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DurationSubject", "isAtLeast(Duration)");
+    try {
+      Objects.requireNonNull(min, "min must not be null");
+      if (this.compareTo(min) < 0) {
+        this.failWithActual("expected to be at least", min);
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the {@code actual} is shorter than the {@code other}.
+   *
+   * @param other the duration to be shorter than
+   * @throws NullPointerException if the {@code other} is {@code null}
+   * @throws AssertionError       if the actual is {@code null}
+   * @throws AssertionError       if the actual is not shorter than the {@code other}
+   */
+  public void isShorterThan(final Duration other) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DurationSubject", "isShorterThan(Duration)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (this.compareTo(other) >= 0) {
+        this.failWithActual("expected to be shorter than", other);
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the {@code actual} is longer than the {@code other}.
+   *
+   * @param other the duration to be longer than
+   * @throws NullPointerException if the {@code other} is {@code null}
+   * @throws AssertionError       if the actual is {@code null}
+   * @throws AssertionError       if the actual is not longer than the {@code other}
+   */
+  public void isLongerThan(final Duration other) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DurationSubject", "isLongerThan(Duration)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (this.compareTo(other) <= 0) {
+        this.failWithActual("expected to be longer than", other);
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the {@code actual} is {@link Duration#isNegative() negative}.
+   *
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if the actual is zero or positive
+   */
+  public void isNegative() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DurationSubject", "isNegative()");
+    try {
+      this.nonNull();
+      if (this.seconds >= 0) {
+        this.failWithActual(simpleFact("expected to be negative"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the {@code actual} is {@link Duration#isZero() zero}.
+   *
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if the actual is not zero
+   */
+  public void isZero() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("DurationSubject", "isZero()");
+    try {
+      this.nonNull();
+      if (this.seconds != 0 || this.nano != 0) {
+        this.failWithActual(simpleFact("expected to be zero"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Prepares for a check that the {@code actual} is within the {@code tolerance} of an expected duration, both inclusive.
+   *
+   * @param tolerance the largest allowed difference from the expected duration
+   * @return a comparison to give the expected duration to
+   * @throws NullPointerException     if the {@code tolerance} is {@code null}
+   * @throws IllegalArgumentException if the {@code tolerance} is negative
+   */
+  public TolerantDurationComparison isWithin(final Duration tolerance) {
+    Objects.requireNonNull(tolerance, "tolerance must not be null");
+    if (tolerance.isNegative()) {
+      throw new IllegalArgumentException("tolerance must not be negative");
+    }
+    return new TolerantDurationComparison(tolerance);
+  }
+
+  private int compareTo(final Duration other) {
+    this.nonNull();
+    final int comparison = Long.compare(this.seconds, other.getSeconds());
+    return comparison != 0 ? comparison : Integer.compare(this.nano, other.getNano());
+  }
+
+  /**
+   * Checks whether the actual is within {@code tolerance} of {@code expected}, both inclusive, without overflowing.
+   */
+  private boolean isWithinTolerance(final Duration tolerance, final long expectedSeconds, final int expectedNano) {
+    final boolean actualIsLonger = this.seconds > expectedSeconds || this.seconds == expectedSeconds && this.nano >= expectedNano;
+    long seconds;
+    try {
+      seconds = actualIsLonger ? Math.subtractExact(this.seconds, expectedSeconds) : Math.subtractExact(expectedSeconds, this.seconds);
+    } catch (final ArithmeticException ex) {
+      // The difference is more than Long.MAX_VALUE seconds, which is more than any Duration.
+      return false;
+    }
+    int nanos = actualIsLonger ? this.nano - expectedNano : expectedNano - this.nano;
+    if (nanos < 0) {
+      --seconds;
+      nanos += (int) NANOS_PER_SECOND;
+    }
+    return seconds < tolerance.getSeconds() || seconds == tolerance.getSeconds() && nanos <= tolerance.getNano();
+  }
+
+  private void nonNull() {
+    if (!this.isNull) {
+      return;
+    }
+
+    failWithActual(simpleFact("expected duration to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+
+  /**
+   * A check that the actual of a {@link DurationSubject} is within a tolerance of an expected duration.
+   *
+   * @see DurationSubject#isWithin(Duration)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public final class TolerantDurationComparison {
+    private final Duration tolerance;
+
+    private TolerantDurationComparison(final Duration tolerance) {
+      this.tolerance = tolerance;
+    }
+
+    /**
+     * Asserts that the actual is within the tolerance of the {@code expected}.
+     *
+     * @param expected the expected duration
+     * @throws NullPointerException if the {@code expected} is {@code null}
+     * @throws AssertionError       if the actual is {@code null}
+     * @throws AssertionError       if the actual is further from the {@code expected} than the tolerance
+     */
+    public void of(final Duration expected) {
+      final @Nullable AssertionProbe probe = AssertionProbe.begin("DurationSubject", "isWithin(Duration).of(Duration)");
+      try {
+        Objects.requireNonNull(expected, "expected must not be null");
+        DurationSubject.this.nonNull();
+        if (!DurationSubject.this.isWithinTolerance(this.tolerance, expected.getSeconds(), expected.getNano())) {
+          DurationSubject.this.failWithoutActual(fact("expected", expected),
+              fact("but was", DurationSubject.this.actualCustomStringRepresentation()), fact("outside tolerance", this.tolerance));
+        }
+      } catch (final RuntimeException | Error ex) {
+        AssertionProbe.failed(probe);
+        throw ex;
+      } finally {
+        AssertionProbe.end(probe);
+      }
+    }
+
+    /**
+     * Asserts that the actual is within the tolerance of the {@code expectedNanos}.
+     *
+     * @param expectedNanos the expected number of nanoseconds
+     * @throws AssertionError if the actual is {@code null}
+     * @throws AssertionError if the actual is further from the {@code expectedNanos} than the tolerance
+     */
+    public void ofNanos(final long expectedNanos) {
+      final @Nullable AssertionProbe probe = AssertionProbe.begin("DurationSubject", "isWithin(Duration).ofNanos(long)");
+      try {
+        DurationSubject.this.nonNull();
+        if (!DurationSubject.this.isWithinTolerance(this.tolerance, Math.floorDiv(expectedNanos, NANOS_PER_SECOND),
+            (int) Math.floorMod(expectedNanos, NANOS_PER_SECOND))) {
+          DurationSubject.this.failWithoutActual(fact("expected", Duration.ofNanos(expectedNanos)),
+              fact("but was", DurationSubject.this.actualCustomStringRepresentation()), fact("outside tolerance", this.tolerance));
+        }
+      } catch (final RuntimeException | Error ex) {
+        AssertionProbe.failed(probe);
+        throw ex;
+      } finally {
+        AssertionProbe.end(probe);
+      }
+    }
+  }
+}
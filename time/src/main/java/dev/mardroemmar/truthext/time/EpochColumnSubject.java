@@ -0,0 +1,229 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+import static dev.mardroemmar.truthext.time.InstantSequenceRules.rules;
+
+import com.google.common.truth.Fact;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for a file holding a column of fixed-width, signed 64-bit timestamps, each
+ * counting a {@link TimeUnit} from Epoch.
+ *
+ * <p>The file is {@link FileChannel#map(FileChannel.MapMode, long, long) memory-mapped} in windows of {@value #WINDOW_BYTES} bytes and
+ * checked straight from the mapped memory, so files far larger than the heap can be checked without reading them into arrays. Failures
+ * report the first violations only.</p>
+ *
+ * @see Subject
+ * @see InstantSequenceRules
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class EpochColumnSubject extends Subject {
+  /**
+   * The number of bytes mapped at once; a multiple of {@link Long#BYTES}.
+   */
+  static final int WINDOW_BYTES = 1 << 27;
+
+  /**
+   * Assert upon a column of timestamps.
+   *
+   * @param actual the file holding the column
+   * @param order  the byte order the timestamps are written in
+   * @param unit   the unit the timestamps count from Epoch
+   * @return a new assertion subject
+   * @throws NullPointerException if the {@code order} or {@code unit} is {@code null}
+   */
+  public static EpochColumnSubject assertThat(final @Nullable Path actual, final ByteOrder order, final TimeUnit unit) {
+    return assertAbout(epochColumns(order, unit)).that(actual);
+  }
+
+  /**
+   * @param order the byte order the timestamps are written in
+   * @param unit  the unit the timestamps count from Epoch
+   * @return a subject factory for asserting about files holding columns of timestamps.
+   * @throws NullPointerException if the {@code order} or {@code unit} is {@code null}
+   */
+  public static Subject.Factory<EpochColumnSubject, Path> epochColumns(final ByteOrder order, final TimeUnit unit) {
+    Objects.requireNonNull(order, "order must not be null");
+    Objects.requireNonNull(unit, "unit must not be null");
+    return (metadata, actual) -> new EpochColumnSubject(metadata, actual, order, unit);
+  }
+
+  private final @Nullable Path actual;
+  private final ByteOrder order;
+  private final TimeUnit unit;
+
+  private EpochColumnSubject(final FailureMetadata metadata, final @Nullable Path actual, final ByteOrder order, final TimeUnit unit) {
+    super(metadata, actual);
+    this.actual = actual;
+    this.order = order;
+    this.unit = unit;
+  }
+
+  /**
+   * Asserts that the column satisfies every one of the {@code rules}, checked together in a single pass over the file. Checking stops
+   * once as many violations as the {@code rules} {@link InstantSequenceRules#reportingAtMost(int) report} have been found.
+   *
+   * @param rules the rules to check
+   * @throws NullPointerException if the {@code rules} is {@code null}
+   * @throws AssertionError       if the actual is {@code null}, cannot be read, or is not a whole number of timestamps long
+   * @throws AssertionError       if a timestamp is outside the range of {@link Instant}, or violates one of the {@code rules}
+   */
+  public void satisfies(final InstantSequenceRules rules) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("EpochColumnSubject", "satisfies(InstantSequenceRules)");
+    try {
+      Objects.requireNonNull(rules, "rules must not be null");
+      final Path path = this.nonNull();
+      final InstantSequenceChecker checker = new InstantSequenceChecker(rules);
+      try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        final long size = channel.size();
+        if (size % Long.BYTES != 0) {
+          failWithActual(simpleFact("expected a whole number of " + Long.BYTES + "-byte timestamps"), fact("but was bytes", size));
+          return;
+        }
+        for (long position = 0; position < size; position += WINDOW_BYTES) {
+          final long windowBytes = Math.min(WINDOW_BYTES, size - position);
+          final LongBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowBytes).order(this.order).asLongBuffer();
+          if (!this.check(checker, window)) {
+            break;
+          }
+        }
+      } catch (final IOException ex) {
+        failWithActual(simpleFact("expected a readable file"), fact("but reading failed with", ex));
+        return;
+      }
+
+      final List<String> violations = checker.violations();
+      if (!violations.isEmpty()) {
+        final List<Fact> facts = InstantSequenceChecker.failureFacts(rules, violations);
+        failWithActual(facts.get(0), facts.subList(1, facts.size()).toArray(new Fact[0]));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that every timestamp of the column is after the timestamp before it.
+   *
+   * @throws AssertionError if the actual is {@code null}, cannot be read, or is not a whole number of timestamps long
+   * @throws AssertionError if a timestamp is not after the timestamp before it
+   * @see InstantSequenceRules#strictlyIncreasing()
+   */
+  public void isStrictlyIncreasing() {
+    this.satisfies(rules().strictlyIncreasing());
+  }
+
+  /**
+   * Asserts that no timestamp of the column is before the timestamp before it.
+   *
+   * @throws AssertionError if the actual is {@code null}, cannot be read, or is not a whole number of timestamps long
+   * @throws AssertionError if a timestamp is before the timestamp before it
+   * @see InstantSequenceRules#nonDecreasing()
+   */
+  public void isNonDecreasing() {
+    this.satisfies(rules().nonDecreasing());
+  }
+
+  /**
+   * Asserts that every timestamp of the column is between the {@code lower} and {@code upper} instants in time, both inclusive.
+   *
+   * @param lower the earliest allowed instant in time
+   * @param upper the latest allowed instant in time
+   * @throws NullPointerException     if the {@code lower} or {@code upper} is {@code null}
+   * @throws IllegalArgumentException if the {@code lower} is after the {@code upper}
+   * @throws AssertionError           if the actual is {@code null}, cannot be read, or is not a whole number of timestamps long
+   * @throws AssertionError           if a timestamp is before the {@code lower} or after the {@code upper}
+   * @see InstantSequenceRules#between(Instant, Instant)
+   */
+  public void allBetween(final Instant lower, final Instant upper) {
+    this.satisfies(rules().between(lower, upper));
+  }
+
+  /**
+   * Asserts that no timestamp of the column is more than {@code maxGap} after the timestamp before it.
+   *
+   * @param maxGap the largest allowed gap between two consecutive timestamps
+   * @throws NullPointerException     if the {@code maxGap} is {@code null}
+   * @throws IllegalArgumentException if the {@code maxGap} is negative
+   * @throws AssertionError           if the actual is {@code null}, cannot be read, or is not a whole number of timestamps long
+   * @throws AssertionError           if a timestamp is further after the timestamp before it than the {@code maxGap}
+   * @see InstantSequenceRules#maxGap(Duration)
+   */
+  public void maxGapAtMost(final Duration maxGap) {
+    this.satisfies(rules().maxGap(maxGap));
+  }
+
+  private boolean check(final InstantSequenceChecker checker, final LongBuffer window) {
+    final int count = window.limit();
+    switch (this.unit) {
+      case NANOSECONDS:
+        return checkSubSecond(checker, window, count, 1_000_000_000L, 1);
+      case MICROSECONDS:
+        return checkSubSecond(checker, window, count, 1_000_000L, 1_000);
+      case MILLISECONDS:
+        return checkSubSecond(checker, window, count, 1_000L, 1_000_000);
+      default:
+        return this.checkWholeSeconds(checker, window, count, this.unit.toSeconds(1));
+    }
+  }
+
+  private static boolean checkSubSecond(final InstantSequenceChecker checker, final LongBuffer window, final int count,
+      final long perSecond, final int nanosPerUnit) {
+    for (int i = 0; i < count; ++i) {
+      final long value = window.get(i);
+      if (!checker.accept(Math.floorDiv(value, perSecond), (int) Math.floorMod(value, perSecond) * nanosPerUnit)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean checkWholeSeconds(final InstantSequenceChecker checker, final LongBuffer window, final int count,
+      final long secondsPerUnit) {
+    final long min = Instant.MIN.getEpochSecond() / secondsPerUnit;
+    final long max = Instant.MAX.getEpochSecond() / secondsPerUnit;
+    for (int i = 0; i < count; ++i) {
+      final long value = window.get(i);
+      final boolean keepGoing = value < min || value > max
+          ? checker.reject(value + " " + this.unit.name().toLowerCase(Locale.ROOT) + " is outside the range of Instant")
+          : checker.accept(value * secondsPerUnit, 0);
+      if (!keepGoing) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Path nonNull() {
+    if (this.actual != null) {
+      return this.actual;
+    }
+
+    failWithActual(simpleFact("expected path to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+}
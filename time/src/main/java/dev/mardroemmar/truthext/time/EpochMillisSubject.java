@@ -0,0 +1,287 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for a sequence of milliseconds from Epoch, as in {@link Instant#toEpochMilli()}.
+ *
+ * <p>All assertions work directly on the {@code long} values; no element is ever boxed or converted to an {@link Instant} unless it is
+ * reported in a failure.</p>
+ *
+ * @see Subject
+ * @see InstantSubject
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class EpochMillisSubject extends Subject {
+  /**
+   * Assert upon a sequence of milliseconds from Epoch.
+   *
+   * @param actual the actual milliseconds from Epoch
+   * @return a new assertion subject
+   */
+  public static EpochMillisSubject assertThat(final long @Nullable [] actual) {
+    return assertAbout(epochMillis()).that(actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about sequences of milliseconds from Epoch.
+   */
+  public static Subject.Factory<EpochMillisSubject, long[]> epochMillis() {
+    return EpochMillisSubject::new;
+  }
+
+  private final long @Nullable [] actual;
+
+  private EpochMillisSubject(final FailureMetadata metadata, final long @Nullable [] actual) {
+    super(metadata, actual);
+    this.actual = actual;
+  }
+
+  /**
+   * Asserts that every element of the {@code actual} is strictly greater than the one before it.
+   *
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if an element is less than or equal to the one before it
+   */
+  public void isStrictlyIncreasing() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("EpochMillisSubject", "isStrictlyIncreasing()");
+    try {
+      final long[] actual = this.nonNull();
+      for (int i = 1; i < actual.length; ++i) {
+        if (actual[i] <= actual[i - 1]) {
+          this.failWithActual(simpleFact("expected to be strictly increasing"),
+              fact("but contained", describe(actual[i - 1])),
+              fact("followed by", describe(actual[i])),
+              fact("at index", i));
+          return;
+        }
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that no element of the {@code actual} is less than the one before it.
+   *
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if an element is less than the one before it
+   */
+  public void isNonDecreasing() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("EpochMillisSubject", "isNonDecreasing()");
+    try {
+      final long[] actual = this.nonNull();
+      for (int i = 1; i < actual.length; ++i) {
+        if (actual[i] < actual[i - 1]) {
+          this.failWithActual(simpleFact("expected to be non-decreasing"),
+              fact("but contained", describe(actual[i - 1])),
+              fact("followed by", describe(actual[i])),
+              fact("at index", i));
+          return;
+        }
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that every element of the {@code actual} is between the {@code lower} and {@code upper} instants in time, both inclusive.
+   *
+   * @param lower the earliest allowed instant in time
+   * @param upper the latest allowed instant in time
+   * @throws NullPointerException     if the {@code lower} or {@code upper} is {@code null}
+   * @throws IllegalArgumentException if the {@code lower} is after the {@code upper}
+   * @throws AssertionError           if the actual is {@code null}
+   * @throws AssertionError           if an element is before the {@code lower} or after the {@code upper}
+   */
+  public void allBetween(final Instant lower, final Instant upper) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("EpochMillisSubject", "allBetween(Instant, Instant)");
+    try {
+      Objects.requireNonNull(lower, "lower must not be null");
+      Objects.requireNonNull(upper, "upper must not be null");
+      if (lower.isAfter(upper)) {
+        throw new IllegalArgumentException("lower must not be after upper");
+      }
+
+      final long[] actual = this.nonNull();
+      final long lowerMillis = ceilMillis(lower);
+      final long upperMillis = floorMillis(upper);
+      for (int i = 0; i < actual.length; ++i) {
+        if (actual[i] < lowerMillis || actual[i] > upperMillis) {
+          this.failWithActual(simpleFact("expected all elements to be between lower and upper"),
+              fact("lower", lower),
+              fact("upper", upper),
+              fact("but contained", describe(actual[i])),
+              fact("at index", i));
+          return;
+        }
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that no element of the {@code actual} is more than {@code maxGap} after the element before it. An element that is before
+   * the element before it is not a gap; combine with {@link #isNonDecreasing()} to check the ordering too.
+   *
+   * @param maxGap the largest allowed gap between two consecutive elements
+   * @throws NullPointerException     if the {@code maxGap} is {@code null}
+   * @throws IllegalArgumentException if the {@code maxGap} is negative
+   * @throws AssertionError           if the actual is {@code null}
+   * @throws AssertionError           if two consecutive elements are further apart than the {@code maxGap}
+   */
+  public void maxGapAtMost(final Duration maxGap) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("EpochMillisSubject", "maxGapAtMost(Duration)");
+    try {
+      Objects.requireNonNull(maxGap, "maxGap must not be null");
+      if (maxGap.isNegative()) {
+        throw new IllegalArgumentException("maxGap must not be negative");
+      }
+
+      final long[] actual = this.nonNull();
+      final long maxGapMillis = unsignedMillis(maxGap);
+      for (int i = 1; i < actual.length; ++i) {
+        // The subtraction may overflow for far apart elements, but the unsigned difference is still correct when the later one is larger.
+        if (actual[i] > actual[i - 1] && Long.compareUnsigned(actual[i] - actual[i - 1], maxGapMillis) > 0) {
+          this.failWithActual(simpleFact("expected no gap between consecutive elements to exceed maxGap"),
+              fact("maxGap", maxGap),
+              fact("but contained", describe(actual[i - 1])),
+              fact("followed by", describe(actual[i])),
+              fact("at index", i));
+          return;
+        }
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that no two elements of the {@code actual} are equal.
+   *
+   * <p>A non-decreasing {@code actual} is checked in a single pass; anything else is checked on a sorted copy.</p>
+   *
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if two elements are equal
+   */
+  public void hasNoDuplicates() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("EpochMillisSubject", "hasNoDuplicates()");
+    try {
+      final long[] actual = this.nonNull();
+      boolean ordered = true;
+      for (int i = 1; i < actual.length; ++i) {
+        if (actual[i] == actual[i - 1]) {
+          this.failWithDuplicate(actual[i], i - 1, i);
+          return;
+        }
+        if (actual[i] < actual[i - 1]) {
+          ordered = false;
+          break;
+        }
+      }
+      if (ordered) {
+        return;
+      }
+
+      final long[] sorted = actual.clone();
+      Arrays.sort(sorted);
+      for (int i = 1; i < sorted.length; ++i) {
+        if (sorted[i] == sorted[i - 1]) {
+          final long duplicate = sorted[i];
+          int first = -1;
+          for (int j = 0; j < actual.length; ++j) {
+            if (actual[j] != duplicate) {
+              continue;
+            }
+            if (first != -1) {
+              this.failWithDuplicate(duplicate, first, j);
+              return;
+            }
+            first = j;
+          }
+        }
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  @Override
+  protected String actualCustomStringRepresentation() {
+    // The default would print every element, which is unreadable for the sizes this subject is meant for.
+    return this.actual == null ? "null" : "long[" + this.actual.length + "]";
+  }
+
+  private void failWithDuplicate(final long duplicate, final int first, final int second) {
+    this.failWithActual(simpleFact("expected to have no duplicates"),
+        fact("but contained", describe(duplicate)),
+        fact("at indices", first + " and " + second));
+  }
+
+  static String describe(final long epochMilli) {
+    return epochMilli + " (" + Instant.ofEpochMilli(epochMilli) + ")";
+  }
+
+  static long floorMillis(final Instant instant) {
+    try {
+      return instant.toEpochMilli();
+    } catch (final ArithmeticException ex) {
+      return instant.getEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+  }
+
+  static long ceilMillis(final Instant instant) {
+    final long floor = floorMillis(instant);
+    return floor != Long.MAX_VALUE && floor != Long.MIN_VALUE && instant.getNano() % 1_000_000 != 0 ? floor + 1 : floor;
+  }
+
+  static long unsignedMillis(final Duration duration) {
+    // Two longs can be up to 2^64 - 1 apart, so non-negative durations are compared as unsigned milliseconds, saturating at the top.
+    if (Long.compareUnsigned(duration.getSeconds(), Long.divideUnsigned(-1L, 1000L)) > 0) {
+      return -1L;
+    }
+    final long millis = duration.getSeconds() * 1000L;
+    final long total = millis + duration.getNano() / 1_000_000;
+    return Long.compareUnsigned(total, millis) < 0 ? -1L : total;
+  }
+
+  private long[] nonNull() {
+    if (this.actual != null) {
+      return this.actual;
+    }
+
+    failWithActual(simpleFact("expected epoch milliseconds to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+}
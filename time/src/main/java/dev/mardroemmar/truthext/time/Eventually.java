@@ -0,0 +1,256 @@
+package dev.mardroemmar.truthext.time;
+
+import com.google.common.truth.StandardSubjectBuilder;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Assertions that are retried until they pass or a timeout runs out, for values that change asynchronously.
+ *
+ * <pre>{@code
+ * TruthTime.eventually(Duration.ofSeconds(5))
+ *     .that(cache::lastRefresh)
+ *     .satisfies(refresh -> refresh.isAfter(start));
+ * }</pre>
+ *
+ * <p>Each attempt gets a fresh value from the supplier and runs the whole assertion chain on it. Between attempts the calling thread is
+ * parked, starting at {@linkplain #withBackoff(Duration, Duration) 1 millisecond} and doubling up to 100 milliseconds, so waiting costs
+ * no CPU; on a virtual thread, parking frees its carrier thread. Failing attempts are recorded rather than thrown, and only the failure
+ * of the last attempt is reported.</p>
+ *
+ * <p>The deadline is taken from a {@link Clock}, the {@linkplain Clock#systemUTC() system clock} unless
+ * {@linkplain #withClock(Clock) given another}, and the assertion is always attempted at least once. As waiting between attempts takes
+ * real time, the retries also end once the timeout has passed by {@link System#nanoTime()}, whatever the clock says.</p>
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class Eventually {
+  private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(1L);
+  private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMillis(100L);
+
+  private final Duration timeout;
+  private final Clock clock;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+
+  private Eventually(final Duration timeout, final Clock clock, final Duration initialBackoff, final Duration maxBackoff) {
+    this.timeout = timeout;
+    this.clock = clock;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+  }
+
+  /**
+   * Retry assertions until they pass or the {@code timeout} runs out.
+   *
+   * @param timeout how long to retry for
+   * @return a new set of retried assertions
+   * @throws NullPointerException     if the {@code timeout} is {@code null}
+   * @throws IllegalArgumentException if the {@code timeout} is negative
+   */
+  public static Eventually eventually(final Duration timeout) {
+    Objects.requireNonNull(timeout, "timeout must not be null");
+    if (timeout.isNegative()) {
+      throw new IllegalArgumentException("timeout must not be negative");
+    }
+    return new Eventually(timeout, Clock.systemUTC(), DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF);
+  }
+
+  /**
+   * Take the deadline from the {@code clock}, such as a {@link MutableClock}.
+   *
+   * <p>The retries end at the deadline of the {@code clock} or once the timeout has passed in real time, whichever is first. A clock that
+   * moves faster than real time, such as one advanced by the system under test, ends them early; a clock that does not move, such as a
+   * {@link MutableClock} that is never advanced, leaves the whole timeout to pass in real time.</p>
+   *
+   * @param clock the clock to read the time from
+   * @return a copy of this, reading the time from the {@code clock}
+   * @throws NullPointerException if the {@code clock} is {@code null}
+   */
+  public Eventually withClock(final Clock clock) {
+    Objects.requireNonNull(clock, "clock must not be null");
+    return new Eventually(this.timeout, clock, this.initialBackoff, this.maxBackoff);
+  }
+
+  /**
+   * Wait the {@code initial} duration after the first failing attempt, doubling it after every further one up to the {@code max}.
+   *
+   * @param initial how long to wait after the first failing attempt
+   * @param max     the longest to wait between attempts
+   * @return a copy of this, with the given backoff
+   * @throws NullPointerException     if the {@code initial} or {@code max} is {@code null}
+   * @throws IllegalArgumentException if the {@code initial} is not positive or the {@code max} is shorter than it
+   */
+  public Eventually withBackoff(final Duration initial, final Duration max) {
+    Objects.requireNonNull(initial, "initial must not be null");
+    Objects.requireNonNull(max, "max must not be null");
+    if (initial.isNegative() || initial.isZero()) {
+      throw new IllegalArgumentException("initial must be positive");
+    }
+    if (max.compareTo(initial) < 0) {
+      throw new IllegalArgumentException("max must not be shorter than initial");
+    }
+    return new Eventually(this.timeout, this.clock, initial, max);
+  }
+
+  /**
+   * Retry assertions upon instants in time.
+   *
+   * @param actual the supplier of the actual instants in time, called once per attempt
+   * @return the retried assertion
+   * @throws NullPointerException if the {@code actual} is {@code null}
+   */
+  public EventualAssertion<InstantSubject, Instant> that(final Supplier<? extends @Nullable Instant> actual) {
+    return this.that(actual, InstantSubject.instants());
+  }
+
+  /**
+   * Retry assertions upon zoned date-times.
+   *
+   * @param actual the supplier of the actual zoned date-times, called once per attempt
+   * @return the retried assertion
+   * @throws NullPointerException if the {@code actual} is {@code null}
+   */
+  public EventualAssertion<ZonedDateTimeSubject, ZonedDateTime> thatZonedDateTime(
+      final Supplier<? extends @Nullable ZonedDateTime> actual) {
+    return this.that(actual, ZonedDateTimeSubject.zonedDateTimes());
+  }
+
+  /**
+   * Retry assertions upon values of any subject, such as {@code CurrencySubject.currencies()} for currencies.
+   *
+   * @param actual  the supplier of the actual values, called once per attempt
+   * @param factory the factory of the subject to assert with
+   * @param <S>     the type of subject
+   * @param <T>     the type of the actual values
+   * @return the retried assertion
+   * @throws NullPointerException if the {@code actual} or {@code factory} is {@code null}
+   */
+  public <S extends Subject, T> EventualAssertion<S, T> that(final Supplier<? extends @Nullable T> actual,
+      final Subject.Factory<S, T> factory) {
+    Objects.requireNonNull(actual, "actual must not be null");
+    Objects.requireNonNull(factory, "factory must not be null");
+    return new EventualAssertion<>(actual, factory);
+  }
+
+  private Instant deadline() {
+    try {
+      return this.clock.instant().plus(this.timeout);
+    } catch (final DateTimeException | ArithmeticException ex) {
+      return Instant.MAX;
+    }
+  }
+
+  private static long remainingNanos(final Instant now, final Instant deadline) {
+    if (!now.isBefore(deadline)) {
+      return 0L;
+    }
+    return saturatedNanos(Duration.between(now, deadline));
+  }
+
+  private static long saturatedNanos(final Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (final ArithmeticException ex) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  /**
+   * An assertion retried until it passes or the timeout of its {@link Eventually} runs out.
+   *
+   * @param <S> the type of subject
+   * @param <T> the type of the actual values
+   * @see Eventually
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public final class EventualAssertion<S extends Subject, T> {
+    private final Supplier<? extends @Nullable T> actual;
+    private final Subject.Factory<S, T> factory;
+    private @Nullable AssertionError failure;
+
+    private EventualAssertion(final Supplier<? extends @Nullable T> actual, final Subject.Factory<S, T> factory) {
+      this.actual = actual;
+      this.factory = factory;
+    }
+
+    /**
+     * Asserts that the {@code assertion} passes on a value from the supplier before the timeout runs out.
+     *
+     * <p>The thread's interrupt flag is kept if it is interrupted while waiting, which ends the retries.</p>
+     *
+     * @param assertion the assertion chain to run on a subject for each value
+     * @throws NullPointerException if the {@code assertion} is {@code null}
+     * @throws AssertionError       if the last attempt failed, with its failure
+     */
+    public void satisfies(final Consumer<? super S> assertion) {
+      final @Nullable AssertionProbe probe = AssertionProbe.begin("Eventually", "satisfies(Consumer)");
+      try {
+        Objects.requireNonNull(assertion, "assertion must not be null");
+        final Instant deadline = Eventually.this.deadline();
+        // Parking takes real time, so the timeout is kept in real time as well, in case the clock does not move.
+        final long start = System.nanoTime();
+        final long timeout = saturatedNanos(Eventually.this.timeout);
+        long backoff = saturatedNanos(Eventually.this.initialBackoff);
+        final long maxBackoff = saturatedNanos(Eventually.this.maxBackoff);
+        for (long attempt = 1; ; ++attempt) {
+          final AssertionError error = this.attempt(assertion, attempt);
+          if (error == null) {
+            return;
+          }
+
+          final long remaining = Math.min(remainingNanos(Eventually.this.clock.instant(), deadline), timeout - (System.nanoTime() - start));
+          if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+            throw error;
+          }
+          LockSupport.parkNanos(this, Math.min(backoff, remaining));
+          backoff = backoff > maxBackoff / 2 ? maxBackoff : backoff * 2;
+        }
+      } catch (final RuntimeException | Error ex) {
+        AssertionProbe.failed(probe);
+        throw ex;
+      } finally {
+        AssertionProbe.end(probe);
+      }
+    }
+
+    /**
+     * @return the failure of the attempt, or {@code null} if it passed
+     */
+    private @Nullable AssertionError attempt(final Consumer<? super S> assertion, final long attempt) {
+      this.failure = null;
+      try {
+        assertion.accept(StandardSubjectBuilder.forCustomFailureStrategy(this::record)
+            .withMessage("attempt %s of eventually(%s)", attempt, Eventually.this.timeout)
+            .about(this.factory)
+            .that(this.actual.get()));
+      } catch (final AssertionError ex) {
+        // Subjects that cannot go on after a failure throw; what was recorded first is the actual failure.
+        return this.failure != null ? this.failure : ex;
+      }
+      return this.failure;
+    }
+
+    private void record(final AssertionError failure) {
+      if (this.failure == null) {
+        this.failure = failure;
+      }
+    }
+  }
+}
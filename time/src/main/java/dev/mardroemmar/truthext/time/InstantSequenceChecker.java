@@ -0,0 +1,298 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+
+import com.google.common.truth.Fact;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Checks a sequence of instants in time against {@link InstantSequenceRules}, one element at a time.
+ *
+ * <p>Elements are compared by their seconds from Epoch and nano of the second, so nothing is allocated per element on the passing path,
+ * unless duplicates must be found without an ordering rule.</p>
+ */
+final class InstantSequenceChecker {
+  private final InstantSequenceRules rules;
+  private final String label;
+  // The index of the first occurrence of every instant in time seen so far, when duplicates must be found without an ordering rule.
+  private final @Nullable Map<Instant, Long> seen;
+  private final @Nullable Map<Instant, Long> firstIndices;
+  private final long firstIndex;
+  private long index;
+  private boolean hasPrevious;
+  private long previousSecond;
+  private int previousNano;
+  private @Nullable Object previous;
+  private List<String> violations = Collections.emptyList();
+
+  /**
+   * @param rules the rules to check against
+   */
+  InstantSequenceChecker(final InstantSequenceRules rules) {
+    this(rules, 0, null);
+  }
+
+  /**
+   * @param rules        the rules to check against
+   * @param firstIndex   the index of the first element that will be accepted, for reporting
+   * @param firstIndices the index of the first occurrence of every instant in time of the whole sequence, if known up front; this is
+   *                     used to find duplicates without an ordering rule when the sequence is checked in parts
+   */
+  InstantSequenceChecker(final InstantSequenceRules rules, final long firstIndex, final @Nullable Map<Instant, Long> firstIndices) {
+    this(rules, "element", firstIndex, firstIndices);
+  }
+
+  /**
+   * @param rules      the rules to check against
+   * @param label      what an element is called in violations, such as {@code "line"}
+   * @param firstIndex the index of the first element that will be accepted, for reporting
+   */
+  InstantSequenceChecker(final InstantSequenceRules rules, final String label, final long firstIndex) {
+    this(rules, label, firstIndex, null);
+  }
+
+  private InstantSequenceChecker(final InstantSequenceRules rules, final String label, final long firstIndex,
+      final @Nullable Map<Instant, Long> firstIndices) {
+    this.rules = rules;
+    this.label = label;
+    this.firstIndices = firstIndices;
+    this.seen = firstIndices == null && needsAllSeen(rules) ? new HashMap<>() : null;
+    this.firstIndex = firstIndex;
+    this.index = firstIndex;
+  }
+
+  /**
+   * @param rules the rules to check against
+   * @return whether duplicates can only be found by remembering every element seen
+   */
+  static boolean needsAllSeen(final InstantSequenceRules rules) {
+    return rules.noDuplicatesRequired() && rules.ordering() == InstantSequenceRules.Ordering.ANY;
+  }
+
+  /**
+   * Use the {@code value} as the element before the first element that will be accepted, without checking it.
+   *
+   * @param value the element before the first element that will be accepted
+   */
+  void prime(final @Nullable Instant value) {
+    if (value != null) {
+      this.setPrevious(value.getEpochSecond(), value.getNano(), value);
+    }
+  }
+
+  /**
+   * Use the {@code value} as the element before the first element that will be accepted, without checking it.
+   *
+   * @param value the element before the first element that will be accepted
+   */
+  void prime(final @Nullable ZonedDateTime value) {
+    if (value != null) {
+      this.setPrevious(value.toEpochSecond(), value.getNano(), value);
+    }
+  }
+
+  /**
+   * Check the next element of the sequence.
+   *
+   * @param value the next element
+   * @return whether to keep going, i.e. {@code false} once as many violations as will be reported have been found
+   */
+  boolean accept(final @Nullable Instant value) {
+    if (value == null) {
+      return this.acceptNull();
+    }
+    return this.accept(value.getEpochSecond(), value.getNano(), value);
+  }
+
+  /**
+   * Check the next element of the sequence by its instant in time.
+   *
+   * @param value the next element
+   * @return whether to keep going, i.e. {@code false} once as many violations as will be reported have been found
+   */
+  boolean accept(final @Nullable ZonedDateTime value) {
+    if (value == null) {
+      return this.acceptNull();
+    }
+    return this.accept(value.toEpochSecond(), value.getNano(), value);
+  }
+
+  /**
+   * Check the next element of the sequence by its seconds from Epoch and nano of the second. The element is described as an
+   * {@link Instant} in violations, so it must be within the range of one.
+   *
+   * @param second the seconds from Epoch of the next element
+   * @param nano   the nano of the second of the next element
+   * @return whether to keep going, i.e. {@code false} once as many violations as will be reported have been found
+   */
+  boolean accept(final long second, final int nano) {
+    return this.accept(second, nano, null);
+  }
+
+  /**
+   * Skip the next element of the sequence as a violation on its own, without checking it against the rules or the elements around it.
+   *
+   * @param description why the element is a violation
+   * @return whether to keep going, i.e. {@code false} once as many violations as will be reported have been found
+   */
+  boolean reject(final String description) {
+    this.violation(this.index++, description);
+    return !this.isLimitReached();
+  }
+
+  /**
+   * Skip the next element of the sequence without checking it, as if it was not part of the sequence but for its index.
+   */
+  void skip() {
+    ++this.index;
+  }
+
+  private boolean acceptNull() {
+    return this.reject("is null");
+  }
+
+  private boolean accept(final long second, final int nano, final @Nullable Object value) {
+    final long index = this.index++;
+
+    final Instant lower = this.rules.lower();
+    final Instant upper = this.rules.upper();
+    if (lower != null && compare(second, nano, lower.getEpochSecond(), lower.getNano()) < 0) {
+      this.violation(index, describe(value, second, nano) + " is before the lower bound " + lower);
+    } else if (upper != null && compare(second, nano, upper.getEpochSecond(), upper.getNano()) > 0) {
+      this.violation(index, describe(value, second, nano) + " is after the upper bound " + upper);
+    }
+
+    if (this.hasPrevious) {
+      final int comparison = compare(second, nano, this.previousSecond, this.previousNano);
+      switch (this.rules.ordering()) {
+        case STRICTLY_INCREASING:
+          if (comparison <= 0) {
+            this.violation(index, describe(value, second, nano) + " is not after the previous element " + this.describePrevious());
+          }
+          break;
+        case NON_DECREASING:
+          if (comparison < 0) {
+            this.violation(index, describe(value, second, nano) + " is before the previous element " + this.describePrevious());
+          } else if (comparison == 0 && this.rules.noDuplicatesRequired()) {
+            this.violation(index, describe(value, second, nano) + " is a duplicate of the previous element");
+          }
+          break;
+        default:
+          break;
+      }
+
+      final Duration maxGap = this.rules.maxGap();
+      if (maxGap != null && comparison > 0 && gapExceeds(this.previousSecond, this.previousNano, second, nano, maxGap)) {
+        final Duration gap = Duration.ofSeconds(second - this.previousSecond, nano - this.previousNano);
+        this.violation(index, describe(value, second, nano) + " is " + gap + " after the previous element " + this.describePrevious());
+      }
+    }
+
+    // Both ways of finding duplicates report the same violation, so checking in parallel reports what checking sequentially does.
+    @Nullable Long first = null;
+    if (this.seen != null) {
+      first = this.seen.putIfAbsent(Instant.ofEpochSecond(second, nano), index);
+    } else if (this.firstIndices != null) {
+      first = this.firstIndices.get(Instant.ofEpochSecond(second, nano));
+    }
+    if (first != null && first != index) {
+      this.violation(index, describe(value, second, nano) + " is a duplicate of " + this.label + " " + first);
+    }
+
+    this.setPrevious(second, nano, value);
+    return !this.isLimitReached();
+  }
+
+  /**
+   * @return the number of elements accepted, rejected or skipped so far
+   */
+  long checked() {
+    return this.index - this.firstIndex;
+  }
+
+  /**
+   * @return the violations found so far, in order of appearance
+   */
+  List<String> violations() {
+    return this.violations;
+  }
+
+  /**
+   * @return whether as many violations as will be reported have been found
+   */
+  boolean isLimitReached() {
+    return this.violations.size() >= this.rules.reportedViolations();
+  }
+
+  /**
+   * Describe the violations of the {@code rules} as facts for a failure message.
+   *
+   * @param rules      the rules that were checked
+   * @param violations the violations found, at most as many as are reported
+   * @return the facts to fail with, of which there is always at least one
+   */
+  static List<Fact> failureFacts(final InstantSequenceRules rules, final List<String> violations) {
+    final List<Fact> facts = new ArrayList<>(violations.size() + 3);
+    facts.add(simpleFact("expected every element to satisfy the rules"));
+    facts.add(fact("rules", rules));
+    for (final String violation : violations) {
+      facts.add(fact("violation", violation));
+    }
+    if (violations.size() >= rules.reportedViolations()) {
+      facts.add(simpleFact("stopped checking after " + violations.size() + " violations"));
+    }
+    return facts;
+  }
+
+  /**
+   * Checks whether {@code to} is more than {@code maxGap} after {@code from} without allocating, where {@code from} is before {@code to}.
+   */
+  static boolean gapExceeds(final long fromSecond, final int fromNano, final long toSecond, final int toNano, final Duration maxGap) {
+    long seconds = toSecond - fromSecond;
+    int nanos = toNano - fromNano;
+    if (nanos < 0) {
+      --seconds;
+      nanos += 1_000_000_000;
+    }
+    return seconds > maxGap.getSeconds() || seconds == maxGap.getSeconds() && nanos > maxGap.getNano();
+  }
+
+  private static int compare(final long second, final int nano, final long otherSecond, final int otherNano) {
+    final int comparison = Long.compare(second, otherSecond);
+    return comparison != 0 ? comparison : Integer.compare(nano, otherNano);
+  }
+
+  private static String describe(final @Nullable Object value, final long second, final int nano) {
+    return value != null ? value.toString() : Instant.ofEpochSecond(second, nano).toString();
+  }
+
+  private String describePrevious() {
+    return describe(this.previous, this.previousSecond, this.previousNano);
+  }
+
+  private void setPrevious(final long second, final int nano, final @Nullable Object value) {
+    this.hasPrevious = true;
+    this.previousSecond = second;
+    this.previousNano = nano;
+    this.previous = value;
+  }
+
+  private void violation(final long index, final String description) {
+    if (this.isLimitReached()) {
+      return;
+    }
+    if (this.violations.isEmpty()) {
+      this.violations = new ArrayList<>();
+    }
+    this.violations.add(this.label + " " + index + ": " + description);
+  }
+}
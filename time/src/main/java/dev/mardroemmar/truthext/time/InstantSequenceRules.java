@@ -0,0 +1,214 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.StringJoiner;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The properties a sequence of instants in time must have, checked together in a single pass.
+ *
+ * <p>Instances are immutable; every method returns a new set of rules with the given rule added or replaced.</p>
+ *
+ * @see InstantIterableSubject#satisfies(InstantSequenceRules)
+ * @see InstantStreamSubject#satisfies(InstantSequenceRules)
+ * @see EpochColumnSubject#satisfies(InstantSequenceRules)
+ * @see LogFileSubject#satisfies(InstantSequenceRules)
+ * @see ZonedDateTimeIterableSubject#satisfies(InstantSequenceRules)
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class InstantSequenceRules {
+  /**
+   * The number of violations reported unless {@link #reportingAtMost(int)} says otherwise.
+   */
+  public static final int DEFAULT_REPORTED_VIOLATIONS = 10;
+
+  private static final InstantSequenceRules NONE = new InstantSequenceRules(Ordering.ANY, false, null, null, null,
+      DEFAULT_REPORTED_VIOLATIONS);
+
+  private final Ordering ordering;
+  private final boolean noDuplicates;
+  private final @Nullable Instant lower;
+  private final @Nullable Instant upper;
+  private final @Nullable Duration maxGap;
+  private final int reportedViolations;
+
+  private InstantSequenceRules(final Ordering ordering, final boolean noDuplicates, final @Nullable Instant lower,
+      final @Nullable Instant upper, final @Nullable Duration maxGap, final int reportedViolations) {
+    this.ordering = ordering;
+    this.noDuplicates = noDuplicates;
+    this.lower = lower;
+    this.upper = upper;
+    this.maxGap = maxGap;
+    this.reportedViolations = reportedViolations;
+  }
+
+  /**
+   * @return rules that any sequence satisfies, to add rules to
+   */
+  public static InstantSequenceRules rules() {
+    return NONE;
+  }
+
+  /**
+   * Require every element to be after the one before it. This replaces {@link #nonDecreasing()}.
+   *
+   * @return new rules with the added rule
+   */
+  public InstantSequenceRules strictlyIncreasing() {
+    return new InstantSequenceRules(Ordering.STRICTLY_INCREASING, this.noDuplicates, this.lower, this.upper, this.maxGap,
+        this.reportedViolations);
+  }
+
+  /**
+   * Require no element to be before the one before it. This replaces {@link #strictlyIncreasing()}.
+   *
+   * @return new rules with the added rule
+   */
+  public InstantSequenceRules nonDecreasing() {
+    return new InstantSequenceRules(Ordering.NON_DECREASING, this.noDuplicates, this.lower, this.upper, this.maxGap,
+        this.reportedViolations);
+  }
+
+  /**
+   * Require no two elements to be equal.
+   *
+   * <p>Together with an ordering rule only neighbouring elements need comparing, as any other duplicate also breaks the ordering.
+   * Without one, every distinct element seen so far has to be remembered.</p>
+   *
+   * @return new rules with the added rule
+   */
+  public InstantSequenceRules noDuplicates() {
+    return new InstantSequenceRules(this.ordering, true, this.lower, this.upper, this.maxGap, this.reportedViolations);
+  }
+
+  /**
+   * Require every element to be between the {@code lower} and {@code upper} instants in time, both inclusive.
+   *
+   * @param lower the earliest allowed instant in time
+   * @param upper the latest allowed instant in time
+   * @return new rules with the added rule
+   * @throws NullPointerException     if the {@code lower} or {@code upper} is {@code null}
+   * @throws IllegalArgumentException if the {@code lower} is after the {@code upper}
+   */
+  public InstantSequenceRules between(final Instant lower, final Instant upper) {
+    Objects.requireNonNull(lower, "lower must not be null");
+    Objects.requireNonNull(upper, "upper must not be null");
+    if (lower.isAfter(upper)) {
+      throw new IllegalArgumentException("lower must not be after upper");
+    }
+    return new InstantSequenceRules(this.ordering, this.noDuplicates, lower, upper, this.maxGap, this.reportedViolations);
+  }
+
+  /**
+   * Require no element to be more than {@code maxGap} after the element before it. An element that is before the element before it is
+   * not a gap; add an ordering rule to check that too.
+   *
+   * @param maxGap the largest allowed gap between two consecutive elements
+   * @return new rules with the added rule
+   * @throws NullPointerException     if the {@code maxGap} is {@code null}
+   * @throws IllegalArgumentException if the {@code maxGap} is negative
+   */
+  public InstantSequenceRules maxGap(final Duration maxGap) {
+    Objects.requireNonNull(maxGap, "maxGap must not be null");
+    if (maxGap.isNegative()) {
+      throw new IllegalArgumentException("maxGap must not be negative");
+    }
+    return new InstantSequenceRules(this.ordering, this.noDuplicates, this.lower, this.upper, maxGap, this.reportedViolations);
+  }
+
+  /**
+   * Stop checking once {@code violations} violations have been found, and report only those.
+   *
+   * @param violations the number of violations to report
+   * @return new rules with the given limit
+   * @throws IllegalArgumentException if {@code violations} is less than {@code 1}
+   */
+  public InstantSequenceRules reportingAtMost(final int violations) {
+    if (violations < 1) {
+      throw new IllegalArgumentException("violations must be at least 1");
+    }
+    return new InstantSequenceRules(this.ordering, this.noDuplicates, this.lower, this.upper, this.maxGap, violations);
+  }
+
+  Ordering ordering() {
+    return this.ordering;
+  }
+
+  boolean noDuplicatesRequired() {
+    return this.noDuplicates;
+  }
+
+  @Nullable Instant lower() {
+    return this.lower;
+  }
+
+  @Nullable Instant upper() {
+    return this.upper;
+  }
+
+  @Nullable Duration maxGap() {
+    return this.maxGap;
+  }
+
+  int reportedViolations() {
+    return this.reportedViolations;
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof InstantSequenceRules)) {
+      return false;
+    }
+    final InstantSequenceRules that = (InstantSequenceRules) other;
+    return this.ordering == that.ordering
+        && this.noDuplicates == that.noDuplicates
+        && Objects.equals(this.lower, that.lower)
+        && Objects.equals(this.upper, that.upper)
+        && Objects.equals(this.maxGap, that.maxGap)
+        && this.reportedViolations == that.reportedViolations;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.ordering, this.noDuplicates, this.lower, this.upper, this.maxGap, this.reportedViolations);
+  }
+
+  @Override
+  public String toString() {
+    final StringJoiner joiner = new StringJoiner(", ", "[", "]");
+    if (this.ordering != Ordering.ANY) {
+      joiner.add(this.ordering.description);
+    }
+    if (this.noDuplicates) {
+      joiner.add("no duplicates");
+    }
+    if (this.lower != null) {
+      joiner.add("between " + this.lower + " and " + this.upper);
+    }
+    if (this.maxGap != null) {
+      joiner.add("gaps at most " + this.maxGap);
+    }
+    return joiner.toString();
+  }
+
+  enum Ordering {
+    ANY("any order"),
+    NON_DECREASING("non-decreasing"),
+    STRICTLY_INCREASING("strictly increasing"),
+    ;
+
+    final String description;
+
+    Ordering(final String description) {
+      this.description = description;
+    }
+  }
+}
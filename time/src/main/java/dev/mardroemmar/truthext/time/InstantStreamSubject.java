@@ -0,0 +1,198 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+import static dev.mardroemmar.truthext.time.InstantSequenceRules.rules;
+
+import com.google.common.truth.Fact;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for a lazily produced sequence of {@link Instant instants in time}, given as a
+ * {@link Stream} or {@link Iterator}.
+ *
+ * <p>Elements are pulled one at a time and never collected, so sequences larger than the heap can be checked. Checking stops at the first
+ * failing element, or for {@link #satisfies(InstantSequenceRules)}, once as many violations as are reported have been found; the rest of
+ * the sequence is never produced.</p>
+ *
+ * <p>The sequence can only be consumed once, so only a single assertion can be made per subject. A stream is closed once the assertion is
+ * done with it.</p>
+ *
+ * @see Subject
+ * @see InstantIterableSubject
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class InstantStreamSubject extends Subject {
+  /**
+   * Assert upon a stream of instants in time.
+   *
+   * @param actual the actual stream of instants in time
+   * @return a new assertion subject
+   */
+  public static InstantStreamSubject assertThat(final @Nullable Stream<? extends @Nullable Instant> actual) {
+    return assertAbout(instantStreams()).that(actual);
+  }
+
+  /**
+   * Assert upon an iterator of instants in time.
+   *
+   * @param actual the actual iterator of instants in time
+   * @return a new assertion subject
+   */
+  public static InstantStreamSubject assertThat(final @Nullable Iterator<? extends @Nullable Instant> actual) {
+    return assertAbout(instantIterators()).that(actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about {@link Stream streams} of {@link Instant instants in time}.
+   */
+  public static Subject.Factory<InstantStreamSubject, Stream<? extends @Nullable Instant>> instantStreams() {
+    return (metadata, actual) -> new InstantStreamSubject(metadata, actual, actual == null ? null : actual.iterator(), actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about {@link Iterator iterators} of {@link Instant instants in time}.
+   */
+  public static Subject.Factory<InstantStreamSubject, Iterator<? extends @Nullable Instant>> instantIterators() {
+    return (metadata, actual) -> new InstantStreamSubject(metadata, actual, actual, null);
+  }
+
+  private final @Nullable Iterator<? extends @Nullable Instant> actual;
+  private final @Nullable Stream<?> stream;
+  private boolean consumed;
+
+  private InstantStreamSubject(final FailureMetadata metadata, final @Nullable Object source,
+      final @Nullable Iterator<? extends @Nullable Instant> actual, final @Nullable Stream<?> stream) {
+    super(metadata, source);
+    this.actual = actual;
+    this.stream = stream;
+  }
+
+  /**
+   * Asserts that the {@code actual} satisfies every one of the {@code rules}, checked together as the elements are produced. Checking
+   * stops once as many violations as the {@code rules} {@link InstantSequenceRules#reportingAtMost(int) report} have been found.
+   *
+   * @param rules the rules to check
+   * @throws NullPointerException  if the {@code rules} is {@code null}
+   * @throws IllegalStateException if an assertion has already consumed the {@code actual}
+   * @throws AssertionError        if the actual is {@code null}
+   * @throws AssertionError        if an element is {@code null} or violates one of the {@code rules}
+   */
+  public void satisfies(final InstantSequenceRules rules) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantStreamSubject", "satisfies(InstantSequenceRules)");
+    try {
+      Objects.requireNonNull(rules, "rules must not be null");
+      final Iterator<? extends @Nullable Instant> iterator = this.consume();
+      final InstantSequenceChecker checker = new InstantSequenceChecker(rules);
+      try {
+        while (iterator.hasNext()) {
+          if (!checker.accept(iterator.next())) {
+            break;
+          }
+        }
+      } finally {
+        if (this.stream != null) {
+          this.stream.close();
+        }
+      }
+
+      final List<String> violations = checker.violations();
+      if (!violations.isEmpty()) {
+        final List<Fact> facts = InstantSequenceChecker.failureFacts(rules, violations);
+        this.failWithoutActual(facts.get(0), facts.subList(1, facts.size()).toArray(new Fact[0]));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that every element of the {@code actual} is after the element before it, stopping at the first element that is not.
+   *
+   * @throws IllegalStateException if an assertion has already consumed the {@code actual}
+   * @throws AssertionError        if the actual is {@code null}
+   * @throws AssertionError        if an element is {@code null}, or not after the element before it
+   * @see InstantSequenceRules#strictlyIncreasing()
+   */
+  public void isStrictlyIncreasing() {
+    this.satisfies(rules().strictlyIncreasing().reportingAtMost(1));
+  }
+
+  /**
+   * Asserts that no element of the {@code actual} is before the element before it, stopping at the first element that is.
+   *
+   * @throws IllegalStateException if an assertion has already consumed the {@code actual}
+   * @throws AssertionError        if the actual is {@code null}
+   * @throws AssertionError        if an element is {@code null}, or before the element before it
+   * @see InstantSequenceRules#nonDecreasing()
+   */
+  public void isNonDecreasing() {
+    this.satisfies(rules().nonDecreasing().reportingAtMost(1));
+  }
+
+  /**
+   * Asserts that every element of the {@code actual} is between the {@code lower} and {@code upper} instants in time, both inclusive,
+   * stopping at the first element that is not.
+   *
+   * @param lower the earliest allowed instant in time
+   * @param upper the latest allowed instant in time
+   * @throws NullPointerException     if the {@code lower} or {@code upper} is {@code null}
+   * @throws IllegalArgumentException if the {@code lower} is after the {@code upper}
+   * @throws IllegalStateException    if an assertion has already consumed the {@code actual}
+   * @throws AssertionError           if the actual is {@code null}
+   * @throws AssertionError           if an element is {@code null}, or before the {@code lower} or after the {@code upper}
+   * @see InstantSequenceRules#between(Instant, Instant)
+   */
+  public void allBetween(final Instant lower, final Instant upper) {
+    this.satisfies(rules().between(lower, upper).reportingAtMost(1));
+  }
+
+  /**
+   * Asserts that no element of the {@code actual} is more than {@code maxGap} after the element before it, stopping at the first element
+   * that is.
+   *
+   * @param maxGap the largest allowed gap between two consecutive elements
+   * @throws NullPointerException     if the {@code maxGap} is {@code null}
+   * @throws IllegalArgumentException if the {@code maxGap} is negative
+   * @throws IllegalStateException    if an assertion has already consumed the {@code actual}
+   * @throws AssertionError           if the actual is {@code null}
+   * @throws AssertionError           if an element is {@code null}, or further after the element before it than the {@code maxGap}
+   * @see InstantSequenceRules#maxGap(Duration)
+   */
+  public void maxGapAtMost(final Duration maxGap) {
+    this.satisfies(rules().maxGap(maxGap).reportingAtMost(1));
+  }
+
+  private Iterator<? extends @Nullable Instant> consume() {
+    final Iterator<? extends @Nullable Instant> iterator = this.nonNull();
+    if (this.consumed) {
+      throw new IllegalStateException("the actual has already been consumed by an assertion");
+    }
+    this.consumed = true;
+    return iterator;
+  }
+
+  private Iterator<? extends @Nullable Instant> nonNull() {
+    if (this.actual != null) {
+      return this.actual;
+    }
+
+    failWithActual(simpleFact("expected instants to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+}
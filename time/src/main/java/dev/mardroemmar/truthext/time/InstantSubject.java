@@ -10,6 +10,7 @@ import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.IntegerSubject;
 import com.google.common.truth.LongSubject;
 import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -17,6 +18,8 @@ import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -45,6 +48,40 @@ public class InstantSubject extends ComparableSubject<Instant> {
     return InstantSubject::new;
   }
 
+  /**
+   * Assert upon an instant in time written as an ISO-8601 date-time with an offset, such as {@code 2022-04-20T13:37:00.123Z}.
+   *
+   * <p>The common layout of a four digit year and an offset of {@code Z} or {@code +HH:MM[:SS]} is parsed by hand, without the
+   * allocations of a {@link java.time.format.DateTimeFormatter}. Any other layout is parsed by
+   * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}, so exactly what it accepts is accepted.</p>
+   *
+   * @param actual the actual instant, in ISO-8601
+   * @return a new assertion subject
+   * @throws AssertionError if the actual is not an ISO-8601 date-time with an offset
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public static InstantSubject assertThatIso(final @Nullable CharSequence actual) {
+    return assertAbout(isoInstants()).that(actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about {@link Instant instants in time} written in ISO-8601.
+   * @see #assertThatIso(CharSequence)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public static Subject.Factory<InstantSubject, CharSequence> isoInstants() {
+    return (metadata, actual) -> {
+      final Instant instant = actual == null ? null : IsoInstantParser.parseInstant(actual);
+      final InstantSubject subject = new InstantSubject(metadata, instant);
+      if (actual != null && instant == null) {
+        subject.failWithoutActual(simpleFact("expected an ISO-8601 date-time with an offset"), fact("but was", actual));
+      }
+      return subject;
+    };
+  }
+
   private final @Nullable Instant actual;
 
   private InstantSubject(final FailureMetadata metadata, final @Nullable Instant actual) {
@@ -59,8 +96,16 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError if the actual is not {@link Instant#MAX}
    */
   public void isMax() {
-    if (!this.nonNull().equals(Instant.MAX)) {
-      this.failWithActual(simpleFact("expected actual to be max"));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isMax()");
+    try {
+      if (!this.nonNull().equals(Instant.MAX)) {
+        this.failWithActual(simpleFact("expected actual to be max"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -71,8 +116,16 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError if the actual is {@link Instant#MAX}
    */
   public void isNotMax() {
-    if (this.nonNull().equals(Instant.MAX)) {
-      this.failWithActual(simpleFact("expected actual to not be max"));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isNotMax()");
+    try {
+      if (this.nonNull().equals(Instant.MAX)) {
+        this.failWithActual(simpleFact("expected actual to not be max"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -83,8 +136,16 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError if the actual is not {@link Instant#MIN}
    */
   public void isMin() {
-    if (!this.nonNull().equals(Instant.MIN)) {
-      this.failWithActual(simpleFact("expected actual to be min"));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isMin()");
+    try {
+      if (!this.nonNull().equals(Instant.MIN)) {
+        this.failWithActual(simpleFact("expected actual to be min"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -95,8 +156,16 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError if the actual is {@link Instant#MIN}
    */
   public void isNotMin() {
-    if (this.nonNull().equals(Instant.MIN)) {
-      this.failWithActual(simpleFact("expected actual to not be min"));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isNotMin()");
+    try {
+      if (this.nonNull().equals(Instant.MIN)) {
+        this.failWithActual(simpleFact("expected actual to not be min"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -109,8 +178,16 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError       if the actual is not before the {@code otherInstant}
    */
   public void isBefore(final Instant otherInstant) {
-    if (!this.nonNull().isBefore(otherInstant)) {
-      this.failWithActual(simpleFact("expected actual to be before otherInstant"), fact("otherInstant", otherInstant));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isBefore(Instant)");
+    try {
+      if (!this.nonNull().isBefore(otherInstant)) {
+        this.failWithActual(simpleFact("expected actual to be before otherInstant"), fact("otherInstant", otherInstant));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -123,8 +200,16 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError       if the actual is not before or equal to the {@code otherInstant}
    */
   public void isBeforeOrEqualTo(final Instant otherInstant) {
-    if (!this.nonNull().isBefore(otherInstant) && !this.nonNull().equals(otherInstant)) {
-      this.failWithActual(simpleFact("expected actual to be before or equal to otherInstant"), fact("otherInstant", otherInstant));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isBeforeOrEqualTo(Instant)");
+    try {
+      if (this.nonNull().compareTo(otherInstant) > 0) {
+        this.failWithActual(simpleFact("expected actual to be before or equal to otherInstant"), fact("otherInstant", otherInstant));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -137,8 +222,16 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError       if the actual is not after the {@code otherInstant}
    */
   public void isAfter(final Instant otherInstant) {
-    if (!this.nonNull().isAfter(otherInstant)) {
-      this.failWithActual(simpleFact("expected actual to be after otherInstant"), fact("otherInstant", otherInstant));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isAfter(Instant)");
+    try {
+      if (!this.nonNull().isAfter(otherInstant)) {
+        this.failWithActual(simpleFact("expected actual to be after otherInstant"), fact("otherInstant", otherInstant));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -151,8 +244,16 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError       if the actual is not after or equal to the {@code otherInstant}
    */
   public void isAfterOrEqualTo(final Instant otherInstant) {
-    if (!this.nonNull().isAfter(otherInstant) && !this.nonNull().equals(otherInstant)) {
-      this.failWithActual(simpleFact("expected actual to be after or equal to otherInstant"), fact("otherInstant", otherInstant));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isAfterOrEqualTo(Instant)");
+    try {
+      if (this.nonNull().compareTo(otherInstant) < 0) {
+        this.failWithActual(simpleFact("expected actual to be after or equal to otherInstant"), fact("otherInstant", otherInstant));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -165,9 +266,17 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError       if the actual does not support the {@code temporalUnit}
    */
   public void isSupported(final TemporalUnit temporalUnit) {
-    Objects.requireNonNull(temporalUnit, "temporalUnit must not be null");
-    if (!this.nonNull().isSupported(temporalUnit)) {
-      this.failWithActual(simpleFact("expected actual to support temporalUnit"), fact("temporalUnit", temporalUnit));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isSupported(TemporalUnit)");
+    try {
+      Objects.requireNonNull(temporalUnit, "temporalUnit must not be null");
+      if (!this.nonNull().isSupported(temporalUnit)) {
+        this.failWithActual(simpleFact("expected actual to support temporalUnit"), fact("temporalUnit", temporalUnit));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -180,9 +289,17 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError       if the actual does not support the {@code temporalField}
    */
   public void isSupported(final TemporalField temporalField) {
-    Objects.requireNonNull(temporalField, "temporalField must not be null");
-    if (!this.nonNull().isSupported(temporalField)) {
-      this.failWithActual(simpleFact("expected actual to support temporalField"), fact("temporalField", temporalField));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isSupported(TemporalField)");
+    try {
+      Objects.requireNonNull(temporalField, "temporalField must not be null");
+      if (!this.nonNull().isSupported(temporalField)) {
+        this.failWithActual(simpleFact("expected actual to support temporalField"), fact("temporalField", temporalField));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -195,9 +312,17 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError       if the actual supports the {@code temporalUnit}
    */
   public void isNotSupported(final TemporalUnit temporalUnit) {
-    Objects.requireNonNull(temporalUnit, "temporalUnit must not be null");
-    if (this.nonNull().isSupported(temporalUnit)) {
-      this.failWithActual(simpleFact("expected actual to not support temporalUnit"), fact("temporalUnit", temporalUnit));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isNotSupported(TemporalUnit)");
+    try {
+      Objects.requireNonNull(temporalUnit, "temporalUnit must not be null");
+      if (this.nonNull().isSupported(temporalUnit)) {
+        this.failWithActual(simpleFact("expected actual to not support temporalUnit"), fact("temporalUnit", temporalUnit));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -210,9 +335,17 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError       if the actual supports the {@code temporalField}
    */
   public void isNotSupported(final TemporalField temporalField) {
-    Objects.requireNonNull(temporalField, "temporalField must not be null");
-    if (this.nonNull().isSupported(temporalField)) {
-      this.failWithActual(simpleFact("expected actual to not support temporalField"), fact("temporalField", temporalField));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "isNotSupported(TemporalField)");
+    try {
+      Objects.requireNonNull(temporalField, "temporalField must not be null");
+      if (this.nonNull().isSupported(temporalField)) {
+        this.failWithActual(simpleFact("expected actual to not support temporalField"), fact("temporalField", temporalField));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -225,7 +358,15 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @see Instant#toEpochMilli()
    */
   public @NonNegative LongSubject epochMilli() {
-    return this.check("toEpochMillis()").that(this.nonNull().toEpochMilli());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "epochMilli()");
+    try {
+      return this.check("toEpochMillis()").that(this.nonNull().toEpochMilli());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -236,7 +377,15 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @see Instant#getEpochSecond()
    */
   public @NonNegative LongSubject epochSecond() {
-    return this.check("getEpochSecond()").that(this.nonNull().getEpochSecond());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "epochSecond()");
+    try {
+      return this.check("getEpochSecond()").that(this.nonNull().getEpochSecond());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -246,7 +395,15 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @throws AssertionError if the actual is {@code null}
    */
   public LongSubject epochDay() {
-    return this.check("TimeUnit.SECONDS.toDays(getEpochSecond())").that(TimeUnit.SECONDS.toDays(this.nonNull().getEpochSecond()));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "epochDay()");
+    try {
+      return this.check("TimeUnit.SECONDS.toDays(getEpochSecond())").that(TimeUnit.SECONDS.toDays(this.nonNull().getEpochSecond()));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -257,7 +414,15 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @see Instant#getNano()
    */
   public IntegerSubject nano() {
-    return this.check("getNano()").that(this.nonNull().getNano());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "nano()");
+    try {
+      return this.check("getNano()").that(this.nonNull().getNano());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -268,7 +433,15 @@ public class InstantSubject extends ComparableSubject<Instant> {
    * @see Instant#atZone(ZoneId)
    */
   public ZonedDateTimeSubject atZone(final ZoneId zoneId) {
-    return this.check("atZone(%s)", zoneId).about(zonedDateTimes()).that(this.nonNull().atZone(zoneId));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("InstantSubject", "atZone(ZoneId)");
+    try {
+      return this.check("atZone(%s)", zoneId).about(zonedDateTimes()).that(this.nonNull().atZone(zoneId));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -283,6 +456,22 @@ public class InstantSubject extends ComparableSubject<Instant> {
     return this.atZone(ZoneOffset.UTC);
   }
 
+  /**
+   * Computes the milliseconds from Epoch the same way as {@link Instant#toEpochMilli()}, but without requiring an {@link Instant}.
+   *
+   * @param epochSecond the seconds from Epoch
+   * @param nano        the nano of the second
+   * @return the milliseconds from Epoch
+   * @throws ArithmeticException if the result does not fit in a {@code long}
+   */
+  static long toEpochMilli(final long epochSecond, final int nano) {
+    if (epochSecond < 0 && nano > 0) {
+      // Instant#toEpochMilli floors towards negative infinity, so borrow a second to keep the nano adjustment negative.
+      return Math.addExact(Math.multiplyExact(epochSecond + 1, 1000L), nano / 1_000_000 - 1000);
+    }
+    return Math.addExact(Math.multiplyExact(epochSecond, 1000L), nano / 1_000_000);
+  }
+
   private Instant nonNull() {
     if (this.actual != null) {
       return this.actual;
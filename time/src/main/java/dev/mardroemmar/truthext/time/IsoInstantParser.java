@@ -0,0 +1,264 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Parses ISO-8601 date-times with an offset, such as {@code 2022-04-20T13:37:00.123Z} or {@code 2022-04-20T15:37:00+02:00}, into seconds
+ * from Epoch and nano of the second.
+ *
+ * <p>The common form of a four digit year, seconds with up to nine fraction digits and an offset of {@code Z} or {@code +HH:MM[:SS]} is
+ * parsed by hand without allocating. Anything else is handed to {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}, or
+ * {@link DateTimeFormatter#ISO_ZONED_DATE_TIME} for zoned date-times, so exactly what it accepts is accepted.</p>
+ *
+ * <p>Instances hold the result of the last successful parse and are not thread-safe.</p>
+ */
+final class IsoInstantParser {
+  private static final long DAYS_0000_TO_1970 = 719_528L;
+  private static final int[] NANO_SCALE = {
+      100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1,
+  };
+
+  private long epochSecond;
+  private int nano;
+  private int offsetSeconds;
+
+  /**
+   * Parse the whole of {@code text} as an instant in time.
+   *
+   * @param text the text to parse
+   * @return the instant in time, or {@code null} if the text is not an ISO-8601 date-time with an offset
+   */
+  static @Nullable Instant parseInstant(final CharSequence text) {
+    final IsoInstantParser parser = new IsoInstantParser();
+    return parser.parse(text, 0, text.length()) ? Instant.ofEpochSecond(parser.epochSecond, parser.nano) : null;
+  }
+
+  /**
+   * Parse the whole of {@code text} as a zoned date-time, with an optional zone region in square brackets after the offset, such as
+   * {@code 2022-04-20T15:37:00+02:00[Europe/Paris]}. As with {@link ZonedDateTime#parse(CharSequence)}, the instant in time given by the
+   * offset wins over the zone region.
+   *
+   * @param text the text to parse
+   * @return the zoned date-time, or {@code null} if the text is not an ISO-8601 zoned date-time
+   */
+  static @Nullable ZonedDateTime parseZonedDateTime(final CharSequence text) {
+    final IsoInstantParser parser = new IsoInstantParser();
+    final int length = text.length();
+    final int end = parser.parseFast(text, 0, length);
+    if (end < 0 || end != length && (text.charAt(end) != '[' || text.charAt(length - 1) != ']')) {
+      return parseZonedFallback(text);
+    }
+
+    final ZoneOffset offset = ZoneOffset.ofTotalSeconds(parser.offsetSeconds);
+    final ZoneId zone;
+    try {
+      zone = end == length ? offset : ZoneId.of(text.subSequence(end + 1, length - 1).toString());
+    } catch (final DateTimeException ex) {
+      return parseZonedFallback(text);
+    }
+    return ZonedDateTime.ofInstant(LocalDateTime.ofEpochSecond(parser.epochSecond, parser.nano, offset), offset, zone);
+  }
+
+  /**
+   * Parse the whole of {@code text} between {@code from} and {@code to}.
+   *
+   * @param text the text to parse
+   * @param from the index of the first character, inclusive
+   * @param to   the index of the last character, exclusive
+   * @return whether the text is an ISO-8601 date-time with an offset; only then do {@link #epochSecond()} and {@link #nano()} hold it
+   */
+  boolean parse(final CharSequence text, final int from, final int to) {
+    return this.parseFast(text, from, to) == to || this.parseFallback(text, from, to);
+  }
+
+  /**
+   * @return the seconds from Epoch of the last successfully parsed date-time
+   */
+  long epochSecond() {
+    return this.epochSecond;
+  }
+
+  /**
+   * @return the nano of the second of the last successfully parsed date-time
+   */
+  int nano() {
+    return this.nano;
+  }
+
+  /**
+   * Parse the common form of a date-time with an offset from the start of {@code text}, updating the fields if it is one.
+   *
+   * @return the index after the offset, or {@code -1} if the text does not start with the common form
+   */
+  private int parseFast(final CharSequence text, final int from, final int to) {
+    // yyyy-MM-ddTHH:mm is the shortest form handled here; the offset follows at the earliest.
+    if (to - from < 17
+        || text.charAt(from + 4) != '-' || text.charAt(from + 7) != '-' || text.charAt(from + 10) != 'T' || text.charAt(from + 13) != ':') {
+      return -1;
+    }
+    final int year = digits(text, from, 4);
+    final int month = digits(text, from + 5, 2);
+    final int day = digits(text, from + 8, 2);
+    final int hour = digits(text, from + 11, 2);
+    final int minute = digits(text, from + 14, 2);
+    if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month) || hour < 0 || hour > 23
+        || minute < 0 || minute > 59) {
+      return -1;
+    }
+
+    int i = from + 16;
+    int second = 0;
+    int nano = 0;
+    if (text.charAt(i) == ':') {
+      second = i + 3 <= to ? digits(text, i + 1, 2) : -1;
+      if (second < 0 || second > 59) {
+        return -1;
+      }
+      i += 3;
+      if (i < to && text.charAt(i) == '.') {
+        final int fractionStart = ++i;
+        while (i < to && i - fractionStart < 9 && isDigit(text.charAt(i))) {
+          nano = nano * 10 + text.charAt(i++) - '0';
+        }
+        if (i == fractionStart) {
+          return -1;
+        }
+        nano *= NANO_SCALE[i - fractionStart - 1];
+      }
+    }
+
+    final int offsetEnd = offsetEnd(text, i, to);
+    final int offsetSeconds = offsetEnd < 0 ? Integer.MIN_VALUE : offsetSeconds(text, i, offsetEnd);
+    if (offsetSeconds == Integer.MIN_VALUE) {
+      return -1;
+    }
+    this.epochSecond = (epochDay(year, month, day) * 86_400L) + hour * 3_600L + minute * 60L + second - offsetSeconds;
+    this.nano = nano;
+    this.offsetSeconds = offsetSeconds;
+    return offsetEnd;
+  }
+
+  private boolean parseFallback(final CharSequence text, final int from, final int to) {
+    final Instant instant;
+    try {
+      instant = DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text.subSequence(from, to), Instant::from);
+    } catch (final DateTimeException ex) {
+      return false;
+    }
+    this.epochSecond = instant.getEpochSecond();
+    this.nano = instant.getNano();
+    return true;
+  }
+
+  private static @Nullable ZonedDateTime parseZonedFallback(final CharSequence text) {
+    try {
+      return DateTimeFormatter.ISO_ZONED_DATE_TIME.parse(text, ZonedDateTime::from);
+    } catch (final DateTimeException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * @return the index after the offset starting at {@code from}, judged by its layout only, or {@code -1} if there is none
+   */
+  private static int offsetEnd(final CharSequence text, final int from, final int to) {
+    if (from >= to) {
+      return -1;
+    }
+    if (text.charAt(from) == 'Z') {
+      return from + 1;
+    }
+    if (to - from < 6) {
+      return -1;
+    }
+    return to - from >= 9 && text.charAt(from + 6) == ':' ? from + 9 : from + 6;
+  }
+
+  /**
+   * @return the offset in seconds given by the whole of {@code text} between {@code from} and {@code to}, or {@link Integer#MIN_VALUE} if
+   *     it is not one
+   */
+  private static int offsetSeconds(final CharSequence text, final int from, final int to) {
+    if (to - from == 1 && text.charAt(from) == 'Z') {
+      return 0;
+    }
+    if (to - from != 6 && to - from != 9) {
+      return Integer.MIN_VALUE;
+    }
+    final char sign = text.charAt(from);
+    if (sign != '+' && sign != '-' || text.charAt(from + 3) != ':' || to - from == 9 && text.charAt(from + 6) != ':') {
+      return Integer.MIN_VALUE;
+    }
+    final int hours = digits(text, from + 1, 2);
+    final int minutes = digits(text, from + 4, 2);
+    final int seconds = to - from == 9 ? digits(text, from + 7, 2) : 0;
+    if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59) {
+      return Integer.MIN_VALUE;
+    }
+    final int offset = hours * 3_600 + minutes * 60 + seconds;
+    if (offset > 18 * 3_600) {
+      return Integer.MIN_VALUE;
+    }
+    return sign == '+' ? offset : -offset;
+  }
+
+  /**
+   * @return the value of the {@code count} digits starting at {@code from}, or {@code -1} if any of them is not a digit
+   */
+  private static int digits(final CharSequence text, final int from, final int count) {
+    int value = 0;
+    for (int i = from; i < from + count; ++i) {
+      final char c = text.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      value = value * 10 + c - '0';
+    }
+    return value;
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isLeapYear(final int year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  private static int lengthOfMonth(final int year, final int month) {
+    switch (month) {
+      case 2:
+        return isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /**
+   * The same as {@link java.time.LocalDate#toEpochDay()}, for years from 0 to 9999.
+   */
+  private static long epochDay(final int year, final int month, final int day) {
+    long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+    total += (367 * month - 362) / 12;
+    total += day - 1;
+    if (month > 2) {
+      --total;
+      if (!isLeapYear(year)) {
+        --total;
+      }
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+}
@@ -0,0 +1,272 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+import static dev.mardroemmar.truthext.time.DurationSubject.durations;
+
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.LongSubject;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.time.Duration;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for a distribution of latencies recorded into a {@link LatencyHistogram}.
+ *
+ * <p>Percentiles are read from the histogram's buckets rather than by sorting the samples, so asserting upon millions of samples takes
+ * no more time or memory than asserting upon a few. A percentile is the highest value of its bucket, so it may be reported up to 1%
+ * above the sample itself, but never below it; the {@link #min()}, {@link #max()} and {@link #mean()} are exact.</p>
+ *
+ * @see Subject
+ * @see LatencyHistogram
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class LatencyDistributionSubject extends Subject {
+  /**
+   * Assert upon a distribution of latencies.
+   *
+   * @param actual the actual histogram of latencies
+   * @return a new assertion subject
+   */
+  public static LatencyDistributionSubject assertThat(final @Nullable LatencyHistogram actual) {
+    return assertAbout(latencyDistributions()).that(actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about {@link LatencyHistogram distributions of latencies}.
+   */
+  public static Subject.Factory<LatencyDistributionSubject, LatencyHistogram> latencyDistributions() {
+    return LatencyDistributionSubject::new;
+  }
+
+  private final @Nullable LatencyHistogram actual;
+
+  private LatencyDistributionSubject(final FailureMetadata metadata, final @Nullable LatencyHistogram actual) {
+    super(metadata, actual);
+    this.actual = actual;
+  }
+
+  /**
+   * Asserts upon the latency at the {@code percentile}: the lowest latency that at least that share of the samples is at or below.
+   *
+   * @param percentile the percentile, from {@code 0} to {@code 100}
+   * @return a subject for the latency at the {@code percentile}
+   * @throws IllegalArgumentException if the {@code percentile} is not from {@code 0} to {@code 100}
+   * @throws AssertionError           if the actual is {@code null}
+   * @throws AssertionError           if the actual holds no samples
+   */
+  public DurationSubject percentile(final double percentile) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LatencyDistributionSubject", "percentile(double)");
+    try {
+      if (!(percentile >= 0.0 && percentile <= 100.0)) {
+        throw new IllegalArgumentException("percentile must be from 0 to 100");
+      }
+      return this.check("percentile(%s)", percentile).about(durations()).that(Duration.ofNanos(this.nonEmpty().valueAt(percentile)));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the median latency. The same as {@code percentile(50)}.
+   *
+   * @return a subject for the median latency
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if the actual holds no samples
+   */
+  public DurationSubject p50() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LatencyDistributionSubject", "p50()");
+    try {
+      return this.check("p50()").about(durations()).that(Duration.ofNanos(this.nonEmpty().valueAt(50.0)));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the latency at the 90th percentile. The same as {@code percentile(90)}.
+   *
+   * @return a subject for the latency at the 90th percentile
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if the actual holds no samples
+   */
+  public DurationSubject p90() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LatencyDistributionSubject", "p90()");
+    try {
+      return this.check("p90()").about(durations()).that(Duration.ofNanos(this.nonEmpty().valueAt(90.0)));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the latency at the 99th percentile. The same as {@code percentile(99)}.
+   *
+   * @return a subject for the latency at the 99th percentile
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if the actual holds no samples
+   */
+  public DurationSubject p99() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LatencyDistributionSubject", "p99()");
+    try {
+      return this.check("p99()").about(durations()).that(Duration.ofNanos(this.nonEmpty().valueAt(99.0)));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the latency at the 99.9th percentile. The same as {@code percentile(99.9)}.
+   *
+   * @return a subject for the latency at the 99.9th percentile
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if the actual holds no samples
+   */
+  public DurationSubject p999() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LatencyDistributionSubject", "p999()");
+    try {
+      return this.check("p999()").about(durations()).that(Duration.ofNanos(this.nonEmpty().valueAt(99.9)));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the lowest latency recorded.
+   *
+   * @return a subject for the lowest latency
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if the actual holds no samples
+   */
+  public DurationSubject min() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LatencyDistributionSubject", "min()");
+    try {
+      return this.check("min()").about(durations()).that(Duration.ofNanos(this.nonEmpty().min()));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the highest latency recorded.
+   *
+   * @return a subject for the highest latency
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if the actual holds no samples
+   */
+  public DurationSubject max() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LatencyDistributionSubject", "max()");
+    try {
+      return this.check("max()").about(durations()).that(Duration.ofNanos(this.nonEmpty().max()));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the mean latency, rounded down to the nanosecond.
+   *
+   * @return a subject for the mean latency
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if the actual holds no samples
+   */
+  public DurationSubject mean() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LatencyDistributionSubject", "mean()");
+    try {
+      return this.check("mean()").about(durations()).that(Duration.ofNanos(this.nonEmpty().mean()));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the number of samples recorded.
+   *
+   * @return a subject for the number of samples
+   * @throws AssertionError if the actual is {@code null}
+   */
+  public LongSubject count() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LatencyDistributionSubject", "count()");
+    try {
+      return this.check("count()").that(this.nonNull().count());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the distribution {@link LatencyHistogram#correctedForCoordinatedOmission(Duration) corrected for coordinated omission},
+   * for latencies measured by a load generator that waits for each response before sending the next request at the
+   * {@code expectedInterval}.
+   *
+   * @param expectedInterval the interval requests are meant to be sent at
+   * @return a subject for the corrected distribution
+   * @throws NullPointerException     if the {@code expectedInterval} is {@code null}
+   * @throws IllegalArgumentException if the {@code expectedInterval} is not positive
+   * @throws AssertionError           if the actual is {@code null}
+   */
+  public LatencyDistributionSubject correctedForCoordinatedOmission(final Duration expectedInterval) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LatencyDistributionSubject", "correctedForCoordinatedOmission(Duration)");
+    try {
+      Objects.requireNonNull(expectedInterval, "expectedInterval must not be null");
+      return this.check("correctedForCoordinatedOmission(%s)", expectedInterval)
+          .about(latencyDistributions())
+          .that(this.nonNull().correctedForCoordinatedOmission(expectedInterval));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  private LatencyHistogram nonEmpty() {
+    final LatencyHistogram actual = this.nonNull();
+    if (actual.count() == 0) {
+      failWithActual(simpleFact("expected at least one sample"));
+      throw new AssertionError("unreachable");
+    }
+    return actual;
+  }
+
+  private LatencyHistogram nonNull() {
+    if (this.actual != null) {
+      return this.actual;
+    }
+
+    failWithActual(simpleFact("expected latency histogram to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+}
@@ -0,0 +1,280 @@
+package dev.mardroemmar.truthext.time;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A fixed-size, log-linear histogram of latencies in nanoseconds, to assert upon with a {@link LatencyDistributionSubject}.
+ *
+ * <p>Every power of two is split into {@value #SUB_BUCKETS_PER_POWER} equally wide buckets, with values below
+ * {@value #LINEAR_BUCKETS} each getting a bucket of their own. Recording a sample is a single increment of a {@code long[]} of fixed
+ * size, whatever the number or range of samples, and percentiles are reported as the highest value of their bucket, which is less than
+ * 1% above the sample itself. The count, minimum, maximum and mean are exact.</p>
+ *
+ * <p>Instances are not thread-safe; record into one per thread and {@link #add(LatencyHistogram) add} them together afterwards.</p>
+ *
+ * @see LatencyDistributionSubject
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class LatencyHistogram {
+  /**
+   * The number of values from {@code 0} that each get a bucket of their own.
+   */
+  static final int LINEAR_BUCKETS = 256;
+  /**
+   * The number of buckets each higher power of two is split into.
+   */
+  static final int SUB_BUCKETS_PER_POWER = LINEAR_BUCKETS / 2;
+  private static final int LINEAR_BITS = Integer.numberOfTrailingZeros(LINEAR_BUCKETS);
+  private static final int BUCKETS = index(Long.MAX_VALUE) + 1;
+
+  private final long[] counts;
+  private long count;
+  private long min = Long.MAX_VALUE;
+  private long max = Long.MIN_VALUE;
+  // The sum of all samples as an unsigned 128-bit integer, which cannot overflow for any number of samples a long can count.
+  private long sumHigh;
+  private long sumLow;
+
+  /**
+   * Create an empty histogram.
+   */
+  public LatencyHistogram() {
+    this.counts = new long[BUCKETS];
+  }
+
+  private LatencyHistogram(final LatencyHistogram other) {
+    this.counts = other.counts.clone();
+    this.count = other.count;
+    this.min = other.min;
+    this.max = other.max;
+    this.sumHigh = other.sumHigh;
+    this.sumLow = other.sumLow;
+  }
+
+  /**
+   * Create a histogram of the given samples.
+   *
+   * @param nanos the samples in nanoseconds
+   * @return a new histogram
+   * @throws NullPointerException     if the {@code nanos} is {@code null}
+   * @throws IllegalArgumentException if a sample is negative
+   */
+  public static LatencyHistogram of(final long... nanos) {
+    Objects.requireNonNull(nanos, "nanos must not be null");
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (final long sample : nanos) {
+      histogram.record(sample);
+    }
+    return histogram;
+  }
+
+  /**
+   * Record a sample.
+   *
+   * @param nanos the sample in nanoseconds
+   * @throws IllegalArgumentException if the {@code nanos} is negative
+   */
+  public void record(final long nanos) {
+    if (nanos < 0) {
+      throw new IllegalArgumentException("nanos must not be negative");
+    }
+    ++this.counts[index(nanos)];
+    ++this.count;
+    if (nanos < this.min) {
+      this.min = nanos;
+    }
+    if (nanos > this.max) {
+      this.max = nanos;
+    }
+    this.addToSum(0, nanos);
+  }
+
+  /**
+   * Record the time elapsed between two {@link System#nanoTime()} readings as a sample. The readings are subtracted rather than compared,
+   * as {@link System#nanoTime()} may wrap around.
+   *
+   * @param startNanos the reading at the start
+   * @param endNanos   the reading at the end
+   * @throws IllegalArgumentException if the {@code endNanos} is before the {@code startNanos}
+   */
+  public void recordElapsed(final long startNanos, final long endNanos) {
+    this.record(endNanos - startNanos);
+  }
+
+  /**
+   * Add all samples of the {@code other} histogram to this one.
+   *
+   * @param other the histogram to add
+   * @throws NullPointerException if the {@code other} is {@code null}
+   */
+  public void add(final LatencyHistogram other) {
+    Objects.requireNonNull(other, "other must not be null");
+    for (int i = 0; i < BUCKETS; ++i) {
+      this.counts[i] += other.counts[i];
+    }
+    this.count += other.count;
+    this.min = Math.min(this.min, other.min);
+    this.max = Math.max(this.max, other.max);
+    this.addToSum(other.sumHigh, other.sumLow);
+  }
+
+  /**
+   * @return the number of samples recorded
+   */
+  public long count() {
+    return this.count;
+  }
+
+  /**
+   * Create a copy of this histogram corrected for coordinated omission, as if every sample that took longer than the
+   * {@code expectedInterval} held up the samples that should have been taken in the meantime.
+   *
+   * <p>A sample of {@code n} times the {@code expectedInterval} adds samples of {@code n - 1}, {@code n - 2}, down to {@code 1} times the
+   * {@code expectedInterval}, which is what a load generator that does not wait for responses would have seen.</p>
+   *
+   * @param expectedInterval the interval samples are meant to be taken at
+   * @return a new, corrected histogram
+   * @throws NullPointerException     if the {@code expectedInterval} is {@code null}
+   * @throws IllegalArgumentException if the {@code expectedInterval} is not positive
+   * @throws ArithmeticException      if the corrected count does not fit a {@code long}
+   */
+  public LatencyHistogram correctedForCoordinatedOmission(final Duration expectedInterval) {
+    Objects.requireNonNull(expectedInterval, "expectedInterval must not be null");
+    if (expectedInterval.isNegative() || expectedInterval.isZero()) {
+      throw new IllegalArgumentException("expectedInterval must be positive");
+    }
+    final long interval = saturatedNanos(expectedInterval);
+    final LatencyHistogram corrected = new LatencyHistogram(this);
+    if (this.count == 0) {
+      return corrected;
+    }
+
+    for (int source = index(interval << 1 < 0 ? Long.MAX_VALUE : interval << 1); source < BUCKETS; ++source) {
+      final long sourceCount = this.counts[source];
+      if (sourceCount == 0) {
+        continue;
+      }
+      final long value = Math.min(highestValue(source), this.max);
+      // The added samples are value - k * interval for k from 1 to added, all at least the interval.
+      final long added = value / interval - 1;
+      if (added <= 0) {
+        continue;
+      }
+      for (int target = index(interval), last = index(value - interval); target <= last; ++target) {
+        final long low = Math.max(lowestValue(target), interval);
+        final long high = Math.min(highestValue(target), value - interval);
+        if (low > high) {
+          continue;
+        }
+        final long kMin = (value - high + interval - 1) / interval;
+        final long kMax = (value - low) / interval;
+        if (kMin <= kMax) {
+          corrected.counts[target] = Math.addExact(corrected.counts[target], Math.multiplyExact(sourceCount, kMax - kMin + 1));
+        }
+      }
+      corrected.count = Math.addExact(corrected.count, Math.multiplyExact(sourceCount, added));
+      corrected.min = Math.min(corrected.min, value - added * interval);
+      // The added samples sum to sourceCount * (added * value - interval * added * (added + 1) / 2).
+      final BigInteger bigAdded = BigInteger.valueOf(added);
+      final BigInteger sum = bigAdded.multiply(BigInteger.valueOf(value))
+          .subtract(BigInteger.valueOf(interval).multiply(bigAdded).multiply(bigAdded.add(BigInteger.ONE)).shiftRight(1))
+          .multiply(BigInteger.valueOf(sourceCount));
+      corrected.addToSum(sum.shiftRight(Long.SIZE).longValue(), sum.longValue());
+    }
+    return corrected;
+  }
+
+  long min() {
+    return this.min;
+  }
+
+  long max() {
+    return this.max;
+  }
+
+  /**
+   * @return the mean of all samples, rounded down, which requires at least one sample
+   */
+  long mean() {
+    if (this.sumHigh == 0) {
+      return Long.divideUnsigned(this.sumLow, this.count);
+    }
+    return new BigInteger(Long.toUnsignedString(this.sumHigh)).shiftLeft(Long.SIZE).add(new BigInteger(Long.toUnsignedString(this.sumLow)))
+        .divide(BigInteger.valueOf(this.count))
+        .longValue();
+  }
+
+  /**
+   * @param percentile the percentile, from {@code 0} to {@code 100}
+   * @return the highest value of the bucket holding the sample at the {@code percentile}, but at most the maximum; this requires at least
+   *     one sample
+   */
+  long valueAt(final double percentile) {
+    final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * this.count));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; ++i) {
+      seen += this.counts[i];
+      if (seen >= rank) {
+        return Math.min(highestValue(i), this.max);
+      }
+    }
+    return this.max;
+  }
+
+  private void addToSum(final long high, final long low) {
+    final long sum = this.sumLow + low;
+    final long carry = Long.compareUnsigned(sum, this.sumLow) < 0 ? 1 : 0;
+    this.sumLow = sum;
+    this.sumHigh += high + carry;
+  }
+
+  static int index(final long value) {
+    if (value < LINEAR_BUCKETS) {
+      return (int) value;
+    }
+    final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - LINEAR_BITS;
+    return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS_PER_POWER + (int) (value >>> shift) - SUB_BUCKETS_PER_POWER;
+  }
+
+  static long lowestValue(final int index) {
+    if (index < LINEAR_BUCKETS) {
+      return index;
+    }
+    final int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS_PER_POWER + 1;
+    final long top = SUB_BUCKETS_PER_POWER + (index - LINEAR_BUCKETS) % SUB_BUCKETS_PER_POWER;
+    return top << shift;
+  }
+
+  static long highestValue(final int index) {
+    if (index < LINEAR_BUCKETS) {
+      return index;
+    }
+    final int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS_PER_POWER + 1;
+    return lowestValue(index) + (1L << shift) - 1;
+  }
+
+  private static long saturatedNanos(final Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (final ArithmeticException ex) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  @Override
+  public String toString() {
+    if (this.count == 0) {
+      return "LatencyHistogram{count=0}";
+    }
+    return "LatencyHistogram{count=" + this.count
+        + ", min=" + Duration.ofNanos(this.min)
+        + ", mean=" + Duration.ofNanos(this.mean())
+        + ", max=" + Duration.ofNanos(this.max)
+        + "}";
+  }
+}
@@ -0,0 +1,183 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+
+import com.google.common.truth.Fact;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.IterableSubject;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for an {@link Iterable} of {@link LocalDateTime local date-times}.
+ *
+ * <p>On top of everything an {@link IterableSubject} can do, this checks whether the local date-times exist in a time-zone in a single
+ * pass. Sorted local date-times are merged against the sorted offset transitions of the zone, so each element costs a comparison or two
+ * rather than a lookup in the zone's rules; unsorted ones are checked just as correctly, but pay for a binary search whenever an element
+ * is before the one before it. Failures report the first {@value InstantSequenceRules#DEFAULT_REPORTED_VIOLATIONS} violations only.</p>
+ *
+ * @see IterableSubject
+ * @see LocalDateTimeSubject#isInGap(ZoneId)
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class LocalDateTimeIterableSubject extends IterableSubject {
+  private static final int GAP = 0;
+  private static final int OVERLAP = 2;
+
+  /**
+   * Assert upon local date-times.
+   *
+   * @param actual the actual local date-times
+   * @return a new assertion subject
+   */
+  public static LocalDateTimeIterableSubject assertThat(final @Nullable Iterable<? extends @Nullable LocalDateTime> actual) {
+    return assertAbout(localDateTimeIterables()).that(actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about {@link Iterable iterables} of {@link LocalDateTime local date-times}.
+   */
+  public static Subject.Factory<LocalDateTimeIterableSubject, Iterable<? extends @Nullable LocalDateTime>> localDateTimeIterables() {
+    return LocalDateTimeIterableSubject::new;
+  }
+
+  private final @Nullable Iterable<? extends @Nullable LocalDateTime> actual;
+
+  private LocalDateTimeIterableSubject(final FailureMetadata metadata, final @Nullable Iterable<? extends @Nullable LocalDateTime> actual) {
+    super(metadata, actual);
+    this.actual = actual;
+  }
+
+  /**
+   * Asserts that no element of the {@code actual} is in a gap of the {@code timeZone}, where the clocks were set forward, so that every
+   * element happened there. Elements in an overlap are fine.
+   *
+   * @param timeZone the time-zone to use
+   * @throws NullPointerException if the {@code timeZone} is {@code null}
+   * @throws AssertionError       if the actual is {@code null}
+   * @throws AssertionError       if an element is {@code null} or in a gap
+   * @see LocalDateTimeSubject#isNotInGap(ZoneId)
+   */
+  public void allValidIn(final ZoneId timeZone) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeIterableSubject", "allValidIn(ZoneId)");
+    try {
+      Objects.requireNonNull(timeZone, "timeZone must not be null");
+      this.checkExistIn(timeZone, false);
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that no element of the {@code actual} is in a gap or an overlap of the {@code timeZone}, so that every element happened there
+   * exactly once.
+   *
+   * @param timeZone the time-zone to use
+   * @throws NullPointerException if the {@code timeZone} is {@code null}
+   * @throws AssertionError       if the actual is {@code null}
+   * @throws AssertionError       if an element is {@code null}, or in a gap or an overlap
+   * @see LocalDateTimeSubject#isNotInGap(ZoneId)
+   * @see LocalDateTimeSubject#isNotInOverlap(ZoneId)
+   */
+  public void allUnambiguousIn(final ZoneId timeZone) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeIterableSubject", "allUnambiguousIn(ZoneId)");
+    try {
+      Objects.requireNonNull(timeZone, "timeZone must not be null");
+      this.checkExistIn(timeZone, true);
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  private void checkExistIn(final ZoneId timeZone, final boolean flagOverlaps) {
+    final ZoneTransitions transitions = ZoneTransitions.of(timeZone);
+    final int size = transitions.size();
+    final List<String> violations = new ArrayList<>();
+    // The first transition whose gap or overlap ends after the previous element.
+    int next = 0;
+    long previous = Long.MIN_VALUE;
+    long index = 0;
+    for (final LocalDateTime element : this.nonNull()) {
+      if (element == null) {
+        violations.add("element " + index++ + ": is null");
+        if (violations.size() >= InstantSequenceRules.DEFAULT_REPORTED_VIOLATIONS) {
+          break;
+        }
+        continue;
+      }
+
+      final long local = element.toEpochSecond(ZoneOffset.UTC);
+      final int validOffsets;
+      if (local >= ZoneTransitions.LOCAL_CUTOFF_EPOCH_SECOND) {
+        validOffsets = transitions.validOffsetCount(local);
+      } else {
+        if (local < previous) {
+          next = transitions.firstEndingAfterLocal(local);
+        } else {
+          while (next < size && transitions.localEnd(next) <= local) {
+            ++next;
+          }
+        }
+        previous = local;
+        if (next < size && transitions.localStart(next) <= local) {
+          validOffsets = transitions.isGap(next) ? GAP : OVERLAP;
+        } else {
+          validOffsets = 1;
+        }
+      }
+
+      if (validOffsets == GAP || validOffsets == OVERLAP && flagOverlaps) {
+        violations.add("element " + index + ": " + element + " is in " + (validOffsets == GAP ? "a gap" : "an overlap") + " ("
+            + timeZone.getRules().getTransition(element) + ")");
+        if (violations.size() >= InstantSequenceRules.DEFAULT_REPORTED_VIOLATIONS) {
+          break;
+        }
+      }
+      ++index;
+    }
+
+    if (violations.isEmpty()) {
+      return;
+    }
+    // The actual is left out on purpose: it is typically far too large to print.
+    final List<Fact> facts = new ArrayList<>(violations.size() + 2);
+    facts.add(simpleFact(flagOverlaps
+        ? "expected every element to happen exactly once in the time-zone"
+        : "expected every element to happen in the time-zone"));
+    facts.add(fact("time-zone", timeZone));
+    for (final String violation : violations) {
+      facts.add(fact("violation", violation));
+    }
+    if (violations.size() >= InstantSequenceRules.DEFAULT_REPORTED_VIOLATIONS) {
+      facts.add(simpleFact("stopped checking after " + violations.size() + " violations"));
+    }
+    this.failWithoutActual(facts.get(0), facts.subList(1, facts.size()).toArray(new Fact[0]));
+  }
+
+  private Iterable<? extends @Nullable LocalDateTime> nonNull() {
+    if (this.actual != null) {
+      return this.actual;
+    }
+
+    failWithActual(simpleFact("expected local date-times to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+}
@@ -13,6 +13,7 @@ import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.IntegerSubject;
 import com.google.common.truth.LongSubject;
 import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -20,6 +21,9 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.chrono.ChronoLocalDateTime;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.value.qual.IntRange;
@@ -67,9 +71,17 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @throws NullPointerException if the {@code other} is null
    */
   public void isSameLocalTimeAs(final ChronoLocalDateTime<?> other) {
-    Objects.requireNonNull(other, "other must not be null");
-    if (!this.nonNull().isEqual(other)) {
-      this.failWithActual(simpleFact("expected actual to have same local time as other"), fact("other", other));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "isSameLocalTimeAs(ChronoLocalDateTime)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (!this.nonNull().isEqual(other)) {
+        this.failWithActual(simpleFact("expected actual to have same local time as other"), fact("other", other));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -84,9 +96,17 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @throws NullPointerException if the {@code other} is null
    */
   public void isNotSameLocalTimeAs(final ChronoLocalDateTime<?> other) {
-    Objects.requireNonNull(other, "other must not be null");
-    if (this.nonNull().isEqual(other)) {
-      this.failWithActual(simpleFact("expected actual to not have same local time as other"), fact("other", other));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "isNotSameLocalTimeAs(ChronoLocalDateTime)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (this.nonNull().isEqual(other)) {
+        this.failWithActual(simpleFact("expected actual to not have same local time as other"), fact("other", other));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -103,9 +123,17 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @throws NullPointerException if the {@code other} is null
    */
   public void isComparativelyEqualTo(final ChronoLocalDateTime<?> other) {
-    Objects.requireNonNull(other, "other must not be null");
-    if (this.nonNull().compareTo(other) != 0) {
-      this.failWithActual(simpleFact("expected actual to be comparatively equal local time as other"), fact("other", other));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "isComparativelyEqualTo(ChronoLocalDateTime)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (this.nonNull().compareTo(other) != 0) {
+        this.failWithActual(simpleFact("expected actual to be comparatively equal local time as other"), fact("other", other));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -121,9 +149,17 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @throws NullPointerException if the {@code other} is null
    */
   public void isComparativelyNotEqualTo(final ChronoLocalDateTime<?> other) {
-    Objects.requireNonNull(other, "other must not be null");
-    if (this.nonNull().compareTo(other) == 0) {
-      this.failWithActual(simpleFact("expected actual to not be comparatively equal local time as other"), fact("other", other));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "isComparativelyNotEqualTo(ChronoLocalDateTime)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (this.nonNull().compareTo(other) == 0) {
+        this.failWithActual(simpleFact("expected actual to not be comparatively equal local time as other"), fact("other", other));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -136,7 +172,15 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see LocalDateTime#toInstant(ZoneOffset)
    */
   public InstantSubject instant(final ZoneOffset timeZone) {
-    return this.check("toInstant(%s)", timeZone).about(instants()).that(this.nonNull().toInstant(timeZone));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "instant(ZoneOffset)");
+    try {
+      return this.check("toInstant(%s)", timeZone).about(instants()).that(this.nonNull().toInstant(timeZone));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -148,7 +192,121 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see LocalDateTime#atZone(ZoneId)
    */
   public ZonedDateTimeSubject zoned(final ZoneId timeZone) {
-    return this.check("atZone(%s)", timeZone).about(zonedDateTimes()).that(this.nonNull().atZone(timeZone));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "zoned(ZoneId)");
+    try {
+      return this.check("atZone(%s)", timeZone).about(zonedDateTimes()).that(this.nonNull().atZone(timeZone));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the {@code actual} is in a gap of the {@code timeZone}, where the clocks were set forward, so that it never happened
+   * there.
+   *
+   * @param timeZone the time-zone to use
+   * @throws NullPointerException if the {@code timeZone} is null
+   * @throws AssertionError       if the {@code actual} is null
+   * @throws AssertionError       if the {@code actual} is not in a gap
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public void isInGap(final ZoneId timeZone) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "isInGap(ZoneId)");
+    try {
+      Objects.requireNonNull(timeZone, "timeZone must not be null");
+      if (ZoneTransitions.of(timeZone).validOffsetCount(this.nonNull().toEpochSecond(ZoneOffset.UTC)) != 0) {
+        this.failWithActual(simpleFact("expected to be in a gap"), fact("time-zone", timeZone));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the {@code actual} is not in a gap of the {@code timeZone}, so that it happened there.
+   *
+   * @param timeZone the time-zone to use
+   * @throws NullPointerException if the {@code timeZone} is null
+   * @throws AssertionError       if the {@code actual} is null
+   * @throws AssertionError       if the {@code actual} is in a gap
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public void isNotInGap(final ZoneId timeZone) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "isNotInGap(ZoneId)");
+    try {
+      Objects.requireNonNull(timeZone, "timeZone must not be null");
+      final LocalDateTime actual = this.nonNull();
+      if (ZoneTransitions.of(timeZone).validOffsetCount(actual.toEpochSecond(ZoneOffset.UTC)) == 0) {
+        this.failWithActual(simpleFact("expected not to be in a gap"), fact("time-zone", timeZone),
+            fact("gap", timeZone.getRules().getTransition(actual)));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the {@code actual} is in an overlap of the {@code timeZone}, where the clocks were set back, so that it happened twice
+   * there.
+   *
+   * @param timeZone the time-zone to use
+   * @throws NullPointerException if the {@code timeZone} is null
+   * @throws AssertionError       if the {@code actual} is null
+   * @throws AssertionError       if the {@code actual} is not in an overlap
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public void isInOverlap(final ZoneId timeZone) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "isInOverlap(ZoneId)");
+    try {
+      Objects.requireNonNull(timeZone, "timeZone must not be null");
+      if (ZoneTransitions.of(timeZone).validOffsetCount(this.nonNull().toEpochSecond(ZoneOffset.UTC)) != 2) {
+        this.failWithActual(simpleFact("expected to be in an overlap"), fact("time-zone", timeZone));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the {@code actual} is not in an overlap of the {@code timeZone}, so that it happened at most once there.
+   *
+   * @param timeZone the time-zone to use
+   * @throws NullPointerException if the {@code timeZone} is null
+   * @throws AssertionError       if the {@code actual} is null
+   * @throws AssertionError       if the {@code actual} is in an overlap
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public void isNotInOverlap(final ZoneId timeZone) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "isNotInOverlap(ZoneId)");
+    try {
+      Objects.requireNonNull(timeZone, "timeZone must not be null");
+      final LocalDateTime actual = this.nonNull();
+      if (ZoneTransitions.of(timeZone).validOffsetCount(actual.toEpochSecond(ZoneOffset.UTC)) == 2) {
+        this.failWithActual(simpleFact("expected not to be in an overlap"), fact("time-zone", timeZone),
+            fact("overlap", timeZone.getRules().getTransition(actual)));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -159,7 +317,15 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see LocalDateTime#getDayOfYear()
    */
   public @IntRange(from = 1, to = 366) IntegerSubject dayOfYear() {
-    return this.check("getDayOfYear()").that(this.nonNull().getDayOfYear());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "dayOfYear()");
+    try {
+      return this.check("getDayOfYear()").that(this.nonNull().getDayOfYear());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -170,7 +336,15 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see LocalDateTime#getDayOfMonth()
    */
   public IntegerSubject dayOfMonth() {
-    return this.check("getDayOfMonth()").that(this.nonNull().getDayOfMonth());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "dayOfMonth()");
+    try {
+      return this.check("getDayOfMonth()").that(this.nonNull().getDayOfMonth());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -181,7 +355,15 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see LocalDateTime#getHour()
    */
   public @IntRange(from = 0, to = 23) IntegerSubject hour() {
-    return this.check("getHour()").that(this.nonNull().getHour());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "hour()");
+    try {
+      return this.check("getHour()").that(this.nonNull().getHour());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -192,7 +374,15 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see LocalDateTime#getMinute()
    */
   public @IntRange(from = 0, to = 59) IntegerSubject minute() {
-    return this.check("getMinute()").that(this.nonNull().getMinute());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "minute()");
+    try {
+      return this.check("getMinute()").that(this.nonNull().getMinute());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -203,7 +393,15 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see LocalDateTime#getSecond()
    */
   public @IntRange(from = 0, to = 59) IntegerSubject second() {
-    return this.check("getSecond()").that(this.nonNull().getSecond());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "second()");
+    try {
+      return this.check("getSecond()").that(this.nonNull().getSecond());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -214,7 +412,15 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see LocalDateTime#getNano()
    */
   public @IntRange(from = 0, to = 999_999_999) IntegerSubject nano() {
-    return this.check("getNano()").that(this.nonNull().getNano());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "nano()");
+    try {
+      return this.check("getNano()").that(this.nonNull().getNano());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -227,9 +433,19 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see InstantSubject#epochMilli()
    */
   public @NonNegative LongSubject epochMilli() {
-    // If this is the UTC timestamp, no modifications of the time will have to be made. I.e. it should represent this exact local time,
-    // but with the correct time from Epoch.
-    return this.instant(ZoneOffset.UTC).epochMilli();
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "epochMilli()");
+    try {
+      // If this is the UTC timestamp, no modifications of the time will have to be made. I.e. it should represent this exact local time,
+      // but with the correct time from Epoch.
+      final LocalDateTime actual = this.nonNull();
+      return this.check("toInstant(%s).toEpochMillis()", ZoneOffset.UTC)
+          .that(InstantSubject.toEpochMilli(actual.toEpochSecond(ZoneOffset.UTC), actual.getNano()));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -241,9 +457,17 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see InstantSubject#epochSecond()
    */
   public @NonNegative LongSubject epochSecond() {
-    // If this is the UTC timestamp, no modifications of the time will have to be made. I.e. it should represent this exact local time,
-    // but with the correct time from Epoch.
-    return this.instant(ZoneOffset.UTC).epochSecond();
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "epochSecond()");
+    try {
+      // If this is the UTC timestamp, no modifications of the time will have to be made. I.e. it should represent this exact local time,
+      // but with the correct time from Epoch.
+      return this.check("toInstant(%s).getEpochSecond()", ZoneOffset.UTC).that(this.nonNull().toEpochSecond(ZoneOffset.UTC));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -254,9 +478,18 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see InstantSubject#epochDay()
    */
   public @NonNegative LongSubject epochDay() {
-    // If this is the UTC timestamp, no modifications of the time will have to be made. I.e. it should represent this exact local time,
-    // but with the correct time from Epoch.
-    return this.instant(ZoneOffset.UTC).epochDay();
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "epochDay()");
+    try {
+      // If this is the UTC timestamp, no modifications of the time will have to be made. I.e. it should represent this exact local time,
+      // but with the correct time from Epoch.
+      return this.check("toInstant(%s).TimeUnit.SECONDS.toDays(getEpochSecond())", ZoneOffset.UTC)
+          .that(TimeUnit.SECONDS.toDays(this.nonNull().toEpochSecond(ZoneOffset.UTC)));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -267,7 +500,15 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see LocalDateTime#getMonthValue()
    */
   public @IntRange(from = 1, to = 12) IntegerSubject monthValue() {
-    return this.check("getMonthValue()").that(this.nonNull().getMonthValue());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "monthValue()");
+    try {
+      return this.check("getMonthValue()").that(this.nonNull().getMonthValue());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -278,7 +519,15 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see LocalDateTime#getMonth()
    */
   public MonthSubject month() {
-    return this.check("getMonth()").about(months()).that(this.nonNull().getMonth());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "month()");
+    try {
+      return this.check("getMonth()").about(months()).that(this.nonNull().getMonth());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -289,7 +538,15 @@ public class LocalDateTimeSubject extends ComparableSubject<LocalDateTime> {
    * @see LocalDateTime#getDayOfWeek()
    */
   public DayOfWeekSubject dayOfWeek() {
-    return this.check("getDayOfWeek()").about(daysOfWeek()).that(this.nonNull().getDayOfWeek());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LocalDateTimeSubject", "dayOfWeek()");
+    try {
+      return this.check("getDayOfWeek()").about(daysOfWeek()).that(this.nonNull().getDayOfWeek());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   private LocalDateTime nonNull() {
@@ -0,0 +1,252 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+import static dev.mardroemmar.truthext.time.InstantSequenceRules.rules;
+
+import com.google.common.truth.Fact;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for a text log with an ISO-8601 timestamp on each line, such as
+ * {@code 2022-04-20T13:37:00.123Z}.
+ *
+ * <p>The log is streamed through a reused buffer, and the timestamps are parsed straight from it, so no {@link String} is created per
+ * line and logs far larger than the heap can be checked. Gzipped logs are recognised by their content and decompressed on the fly.
+ * Failures report the first violations only, by their line number counted from {@code 1}.</p>
+ *
+ * @see Subject
+ * @see TimestampLocation
+ * @see InstantSequenceRules
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class LogFileSubject extends Subject {
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final int GZIP_MAGIC = 0x8b1f;
+
+  /**
+   * Assert upon a log in UTF-8.
+   *
+   * @param actual   the log
+   * @param location where the timestamp is on each line
+   * @return a new assertion subject
+   * @throws NullPointerException if the {@code location} is {@code null}
+   */
+  public static LogFileSubject assertThat(final @Nullable Path actual, final TimestampLocation location) {
+    return assertAbout(logFiles(location, StandardCharsets.UTF_8)).that(actual);
+  }
+
+  /**
+   * @param location where the timestamp is on each line
+   * @param charset  the charset the log is written in
+   * @return a subject factory for asserting about logs.
+   * @throws NullPointerException if the {@code location} or {@code charset} is {@code null}
+   */
+  public static Subject.Factory<LogFileSubject, Path> logFiles(final TimestampLocation location, final Charset charset) {
+    Objects.requireNonNull(location, "location must not be null");
+    Objects.requireNonNull(charset, "charset must not be null");
+    return (metadata, actual) -> new LogFileSubject(metadata, actual, location, charset);
+  }
+
+  private final @Nullable Path actual;
+  private final TimestampLocation location;
+  private final Charset charset;
+
+  private LogFileSubject(final FailureMetadata metadata, final @Nullable Path actual, final TimestampLocation location,
+      final Charset charset) {
+    super(metadata, actual);
+    this.actual = actual;
+    this.location = location;
+    this.charset = charset;
+  }
+
+  /**
+   * Asserts that the timestamps of the log satisfy every one of the {@code rules}, checked together in a single pass over the log.
+   * Checking stops once as many violations as the {@code rules} {@link InstantSequenceRules#reportingAtMost(int) report} have been found.
+   *
+   * @param rules the rules to check
+   * @throws NullPointerException if the {@code rules} is {@code null}
+   * @throws AssertionError       if the actual is {@code null} or cannot be read
+   * @throws AssertionError       if a line has no valid timestamp where expected, or its timestamp violates one of the {@code rules}
+   */
+  public void satisfies(final InstantSequenceRules rules) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("LogFileSubject", "satisfies(InstantSequenceRules)");
+    try {
+      Objects.requireNonNull(rules, "rules must not be null");
+      final Path path = this.nonNull();
+      final InstantSequenceChecker checker = new InstantSequenceChecker(rules, "line", 1);
+      try (final Reader reader = new InputStreamReader(open(path), this.charset)) {
+        this.check(checker, reader);
+      } catch (final IOException ex) {
+        failWithActual(simpleFact("expected a readable file"), fact("but reading failed with", ex));
+        return;
+      }
+
+      final List<String> violations = checker.violations();
+      if (!violations.isEmpty()) {
+        final List<Fact> facts = InstantSequenceChecker.failureFacts(rules, violations);
+        facts.add(2, fact("timestamp location", this.location));
+        failWithActual(facts.get(0), facts.subList(1, facts.size()).toArray(new Fact[0]));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the timestamp of every line of the log is after the timestamp of the line before it.
+   *
+   * @throws AssertionError if the actual is {@code null} or cannot be read
+   * @throws AssertionError if a line has no valid timestamp where expected, or its timestamp is not after the one before it
+   * @see InstantSequenceRules#strictlyIncreasing()
+   */
+  public void isStrictlyIncreasing() {
+    this.satisfies(rules().strictlyIncreasing());
+  }
+
+  /**
+   * Asserts that the timestamp of no line of the log is before the timestamp of the line before it.
+   *
+   * @throws AssertionError if the actual is {@code null} or cannot be read
+   * @throws AssertionError if a line has no valid timestamp where expected, or its timestamp is before the one before it
+   * @see InstantSequenceRules#nonDecreasing()
+   */
+  public void isNonDecreasing() {
+    this.satisfies(rules().nonDecreasing());
+  }
+
+  /**
+   * Asserts that the timestamp of every line of the log is {@link InstantSubject#isAfterOrEqualTo(Instant) after or equal to} the
+   * {@code lower} and {@link InstantSubject#isBeforeOrEqualTo(Instant) before or equal to} the {@code upper} instant in time.
+   *
+   * @param lower the earliest allowed instant in time
+   * @param upper the latest allowed instant in time
+   * @throws NullPointerException     if the {@code lower} or {@code upper} is {@code null}
+   * @throws IllegalArgumentException if the {@code lower} is after the {@code upper}
+   * @throws AssertionError           if the actual is {@code null} or cannot be read
+   * @throws AssertionError           if a line has no valid timestamp where expected, or its timestamp is before the {@code lower} or
+   *                                  after the {@code upper}
+   * @see InstantSequenceRules#between(Instant, Instant)
+   */
+  public void allBetween(final Instant lower, final Instant upper) {
+    this.satisfies(rules().between(lower, upper));
+  }
+
+  /**
+   * Asserts that the timestamp of no line of the log is more than {@code maxGap} after the timestamp of the line before it.
+   *
+   * @param maxGap the largest allowed gap between the timestamps of two consecutive lines
+   * @throws NullPointerException     if the {@code maxGap} is {@code null}
+   * @throws IllegalArgumentException if the {@code maxGap} is negative
+   * @throws AssertionError           if the actual is {@code null} or cannot be read
+   * @throws AssertionError           if a line has no valid timestamp where expected, or its timestamp is further after the one before it
+   *                                  than the {@code maxGap}
+   * @see InstantSequenceRules#maxGap(Duration)
+   */
+  public void maxGapAtMost(final Duration maxGap) {
+    this.satisfies(rules().maxGap(maxGap));
+  }
+
+  private void check(final InstantSequenceChecker checker, final Reader reader) throws IOException {
+    final IsoInstantParser parser = new IsoInstantParser();
+    char[] buffer = new char[BUFFER_SIZE];
+    CharBuffer chars = CharBuffer.wrap(buffer);
+    int start = 0;
+    int end = 0;
+    int read;
+    while ((read = reader.read(buffer, end, buffer.length - end)) >= 0) {
+      final int scanned = end;
+      end += read;
+      for (int i = scanned; i < end; ++i) {
+        if (buffer[i] == '\n') {
+          if (!this.checkLine(checker, parser, chars, start, i)) {
+            return;
+          }
+          start = i + 1;
+        }
+      }
+
+      if (start > 0) {
+        System.arraycopy(buffer, start, buffer, 0, end - start);
+        end -= start;
+        start = 0;
+      } else if (end == buffer.length) {
+        // A single line fills the whole buffer.
+        final char[] grown = new char[buffer.length << 1];
+        System.arraycopy(buffer, 0, grown, 0, end);
+        buffer = grown;
+        chars = CharBuffer.wrap(buffer);
+      }
+    }
+    if (end > start) {
+      this.checkLine(checker, parser, chars, start, end);
+    }
+  }
+
+  private boolean checkLine(final InstantSequenceChecker checker, final IsoInstantParser parser, final CharSequence chars, final int from,
+      final int to) {
+    final int lineEnd = to > from && chars.charAt(to - 1) == '\r' ? to - 1 : to;
+    final int start = lineEnd > from ? this.location.start(chars, from, lineEnd) : -1;
+    if (start < 0) {
+      if (this.location.isIgnoringUnmatchedLines()) {
+        checker.skip();
+        return true;
+      }
+      return checker.reject("has no timestamp at " + this.location);
+    }
+
+    final int end = TimestampLocation.end(chars, start, lineEnd);
+    if (!parser.parse(chars, start, end)) {
+      final int shown = Math.min(lineEnd, Math.max(end, start + 40));
+      return checker.reject("has no valid timestamp at the start of \"" + chars.subSequence(start, shown) + "\"");
+    }
+    return checker.accept(parser.epochSecond(), parser.nano());
+  }
+
+  private static InputStream open(final Path path) throws IOException {
+    final InputStream in = new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE);
+    try {
+      in.mark(2);
+      final int magic = in.read() | in.read() << 8;
+      in.reset();
+      return magic == GZIP_MAGIC ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    } catch (final IOException ex) {
+      in.close();
+      throw ex;
+    }
+  }
+
+  private Path nonNull() {
+    if (this.actual != null) {
+      return this.actual;
+    }
+
+    failWithActual(simpleFact("expected path to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+}
@@ -8,6 +8,7 @@ import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.IntegerSubject;
 import com.google.common.truth.LongSubject;
 import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
 import java.time.Month;
 import java.time.temporal.TemporalField;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -53,8 +54,16 @@ public class MonthSubject extends Subject {
    * @throws NullPointerException if {@code otherMonth} is {@code null}
    */
   public void isBefore(final Month otherMonth) {
-    if (this.nonNull().getValue() >= otherMonth.getValue()) {
-      this.failWithActual(simpleFact("expected actual to be before otherMonth"), fact("otherMonth", otherMonth));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "isBefore(Month)");
+    try {
+      if (this.nonNull().getValue() >= otherMonth.getValue()) {
+        this.failWithActual(simpleFact("expected actual to be before otherMonth"), fact("otherMonth", otherMonth));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -67,8 +76,16 @@ public class MonthSubject extends Subject {
    * @throws NullPointerException if {@code otherMonth} is {@code null}
    */
   public void isBeforeOrEqualTo(final Month otherMonth) {
-    if (this.nonNull().getValue() > otherMonth.getValue()) {
-      this.failWithActual(simpleFact("expected actual to be before or equal to otherMonth"), fact("otherMonth", otherMonth));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "isBeforeOrEqualTo(Month)");
+    try {
+      if (this.nonNull().getValue() > otherMonth.getValue()) {
+        this.failWithActual(simpleFact("expected actual to be before or equal to otherMonth"), fact("otherMonth", otherMonth));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -81,8 +98,16 @@ public class MonthSubject extends Subject {
    * @throws NullPointerException if {@code otherMonth} is {@code null}
    */
   public void isAfter(final Month otherMonth) {
-    if (this.nonNull().getValue() <= otherMonth.getValue()) {
-      this.failWithActual(simpleFact("expected actual to be after otherMonth"), fact("otherMonth", otherMonth));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "isAfter(Month)");
+    try {
+      if (this.nonNull().getValue() <= otherMonth.getValue()) {
+        this.failWithActual(simpleFact("expected actual to be after otherMonth"), fact("otherMonth", otherMonth));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -95,8 +120,16 @@ public class MonthSubject extends Subject {
    * @throws NullPointerException if {@code otherMonth} is {@code null}
    */
   public void isAfterOrEqualTo(final Month otherMonth) {
-    if (this.nonNull().getValue() < otherMonth.getValue()) {
-      this.failWithActual(simpleFact("expected actual to be after or equal to otherMonth"), fact("otherMonth", otherMonth));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "isAfterOrEqualTo(Month)");
+    try {
+      if (this.nonNull().getValue() < otherMonth.getValue()) {
+        this.failWithActual(simpleFact("expected actual to be after or equal to otherMonth"), fact("otherMonth", otherMonth));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -110,8 +143,16 @@ public class MonthSubject extends Subject {
    * @see Month#isSupported(TemporalField)
    */
   public void isSupported(final TemporalField field) {
-    if (!this.nonNull().isSupported(field)) {
-      this.failWithActual(simpleFact("expected actual to be supported by field"), fact("field", field));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "isSupported(TemporalField)");
+    try {
+      if (!this.nonNull().isSupported(field)) {
+        this.failWithActual(simpleFact("expected actual to be supported by field"), fact("field", field));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -125,8 +166,16 @@ public class MonthSubject extends Subject {
    * @see Month#isSupported(TemporalField)
    */
   public void isNotSupported(final TemporalField field) {
-    if (this.nonNull().isSupported(field)) {
-      this.failWithActual(simpleFact("expected actual to not be supported by field"), fact("field", field));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "isNotSupported(TemporalField)");
+    try {
+      if (this.nonNull().isSupported(field)) {
+        this.failWithActual(simpleFact("expected actual to not be supported by field"), fact("field", field));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -138,7 +187,15 @@ public class MonthSubject extends Subject {
    * @see Month#ordinal()
    */
   public IntegerSubject ordinal() {
-    return this.check("ordinal()").that(this.nonNull().ordinal());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "ordinal()");
+    try {
+      return this.check("ordinal()").that(this.nonNull().ordinal());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -149,7 +206,15 @@ public class MonthSubject extends Subject {
    * @see Month#getValue()
    */
   public @IntRange(from = 1, to = 12) IntegerSubject value() {
-    return this.check("getValue()").that(this.nonNull().getValue());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "value()");
+    try {
+      return this.check("getValue()").that(this.nonNull().getValue());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -160,7 +225,15 @@ public class MonthSubject extends Subject {
    * @see Month#minLength()
    */
   public @IntRange(from = 28, to = 31) IntegerSubject minLength() {
-    return this.check("minLength()").that(this.nonNull().minLength());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "minLength()");
+    try {
+      return this.check("minLength()").that(this.nonNull().minLength());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -171,7 +244,15 @@ public class MonthSubject extends Subject {
    * @see Month#maxLength()
    */
   public @IntRange(from = 29, to = 31) IntegerSubject maxLength() {
-    return this.check("maxLength()").that(this.nonNull().maxLength());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "maxLength()");
+    try {
+      return this.check("maxLength()").that(this.nonNull().maxLength());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -183,7 +264,15 @@ public class MonthSubject extends Subject {
    * @see Month#length(boolean)
    */
   public IntegerSubject length(final boolean leapYear) {
-    return this.check("length(%s)", leapYear).that(this.nonNull().length(leapYear));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "length(boolean)");
+    try {
+      return this.check("length(%s)", leapYear).that(this.nonNull().length(leapYear));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -198,7 +287,15 @@ public class MonthSubject extends Subject {
    * @see Month#get(TemporalField)
    */
   public IntegerSubject get(final TemporalField field) {
-    return this.check("get(%s)", field).that(this.nonNull().get(field));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "get(TemporalField)");
+    try {
+      return this.check("get(%s)", field).that(this.nonNull().get(field));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -212,7 +309,15 @@ public class MonthSubject extends Subject {
    * @see Month#getLong(TemporalField)
    */
   public LongSubject getLong(final TemporalField field) {
-    return this.check("getLong(%s)", field).that(this.nonNull().getLong(field));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "getLong(TemporalField)");
+    try {
+      return this.check("getLong(%s)", field).that(this.nonNull().getLong(field));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -227,7 +332,15 @@ public class MonthSubject extends Subject {
    * @see Month#firstDayOfYear(boolean)
    */
   public @IntRange(from = 1, to = 336) IntegerSubject firstDayOfYear(final boolean leapYear) {
-    return this.check("firstDayOfYear(%s)", leapYear).that(this.nonNull().firstDayOfYear(leapYear));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "firstDayOfYear(boolean)");
+    try {
+      return this.check("firstDayOfYear(%s)", leapYear).that(this.nonNull().firstDayOfYear(leapYear));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -242,7 +355,15 @@ public class MonthSubject extends Subject {
    * @see Month#firstMonthOfQuarter()
    */
   public MonthSubject firstMonthOfQuarter() {
-    return this.check("firstMonthOfQuarter()").about(months()).that(this.nonNull().firstMonthOfQuarter());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("MonthSubject", "firstMonthOfQuarter()");
+    try {
+      return this.check("firstMonthOfQuarter()").about(months()).that(this.nonNull().firstMonthOfQuarter());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   private Month nonNull() {
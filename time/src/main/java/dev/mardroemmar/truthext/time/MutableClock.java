@@ -0,0 +1,176 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link Clock} for tests that only moves when told to, so expiry and timeouts can be tested without sleeping.
+ *
+ * <p>The time is held as nanoseconds from Epoch in an {@link AtomicLong}, so the clock can be read and moved from any number of threads
+ * at once without locking. This limits it to instants from 1677 to 2262.</p>
+ *
+ * <p>Clocks {@link #withZone(ZoneId) with another zone} share the time with the clock they were made from.</p>
+ *
+ * @see ClockSubject
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class MutableClock extends Clock {
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final long NANOS_PER_MILLI = 1_000_000L;
+
+  private final AtomicLong epochNanos;
+  private final ZoneId zone;
+
+  private MutableClock(final AtomicLong epochNanos, final ZoneId zone) {
+    this.epochNanos = epochNanos;
+    this.zone = zone;
+  }
+
+  /**
+   * Create a clock at the {@code instant} in the {@code zone}.
+   *
+   * @param instant the instant in time to start at
+   * @param zone    the time-zone of the clock
+   * @return a new clock
+   * @throws NullPointerException if the {@code instant} or {@code zone} is {@code null}
+   * @throws ArithmeticException  if the {@code instant} is too far from Epoch to count in nanoseconds
+   */
+  public static MutableClock of(final Instant instant, final ZoneId zone) {
+    Objects.requireNonNull(instant, "instant must not be null");
+    Objects.requireNonNull(zone, "zone must not be null");
+    return new MutableClock(new AtomicLong(toEpochNanos(instant)), zone);
+  }
+
+  /**
+   * Create a clock at the {@code instant} in {@link ZoneOffset#UTC UTC}.
+   *
+   * @param instant the instant in time to start at
+   * @return a new clock
+   * @throws NullPointerException if the {@code instant} is {@code null}
+   * @throws ArithmeticException  if the {@code instant} is too far from Epoch to count in nanoseconds
+   */
+  public static MutableClock of(final Instant instant) {
+    return of(instant, ZoneOffset.UTC);
+  }
+
+  /**
+   * Move the clock by the {@code duration}, which may be negative to move it back.
+   *
+   * @param duration how far to move the clock
+   * @return the instant in time the clock was moved to
+   * @throws NullPointerException if the {@code duration} is {@code null}
+   * @throws ArithmeticException  if the clock would be moved too far from Epoch to count in nanoseconds
+   */
+  public Instant advance(final Duration duration) {
+    Objects.requireNonNull(duration, "duration must not be null");
+    return toInstant(this.advanceNanos(duration.toNanos()));
+  }
+
+  /**
+   * Move the clock by the {@code nanos}, which may be negative to move it back.
+   *
+   * @param nanos how far to move the clock in nanoseconds
+   * @return the nanoseconds from Epoch the clock was moved to
+   * @throws ArithmeticException if the clock would be moved too far from Epoch to count in nanoseconds
+   */
+  public long advanceNanos(final long nanos) {
+    long current;
+    long next;
+    do {
+      current = this.epochNanos.get();
+      next = Math.addExact(current, nanos);
+    } while (!this.epochNanos.compareAndSet(current, next));
+    return next;
+  }
+
+  /**
+   * Move the clock to the {@code instant}.
+   *
+   * @param instant the instant in time to move to
+   * @throws NullPointerException if the {@code instant} is {@code null}
+   * @throws ArithmeticException  if the {@code instant} is too far from Epoch to count in nanoseconds
+   */
+  public void set(final Instant instant) {
+    Objects.requireNonNull(instant, "instant must not be null");
+    this.epochNanos.set(toEpochNanos(instant));
+  }
+
+  /**
+   * @return the nanoseconds from Epoch the clock is at
+   */
+  public long epochNanos() {
+    return this.epochNanos.get();
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return this.zone;
+  }
+
+  /**
+   * Returns a clock in the {@code zone} that shares the time with this one: moving either moves both.
+   *
+   * @param zone the time-zone of the clock
+   * @return a clock sharing the time with this one
+   */
+  @Override
+  public MutableClock withZone(final ZoneId zone) {
+    Objects.requireNonNull(zone, "zone must not be null");
+    return zone.equals(this.zone) ? this : new MutableClock(this.epochNanos, zone);
+  }
+
+  @Override
+  public long millis() {
+    return Math.floorDiv(this.epochNanos.get(), NANOS_PER_MILLI);
+  }
+
+  @Override
+  public Instant instant() {
+    return toInstant(this.epochNanos.get());
+  }
+
+  private static long toEpochNanos(final Instant instant) {
+    return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+  }
+
+  private static Instant toInstant(final long epochNanos) {
+    return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND), Math.floorMod(epochNanos, NANOS_PER_SECOND));
+  }
+
+  /**
+   * Checks whether the {@code obj} is a clock sharing the time with this one, in the same zone.
+   *
+   * @param obj the object to check
+   * @return whether the {@code obj} is an equal clock
+   */
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof MutableClock)) {
+      return false;
+    }
+    final MutableClock other = (MutableClock) obj;
+    return this.epochNanos == other.epochNanos && this.zone.equals(other.zone);
+  }
+
+  @Override
+  public int hashCode() {
+    return System.identityHashCode(this.epochNanos) ^ this.zone.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "MutableClock[" + this.instant() + "," + this.zone + "]";
+  }
+}
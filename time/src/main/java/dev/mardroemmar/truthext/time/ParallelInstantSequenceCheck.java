@@ -0,0 +1,199 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Checks a sequence of instants in time against {@link InstantSequenceRules} on the {@link ForkJoinPool#commonPool() common pool}.
+ *
+ * <p>The sequence is split into chunks, each of which is checked by its own {@link InstantSequenceChecker} primed with the last
+ * non-{@code null} element before the chunk, so ordering and gaps are checked across chunk boundaries too. Violations are merged in index
+ * order, so the globally first violations are reported regardless of how the chunks were scheduled.</p>
+ *
+ * @param <T> the type of the elements
+ */
+final class ParallelInstantSequenceCheck<T> {
+  /**
+   * The number of elements below which a chunk is not split any further.
+   */
+  static final int CHUNK_SIZE = 1 << 16;
+
+  static final ElementChecker<Instant> INSTANTS = new ElementChecker<Instant>() {
+    @Override
+    public boolean accept(final InstantSequenceChecker checker, final @Nullable Instant element) {
+      return checker.accept(element);
+    }
+
+    @Override
+    public void prime(final InstantSequenceChecker checker, final @Nullable Instant element) {
+      checker.prime(element);
+    }
+  };
+
+  static final ElementChecker<ZonedDateTime> ZONED_DATE_TIMES = new ElementChecker<ZonedDateTime>() {
+    @Override
+    public boolean accept(final InstantSequenceChecker checker, final @Nullable ZonedDateTime element) {
+      return checker.accept(element);
+    }
+
+    @Override
+    public void prime(final InstantSequenceChecker checker, final @Nullable ZonedDateTime element) {
+      checker.prime(element);
+    }
+  };
+
+  private final List<? extends @Nullable T> elements;
+  private final InstantSequenceRules rules;
+  private final ElementChecker<T> checker;
+  private final @Nullable Map<Instant, Long> firstIndices;
+  // Chunks starting at or after this index cannot hold any of the violations that will be reported.
+  private final AtomicLong cutoff = new AtomicLong(Long.MAX_VALUE);
+
+  private ParallelInstantSequenceCheck(final List<? extends @Nullable T> elements, final InstantSequenceRules rules,
+      final ElementChecker<T> checker, final @Nullable Map<Instant, Long> firstIndices) {
+    this.elements = elements;
+    this.rules = rules;
+    this.checker = checker;
+    this.firstIndices = firstIndices;
+  }
+
+  /**
+   * Check the {@code elements} against the {@code rules}.
+   *
+   * @param elements  the elements to check; anything but a {@link RandomAccess random access} list is copied first
+   * @param rules     the rules to check against
+   * @param checker   how to check and prime with a single element
+   * @param toInstant how to get the instant in time of a non-{@code null} element, used only to find duplicates without an ordering rule
+   * @param <T>       the type of the elements
+   * @return the first violations, at most as many as the {@code rules} report
+   */
+  static <T> List<String> check(final Iterable<? extends @Nullable T> elements, final InstantSequenceRules rules,
+      final ElementChecker<T> checker, final Function<? super T, Instant> toInstant) {
+    final List<? extends @Nullable T> list = randomAccess(elements);
+    @Nullable Map<Instant, Long> firstIndices = null;
+    if (InstantSequenceChecker.needsAllSeen(rules)) {
+      final Map<Instant, Long> indices = new ConcurrentHashMap<>();
+      IntStream.range(0, list.size()).parallel().forEach(i -> {
+        final T element = list.get(i);
+        if (element != null) {
+          indices.merge(toInstant.apply(element), (long) i, Math::min);
+        }
+      });
+      firstIndices = indices;
+    }
+    final ParallelInstantSequenceCheck<T> check = new ParallelInstantSequenceCheck<>(list, rules, checker, firstIndices);
+    return ForkJoinPool.commonPool().invoke(check.new Chunk(0, list.size()));
+  }
+
+  private static <T> List<? extends @Nullable T> randomAccess(final Iterable<? extends @Nullable T> elements) {
+    if (elements instanceof List && elements instanceof RandomAccess) {
+      return (List<? extends @Nullable T>) elements;
+    }
+    if (elements instanceof Collection) {
+      return new ArrayList<>((Collection<? extends @Nullable T>) elements);
+    }
+    final List<@Nullable T> list = new ArrayList<>();
+    for (final T element : elements) {
+      list.add(element);
+    }
+    return list;
+  }
+
+  private List<String> checkChunk(final int from, final int to) {
+    if (from >= this.cutoff.get()) {
+      return Collections.emptyList();
+    }
+
+    final InstantSequenceChecker checker = new InstantSequenceChecker(this.rules, from, this.firstIndices);
+    // Sequentially, a null element is a violation but does not replace the previous element, so prime with the last one that is not
+    // null. Once as many nulls as are reported lie before the chunk, none of its violations can be reported.
+    int nulls = 0;
+    for (int i = from - 1; i >= 0; --i) {
+      final @Nullable T previous = this.elements.get(i);
+      if (previous != null) {
+        this.checker.prime(checker, previous);
+        break;
+      }
+      if (++nulls >= this.rules.reportedViolations()) {
+        return Collections.emptyList();
+      }
+    }
+    for (int i = from; i < to; ++i) {
+      if (!this.checker.accept(checker, this.elements.get(i))) {
+        final long end = i + 1L;
+        this.cutoff.accumulateAndGet(end, Math::min);
+        break;
+      }
+    }
+    return checker.violations();
+  }
+
+  private List<String> merge(final List<String> left, final List<String> right) {
+    final int limit = this.rules.reportedViolations();
+    if (right.isEmpty() || left.size() >= limit) {
+      return left;
+    }
+    if (left.isEmpty()) {
+      return right;
+    }
+    final List<String> merged = new ArrayList<>(Math.min(limit, left.size() + right.size()));
+    merged.addAll(left);
+    merged.addAll(right.subList(0, Math.min(right.size(), limit - left.size())));
+    return merged;
+  }
+
+  /**
+   * Checks and primes an {@link InstantSequenceChecker} with single elements of a given type.
+   *
+   * @param <T> the type of the elements
+   */
+  interface ElementChecker<T> {
+    /**
+     * @see InstantSequenceChecker#accept(Instant)
+     */
+    boolean accept(InstantSequenceChecker checker, @Nullable T element);
+
+    /**
+     * @see InstantSequenceChecker#prime(Instant)
+     */
+    void prime(InstantSequenceChecker checker, @Nullable T element);
+  }
+
+  private final class Chunk extends RecursiveTask<List<String>> {
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+
+    Chunk(final int from, final int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<String> compute() {
+      if (this.to - this.from <= CHUNK_SIZE) {
+        return ParallelInstantSequenceCheck.this.checkChunk(this.from, this.to);
+      }
+
+      final int middle = (this.from + this.to) >>> 1;
+      final Chunk right = new Chunk(middle, this.to);
+      right.fork();
+      final List<String> left = new Chunk(this.from, middle).compute();
+      return ParallelInstantSequenceCheck.this.merge(left, right.join());
+    }
+  }
+}
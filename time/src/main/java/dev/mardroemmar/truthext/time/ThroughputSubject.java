@@ -0,0 +1,295 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+
+import com.google.common.truth.Fact;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for the throughput of an operation, given as a {@link Runnable}.
+ *
+ * <p>The operation is first run repeatedly for a warmup period, so the JIT compiler has had its go at it, and then for a number of fixed
+ * measurement windows timed with {@link System#nanoTime()}. Assertions are made upon the median window, so a single window hit by a
+ * garbage collection or a busy neighbour does not fail them; failures report every window.</p>
+ *
+ * <p>The clock is read once per batch of runs rather than once per run, with the batch size picked during warmup, so reading it costs
+ * next to nothing even for operations that take nanoseconds.</p>
+ *
+ * <p>The operation is run on the first assertion and the measurements are reused for any further assertions on the same subject, so the
+ * warmup and windows can only be configured before that.</p>
+ *
+ * @see Subject
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class ThroughputSubject extends Subject {
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  // Batches grow during warmup until running one takes at least this long.
+  private static final long MIN_BATCH_NANOS = 100_000L;
+  private static final Duration DEFAULT_WARMUP = Duration.ofMillis(200L);
+  private static final int DEFAULT_WINDOWS = 5;
+  private static final Duration DEFAULT_WINDOW = Duration.ofMillis(200L);
+
+  /**
+   * Assert upon the throughput of an operation.
+   *
+   * @param actual the actual operation to run
+   * @return a new assertion subject
+   */
+  public static ThroughputSubject assertThatThroughputOf(final @Nullable Runnable actual) {
+    return assertAbout(throughputs()).that(actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about the throughput of {@link Runnable operations}.
+   */
+  public static Subject.Factory<ThroughputSubject, Runnable> throughputs() {
+    return (metadata, actual) -> new ThroughputSubject(metadata, actual, System::nanoTime);
+  }
+
+  static Subject.Factory<ThroughputSubject, Runnable> throughputs(final LongSupplier nanoTime) {
+    return (metadata, actual) -> new ThroughputSubject(metadata, actual, nanoTime);
+  }
+
+  private final @Nullable Runnable actual;
+  private final LongSupplier nanoTime;
+  private Duration warmup = DEFAULT_WARMUP;
+  private int windows = DEFAULT_WINDOWS;
+  private Duration window = DEFAULT_WINDOW;
+  private long @Nullable [] windowOps;
+  private long @Nullable [] windowNanos;
+
+  private ThroughputSubject(final FailureMetadata metadata, final @Nullable Runnable actual, final LongSupplier nanoTime) {
+    super(metadata, actual);
+    this.actual = actual;
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Run the operation for the {@code warmup} before measuring it. Defaults to 200 milliseconds.
+   *
+   * @param warmup how long to run the operation for before measuring it
+   * @return this subject
+   * @throws NullPointerException     if the {@code warmup} is {@code null}
+   * @throws IllegalArgumentException if the {@code warmup} is negative
+   * @throws IllegalStateException    if the operation has already been measured
+   */
+  public ThroughputSubject withWarmup(final Duration warmup) {
+    Objects.requireNonNull(warmup, "warmup must not be null");
+    if (warmup.isNegative()) {
+      throw new IllegalArgumentException("warmup must not be negative");
+    }
+    this.notMeasured();
+    this.warmup = warmup;
+    return this;
+  }
+
+  /**
+   * Measure the operation over {@code count} windows of the {@code length} each. Defaults to 5 windows of 200 milliseconds.
+   *
+   * @param count  the number of windows
+   * @param length the length of each window
+   * @return this subject
+   * @throws NullPointerException     if the {@code length} is {@code null}
+   * @throws IllegalArgumentException if the {@code count} or {@code length} is not positive
+   * @throws IllegalStateException    if the operation has already been measured
+   */
+  public ThroughputSubject withWindows(final int count, final Duration length) {
+    Objects.requireNonNull(length, "length must not be null");
+    if (count <= 0) {
+      throw new IllegalArgumentException("count must be positive");
+    }
+    if (length.isNegative() || length.isZero()) {
+      throw new IllegalArgumentException("length must be positive");
+    }
+    this.notMeasured();
+    this.windows = count;
+    this.window = length;
+    return this;
+  }
+
+  /**
+   * Prepares for a check on the number of runs of the operation per second in the median window.
+   *
+   * @return a comparison to give the expected throughput to
+   */
+  public OpsPerSecondComparison opsPerSecond() {
+    return new OpsPerSecondComparison();
+  }
+
+  private void notMeasured() {
+    if (this.windowOps != null) {
+      throw new IllegalStateException("the operation has already been measured");
+    }
+  }
+
+  /**
+   * @return the runs per second of the median window, measuring the operation first if need be
+   */
+  private double medianOpsPerSecond() {
+    if (this.windowOps == null) {
+      this.measure(this.nonNull());
+    }
+    final double[] rates = new double[this.windows];
+    for (int i = 0; i < this.windows; ++i) {
+      rates[i] = this.opsPerSecond(i);
+    }
+    Arrays.sort(rates);
+    final int middle = rates.length / 2;
+    return (rates.length & 1) == 1 ? rates[middle] : (rates[middle - 1] + rates[middle]) / 2.0;
+  }
+
+  private void measure(final Runnable operation) {
+    long batch = 1;
+    final long warmupNanos = saturatedNanos(this.warmup);
+    final long warmupStart = this.nanoTime.getAsLong();
+    long now = warmupStart;
+    do {
+      final long batchStart = now;
+      run(operation, batch);
+      now = this.nanoTime.getAsLong();
+      if (now - batchStart < MIN_BATCH_NANOS && batch < Long.MAX_VALUE / 2) {
+        batch <<= 1;
+      }
+    } while (now - warmupStart < warmupNanos);
+
+    final long windowNanos = saturatedNanos(this.window);
+    final long[] ops = new long[this.windows];
+    final long[] nanos = new long[this.windows];
+    for (int i = 0; i < this.windows; ++i) {
+      final long start = this.nanoTime.getAsLong();
+      long count = 0;
+      long elapsed;
+      do {
+        run(operation, batch);
+        count += batch;
+        elapsed = this.nanoTime.getAsLong() - start;
+      } while (elapsed < windowNanos);
+      ops[i] = count;
+      nanos[i] = elapsed;
+    }
+    this.windowOps = ops;
+    this.windowNanos = nanos;
+  }
+
+  private static void run(final Runnable operation, final long times) {
+    for (long i = 0; i < times; ++i) {
+      operation.run();
+    }
+  }
+
+  private double opsPerSecond(final int window) {
+    return (double) this.windowOps[window] * NANOS_PER_SECOND / Math.max(1L, this.windowNanos[window]);
+  }
+
+  private void fail(final String expected, final double expectedOpsPerSecond, final double median) {
+    final List<Fact> facts = new ArrayList<>(this.windows + 3);
+    facts.add(fact(expected, format(expectedOpsPerSecond)));
+    facts.add(fact("but median window was", format(median)));
+    facts.add(fact("warmup", this.warmup));
+    for (int i = 0; i < this.windows; ++i) {
+      facts.add(fact("window " + (i + 1), format(this.opsPerSecond(i)) + " (" + this.windowOps[i] + " ops in "
+          + Duration.ofNanos(this.windowNanos[i]) + ")"));
+    }
+    this.failWithoutActual(facts.get(0), facts.subList(1, facts.size()).toArray(new Fact[0]));
+  }
+
+  private static String format(final double opsPerSecond) {
+    return String.format(Locale.ROOT, "%,.1f ops/s", opsPerSecond);
+  }
+
+  private static long saturatedNanos(final Duration duration) {
+    try {
+      return duration.toNanos();
+    } catch (final ArithmeticException ex) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private Runnable nonNull() {
+    if (this.actual != null) {
+      return this.actual;
+    }
+
+    failWithActual(simpleFact("expected operation to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+
+  /**
+   * A check on the runs per second of the operation of a {@link ThroughputSubject}.
+   *
+   * @see ThroughputSubject#opsPerSecond()
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public final class OpsPerSecondComparison {
+    private OpsPerSecondComparison() {
+    }
+
+    /**
+     * Asserts that the operation ran at least {@code min} times per second in the median window.
+     *
+     * @param min the lowest allowed throughput in runs per second
+     * @throws IllegalArgumentException if the {@code min} is not a number
+     * @throws AssertionError           if the actual is {@code null}
+     * @throws AssertionError           if the median window has a lower throughput than the {@code min}
+     */
+    public void isAtLeast(final double min) {
+      final @Nullable AssertionProbe probe = AssertionProbe.begin("ThroughputSubject", "opsPerSecond().isAtLeast(double)");
+      try {
+        if (Double.isNaN(min)) {
+          throw new IllegalArgumentException("min must be a number");
+        }
+        final double median = ThroughputSubject.this.medianOpsPerSecond();
+        if (median < min) {
+          ThroughputSubject.this.fail("expected at least", min, median);
+        }
+      } catch (final RuntimeException | Error ex) {
+        AssertionProbe.failed(probe);
+        throw ex;
+      } finally {
+        AssertionProbe.end(probe);
+      }
+    }
+
+    /**
+     * Asserts that the operation ran at most {@code max} times per second in the median window.
+     *
+     * @param max the highest allowed throughput in runs per second
+     * @throws IllegalArgumentException if the {@code max} is not a number
+     * @throws AssertionError           if the actual is {@code null}
+     * @throws AssertionError           if the median window has a higher throughput than the {@code max}
+     */
+    public void isAtMost(final double max) {
+      final @Nullable AssertionProbe probe = AssertionProbe.begin("ThroughputSubject", "opsPerSecond().isAtMost(double)");
+      try {
+        if (Double.isNaN(max)) {
+          throw new IllegalArgumentException("max must be a number");
+        }
+        final double median = ThroughputSubject.this.medianOpsPerSecond();
+        if (median > max) {
+          ThroughputSubject.this.fail("expected at most", max, median);
+        }
+      } catch (final RuntimeException | Error ex) {
+        AssertionProbe.failed(probe);
+        throw ex;
+      } finally {
+        AssertionProbe.end(probe);
+      }
+    }
+  }
+}
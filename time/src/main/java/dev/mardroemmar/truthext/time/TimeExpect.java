@@ -0,0 +1,184 @@
+package dev.mardroemmar.truthext.time;
+
+import com.google.common.truth.SimpleSubjectBuilder;
+import com.google.common.truth.StandardSubjectBuilder;
+import com.google.common.truth.Subject;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Soft assertions that record their failures rather than throw them, so any number of threads can assert at once and the failures are
+ * reported together at the end.
+ *
+ * <pre>{@code
+ * final TimeExpect expect = TimeExpect.create();
+ * // on any number of threads:
+ * expect.that(event.timestamp()).isAfter(start);
+ * expect.about(CurrencySubject.currencies()).that(event.currency()).currencyCode().isEqualTo("EUR");
+ * // once they are done:
+ * expect.verify();
+ * }</pre>
+ *
+ * <p>Unlike Truth's {@code Expect}, which keeps its failures in a synchronized list, failures are added to a
+ * {@link ConcurrentLinkedQueue}, so recording one never takes a lock and threads failing at once do not wait on each other. Failures
+ * with the same message are reported once, with how often they were recorded.</p>
+ *
+ * <p>Subjects that cannot go on after a failure, such as those of this library given a {@code null} actual, record the failure and
+ * then throw an {@link AssertionError} to stop the assertion chain.</p>
+ *
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class TimeExpect {
+  private final Queue<AssertionError> failures = new ConcurrentLinkedQueue<>();
+  private final StandardSubjectBuilder check = StandardSubjectBuilder.forCustomFailureStrategy(this.failures::add);
+
+  private TimeExpect() {
+  }
+
+  /**
+   * @return a new collector of soft assertions, without failures
+   */
+  public static TimeExpect create() {
+    return new TimeExpect();
+  }
+
+  /**
+   * Soft-assert upon an instant in time.
+   *
+   * @param actual the actual instant in time
+   * @return a new assertion subject recording its failures here
+   */
+  public InstantSubject that(final @Nullable Instant actual) {
+    return this.check.about(InstantSubject.instants()).that(actual);
+  }
+
+  /**
+   * Soft-assert upon a zoned date-time.
+   *
+   * @param actual the actual zoned date-time
+   * @return a new assertion subject recording its failures here
+   */
+  public ZonedDateTimeSubject that(final @Nullable ZonedDateTime actual) {
+    return this.check.about(ZonedDateTimeSubject.zonedDateTimes()).that(actual);
+  }
+
+  /**
+   * Soft-assert upon a duration.
+   *
+   * @param actual the actual duration
+   * @return a new assertion subject recording its failures here
+   */
+  public DurationSubject that(final @Nullable Duration actual) {
+    return this.check.about(DurationSubject.durations()).that(actual);
+  }
+
+  /**
+   * Soft-assert with any subject, such as {@code CurrencySubject.currencies()} for currencies.
+   *
+   * @param factory the factory of the subject to assert with
+   * @param <S>     the type of subject
+   * @param <T>     the type of the actual values
+   * @return a builder of subjects recording their failures here
+   * @throws NullPointerException if the {@code factory} is {@code null}
+   */
+  public <S extends Subject, T> SimpleSubjectBuilder<S, T> about(final Subject.Factory<S, T> factory) {
+    Objects.requireNonNull(factory, "factory must not be null");
+    return this.check.about(factory);
+  }
+
+  /**
+   * Soft-assert with any of Truth's own subjects.
+   *
+   * @return a builder of subjects recording their failures here
+   */
+  public StandardSubjectBuilder check() {
+    return this.check;
+  }
+
+  /**
+   * @return whether any failure has been recorded
+   */
+  public boolean hasFailures() {
+    return !this.failures.isEmpty();
+  }
+
+  /**
+   * Throws the failures recorded so far, if any, de-duplicated by their message. Failures recorded while this runs may be left out.
+   *
+   * <p>The first failure with each message is added as a {@linkplain Throwable#getSuppressed() suppressed} exception, keeping its stack
+   * trace.</p>
+   *
+   * @throws AssertionError if any failure has been recorded
+   */
+  public void verify() {
+    if (this.failures.isEmpty()) {
+      return;
+    }
+
+    // Keyed by message, in the order first recorded.
+    final Map<String, Distinct> distinct = new LinkedHashMap<>();
+    long total = 0;
+    for (final AssertionError failure : this.failures) {
+      ++total;
+      final String message = String.valueOf(failure.getMessage());
+      final Distinct existing = distinct.get(message);
+      if (existing != null) {
+        ++existing.count;
+      } else {
+        distinct.put(message, new Distinct(failure));
+      }
+    }
+
+    final StringBuilder summary = new StringBuilder()
+        .append(total).append(total == 1 ? " expectation failed" : " expectations failed");
+    if (distinct.size() != total) {
+      summary.append(", ").append(distinct.size()).append(" distinct");
+    }
+    summary.append(':');
+    final List<AssertionError> firsts = new ArrayList<>(distinct.size());
+    int number = 0;
+    for (final Map.Entry<String, Distinct> entry : distinct.entrySet()) {
+      final String prefix = "  " + ++number + ". ";
+      final String continuation = "\n" + spaces(prefix.length());
+      summary.append('\n').append(prefix).append(entry.getKey().replace("\n", continuation));
+      if (entry.getValue().count > 1) {
+        summary.append(continuation).append("(failed ").append(entry.getValue().count).append(" times)");
+      }
+      firsts.add(entry.getValue().first);
+    }
+
+    final AssertionError error = new AssertionError(summary.toString());
+    for (final AssertionError first : firsts) {
+      error.addSuppressed(first);
+    }
+    throw error;
+  }
+
+  private static String spaces(final int count) {
+    final char[] spaces = new char[count];
+    Arrays.fill(spaces, ' ');
+    return new String(spaces);
+  }
+
+  private static final class Distinct {
+    private final AssertionError first;
+    private long count = 1;
+
+    private Distinct(final AssertionError first) {
+      this.first = first;
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package dev.mardroemmar.truthext.time;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Records which thread reached which event when, for code under test to call on its hot paths and a {@link TimelineSubject} to assert
+ * upon afterwards.
+ *
+ * <pre>{@code
+ * final TimelineRecorder timeline = TimelineRecorder.create(1 << 16);
+ * final int published = timeline.event("published");
+ * final int consumed = timeline.event("consumed");
+ * // in the code under test:
+ * timeline.record(published);
+ * // once its threads are done:
+ * TruthTime.assertThat(timeline).happensBefore("published", "consumed");
+ * }</pre>
+ *
+ * <p>Events are kept as primitives in arrays allocated up front: {@link #record(int)} claims a slot with a single atomic increment, writes
+ * the thread's {@linkplain Thread#getId() id}, the {@link System#nanoTime()} and the event to it, and publishes it with an ordered write.
+ * It never locks, never waits on other threads and never allocates. Once the capacity is used up, the oldest events are overwritten.
+ * Events are kept in the order their slots were claimed; as a thread may be descheduled between claiming a slot and reading the time,
+ * that is not always the order of their times, which the assertions go by.</p>
+ *
+ * <p>Events are named {@linkplain #event(String) up front}, which may lock; anything read from the recorder is only complete once all
+ * threads recording to it are done, such as after joining them.</p>
+ *
+ * @see TimelineSubject
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class TimelineRecorder {
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final LongSupplier nanoTime;
+  private final int mask;
+  private final long[] threadIds;
+  private final long[] nanoTimes;
+  private final int[] events;
+  // published[slot] is one more than the sequence number of the event last written to the slot, or 0 if none was.
+  private final AtomicLongArray published;
+  private final AtomicLong next = new AtomicLong();
+  private final Map<String, Integer> eventIds = new HashMap<>();
+  private final List<String> eventNames = new ArrayList<>();
+
+  private TimelineRecorder(final int capacity, final LongSupplier nanoTime) {
+    this.nanoTime = nanoTime;
+    this.mask = capacity - 1;
+    this.threadIds = new long[capacity];
+    this.nanoTimes = new long[capacity];
+    this.events = new int[capacity];
+    this.published = new AtomicLongArray(capacity);
+  }
+
+  /**
+   * Create a recorder keeping the last {@code capacity} events, rounded up to a power of two.
+   *
+   * @param capacity the number of events to keep
+   * @return a new recorder
+   * @throws IllegalArgumentException if the {@code capacity} is not positive or more than 2<sup>30</sup>
+   */
+  public static TimelineRecorder create(final int capacity) {
+    return create(capacity, System::nanoTime);
+  }
+
+  static TimelineRecorder create(final int capacity, final LongSupplier nanoTime) {
+    if (capacity <= 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY);
+    }
+    final int rounded = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    return new TimelineRecorder(rounded, nanoTime);
+  }
+
+  /**
+   * Gives the id to record an event by, the same one for the same {@code name}. This is not meant for hot paths.
+   *
+   * @param name the name of the event
+   * @return the id of the event
+   * @throws NullPointerException if the {@code name} is {@code null}
+   */
+  public synchronized int event(final String name) {
+    Objects.requireNonNull(name, "name must not be null");
+    final Integer existing = this.eventIds.get(name);
+    if (existing != null) {
+      return existing;
+    }
+    final int id = this.eventNames.size();
+    this.eventNames.add(name);
+    this.eventIds.put(name, id);
+    return id;
+  }
+
+  /**
+   * Records that the current thread reached the {@code event} now.
+   *
+   * @param event the id of the event, as given by {@link #event(String)}
+   */
+  public void record(final int event) {
+    // The slot is claimed before the time is read, so events are kept in the order of their times unless threads race in between.
+    final long sequence = this.next.getAndIncrement();
+    final int slot = (int) sequence & this.mask;
+    this.threadIds[slot] = Thread.currentThread().getId();
+    this.nanoTimes[slot] = this.nanoTime.getAsLong();
+    this.events[slot] = event;
+    this.published.lazySet(slot, sequence + 1);
+  }
+
+  /**
+   * @return the number of events ever recorded, including those overwritten since
+   */
+  public long recorded() {
+    return this.next.get();
+  }
+
+  /**
+   * @return the number of events kept
+   */
+  public int capacity() {
+    return this.mask + 1;
+  }
+
+  /**
+   * @param name the name of the event
+   * @return the id of the event, or {@code -1} if there is no event by the {@code name}
+   */
+  synchronized int eventId(final String name) {
+    final Integer id = this.eventIds.get(name);
+    return id != null ? id : -1;
+  }
+
+  /**
+   * @param event the id of the event
+   * @return the name of the event, or {@code #} and its id if it has none
+   */
+  synchronized String eventName(final int event) {
+    return event >= 0 && event < this.eventNames.size() ? this.eventNames.get(event) : "#" + event;
+  }
+
+  /**
+   * @return the events kept, in the order they were recorded
+   */
+  Snapshot snapshot() {
+    final long end = this.next.get();
+    final long start = Math.max(0L, end - this.capacity());
+    final Snapshot snapshot = new Snapshot((int) (end - start), start);
+    int size = 0;
+    for (long sequence = start; sequence < end; ++sequence) {
+      final int slot = (int) sequence & this.mask;
+      // Reading the published sequence first makes the writes before it visible; slots still being written are left out.
+      if (this.published.get(slot) != sequence + 1) {
+        continue;
+      }
+      snapshot.threadIds[size] = this.threadIds[slot];
+      snapshot.nanoTimes[size] = this.nanoTimes[slot];
+      snapshot.events[size] = this.events[slot];
+      if (size == 0 || snapshot.nanoTimes[size] - snapshot.earliestNanoTime < 0) {
+        snapshot.earliestNanoTime = snapshot.nanoTimes[size];
+      }
+      ++size;
+    }
+    snapshot.size = size;
+    return snapshot;
+  }
+
+  @Override
+  public String toString() {
+    return "TimelineRecorder[recorded=" + this.recorded() + ",capacity=" + this.capacity() + "]";
+  }
+
+  /**
+   * The events of a recorder at one point, in parallel arrays of which the first {@link #size} elements are used.
+   */
+  static final class Snapshot {
+    final long[] threadIds;
+    final long[] nanoTimes;
+    final int[] events;
+    // The number of events overwritten before those in the snapshot.
+    final long overwritten;
+    int size;
+    // The earliest of the times, which need not be the first, as threads may race between claiming a slot and reading the time.
+    long earliestNanoTime;
+
+    private Snapshot(final int capacity, final long overwritten) {
+      this.threadIds = new long[capacity];
+      this.nanoTimes = new long[capacity];
+      this.events = new int[capacity];
+      this.overwritten = overwritten;
+    }
+  }
+}
@@ -0,0 +1,265 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.fact;
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+import static dev.mardroemmar.truthext.time.DurationSubject.durations;
+
+import com.google.common.truth.Fact;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for the events kept by a {@link TimelineRecorder}, to assert upon once the
+ * threads recording to it are done.
+ *
+ * <p>Times in failures are given from the earliest event kept. If events were overwritten, failures say how many, as the assertions only
+ * see those kept.</p>
+ *
+ * @see TimelineRecorder
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class TimelineSubject extends Subject {
+  /**
+   * Assert upon a timeline.
+   *
+   * @param actual the actual timeline
+   * @return a new assertion subject
+   */
+  public static TimelineSubject assertThat(final @Nullable TimelineRecorder actual) {
+    return assertAbout(timelines()).that(actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about {@link TimelineRecorder timelines}.
+   */
+  public static Subject.Factory<TimelineSubject, TimelineRecorder> timelines() {
+    return TimelineSubject::new;
+  }
+
+  private final @Nullable TimelineRecorder actual;
+
+  private TimelineSubject(final FailureMetadata metadata, final @Nullable TimelineRecorder actual) {
+    super(metadata, actual);
+    this.actual = actual;
+  }
+
+  /**
+   * Asserts that every thread recorded its events at non-decreasing {@link System#nanoTime()} times, in the order it recorded them.
+   *
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if a thread recorded an event at an earlier time than the one before it
+   */
+  public void isMonotonicPerThread() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("TimelineSubject", "isMonotonicPerThread()");
+    try {
+      final TimelineRecorder recorder = this.nonNull();
+      final TimelineRecorder.Snapshot snapshot = recorder.snapshot();
+      final Map<Long, Integer> previousByThread = new HashMap<>();
+      final List<String> violations = new ArrayList<>();
+      for (int i = 0; i < snapshot.size; ++i) {
+        final Integer previous = previousByThread.put(snapshot.threadIds[i], i);
+        if (previous == null || snapshot.nanoTimes[previous] - snapshot.nanoTimes[i] <= 0) {
+          continue;
+        }
+        violations.add("event " + i + ": thread " + snapshot.threadIds[i] + " recorded " + recorder.eventName(snapshot.events[i]) + " at "
+            + offset(snapshot, i) + ", before " + recorder.eventName(snapshot.events[previous]) + " at " + offset(snapshot, previous));
+        if (violations.size() >= InstantSequenceRules.DEFAULT_REPORTED_VIOLATIONS) {
+          break;
+        }
+      }
+      if (violations.isEmpty()) {
+        return;
+      }
+
+      final List<Fact> facts = new ArrayList<>(violations.size() + 3);
+      facts.add(simpleFact("expected every thread to record its events at non-decreasing times"));
+      for (final String violation : violations) {
+        facts.add(fact("violation", violation));
+      }
+      if (violations.size() >= InstantSequenceRules.DEFAULT_REPORTED_VIOLATIONS) {
+        facts.add(simpleFact("stopped checking after " + violations.size() + " violations"));
+      }
+      this.fail(snapshot, facts);
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that every {@code earlier} event was recorded at or before the time of every {@code later} event, on any thread.
+   *
+   * @param earlier the name of the event expected first
+   * @param later   the name of the event expected after it
+   * @throws NullPointerException if the {@code earlier} or {@code later} is {@code null}
+   * @throws AssertionError       if the actual is {@code null}
+   * @throws AssertionError       if either event was not recorded, or a {@code later} event was recorded before an {@code earlier} one
+   */
+  public void happensBefore(final String earlier, final String later) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("TimelineSubject", "happensBefore(String, String)");
+    try {
+      Objects.requireNonNull(earlier, "earlier must not be null");
+      Objects.requireNonNull(later, "later must not be null");
+      final TimelineRecorder recorder = this.nonNull();
+      final TimelineRecorder.Snapshot snapshot = recorder.snapshot();
+      final int lastEarlier = last(recorder, snapshot, earlier);
+      final int firstLater = first(recorder, snapshot, later);
+      if (lastEarlier < 0 || firstLater < 0) {
+        // Failing once for both, so a failure strategy that does not throw records a single failure.
+        final List<String> missing = new ArrayList<>(2);
+        if (lastEarlier < 0) {
+          missing.add(earlier);
+        }
+        if (firstLater < 0 && !(lastEarlier < 0 && later.equals(earlier))) {
+          missing.add(later);
+        }
+        this.notRecorded(snapshot, missing);
+        return;
+      }
+      if (snapshot.nanoTimes[lastEarlier] - snapshot.nanoTimes[firstLater] <= 0) {
+        return;
+      }
+
+      this.fail(snapshot, Arrays.asList(
+          simpleFact("expected every " + earlier + " to be recorded before every " + later),
+          fact("but " + later + " was recorded at", offset(snapshot, firstLater) + " on thread " + snapshot.threadIds[firstLater]),
+          fact("before " + earlier + " at", offset(snapshot, lastEarlier) + " on thread " + snapshot.threadIds[lastEarlier])
+      ));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts upon the largest lag between threads recording the {@code event}: for every n, how far apart the n-th time each thread
+   * recorded it are. Threads that recorded it fewer than n times are left out for the n-th.
+   *
+   * @param event the name of the event, as recorded by several threads in step
+   * @return a subject for the largest lag, which is zero if only one thread recorded the {@code event}
+   * @throws NullPointerException if the {@code event} is {@code null}
+   * @throws AssertionError       if the actual is {@code null}
+   * @throws AssertionError       if the {@code event} was not recorded
+   */
+  public DurationSubject crossThreadLag(final String event) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("TimelineSubject", "crossThreadLag(String)");
+    try {
+      Objects.requireNonNull(event, "event must not be null");
+      final TimelineRecorder recorder = this.nonNull();
+      final TimelineRecorder.Snapshot snapshot = recorder.snapshot();
+      final int id = recorder.eventId(event);
+      final Map<Long, int[]> occurrencesByThread = new HashMap<>();
+      long[] earliest = new long[16];
+      long[] latest = new long[16];
+      int rounds = 0;
+      for (int i = 0; i < snapshot.size; ++i) {
+        if (snapshot.events[i] != id) {
+          continue;
+        }
+        final int[] occurrences = occurrencesByThread.computeIfAbsent(snapshot.threadIds[i], thread -> new int[1]);
+        final int round = occurrences[0]++;
+        final long nanoTime = snapshot.nanoTimes[i];
+        if (round == rounds) {
+          if (rounds == earliest.length) {
+            earliest = Arrays.copyOf(earliest, rounds * 2);
+            latest = Arrays.copyOf(latest, rounds * 2);
+          }
+          earliest[round] = nanoTime;
+          latest[round] = nanoTime;
+          ++rounds;
+        } else if (nanoTime - earliest[round] < 0) {
+          earliest[round] = nanoTime;
+        } else if (nanoTime - latest[round] > 0) {
+          latest[round] = nanoTime;
+        }
+      }
+      if (rounds == 0) {
+        this.notRecorded(snapshot, Collections.singletonList(event));
+        throw new AssertionError("unreachable");
+      }
+
+      long lag = 0;
+      for (int round = 0; round < rounds; ++round) {
+        lag = Math.max(lag, latest[round] - earliest[round]);
+      }
+      return this.check("crossThreadLag(%s)", event).about(durations()).that(Duration.ofNanos(lag));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * @return the index of the first {@code event} in the snapshot, or {@code -1} if there is none
+   */
+  private static int first(final TimelineRecorder recorder, final TimelineRecorder.Snapshot snapshot, final String event) {
+    final int id = recorder.eventId(event);
+    int first = -1;
+    for (int i = 0; i < snapshot.size; ++i) {
+      if (snapshot.events[i] == id && (first < 0 || snapshot.nanoTimes[i] - snapshot.nanoTimes[first] < 0)) {
+        first = i;
+      }
+    }
+    return first;
+  }
+
+  /**
+   * @return the index of the last {@code event} in the snapshot, or {@code -1} if there is none
+   */
+  private static int last(final TimelineRecorder recorder, final TimelineRecorder.Snapshot snapshot, final String event) {
+    final int id = recorder.eventId(event);
+    int last = -1;
+    for (int i = 0; i < snapshot.size; ++i) {
+      if (snapshot.events[i] == id && (last < 0 || snapshot.nanoTimes[i] - snapshot.nanoTimes[last] >= 0)) {
+        last = i;
+      }
+    }
+    return last;
+  }
+
+  private void notRecorded(final TimelineRecorder.Snapshot snapshot, final List<String> events) {
+    this.fail(snapshot, Arrays.asList(simpleFact("expected " + String.join(" and ", events) + " to be recorded"),
+        fact("events kept", snapshot.size)));
+  }
+
+  private void fail(final TimelineRecorder.Snapshot snapshot, final List<Fact> facts) {
+    final List<Fact> all = new ArrayList<>(facts);
+    if (snapshot.overwritten > 0) {
+      all.add(fact("events overwritten", snapshot.overwritten));
+    }
+    this.failWithActual(all.get(0), all.subList(1, all.size()).toArray(new Fact[0]));
+  }
+
+  private static Duration offset(final TimelineRecorder.Snapshot snapshot, final int index) {
+    return Duration.ofNanos(snapshot.nanoTimes[index] - snapshot.earliestNanoTime);
+  }
+
+  private TimelineRecorder nonNull() {
+    if (this.actual != null) {
+      return this.actual;
+    }
+
+    failWithActual(simpleFact("expected timeline to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+}
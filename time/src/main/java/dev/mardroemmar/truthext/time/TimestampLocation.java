@@ -0,0 +1,208 @@
+package dev.mardroemmar.truthext.time;
+
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Where on each line of a log the ISO-8601 timestamp starts.
+ *
+ * <p>The timestamp runs from there for as long as the characters can be part of an ISO-8601 date-time with an offset, i.e. digits and
+ * {@code -:.+TZtz}; anything after it is ignored. Instances are immutable.</p>
+ *
+ * @see LogFileSubject
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class TimestampLocation {
+  private final int column;
+  private final boolean whitespaceSeparated;
+  private final char separator;
+  private final @Nullable String prefix;
+  private final boolean ignoringUnmatchedLines;
+
+  private TimestampLocation(final int column, final boolean whitespaceSeparated, final char separator, final @Nullable String prefix,
+      final boolean ignoringUnmatchedLines) {
+    this.column = column;
+    this.whitespaceSeparated = whitespaceSeparated;
+    this.separator = separator;
+    this.prefix = prefix;
+    this.ignoringUnmatchedLines = ignoringUnmatchedLines;
+  }
+
+  /**
+   * The timestamp starts the {@code column}th column, counted from {@code 0}, where columns are separated by runs of spaces and tabs.
+   * Leading spaces and tabs are ignored.
+   *
+   * @param column the index of the column
+   * @return a new location
+   * @throws IllegalArgumentException if the {@code column} is negative
+   */
+  public static TimestampLocation column(final int column) {
+    checkColumn(column);
+    return new TimestampLocation(column, true, ' ', null, false);
+  }
+
+  /**
+   * The timestamp starts the {@code column}th column, counted from {@code 0}, where every {@code separator} starts a new column.
+   *
+   * @param column    the index of the column
+   * @param separator the character separating the columns
+   * @return a new location
+   * @throws IllegalArgumentException if the {@code column} is negative
+   */
+  public static TimestampLocation column(final int column, final char separator) {
+    checkColumn(column);
+    return new TimestampLocation(column, false, separator, null, false);
+  }
+
+  /**
+   * The timestamp starts right after the first occurrence of the {@code prefix}, such as {@code "ts="}.
+   *
+   * @param prefix the text right before the timestamp
+   * @return a new location
+   * @throws NullPointerException     if the {@code prefix} is {@code null}
+   * @throws IllegalArgumentException if the {@code prefix} is empty
+   */
+  public static TimestampLocation after(final String prefix) {
+    Objects.requireNonNull(prefix, "prefix must not be null");
+    if (prefix.isEmpty()) {
+      throw new IllegalArgumentException("prefix must not be empty");
+    }
+    return new TimestampLocation(0, false, ' ', prefix, false);
+  }
+
+  /**
+   * Skip lines that do not have the column or prefix at all, such as blank lines or the lines of a stack trace, rather than failing on
+   * them. Lines that do but have no valid timestamp there still fail.
+   *
+   * @return a new location ignoring lines it does not match
+   */
+  public TimestampLocation ignoringUnmatchedLines() {
+    return new TimestampLocation(this.column, this.whitespaceSeparated, this.separator, this.prefix, true);
+  }
+
+  private static void checkColumn(final int column) {
+    if (column < 0) {
+      throw new IllegalArgumentException("column must not be negative");
+    }
+  }
+
+  boolean isIgnoringUnmatchedLines() {
+    return this.ignoringUnmatchedLines;
+  }
+
+  /**
+   * @param line the line
+   * @param from the index of the first character of the line
+   * @param to   the index after the last character of the line
+   * @return the index the timestamp starts at, or {@code -1} if the line does not have the column or prefix
+   */
+  int start(final CharSequence line, final int from, final int to) {
+    if (this.prefix != null) {
+      final int found = indexOf(line, from, to, this.prefix);
+      return found < 0 ? -1 : found + this.prefix.length();
+    }
+
+    int i = from;
+    if (this.whitespaceSeparated) {
+      i = skipWhitespace(line, i, to);
+      for (int column = 0; column < this.column; ++column) {
+        while (i < to && !isWhitespace(line.charAt(i))) {
+          ++i;
+        }
+        i = skipWhitespace(line, i, to);
+      }
+      return i < to ? i : -1;
+    }
+    for (int column = 0; column < this.column; ++column) {
+      while (i < to && line.charAt(i) != this.separator) {
+        ++i;
+      }
+      if (i == to) {
+        return -1;
+      }
+      ++i;
+    }
+    return i;
+  }
+
+  /**
+   * @return the index after the last character at or after {@code from} that can be part of an ISO-8601 date-time with an offset
+   */
+  static int end(final CharSequence line, final int from, final int to) {
+    int i = from;
+    while (i < to && isTimestampChar(line.charAt(i))) {
+      ++i;
+    }
+    return i;
+  }
+
+  private static boolean isTimestampChar(final char c) {
+    return c >= '0' && c <= ':' || c == '-' || c == '.' || c == '+' || c == 'T' || c == 'Z' || c == 't' || c == 'z';
+  }
+
+  private static boolean isWhitespace(final char c) {
+    return c == ' ' || c == '\t';
+  }
+
+  private static int skipWhitespace(final CharSequence line, final int from, final int to) {
+    int i = from;
+    while (i < to && isWhitespace(line.charAt(i))) {
+      ++i;
+    }
+    return i;
+  }
+
+  private static int indexOf(final CharSequence line, final int from, final int to, final String prefix) {
+    final char first = prefix.charAt(0);
+    for (int i = from, last = to - prefix.length(); i <= last; ++i) {
+      if (line.charAt(i) != first) {
+        continue;
+      }
+      int j = 1;
+      while (j < prefix.length() && line.charAt(i + j) == prefix.charAt(j)) {
+        ++j;
+      }
+      if (j == prefix.length()) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof TimestampLocation)) {
+      return false;
+    }
+    final TimestampLocation that = (TimestampLocation) other;
+    return this.column == that.column
+        && this.whitespaceSeparated == that.whitespaceSeparated
+        && this.separator == that.separator
+        && Objects.equals(this.prefix, that.prefix)
+        && this.ignoringUnmatchedLines == that.ignoringUnmatchedLines;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.column, this.whitespaceSeparated, this.separator, this.prefix, this.ignoringUnmatchedLines);
+  }
+
+  @Override
+  public String toString() {
+    final String location;
+    if (this.prefix != null) {
+      location = "after \"" + this.prefix + "\"";
+    } else if (this.whitespaceSeparated) {
+      location = "column " + this.column;
+    } else {
+      location = "column " + this.column + " separated by '" + this.separator + "'";
+    }
+    return this.ignoringUnmatchedLines ? location + ", ignoring unmatched lines" : location;
+  }
+}
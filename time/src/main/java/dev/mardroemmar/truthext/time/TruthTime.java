@@ -1,10 +1,17 @@
 package dev.mardroemmar.truthext.time;
 
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -19,6 +26,17 @@ public final class TruthTime {
   private TruthTime() {
   }
 
+  /**
+   * Assert upon a {@link Clock}. Alias for {@link ClockSubject#assertThat(Clock)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see ClockSubject#assertThat(Clock)
+   */
+  public static ClockSubject assertThat(final @Nullable Clock actual) {
+    return ClockSubject.assertThat(actual);
+  }
+
   /**
    * Assert upon a {@link DayOfWeek}. Alias for {@link DayOfWeekSubject#assertThat(DayOfWeek)}.
    *
@@ -30,6 +48,76 @@ public final class TruthTime {
     return DayOfWeekSubject.assertThat(actual);
   }
 
+  /**
+   * Retry assertions until they pass or the {@code timeout} runs out. Alias for {@link Eventually#eventually(Duration)}.
+   *
+   * @param timeout how long to retry for
+   * @return a new set of retried assertions
+   * @see Eventually#eventually(Duration)
+   */
+  public static Eventually eventually(final Duration timeout) {
+    return Eventually.eventually(timeout);
+  }
+
+  /**
+   * Collect soft assertions from any number of threads. Alias for {@link TimeExpect#create()}.
+   *
+   * @return a new collector of soft assertions
+   * @see TimeExpect#create()
+   */
+  public static TimeExpect expect() {
+    return TimeExpect.create();
+  }
+
+  /**
+   * Assert upon a file holding a column of fixed-width, signed 64-bit timestamps. Alias for
+   * {@link EpochColumnSubject#assertThat(Path, ByteOrder, TimeUnit)}.
+   *
+   * @param actual the actual to assert upon
+   * @param order  the byte order the timestamps are written in
+   * @param unit   the unit the timestamps count from Epoch
+   * @return a new subject for asserting
+   * @see EpochColumnSubject#assertThat(Path, ByteOrder, TimeUnit)
+   */
+  public static EpochColumnSubject assertThatEpochColumn(final @Nullable Path actual, final ByteOrder order, final TimeUnit unit) {
+    return EpochColumnSubject.assertThat(actual, order, unit);
+  }
+
+  /**
+   * Assert upon a {@link Duration}. Alias for {@link DurationSubject#assertThat(Duration)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see DurationSubject#assertThat(Duration)
+   */
+  public static DurationSubject assertThat(final @Nullable Duration actual) {
+    return DurationSubject.assertThat(actual);
+  }
+
+  /**
+   * Assert upon the time elapsed between two {@link System#nanoTime()} readings. Alias for
+   * {@link DurationSubject#assertThatElapsed(long, long)}.
+   *
+   * @param startNanos the reading at the start
+   * @param endNanos   the reading at the end
+   * @return a new subject for asserting
+   * @see DurationSubject#assertThatElapsed(long, long)
+   */
+  public static DurationSubject assertThatElapsed(final long startNanos, final long endNanos) {
+    return DurationSubject.assertThatElapsed(startNanos, endNanos);
+  }
+
+  /**
+   * Assert upon a sequence of milliseconds from Epoch. Alias for {@link EpochMillisSubject#assertThat(long[])}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see EpochMillisSubject#assertThat(long[])
+   */
+  public static EpochMillisSubject assertThatEpochMillis(final long @Nullable [] actual) {
+    return EpochMillisSubject.assertThat(actual);
+  }
+
   /**
    * Assert upon a {@link Instant}. Alias for {@link InstantSubject#assertThat(Instant)}.
    *
@@ -41,6 +129,99 @@ public final class TruthTime {
     return InstantSubject.assertThat(actual);
   }
 
+  /**
+   * Assert upon an {@link Iterable} of {@link Instant instants in time}. Alias for {@link InstantIterableSubject#assertThat(Iterable)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see InstantIterableSubject#assertThat(Iterable)
+   */
+  public static InstantIterableSubject assertThatInstants(final @Nullable Iterable<? extends @Nullable Instant> actual) {
+    return InstantIterableSubject.assertThat(actual);
+  }
+
+  /**
+   * Assert upon an {@link Iterator} of {@link Instant instants in time}, consuming it lazily. Alias for
+   * {@link InstantStreamSubject#assertThat(Iterator)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see InstantStreamSubject#assertThat(Iterator)
+   */
+  public static InstantStreamSubject assertThatIterator(final @Nullable Iterator<? extends @Nullable Instant> actual) {
+    return InstantStreamSubject.assertThat(actual);
+  }
+
+  /**
+   * Assert upon a distribution of latencies. Alias for {@link LatencyDistributionSubject#assertThat(LatencyHistogram)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see LatencyDistributionSubject#assertThat(LatencyHistogram)
+   */
+  public static LatencyDistributionSubject assertThat(final @Nullable LatencyHistogram actual) {
+    return LatencyDistributionSubject.assertThat(actual);
+  }
+
+  /**
+   * Assert upon a text log in UTF-8 with an ISO-8601 timestamp on each line. Alias for
+   * {@link LogFileSubject#assertThat(Path, TimestampLocation)}.
+   *
+   * @param actual   the actual to assert upon
+   * @param location where the timestamp is on each line
+   * @return a new subject for asserting
+   * @see LogFileSubject#assertThat(Path, TimestampLocation)
+   */
+  public static LogFileSubject assertThatLog(final @Nullable Path actual, final TimestampLocation location) {
+    return LogFileSubject.assertThat(actual, location);
+  }
+
+  /**
+   * Assert upon an instant in time written as an ISO-8601 date-time with an offset. Alias for
+   * {@link InstantSubject#assertThatIso(CharSequence)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see InstantSubject#assertThatIso(CharSequence)
+   */
+  public static InstantSubject assertThatIsoInstant(final @Nullable CharSequence actual) {
+    return InstantSubject.assertThatIso(actual);
+  }
+
+  /**
+   * Assert upon a zoned date-time written in ISO-8601. Alias for {@link ZonedDateTimeSubject#assertThatIso(CharSequence)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see ZonedDateTimeSubject#assertThatIso(CharSequence)
+   */
+  public static ZonedDateTimeSubject assertThatIsoZonedDateTime(final @Nullable CharSequence actual) {
+    return ZonedDateTimeSubject.assertThatIso(actual);
+  }
+
+  /**
+   * Assert upon a number of nanoseconds as a duration. Alias for {@link DurationSubject#assertThatNanos(long)}.
+   *
+   * @param actualNanos the actual number of nanoseconds
+   * @return a new subject for asserting
+   * @see DurationSubject#assertThatNanos(long)
+   */
+  public static DurationSubject assertThatNanos(final long actualNanos) {
+    return DurationSubject.assertThatNanos(actualNanos);
+  }
+
+  /**
+   * Assert upon an {@link Iterable} of {@link LocalDateTime local date-times}. Alias for
+   * {@link LocalDateTimeIterableSubject#assertThat(Iterable)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see LocalDateTimeIterableSubject#assertThat(Iterable)
+   */
+  public static LocalDateTimeIterableSubject assertThatLocalDateTimes(final @Nullable Iterable<? extends @Nullable LocalDateTime> actual) {
+    return LocalDateTimeIterableSubject.assertThat(actual);
+  }
+
   /**
    * Assert upon a {@link Month}. Alias for {@link MonthSubject#assertThat(Month)}.
    *
@@ -52,6 +233,40 @@ public final class TruthTime {
     return MonthSubject.assertThat(actual);
   }
 
+  /**
+   * Assert upon a {@link Stream} of {@link Instant instants in time}, consuming it lazily. Alias for
+   * {@link InstantStreamSubject#assertThat(Stream)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see InstantStreamSubject#assertThat(Stream)
+   */
+  public static InstantStreamSubject assertThatStream(final @Nullable Stream<? extends @Nullable Instant> actual) {
+    return InstantStreamSubject.assertThat(actual);
+  }
+
+  /**
+   * Assert upon the throughput of an operation. Alias for {@link ThroughputSubject#assertThatThroughputOf(Runnable)}.
+   *
+   * @param actual the actual operation to run
+   * @return a new subject for asserting
+   * @see ThroughputSubject#assertThatThroughputOf(Runnable)
+   */
+  public static ThroughputSubject assertThatThroughputOf(final @Nullable Runnable actual) {
+    return ThroughputSubject.assertThatThroughputOf(actual);
+  }
+
+  /**
+   * Assert upon the events kept by a {@link TimelineRecorder}. Alias for {@link TimelineSubject#assertThat(TimelineRecorder)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see TimelineSubject#assertThat(TimelineRecorder)
+   */
+  public static TimelineSubject assertThat(final @Nullable TimelineRecorder actual) {
+    return TimelineSubject.assertThat(actual);
+  }
+
   /**
    * Assert upon a {@link ZonedDateTime}. Alias for {@link ZonedDateTimeSubject#assertThat(ZonedDateTime)}.
    *
@@ -63,6 +278,18 @@ public final class TruthTime {
     return ZonedDateTimeSubject.assertThat(actual);
   }
 
+  /**
+   * Assert upon an {@link Iterable} of {@link ZonedDateTime zoned date-times}. Alias for
+   * {@link ZonedDateTimeIterableSubject#assertThat(Iterable)}.
+   *
+   * @param actual the actual to assert upon
+   * @return a new subject for asserting
+   * @see ZonedDateTimeIterableSubject#assertThat(Iterable)
+   */
+  public static ZonedDateTimeIterableSubject assertThatZonedDateTimes(final @Nullable Iterable<? extends @Nullable ZonedDateTime> actual) {
+    return ZonedDateTimeIterableSubject.assertThat(actual);
+  }
+
   /**
    * Assert upon a {@link LocalDateTime}. Alias for {@link LocalDateTimeSubject#assertThat(LocalDateTime)}.
    *
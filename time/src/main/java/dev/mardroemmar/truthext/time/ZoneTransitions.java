@@ -0,0 +1,231 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The offset transitions of a time-zone as sorted primitive arrays, for lookups by binary search that allocate nothing.
+ *
+ * <p>{@link ZoneRules} answers the same questions, but creates {@link ZoneOffsetTransition transitions} and offset lists for them, and
+ * works out the transitions of each year from its rules again whenever asked about one past the last explicit transition. Here, all
+ * transitions up to {@link #CUTOFF_EPOCH_SECOND 2200} are worked out once per zone; anything past that is handed to the zone's rules.</p>
+ *
+ * <p>Instances are immutable and cached per zone for the lifetime of the class.</p>
+ */
+final class ZoneTransitions {
+  /**
+   * 2200-01-01T00:00:00Z, after which the transitions are not indexed.
+   */
+  static final long CUTOFF_EPOCH_SECOND = 7_258_118_400L;
+  /**
+   * A day before the {@link #CUTOFF_EPOCH_SECOND cutoff} as a local second, which covers any offset; local date-times from then on are
+   * looked up by the zone's rules.
+   */
+  static final long LOCAL_CUTOFF_EPOCH_SECOND = CUTOFF_EPOCH_SECOND - 86_400L;
+  private static final byte STANDARD = 0;
+  private static final byte DAYLIGHT = 1;
+  // The standard offset changes within the segment, without the actual offset changing.
+  private static final byte MIXED = 2;
+  // 1800-01-01T00:00:00Z, before which no zone had standard offsets to speak of.
+  private static final long EARLIEST_PROBE_EPOCH_SECOND = -5_364_662_400L;
+  private static final long STANDARD_PROBE_STEP = 14L * 86_400L;
+  /**
+   * The epoch second returned by {@link #nearest(long)} if a zone has no transitions.
+   */
+  static final long NO_TRANSITION = Long.MIN_VALUE;
+  private static final ConcurrentMap<ZoneId, ZoneTransitions> CACHE = new ConcurrentHashMap<>();
+
+  private final ZoneRules rules;
+  // Whether there are transitions after the last explicit one, which may be past the cutoff.
+  private final boolean hasRules;
+  // transitions[i] is the epoch second of the i-th transition, from offsets[i] to offsets[i + 1], which are in total seconds; the
+  // i-th segment, from transitions[i - 1] to transitions[i], has the saving kind of savings[i].
+  private final long[] transitions;
+  private final int[] offsets;
+  private final byte[] savings;
+
+  private ZoneTransitions(final ZoneRules rules) {
+    this.rules = rules;
+    this.hasRules = !rules.getTransitionRules().isEmpty();
+    final List<ZoneOffsetTransition> explicit = rules.getTransitions();
+    long[] transitions = new long[explicit.size() + 2 * 200];
+    int[] offsets = new int[transitions.length + 1];
+    int count = 0;
+    offsets[0] = rules.getOffset(Instant.MIN).getTotalSeconds();
+    ZoneOffsetTransition transition = explicit.isEmpty() ? rules.nextTransition(Instant.MIN) : explicit.get(0);
+    while (transition != null && transition.toEpochSecond() < CUTOFF_EPOCH_SECOND) {
+      if (count == transitions.length) {
+        transitions = Arrays.copyOf(transitions, count * 2);
+        offsets = Arrays.copyOf(offsets, count * 2 + 1);
+      }
+      transitions[count] = transition.toEpochSecond();
+      offsets[++count] = transition.getOffsetAfter().getTotalSeconds();
+      transition = rules.nextTransition(transition.getInstant());
+    }
+    this.transitions = Arrays.copyOf(transitions, count);
+    this.offsets = Arrays.copyOf(offsets, count + 1);
+
+    this.savings = new byte[count + 1];
+    for (int i = 0; i <= count; ++i) {
+      final long start = i == 0 ? Instant.MIN.getEpochSecond() : this.transitions[i - 1];
+      final long end = (i == count ? CUTOFF_EPOCH_SECOND : this.transitions[i]) - 1;
+      final int standard = standardOffset(rules, start);
+      this.savings[i] = standard == this.offsets[i] ? STANDARD : DAYLIGHT;
+      // ZoneRules does not tell when the standard offset changes, so look for changes between the transitions; any change that is undone
+      // again within the step goes unnoticed, but none is known to have lasted less than a month.
+      for (long probe = Math.max(start, EARLIEST_PROBE_EPOCH_SECOND); probe < end + STANDARD_PROBE_STEP; probe += STANDARD_PROBE_STEP) {
+        if (standardOffset(rules, Math.min(probe, end)) != standard) {
+          this.savings[i] = MIXED;
+          break;
+        }
+      }
+    }
+  }
+
+  private static int standardOffset(final ZoneRules rules, final long epochSecond) {
+    return rules.getStandardOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+  }
+
+  /**
+   * @param zone the time-zone
+   * @return the transitions of the {@code zone}
+   */
+  static ZoneTransitions of(final ZoneId zone) {
+    final ZoneTransitions cached = CACHE.get(zone);
+    return cached != null ? cached : CACHE.computeIfAbsent(zone, id -> new ZoneTransitions(id.getRules()));
+  }
+
+  /**
+   * @param epochSecond the instant in time
+   * @return whether daylight saving time is in effect at the {@code epochSecond}
+   * @see ZoneRules#isDaylightSavings(Instant)
+   */
+  boolean isDaylightSavings(final long epochSecond) {
+    if (epochSecond >= CUTOFF_EPOCH_SECOND) {
+      return this.rules.isDaylightSavings(Instant.ofEpochSecond(epochSecond));
+    }
+    final int segment = this.segment(epochSecond);
+    final byte saving = this.savings[segment];
+    if (saving == MIXED) {
+      return this.rules.isDaylightSavings(Instant.ofEpochSecond(epochSecond));
+    }
+    return saving == DAYLIGHT;
+  }
+
+  /**
+   * @param localEpochSecond the local date-time as seconds from the local Epoch, as by {@code toEpochSecond(ZoneOffset.UTC)}
+   * @return the number of valid offsets for the local date-time: {@code 0} in a gap, {@code 2} in an overlap, and {@code 1} otherwise
+   * @see ZoneRules#getValidOffsets(LocalDateTime)
+   */
+  int validOffsetCount(final long localEpochSecond) {
+    if (localEpochSecond >= LOCAL_CUTOFF_EPOCH_SECOND) {
+      return this.rules.getValidOffsets(LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC)).size();
+    }
+    final int transition = this.transitionAtLocal(localEpochSecond);
+    if (transition < 0) {
+      return 1;
+    }
+    return this.isGap(transition) ? 0 : 2;
+  }
+
+  /**
+   * @param localEpochSecond the local date-time as seconds from the local Epoch, before the {@link #LOCAL_CUTOFF_EPOCH_SECOND cutoff}
+   * @return the index of the transition whose gap or overlap holds the {@code localEpochSecond}, or {@code -1} if there is none
+   */
+  int transitionAtLocal(final long localEpochSecond) {
+    final int transition = this.firstEndingAfterLocal(localEpochSecond);
+    return transition < this.transitions.length && this.localStart(transition) <= localEpochSecond ? transition : -1;
+  }
+
+  /**
+   * @param localEpochSecond the local date-time as seconds from the local Epoch
+   * @return the index of the first transition whose gap or overlap ends after the {@code localEpochSecond}, or {@link #size()} if none
+   *     does
+   */
+  int firstEndingAfterLocal(final long localEpochSecond) {
+    // Transitions are months apart and offsets change by hours, so their local ends are as sorted as the transitions themselves.
+    int low = 0;
+    int high = this.transitions.length;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (this.localEnd(middle) <= localEpochSecond) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @return the number of indexed transitions
+   */
+  int size() {
+    return this.transitions.length;
+  }
+
+  /**
+   * @param transition the index of a transition
+   * @return whether the transition moves the clock forward, leaving a gap in local time; otherwise, it leaves an overlap
+   */
+  boolean isGap(final int transition) {
+    return this.offsets[transition + 1] > this.offsets[transition];
+  }
+
+  /**
+   * @param epochSecond the instant in time
+   * @return the epoch second of the transition nearest to the {@code epochSecond}, the earlier on a tie, or {@link #NO_TRANSITION} if
+   *     the zone has none
+   */
+  long nearest(final long epochSecond) {
+    final int after = this.segment(epochSecond);
+    if (after == this.transitions.length && this.hasRules) {
+      // Later transitions may be past the cutoff; the rules know them all.
+      final Instant instant = Instant.ofEpochSecond(epochSecond);
+      final ZoneOffsetTransition previous = this.rules.previousTransition(instant.plusSeconds(1));
+      final ZoneOffsetTransition next = this.rules.nextTransition(instant);
+      return closer(epochSecond, previous == null ? NO_TRANSITION : previous.toEpochSecond(),
+          next == null ? NO_TRANSITION : next.toEpochSecond());
+    }
+    return closer(epochSecond, after == 0 ? NO_TRANSITION : this.transitions[after - 1],
+        after == this.transitions.length ? NO_TRANSITION : this.transitions[after]);
+  }
+
+  private static long closer(final long epochSecond, final long previous, final long next) {
+    if (previous == NO_TRANSITION || next == NO_TRANSITION) {
+      return previous == NO_TRANSITION ? next : previous;
+    }
+    // Both are within the range of an Instant, so the distances cannot overflow.
+    return epochSecond - previous <= next - epochSecond ? previous : next;
+  }
+
+  /**
+   * @return the first local second of the gap or overlap of the {@code transition}
+   */
+  long localStart(final int transition) {
+    return this.transitions[transition] + Math.min(this.offsets[transition], this.offsets[transition + 1]);
+  }
+
+  /**
+   * @return the local second after the gap or overlap of the {@code transition}
+   */
+  long localEnd(final int transition) {
+    return this.transitions[transition] + Math.max(this.offsets[transition], this.offsets[transition + 1]);
+  }
+
+  /**
+   * @return the index of the segment holding the {@code epochSecond}, which is the number of transitions at or before it
+   */
+  private int segment(final long epochSecond) {
+    final int index = Arrays.binarySearch(this.transitions, epochSecond);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+}
@@ -0,0 +1,189 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Fact.simpleFact;
+import static com.google.common.truth.Truth.assertAbout;
+import static dev.mardroemmar.truthext.time.InstantSequenceRules.rules;
+
+import com.google.common.truth.Fact;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.IterableSubject;
+import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link com.google.common.truth.Truth Truth} subject for an {@link Iterable} of {@link ZonedDateTime zoned date-times}.
+ *
+ * <p>On top of everything an {@link IterableSubject} can do, this checks the ordering, duplicates, bounds and gaps of the instants in time
+ * of the zoned date-times in a single streaming pass, without creating a subject or {@link Instant} per element. Two zoned date-times at
+ * the same instant in time are equal as far as these checks are concerned, regardless of their time-zones. Failures report the first
+ * violations only.</p>
+ *
+ * @see IterableSubject
+ * @see InstantSequenceRules
+ * @since 1.1.0
+ */
+@API(status = Status.EXPERIMENTAL)
+public class ZonedDateTimeIterableSubject extends IterableSubject {
+  /**
+   * Assert upon zoned date-times.
+   *
+   * @param actual the actual zoned date-times
+   * @return a new assertion subject
+   */
+  public static ZonedDateTimeIterableSubject assertThat(final @Nullable Iterable<? extends @Nullable ZonedDateTime> actual) {
+    return assertAbout(zonedDateTimeIterables()).that(actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about {@link Iterable iterables} of {@link ZonedDateTime zoned date-times}.
+   */
+  public static Subject.Factory<ZonedDateTimeIterableSubject, Iterable<? extends @Nullable ZonedDateTime>> zonedDateTimeIterables() {
+    return (metadata, actual) -> new ZonedDateTimeIterableSubject(metadata, actual, false);
+  }
+
+  private final @Nullable Iterable<? extends @Nullable ZonedDateTime> actual;
+  private final boolean parallel;
+
+  private ZonedDateTimeIterableSubject(final FailureMetadata metadata, final @Nullable Iterable<? extends @Nullable ZonedDateTime> actual,
+      final boolean parallel) {
+    super(metadata, actual);
+    this.actual = actual;
+    this.parallel = parallel;
+  }
+
+  /**
+   * Assert further on the {@code actual}, checking the sequence assertions of this subject on the {@link
+   * java.util.concurrent.ForkJoinPool#commonPool() common pool}. The same violations are reported as when checking sequentially, no
+   * matter how the work was scheduled.
+   *
+   * <p>This pays off from around a million elements. Anything but a {@link java.util.RandomAccess random access} {@link java.util.List}
+   * is copied into one first.</p>
+   *
+   * @return a subject checking the sequence assertions in parallel
+   */
+  public ZonedDateTimeIterableSubject inParallel() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeIterableSubject", "inParallel()");
+    try {
+      return this.check("inParallel()")
+          .about((Subject.Factory<ZonedDateTimeIterableSubject, Iterable<? extends @Nullable ZonedDateTime>>)
+              (metadata, actual) -> new ZonedDateTimeIterableSubject(metadata, actual, true))
+          .that(this.actual);
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the {@code actual} satisfies every one of the {@code rules}, checked together in a single pass. Checking stops once as
+   * many violations as the {@code rules} {@link InstantSequenceRules#reportingAtMost(int) report} have been found.
+   *
+   * @param rules the rules to check
+   * @throws NullPointerException if the {@code rules} is {@code null}
+   * @throws AssertionError       if the actual is {@code null}
+   * @throws AssertionError       if an element is {@code null} or violates one of the {@code rules}
+   */
+  public void satisfies(final InstantSequenceRules rules) {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeIterableSubject", "satisfies(InstantSequenceRules)");
+    try {
+      Objects.requireNonNull(rules, "rules must not be null");
+      if (this.parallel) {
+        this.failIfViolated(rules, ParallelInstantSequenceCheck.check(this.nonNull(), rules, ParallelInstantSequenceCheck.ZONED_DATE_TIMES,
+            ZonedDateTime::toInstant));
+        return;
+      }
+
+      final InstantSequenceChecker checker = new InstantSequenceChecker(rules);
+      for (final ZonedDateTime zonedDateTime : this.nonNull()) {
+        if (!checker.accept(zonedDateTime)) {
+          break;
+        }
+      }
+      this.failIfViolated(rules, checker.violations());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that every element of the {@code actual} is after the element before it.
+   *
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if an element is {@code null}, or not after the element before it
+   * @see InstantSequenceRules#strictlyIncreasing()
+   */
+  public void isStrictlyIncreasing() {
+    this.satisfies(rules().strictlyIncreasing());
+  }
+
+  /**
+   * Asserts that no element of the {@code actual} is before the element before it.
+   *
+   * @throws AssertionError if the actual is {@code null}
+   * @throws AssertionError if an element is {@code null}, or before the element before it
+   * @see InstantSequenceRules#nonDecreasing()
+   */
+  public void isNonDecreasing() {
+    this.satisfies(rules().nonDecreasing());
+  }
+
+  /**
+   * Asserts that every element of the {@code actual} is between the {@code lower} and {@code upper} instants in time, both inclusive.
+   *
+   * @param lower the earliest allowed instant in time
+   * @param upper the latest allowed instant in time
+   * @throws NullPointerException     if the {@code lower} or {@code upper} is {@code null}
+   * @throws IllegalArgumentException if the {@code lower} is after the {@code upper}
+   * @throws AssertionError           if the actual is {@code null}
+   * @throws AssertionError           if an element is {@code null}, or before the {@code lower} or after the {@code upper}
+   * @see InstantSequenceRules#between(Instant, Instant)
+   */
+  public void allBetween(final Instant lower, final Instant upper) {
+    this.satisfies(rules().between(lower, upper));
+  }
+
+  /**
+   * Asserts that no element of the {@code actual} is more than {@code maxGap} after the element before it.
+   *
+   * @param maxGap the largest allowed gap between two consecutive elements
+   * @throws NullPointerException     if the {@code maxGap} is {@code null}
+   * @throws IllegalArgumentException if the {@code maxGap} is negative
+   * @throws AssertionError           if the actual is {@code null}
+   * @throws AssertionError           if an element is {@code null}, or further after the element before it than the {@code maxGap}
+   * @see InstantSequenceRules#maxGap(Duration)
+   */
+  public void maxGapAtMost(final Duration maxGap) {
+    this.satisfies(rules().maxGap(maxGap));
+  }
+
+  private void failIfViolated(final InstantSequenceRules rules, final List<String> violations) {
+    if (violations.isEmpty()) {
+      return;
+    }
+    // The actual is left out on purpose: it is typically far too large to print.
+    final List<Fact> facts = InstantSequenceChecker.failureFacts(rules, violations);
+    this.failWithoutActual(facts.get(0), facts.subList(1, facts.size()).toArray(new Fact[0]));
+  }
+
+  private Iterable<? extends @Nullable ZonedDateTime> nonNull() {
+    if (this.actual != null) {
+      return this.actual;
+    }
+
+    failWithActual(simpleFact("expected zoned date-times to be non-null"));
+    throw new AssertionError("unreachable");
+  }
+}
@@ -12,11 +12,16 @@ import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.IntegerSubject;
 import com.google.common.truth.LongSubject;
 import com.google.common.truth.Subject;
+import dev.mardroemmar.truthext.instrumentation.AssertionProbe;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.common.value.qual.IntRange;
@@ -46,6 +51,41 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
     return ZonedDateTimeSubject::new;
   }
 
+  /**
+   * Assert upon a zoned date-time written in ISO-8601, such as {@code 2022-04-20T15:37:00+02:00} or
+   * {@code 2022-04-20T15:37:00+02:00[Europe/Paris]}.
+   *
+   * <p>The common layout of a four digit year, an offset of {@code Z} or {@code +HH:MM[:SS]} and an optional zone region is parsed by
+   * hand, without the allocations of a {@link java.time.format.DateTimeFormatter}. Any other layout is parsed by
+   * {@link java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME}, so exactly what it accepts is accepted, with the same result.</p>
+   *
+   * @param actual the actual zoned date-time, in ISO-8601
+   * @return a new assertion subject
+   * @throws AssertionError if the actual is not an ISO-8601 zoned date-time
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public static ZonedDateTimeSubject assertThatIso(final @Nullable CharSequence actual) {
+    return assertAbout(isoZonedDateTimes()).that(actual);
+  }
+
+  /**
+   * @return a subject factory for asserting about {@link ZonedDateTime zoned date-times} written in ISO-8601.
+   * @see #assertThatIso(CharSequence)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public static Factory<ZonedDateTimeSubject, CharSequence> isoZonedDateTimes() {
+    return (metadata, actual) -> {
+      final ZonedDateTime zonedDateTime = actual == null ? null : IsoInstantParser.parseZonedDateTime(actual);
+      final ZonedDateTimeSubject subject = new ZonedDateTimeSubject(metadata, zonedDateTime);
+      if (actual != null && zonedDateTime == null) {
+        subject.failWithoutActual(simpleFact("expected an ISO-8601 zoned date-time"), fact("but was", actual));
+      }
+      return subject;
+    };
+  }
+
   private final @Nullable ZonedDateTime actual;
 
   private ZonedDateTimeSubject(final FailureMetadata metadata, final @Nullable ZonedDateTime actual) {
@@ -62,9 +102,17 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @throws NullPointerException if the {@code other} is null
    */
   public void isSameInstantAs(final ChronoZonedDateTime<?> other) {
-    Objects.requireNonNull(other, "other must not be null");
-    if (!this.nonNull().isEqual(other)) {
-      this.failWithActual(simpleFact("expected actual to have same instant in time as other"), fact("other", other));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "isSameInstantAs(ChronoZonedDateTime)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (!this.nonNull().isEqual(other)) {
+        this.failWithActual(simpleFact("expected actual to have same instant in time as other"), fact("other", other));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -77,9 +125,17 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @throws NullPointerException if the {@code other} is null
    */
   public void isSameInstantAs(final Instant other) {
-    Objects.requireNonNull(other, "other must not be null");
-    if (!this.nonNull().toInstant().equals(other)) {
-      this.failWithActual(simpleFact("expected actual to have same instant in time as other"), fact("other", other));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "isSameInstantAs(Instant)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (!isSameInstant(this.nonNull(), other)) {
+        this.failWithActual(simpleFact("expected actual to have same instant in time as other"), fact("other", other));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -92,9 +148,17 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @throws NullPointerException if the {@code other} is null
    */
   public void isNotSameInstantAs(final ChronoZonedDateTime<?> other) {
-    Objects.requireNonNull(other, "other must not be null");
-    if (this.nonNull().isEqual(other)) {
-      this.failWithActual(simpleFact("expected actual to have different instant in time as other"), fact("other", other));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "isNotSameInstantAs(ChronoZonedDateTime)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (this.nonNull().isEqual(other)) {
+        this.failWithActual(simpleFact("expected actual to have different instant in time as other"), fact("other", other));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -107,9 +171,17 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @throws NullPointerException if the {@code other} is null
    */
   public void isNotSameInstantAs(final Instant other) {
-    Objects.requireNonNull(other, "other must not be null");
-    if (this.nonNull().toInstant().equals(other)) {
-      this.failWithActual(simpleFact("expected actual to have different instant in time as other"), fact("other", other));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "isNotSameInstantAs(Instant)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (isSameInstant(this.nonNull(), other)) {
+        this.failWithActual(simpleFact("expected actual to have different instant in time as other"), fact("other", other));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -122,9 +194,17 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @throws NullPointerException if the {@code other} is null
    */
   public void isSameLocalAs(final ChronoZonedDateTime<?> other) {
-    Objects.requireNonNull(other, "other must not be null");
-    if (!this.nonNull().toLocalDateTime().isEqual(other.toLocalDateTime())) {
-      this.failWithActual(simpleFact("expected actual to have same local as other"), fact("other", other));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "isSameLocalAs(ChronoZonedDateTime)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (!this.nonNull().toLocalDateTime().isEqual(other.toLocalDateTime())) {
+        this.failWithActual(simpleFact("expected actual to have same local as other"), fact("other", other));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -137,9 +217,145 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @throws NullPointerException if the {@code other} is null
    */
   public void isNotSameLocalAs(final ChronoZonedDateTime<?> other) {
-    Objects.requireNonNull(other, "other must not be null");
-    if (this.nonNull().toLocalDateTime().isEqual(other.toLocalDateTime())) {
-      this.failWithActual(simpleFact("expected actual to have different local as other"), fact("other", other));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "isNotSameLocalAs(ChronoZonedDateTime)");
+    try {
+      Objects.requireNonNull(other, "other must not be null");
+      if (this.nonNull().toLocalDateTime().isEqual(other.toLocalDateTime())) {
+        this.failWithActual(simpleFact("expected actual to have different local as other"), fact("other", other));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that daylight saving time is in effect in the zone of the {@code actual} at its instant in time.
+   *
+   * @throws AssertionError if the {@code actual} is null
+   * @throws AssertionError if the {@code actual} is in standard time
+   * @see java.time.zone.ZoneRules#isDaylightSavings(Instant)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public void isInDaylightSavingTime() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "isInDaylightSavingTime()");
+    try {
+      final ZonedDateTime actual = this.nonNull();
+      if (!ZoneTransitions.of(actual.getZone()).isDaylightSavings(actual.toEpochSecond())) {
+        this.failWithActual(simpleFact("expected to be in daylight saving time"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that standard time is in effect in the zone of the {@code actual} at its instant in time.
+   *
+   * @throws AssertionError if the {@code actual} is null
+   * @throws AssertionError if the {@code actual} is in daylight saving time
+   * @see java.time.zone.ZoneRules#isDaylightSavings(Instant)
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public void isNotInDaylightSavingTime() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "isNotInDaylightSavingTime()");
+    try {
+      final ZonedDateTime actual = this.nonNull();
+      if (ZoneTransitions.of(actual.getZone()).isDaylightSavings(actual.toEpochSecond())) {
+        this.failWithActual(simpleFact("expected not to be in daylight saving time"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the local date-time of the {@code actual} is in an overlap of its zone, where the clocks were set back, so that it is
+   * ambiguous without the offset.
+   *
+   * <p>A zoned date-time cannot be in a gap, as creating one from a local date-time in a gap moves it past the gap; use
+   * {@link LocalDateTimeSubject#isInGap(ZoneId)} on the local date-time instead.</p>
+   *
+   * @throws AssertionError if the {@code actual} is null
+   * @throws AssertionError if the {@code actual} is not in an overlap
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public void isInOverlap() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "isInOverlap()");
+    try {
+      final ZonedDateTime actual = this.nonNull();
+      if (ZoneTransitions.of(actual.getZone()).validOffsetCount(actual.toLocalDateTime().toEpochSecond(ZoneOffset.UTC)) != 2) {
+        this.failWithActual(simpleFact("expected to be in an overlap"));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Asserts that the local date-time of the {@code actual} is not in an overlap of its zone, so that it is unambiguous without the
+   * offset.
+   *
+   * @throws AssertionError if the {@code actual} is null
+   * @throws AssertionError if the {@code actual} is in an overlap
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public void isNotInOverlap() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "isNotInOverlap()");
+    try {
+      final ZonedDateTime actual = this.nonNull();
+      if (ZoneTransitions.of(actual.getZone()).validOffsetCount(actual.toLocalDateTime().toEpochSecond(ZoneOffset.UTC)) == 2) {
+        this.failWithActual(simpleFact("expected not to be in an overlap"),
+            fact("overlap", actual.getZone().getRules().getTransition(actual.toLocalDateTime())));
+      }
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  /**
+   * Assert further on the instant in time of the offset transition of the zone of the {@code actual} nearest to it, the earlier one if
+   * two are equally near.
+   *
+   * @return a subject about the instant in time of the nearest transition
+   * @throws AssertionError if the {@code actual} is null
+   * @throws AssertionError if the zone of the {@code actual} has no transitions
+   * @since 1.1.0
+   */
+  @API(status = Status.EXPERIMENTAL)
+  public InstantSubject nearestTransition() {
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "nearestTransition()");
+    try {
+      final ZonedDateTime actual = this.nonNull();
+      final long transition = ZoneTransitions.of(actual.getZone()).nearest(actual.toEpochSecond());
+      if (transition == ZoneTransitions.NO_TRANSITION) {
+        this.failWithActual(simpleFact("expected zone to have offset transitions"));
+        throw new AssertionError("unreachable");
+      }
+      return this.check("nearestTransition()").about(instants()).that(Instant.ofEpochSecond(transition));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
     }
   }
 
@@ -151,7 +367,15 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#toInstant()
    */
   public InstantSubject instant() {
-    return this.check("toInstant()").about(instants()).that(this.nonNull().toInstant());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "instant()");
+    try {
+      return this.check("toInstant()").about(instants()).that(this.nonNull().toInstant());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -162,9 +386,17 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#withZoneSameInstant(ZoneId)
    */
   public ZonedDateTimeSubject withZoneSameInstant(final ZoneId zoneId) {
-    return this.check("withZoneSameInstant(%s)", zoneId)
-        .about(zonedDateTimes())
-        .that(this.nonNull().withZoneSameInstant(zoneId));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "withZoneSameInstant(ZoneId)");
+    try {
+      return this.check("withZoneSameInstant(%s)", zoneId)
+          .about(zonedDateTimes())
+          .that(this.nonNull().withZoneSameInstant(zoneId));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -178,9 +410,17 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#withZoneSameLocal(ZoneId)
    */
   public ZonedDateTimeSubject withZoneSameLocal(final ZoneId zoneId) {
-    return this.check("withZoneSameLocal(%s)", zoneId)
-        .about(zonedDateTimes())
-        .that(this.nonNull().withZoneSameLocal(zoneId));
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "withZoneSameLocal(ZoneId)");
+    try {
+      return this.check("withZoneSameLocal(%s)", zoneId)
+          .about(zonedDateTimes())
+          .that(this.nonNull().withZoneSameLocal(zoneId));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -191,7 +431,15 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#getDayOfYear()
    */
   public @IntRange(from = 1, to = 366) IntegerSubject dayOfYear() {
-    return this.check("getDayOfYear()").that(this.nonNull().getDayOfYear());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "dayOfYear()");
+    try {
+      return this.check("getDayOfYear()").that(this.nonNull().getDayOfYear());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -202,7 +450,15 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#getDayOfMonth()
    */
   public IntegerSubject dayOfMonth() {
-    return this.check("getDayOfMonth()").that(this.nonNull().getDayOfMonth());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "dayOfMonth()");
+    try {
+      return this.check("getDayOfMonth()").that(this.nonNull().getDayOfMonth());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -213,7 +469,15 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#getHour()
    */
   public @IntRange(from = 0, to = 23) IntegerSubject hour() {
-    return this.check("getHour()").that(this.nonNull().getHour());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "hour()");
+    try {
+      return this.check("getHour()").that(this.nonNull().getHour());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -224,7 +488,15 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#getMinute()
    */
   public @IntRange(from = 0, to = 59) IntegerSubject minute() {
-    return this.check("getMinute()").that(this.nonNull().getMinute());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "minute()");
+    try {
+      return this.check("getMinute()").that(this.nonNull().getMinute());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -235,7 +507,15 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#getSecond()
    */
   public @IntRange(from = 0, to = 59) IntegerSubject second() {
-    return this.check("getSecond()").that(this.nonNull().getSecond());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "second()");
+    try {
+      return this.check("getSecond()").that(this.nonNull().getSecond());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -246,7 +526,15 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#getNano()
    */
   public @IntRange(from = 0, to = 999_999_999) IntegerSubject nano() {
-    return this.check("getNano()").that(this.nonNull().getNano());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "nano()");
+    try {
+      return this.check("getNano()").that(this.nonNull().getNano());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -259,7 +547,16 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see InstantSubject#epochMilli()
    */
   public @NonNegative LongSubject epochMilli() {
-    return this.instant().epochMilli();
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "epochMilli()");
+    try {
+      final ZonedDateTime actual = this.nonNull();
+      return this.check("toInstant().toEpochMillis()").that(InstantSubject.toEpochMilli(actual.toEpochSecond(), actual.getNano()));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -271,7 +568,15 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see InstantSubject#epochSecond()
    */
   public @NonNegative LongSubject epochSecond() {
-    return this.instant().epochSecond();
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "epochSecond()");
+    try {
+      return this.check("toInstant().getEpochSecond()").that(this.nonNull().toEpochSecond());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -282,7 +587,16 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see InstantSubject#epochDay()
    */
   public @NonNegative LongSubject epochDay() {
-    return this.instant().epochDay();
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "epochDay()");
+    try {
+      return this.check("toInstant().TimeUnit.SECONDS.toDays(getEpochSecond())")
+          .that(TimeUnit.SECONDS.toDays(this.nonNull().toEpochSecond()));
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -293,7 +607,15 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#getMonthValue()
    */
   public @IntRange(from = 1, to = 12) IntegerSubject monthValue() {
-    return this.check("getMonthValue()").that(this.nonNull().getMonthValue());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "monthValue()");
+    try {
+      return this.check("getMonthValue()").that(this.nonNull().getMonthValue());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -304,7 +626,15 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#getMonth()
    */
   public MonthSubject month() {
-    return this.check("getMonth()").about(months()).that(this.nonNull().getMonth());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "month()");
+    try {
+      return this.check("getMonth()").about(months()).that(this.nonNull().getMonth());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
   }
 
   /**
@@ -315,7 +645,20 @@ public class ZonedDateTimeSubject extends ComparableSubject<ZonedDateTime> {
    * @see ZonedDateTime#getDayOfWeek()
    */
   public DayOfWeekSubject dayOfWeek() {
-    return this.check("getDayOfWeek()").about(daysOfWeek()).that(this.nonNull().getDayOfWeek());
+    final @Nullable AssertionProbe probe = AssertionProbe.begin("ZonedDateTimeSubject", "dayOfWeek()");
+    try {
+      return this.check("getDayOfWeek()").about(daysOfWeek()).that(this.nonNull().getDayOfWeek());
+    } catch (final RuntimeException | Error ex) {
+      AssertionProbe.failed(probe);
+      throw ex;
+    } finally {
+      AssertionProbe.end(probe);
+    }
+  }
+
+  private static boolean isSameInstant(final ZonedDateTime actual, final Instant other) {
+    // Compares the parts rather than going through ZonedDateTime#toInstant, which would allocate.
+    return actual.toEpochSecond() == other.getEpochSecond() && actual.getNano() == other.getNano();
   }
 
   private ZonedDateTime nonNull() {
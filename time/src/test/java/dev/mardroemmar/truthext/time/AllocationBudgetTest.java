@@ -0,0 +1,79 @@
+package dev.mardroemmar.truthext.time;
+
+import static dev.mardroemmar.truthext.instrumentation.AllocationBudget.assertAllocatesAtMost;
+import static dev.mardroemmar.truthext.instrumentation.AllocationBudget.truthDerivedSubjectBytes;
+import static dev.mardroemmar.truthext.instrumentation.AllocationBudget.truthSubjectBytes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.Test;
+
+class AllocationBudgetTest {
+  // What Truth allocates per subject is measured on the running JVM. Each test adds the most its own subject was measured to allocate on
+  // top of that, and a slack for rounding that is smaller than any object, so a new allocation per assertion fails the budget.
+  private static final long SLACK = 8;
+
+  private static long subjectBudget(final long ownBytes) {
+    return truthSubjectBytes() + ownBytes + SLACK;
+  }
+
+  private static long derivedSubjectBudget(final long ownBytes) {
+    return truthDerivedSubjectBytes() + ownBytes + SLACK;
+  }
+
+  @Test
+  void instantIsBefore() {
+    final Instant earlier = Instant.parse("2022-01-11T12:00:00Z");
+    final Instant later = earlier.plusSeconds(1L);
+    assertAllocatesAtMost(subjectBudget(32), () -> InstantSubject.assertThat(earlier).isBefore(later));
+  }
+
+  @Test
+  void zonedDateTimeIsSameInstantAs() {
+    final ZonedDateTime actual = ZonedDateTime.of(2022, 1, 11, 12, 0, 0, 0, ZoneId.of("Europe/Stockholm"));
+    final Instant instant = actual.toInstant();
+    assertAllocatesAtMost(subjectBudget(32), () -> ZonedDateTimeSubject.assertThat(actual).isSameInstantAs(instant));
+  }
+
+  @Test
+  void zonedDateTimeEpochMilli() {
+    final ZonedDateTime actual = ZonedDateTime.of(2022, 1, 11, 12, 0, 0, 0, ZoneId.of("Europe/Stockholm"));
+    final long epochMilli = actual.toInstant().toEpochMilli();
+    assertAllocatesAtMost(derivedSubjectBudget(136), () -> ZonedDateTimeSubject.assertThat(actual).epochMilli().isEqualTo(epochMilli));
+  }
+
+  @Test
+  void instantAssertThatIso() {
+    final Instant earlier = Instant.parse("2022-01-11T12:00:00Z");
+    assertAllocatesAtMost(subjectBudget(88), () -> InstantSubject.assertThatIso("2022-01-11T12:00:00.123456789Z").isAfter(earlier));
+  }
+
+  @Test
+  void durationAssertThatElapsed() {
+    final Duration max = Duration.ofMillis(5);
+    final long start = System.nanoTime();
+    assertAllocatesAtMost(subjectBudget(64), () -> DurationSubject.assertThatElapsed(start, start + 1_000).isAtMost(max));
+  }
+
+  @Test
+  void latencyHistogramRecord() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    final long start = System.nanoTime();
+    assertAllocatesAtMost(0, () -> histogram.recordElapsed(start, System.nanoTime()));
+  }
+
+  @Test
+  void timelineRecord() {
+    final TimelineRecorder timeline = TimelineRecorder.create(16);
+    final int event = timeline.event("event");
+    assertAllocatesAtMost(0, () -> timeline.record(event));
+  }
+
+  @Test
+  void zonedDateTimeIsInDaylightSavingTime() {
+    final ZonedDateTime actual = ZonedDateTime.of(2022, 7, 11, 12, 0, 0, 0, ZoneId.of("Europe/Stockholm"));
+    assertAllocatesAtMost(subjectBudget(32), () -> ZonedDateTimeSubject.assertThat(actual).isInDaylightSavingTime());
+  }
+}
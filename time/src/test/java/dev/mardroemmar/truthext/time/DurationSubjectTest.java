@@ -0,0 +1,118 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DurationSubjectTest {
+  private static final Duration MAX = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+  private static final Duration MIN = Duration.ofSeconds(Long.MIN_VALUE);
+
+  @Test
+  void isAtMost() {
+    DurationSubject.assertThat(Duration.ofMillis(5)).isAtMost(Duration.ofMillis(5));
+    DurationSubject.assertThatNanos(4_999_999).isAtMost(Duration.ofMillis(5));
+    DurationSubject.assertThatNanos(Long.MIN_VALUE).isAtMost(Duration.ZERO);
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(5_000_001).isAtMost(Duration.ofMillis(5)));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThat(null).isAtMost(Duration.ofMillis(5)));
+  }
+
+  @Test
+  void isAtLeast() {
+    DurationSubject.assertThatNanos(5_000_000).isAtLeast(Duration.ofMillis(5));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(-1).isAtLeast(Duration.ZERO));
+  }
+
+  @Test
+  void isShorterAndLongerThan() {
+    DurationSubject.assertThat(Duration.ofSeconds(1)).isShorterThan(MAX);
+    DurationSubject.assertThat(Duration.ofSeconds(1)).isLongerThan(MIN);
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(1).isShorterThan(Duration.ofNanos(1)));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(1).isLongerThan(Duration.ofNanos(1)));
+  }
+
+  @Test
+  void isNegativeAndZero() {
+    DurationSubject.assertThatNanos(-1).isNegative();
+    DurationSubject.assertThatNanos(0).isZero();
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(0).isNegative());
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThat(Duration.ofNanos(-1)).isZero());
+  }
+
+  @Test
+  void assertThatElapsed() {
+    DurationSubject.assertThatElapsed(100, 250).isEqualTo(Duration.ofNanos(150));
+    // System.nanoTime() wrapping around in between.
+    DurationSubject.assertThatElapsed(Long.MAX_VALUE - 9, Long.MIN_VALUE + 10).isEqualTo(Duration.ofNanos(20));
+    DurationSubject.assertThatElapsed(250, 100).isNegative();
+  }
+
+  @Test
+  void isWithin() {
+    DurationSubject.assertThatNanos(1_050).isWithin(Duration.ofNanos(50)).of(Duration.ofNanos(1_000));
+    DurationSubject.assertThatNanos(950).isWithin(Duration.ofNanos(50)).ofNanos(1_000);
+    DurationSubject.assertThat(Duration.ofSeconds(1, 100)).isWithin(Duration.ofNanos(200)).of(Duration.ofSeconds(0, 999_999_900));
+    Assertions.assertThrows(AssertionError.class,
+        () -> DurationSubject.assertThatNanos(1_051).isWithin(Duration.ofNanos(50)).of(Duration.ofNanos(1_000)));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(949).isWithin(Duration.ofNanos(50)).ofNanos(1_000));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> DurationSubject.assertThatNanos(0).isWithin(Duration.ofNanos(-1)));
+  }
+
+  @Test
+  void isWithinDoesNotOverflow() {
+    DurationSubject.assertThat(MAX).isWithin(MAX).of(Duration.ZERO);
+    DurationSubject.assertThat(MIN).isWithin(MAX).of(Duration.ofNanos(-1));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThat(MAX).isWithin(MAX).of(MIN));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThat(MIN).isWithin(MAX).of(MAX));
+  }
+
+  @Test
+  void isEqualTo() {
+    DurationSubject.assertThatNanos(1_500_000_000).isEqualTo(Duration.ofMillis(1_500));
+    DurationSubject.assertThatNanos(1).isNotEqualTo(Duration.ofNanos(2));
+    DurationSubject.assertThatNanos(1).isNotEqualTo(1L);
+    DurationSubject.assertThatNanos(1).isNotNull();
+    DurationSubject.assertThat(null).isNull();
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(1).isEqualTo(1L));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(0).isEqualTo(null));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(0).isNull());
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(1).isNotEqualTo(Duration.ofNanos(1)));
+  }
+
+  @Test
+  void nanosBehaveAsDuration() {
+    DurationSubject.assertThatNanos(5).isAnyOf(Duration.ofNanos(4), Duration.ofNanos(5));
+    DurationSubject.assertThatNanos(5).isIn(Arrays.asList(null, Duration.ofNanos(5)));
+    DurationSubject.assertThatNanos(5).isNoneOf(Duration.ofNanos(4), 5L, (Object[]) null);
+    DurationSubject.assertThatNanos(5).isNotIn(Collections.singletonList(Duration.ofNanos(4)));
+    DurationSubject.assertThatNanos(5).isInstanceOf(Duration.class);
+    DurationSubject.assertThatNanos(5).isInstanceOf(Comparable.class);
+    DurationSubject.assertThatNanos(5).isNotInstanceOf(Long.class);
+    DurationSubject.assertThatNanos(5).isNotSameInstanceAs(null);
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(5).isAnyOf(Duration.ofNanos(4), 5L));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(5).isIn(Collections.singletonList(null)));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(5).isNoneOf(4L, Duration.ofNanos(5)));
+    Assertions.assertThrows(AssertionError.class,
+        () -> DurationSubject.assertThatNanos(5).isNotIn(Collections.singletonList(Duration.ofNanos(5))));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(5).isInstanceOf(Long.class));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(5).isNotInstanceOf(Duration.class));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(5).isSameInstanceAs(null));
+    Assertions.assertThrows(AssertionError.class, () -> DurationSubject.assertThatNanos(5).isSameInstanceAs(Duration.ofNanos(5)));
+  }
+
+  @Test
+  void describesNanosAsDuration() {
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> DurationSubject.assertThatNanos(1_500_000_000).isAtMost(Duration.ofSeconds(1)));
+    Assertions.assertTrue(error.getMessage().contains("PT1.5S"), error.getMessage());
+  }
+
+  @Test
+  void truthTimeAliases() {
+    TruthTime.assertThat(Duration.ofSeconds(1)).isAtMost(Duration.ofSeconds(1));
+    TruthTime.assertThatNanos(1).isAtMost(Duration.ofNanos(1));
+    TruthTime.assertThatElapsed(0, 1).isAtMost(Duration.ofNanos(1));
+  }
+}
@@ -0,0 +1,118 @@
+package dev.mardroemmar.truthext.time;
+
+import static dev.mardroemmar.truthext.time.InstantSequenceRules.rules;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EpochColumnSubjectTest {
+  private static final Instant EPOCH = Instant.EPOCH;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void isStrictlyIncreasing() throws IOException {
+    EpochColumnSubject.assertThat(this.column(ByteOrder.BIG_ENDIAN), ByteOrder.BIG_ENDIAN, TimeUnit.MILLISECONDS).isStrictlyIncreasing();
+    EpochColumnSubject.assertThat(this.column(ByteOrder.LITTLE_ENDIAN, -2, -1, 0, 1), ByteOrder.LITTLE_ENDIAN, TimeUnit.MILLISECONDS)
+        .isStrictlyIncreasing();
+    final Path repeated = this.column(ByteOrder.BIG_ENDIAN, 0, 1, 1);
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochColumnSubject.assertThat(repeated, ByteOrder.BIG_ENDIAN, TimeUnit.MILLISECONDS).isStrictlyIncreasing());
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochColumnSubject.assertThat(null, ByteOrder.BIG_ENDIAN, TimeUnit.MILLISECONDS).isStrictlyIncreasing());
+  }
+
+  @Test
+  void readsByteOrder() throws IOException {
+    // 1 and 256 swap places when read in the wrong byte order.
+    final Path column = this.column(ByteOrder.LITTLE_ENDIAN, 1, 256);
+    EpochColumnSubject.assertThat(column, ByteOrder.LITTLE_ENDIAN, TimeUnit.SECONDS).isStrictlyIncreasing();
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochColumnSubject.assertThat(column, ByteOrder.BIG_ENDIAN, TimeUnit.SECONDS).isStrictlyIncreasing());
+  }
+
+  @Test
+  void isNonDecreasing() throws IOException {
+    EpochColumnSubject.assertThat(this.column(ByteOrder.BIG_ENDIAN, 0, 1, 1, 2), ByteOrder.BIG_ENDIAN, TimeUnit.NANOSECONDS)
+        .isNonDecreasing();
+    final Path decreasing = this.column(ByteOrder.BIG_ENDIAN, 0, 2, 1);
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochColumnSubject.assertThat(decreasing, ByteOrder.BIG_ENDIAN, TimeUnit.NANOSECONDS).isNonDecreasing());
+  }
+
+  @Test
+  void allBetweenConvertsUnits() throws IOException {
+    final Path column = this.column(ByteOrder.BIG_ENDIAN, 1_000_000, 5_000_000);
+    EpochColumnSubject.assertThat(column, ByteOrder.BIG_ENDIAN, TimeUnit.MICROSECONDS)
+        .allBetween(EPOCH.plusSeconds(1), EPOCH.plusSeconds(5));
+    Assertions.assertThrows(AssertionError.class, () -> EpochColumnSubject.assertThat(column, ByteOrder.BIG_ENDIAN, TimeUnit.MICROSECONDS)
+        .allBetween(EPOCH.plusSeconds(1), EPOCH.plusSeconds(5).minusNanos(1)));
+    EpochColumnSubject.assertThat(this.column(ByteOrder.BIG_ENDIAN, 1, 2), ByteOrder.BIG_ENDIAN, TimeUnit.DAYS)
+        .allBetween(EPOCH.plus(Duration.ofDays(1)), EPOCH.plus(Duration.ofDays(2)));
+  }
+
+  @Test
+  void maxGapAtMost() throws IOException {
+    final Path column = this.column(ByteOrder.BIG_ENDIAN, 0, 10, 20, 31);
+    EpochColumnSubject.assertThat(column, ByteOrder.BIG_ENDIAN, TimeUnit.MINUTES).maxGapAtMost(Duration.ofMinutes(11));
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochColumnSubject.assertThat(column, ByteOrder.BIG_ENDIAN, TimeUnit.MINUTES).maxGapAtMost(Duration.ofMinutes(10)));
+  }
+
+  @Test
+  void satisfiesReportsFirstViolationsOnly() throws IOException {
+    final Path column = this.column(ByteOrder.BIG_ENDIAN, 5, 4, 3, 2, 1);
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> EpochColumnSubject.assertThat(column, ByteOrder.BIG_ENDIAN, TimeUnit.SECONDS)
+            .satisfies(rules().strictlyIncreasing().reportingAtMost(2)));
+    final String message = error.getMessage();
+    Assertions.assertTrue(message.contains("element 1: 1970-01-01T00:00:04Z is not after the previous element 1970-01-01T00:00:05Z"),
+        message);
+    Assertions.assertTrue(message.contains("element 2:"), message);
+    Assertions.assertFalse(message.contains("element 3:"), message);
+  }
+
+  @Test
+  void failsOutsideInstantRange() throws IOException {
+    final Path column = this.column(ByteOrder.BIG_ENDIAN, Long.MAX_VALUE);
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochColumnSubject.assertThat(column, ByteOrder.BIG_ENDIAN, TimeUnit.DAYS).isNonDecreasing());
+    EpochColumnSubject.assertThat(column, ByteOrder.BIG_ENDIAN, TimeUnit.NANOSECONDS).isNonDecreasing();
+  }
+
+  @Test
+  void failsOnPartialTimestamp() throws IOException {
+    final Path column = Files.write(this.directory.resolve("partial.bin"), new byte[12]);
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochColumnSubject.assertThat(column, ByteOrder.BIG_ENDIAN, TimeUnit.SECONDS).isNonDecreasing());
+  }
+
+  @Test
+  void failsOnMissingFile() {
+    final Path missing = this.directory.resolve("missing.bin");
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochColumnSubject.assertThat(missing, ByteOrder.BIG_ENDIAN, TimeUnit.SECONDS).isNonDecreasing());
+  }
+
+  @Test
+  void truthTimeAlias() throws IOException {
+    TruthTime.assertThatEpochColumn(this.column(ByteOrder.nativeOrder(), 0, 1), ByteOrder.nativeOrder(), TimeUnit.SECONDS)
+        .isStrictlyIncreasing();
+  }
+
+  private Path column(final ByteOrder order, final long... values) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(values.length * Long.BYTES).order(order);
+    buffer.asLongBuffer().put(values);
+    return Files.write(Files.createTempFile(this.directory, "column", ".bin"), buffer.array());
+  }
+}
@@ -0,0 +1,68 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class EpochMillisSubjectTest {
+  @Test
+  void isStrictlyIncreasing() {
+    EpochMillisSubject.assertThat(new long[0]).isStrictlyIncreasing();
+    EpochMillisSubject.assertThat(new long[] {5}).isStrictlyIncreasing();
+    EpochMillisSubject.assertThat(new long[] {-1, 0, 1, Long.MAX_VALUE}).isStrictlyIncreasing();
+    Assertions.assertThrows(AssertionError.class, () -> EpochMillisSubject.assertThat(new long[] {1, 2, 2}).isStrictlyIncreasing());
+    Assertions.assertThrows(AssertionError.class, () -> EpochMillisSubject.assertThat(new long[] {1, 3, 2}).isStrictlyIncreasing());
+    Assertions.assertThrows(AssertionError.class, () -> EpochMillisSubject.assertThat(null).isStrictlyIncreasing());
+  }
+
+  @Test
+  void isNonDecreasing() {
+    EpochMillisSubject.assertThat(new long[0]).isNonDecreasing();
+    EpochMillisSubject.assertThat(new long[] {1, 2, 2, 3}).isNonDecreasing();
+    Assertions.assertThrows(AssertionError.class, () -> EpochMillisSubject.assertThat(new long[] {1, 3, 2}).isNonDecreasing());
+  }
+
+  @Test
+  void allBetween() {
+    final Instant lower = Instant.ofEpochMilli(10);
+    final Instant upper = Instant.ofEpochMilli(20);
+    EpochMillisSubject.assertThat(new long[] {10, 15, 20}).allBetween(lower, upper);
+    EpochMillisSubject.assertThat(new long[] {Long.MIN_VALUE, Long.MAX_VALUE}).allBetween(Instant.MIN, Instant.MAX);
+    Assertions.assertThrows(AssertionError.class, () -> EpochMillisSubject.assertThat(new long[] {10, 9}).allBetween(lower, upper));
+    Assertions.assertThrows(AssertionError.class, () -> EpochMillisSubject.assertThat(new long[] {21}).allBetween(lower, upper));
+    // Bounds with sub-millisecond precision: 10 ms is before 10.5 ms, and 20 ms is after 19.5 ms.
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochMillisSubject.assertThat(new long[] {10}).allBetween(lower.plusNanos(500_000), upper));
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochMillisSubject.assertThat(new long[] {20}).allBetween(lower, upper.minusNanos(500_000)));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> EpochMillisSubject.assertThat(new long[0]).allBetween(upper, lower));
+  }
+
+  @Test
+  void maxGapAtMost() {
+    EpochMillisSubject.assertThat(new long[] {0, 10, 20, 15}).maxGapAtMost(Duration.ofMillis(10));
+    EpochMillisSubject.assertThat(new long[] {Long.MIN_VALUE, Long.MAX_VALUE}).maxGapAtMost(Duration.ofSeconds(Long.MAX_VALUE));
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochMillisSubject.assertThat(new long[] {0, 10, 21}).maxGapAtMost(Duration.ofMillis(10)));
+    Assertions.assertThrows(AssertionError.class,
+        () -> EpochMillisSubject.assertThat(new long[] {Long.MIN_VALUE, Long.MAX_VALUE}).maxGapAtMost(Duration.ofDays(1)));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> EpochMillisSubject.assertThat(new long[0]).maxGapAtMost(Duration.ofMillis(-1)));
+  }
+
+  @Test
+  void hasNoDuplicates() {
+    EpochMillisSubject.assertThat(new long[0]).hasNoDuplicates();
+    EpochMillisSubject.assertThat(new long[] {1, 2, 3}).hasNoDuplicates();
+    EpochMillisSubject.assertThat(new long[] {3, 1, 2}).hasNoDuplicates();
+    Assertions.assertThrows(AssertionError.class, () -> EpochMillisSubject.assertThat(new long[] {1, 2, 2}).hasNoDuplicates());
+    Assertions.assertThrows(AssertionError.class, () -> EpochMillisSubject.assertThat(new long[] {3, 1, 2, 1}).hasNoDuplicates());
+  }
+
+  @Test
+  void truthTimeAlias() {
+    TruthTime.assertThatEpochMillis(new long[] {1, 2}).isStrictlyIncreasing();
+  }
+}
@@ -0,0 +1,110 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class EventuallyTest {
+  private static final Instant START = Instant.parse("2022-04-20T13:37:00Z");
+
+  @Test
+  void retriesUntilSatisfied() {
+    final AtomicInteger calls = new AtomicInteger();
+    Eventually.eventually(Duration.ofSeconds(10))
+        .that(() -> START.plusSeconds(calls.incrementAndGet()))
+        .satisfies(instant -> instant.isAtLeast(START.plusSeconds(5)));
+    Assertions.assertEquals(5, calls.get());
+  }
+
+  @Test
+  void reportsOnlyTheLastFailure() {
+    final MutableClock clock = MutableClock.of(START);
+    final AtomicInteger calls = new AtomicInteger();
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, () -> Eventually.eventually(Duration.ofSeconds(3))
+        .withClock(clock)
+        .that(() -> {
+          clock.advance(Duration.ofSeconds(1));
+          return START.plusSeconds(calls.incrementAndGet());
+        })
+        .satisfies(instant -> instant.isAfter(START.plusSeconds(10))));
+    final String message = error.getMessage();
+    Assertions.assertEquals(3, calls.get());
+    Assertions.assertTrue(message.contains("attempt 3 of eventually(PT3S)"), message);
+    Assertions.assertTrue(message.contains("2022-04-20T13:37:03Z"), message);
+    Assertions.assertEquals(0, error.getSuppressed().length);
+  }
+
+  @Test
+  void endsInRealTimeWhenTheClockDoesNotMove() {
+    final MutableClock clock = MutableClock.of(START);
+    final long start = System.nanoTime();
+    Assertions.assertThrows(AssertionError.class, () -> Eventually.eventually(Duration.ofMillis(50))
+        .withClock(clock)
+        .that(() -> START)
+        .satisfies(instant -> instant.isAfter(START)));
+    Assertions.assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+  }
+
+  @Test
+  void attemptsAtLeastOnce() {
+    final AtomicInteger calls = new AtomicInteger();
+    Assertions.assertThrows(AssertionError.class, () -> Eventually.eventually(Duration.ZERO)
+        .that(() -> {
+          calls.incrementAndGet();
+          return START;
+        })
+        .satisfies(instant -> instant.isBefore(START)));
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void reportsFirstFailureOfAnAttempt() {
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, () -> Eventually.eventually(Duration.ZERO)
+        .that(() -> (Instant) null)
+        .satisfies(instant -> instant.isBefore(START)));
+    Assertions.assertTrue(error.getMessage().contains("non-null"), error.getMessage());
+  }
+
+  @Test
+  void zonedDateTimesAndOtherSubjects() {
+    Eventually.eventually(Duration.ofSeconds(1))
+        .thatZonedDateTime(() -> START.atZone(ZoneOffset.UTC))
+        .satisfies(zoned -> zoned.isEqualTo(ZonedDateTime.of(2022, 4, 20, 13, 37, 0, 0, ZoneOffset.UTC)));
+    Eventually.eventually(Duration.ofSeconds(1))
+        .that(() -> Duration.ofMillis(3), DurationSubject.durations())
+        .satisfies(duration -> duration.isAtMost(Duration.ofMillis(5)));
+  }
+
+  @Test
+  void stopsWhenInterrupted() {
+    final AtomicInteger calls = new AtomicInteger();
+    Thread.currentThread().interrupt();
+    try {
+      Assertions.assertThrows(AssertionError.class, () -> Eventually.eventually(Duration.ofHours(1))
+          .that(() -> START.plusSeconds(calls.incrementAndGet()))
+          .satisfies(instant -> instant.isBefore(START)));
+      Assertions.assertTrue(Thread.currentThread().isInterrupted());
+    } finally {
+      Thread.interrupted();
+    }
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void rejectsInvalidSettings() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Eventually.eventually(Duration.ofNanos(-1)));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> Eventually.eventually(Duration.ZERO).withBackoff(Duration.ZERO, Duration.ZERO));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> Eventually.eventually(Duration.ZERO).withBackoff(Duration.ofMillis(2), Duration.ofMillis(1)));
+  }
+
+  @Test
+  void truthTimeAlias() {
+    TruthTime.eventually(Duration.ofSeconds(1)).that(() -> START).satisfies(instant -> instant.isEqualTo(START));
+  }
+}
@@ -0,0 +1,189 @@
+package dev.mardroemmar.truthext.time;
+
+import static dev.mardroemmar.truthext.time.InstantSequenceRules.rules;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InstantIterableSubjectTest {
+  private static final Instant EPOCH = Instant.EPOCH;
+
+  @Test
+  void isStrictlyIncreasing() {
+    InstantIterableSubject.assertThat(Collections.emptyList()).isStrictlyIncreasing();
+    InstantIterableSubject.assertThat(seconds(0, 1, 2)).isStrictlyIncreasing();
+    Assertions.assertThrows(AssertionError.class, () -> InstantIterableSubject.assertThat(seconds(0, 1, 1)).isStrictlyIncreasing());
+    Assertions.assertThrows(AssertionError.class, () -> InstantIterableSubject.assertThat(seconds(0, 2, 1)).isStrictlyIncreasing());
+    Assertions.assertThrows(AssertionError.class,
+        () -> InstantIterableSubject.assertThat(Arrays.asList(EPOCH, null)).isStrictlyIncreasing());
+    Assertions.assertThrows(AssertionError.class, () -> InstantIterableSubject.assertThat(null).isStrictlyIncreasing());
+  }
+
+  @Test
+  void isNonDecreasing() {
+    InstantIterableSubject.assertThat(seconds(0, 1, 1, 2)).isNonDecreasing();
+    Assertions.assertThrows(AssertionError.class, () -> InstantIterableSubject.assertThat(seconds(0, 2, 1)).isNonDecreasing());
+  }
+
+  @Test
+  void allBetween() {
+    InstantIterableSubject.assertThat(seconds(1, 5, 3)).allBetween(EPOCH.plusSeconds(1), EPOCH.plusSeconds(5));
+    Assertions.assertThrows(AssertionError.class,
+        () -> InstantIterableSubject.assertThat(seconds(1, 6)).allBetween(EPOCH.plusSeconds(1), EPOCH.plusSeconds(5)));
+    Assertions.assertThrows(AssertionError.class,
+        () -> InstantIterableSubject.assertThat(seconds(0, 1)).allBetween(EPOCH.plusSeconds(1), EPOCH.plusSeconds(5)));
+  }
+
+  @Test
+  void maxGapAtMost() {
+    InstantIterableSubject.assertThat(seconds(0, 10, 20, 5)).maxGapAtMost(Duration.ofSeconds(10));
+    InstantIterableSubject.assertThat(Arrays.asList(EPOCH, EPOCH.plusSeconds(1).minusNanos(1))).maxGapAtMost(Duration.ofNanos(999_999_999));
+    Assertions.assertThrows(AssertionError.class,
+        () -> InstantIterableSubject.assertThat(Arrays.asList(EPOCH, EPOCH.plusSeconds(1))).maxGapAtMost(Duration.ofNanos(999_999_999)));
+  }
+
+  @Test
+  void satisfiesCombinesRules() {
+    final InstantSequenceRules rules = rules().nonDecreasing().noDuplicates().between(EPOCH, EPOCH.plusSeconds(100))
+        .maxGap(Duration.ofSeconds(10));
+    InstantIterableSubject.assertThat(seconds(0, 10, 20, 25)).satisfies(rules);
+    Assertions.assertThrows(AssertionError.class, () -> InstantIterableSubject.assertThat(seconds(0, 10, 10)).satisfies(rules));
+    Assertions.assertThrows(AssertionError.class, () -> InstantIterableSubject.assertThat(seconds(0, 11)).satisfies(rules));
+    Assertions.assertThrows(AssertionError.class, () -> InstantIterableSubject.assertThat(seconds(0, 101)).satisfies(rules));
+  }
+
+  @Test
+  void satisfiesFindsDuplicatesWithoutOrdering() {
+    InstantIterableSubject.assertThat(seconds(3, 1, 2)).satisfies(rules().noDuplicates());
+    Assertions.assertThrows(AssertionError.class,
+        () -> InstantIterableSubject.assertThat(seconds(3, 1, 2, 1)).satisfies(rules().noDuplicates()));
+  }
+
+  @Test
+  void satisfiesReportsFirstViolationsOnly() {
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> InstantIterableSubject.assertThat(seconds(5, 4, 3, 2, 1, 0)).satisfies(rules().strictlyIncreasing().reportingAtMost(2)));
+    final String message = error.getMessage();
+    Assertions.assertTrue(message.contains("element 1:"), message);
+    Assertions.assertTrue(message.contains("element 2:"), message);
+    Assertions.assertFalse(message.contains("element 3:"), message);
+  }
+
+  @Test
+  void satisfiesStopsAtTheLimit() {
+    final List<Instant> consumed = new ArrayList<>();
+    final Iterable<Instant> iterable = () -> seconds(1, 0, 2, 3).stream().peek(consumed::add).iterator();
+    Assertions.assertThrows(AssertionError.class,
+        () -> InstantIterableSubject.assertThat(iterable).satisfies(rules().strictlyIncreasing().reportingAtMost(1)));
+    Assertions.assertEquals(2, consumed.size());
+  }
+
+  @Test
+  void inParallelReportsTheSameViolations() {
+    final int size = ParallelInstantSequenceCheck.CHUNK_SIZE * 5 + 17;
+    final Instant[] instants = new Instant[size];
+    for (int i = 0; i < size; ++i) {
+      instants[i] = EPOCH.plusSeconds(i);
+    }
+    final List<Instant> list = Arrays.asList(instants);
+    final InstantSequenceRules rules = rules().strictlyIncreasing().maxGap(Duration.ofSeconds(1)).reportingAtMost(3);
+    InstantIterableSubject.assertThat(list).inParallel().satisfies(rules);
+
+    // Violations on both sides of chunk boundaries, and more of them than are reported.
+    final int boundary = ParallelInstantSequenceCheck.CHUNK_SIZE * 2;
+    instants[boundary] = EPOCH;
+    instants[boundary + 10] = EPOCH.plusSeconds(size * 2L);
+    instants[size - 1] = EPOCH;
+    final List<String> sequential = violations(Assertions.assertThrows(AssertionError.class,
+        () -> InstantIterableSubject.assertThat(list).satisfies(rules)));
+    Assertions.assertEquals(3, sequential.size());
+    for (int run = 0; run < 5; ++run) {
+      Assertions.assertEquals(sequential, violations(Assertions.assertThrows(AssertionError.class,
+          () -> InstantIterableSubject.assertThat(list).inParallel().satisfies(rules))));
+    }
+  }
+
+  @Test
+  void inParallelFindsDuplicatesWithoutOrdering() {
+    final int size = ParallelInstantSequenceCheck.CHUNK_SIZE * 3;
+    final Instant[] instants = new Instant[size];
+    for (int i = 0; i < size; ++i) {
+      instants[i] = EPOCH.plusSeconds(size - i);
+    }
+    InstantIterableSubject.assertThat(Arrays.asList(instants)).inParallel().satisfies(rules().noDuplicates());
+
+    instants[size - 1] = instants[3];
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> InstantIterableSubject.assertThat(Arrays.asList(instants)).inParallel().satisfies(rules().noDuplicates()));
+    Assertions.assertTrue(error.getMessage().contains("element " + (size - 1) + ": " + instants[3] + " is a duplicate of element 3"),
+        error.getMessage());
+  }
+
+  @Test
+  void inParallelReportsTheSameDuplicatesAndNulls() {
+    final int size = ParallelInstantSequenceCheck.CHUNK_SIZE * 4;
+    final Instant[] instants = new Instant[size];
+    for (int i = 0; i < size; ++i) {
+      instants[i] = EPOCH.plusSeconds(i);
+    }
+    final List<Instant> list = Arrays.asList(instants);
+
+    // Duplicates of elements in earlier chunks, on both sides of a chunk boundary.
+    final int boundary = ParallelInstantSequenceCheck.CHUNK_SIZE;
+    instants[boundary - 1] = instants[5];
+    instants[boundary] = instants[6];
+    instants[boundary * 3 + 1] = instants[boundary + 1];
+    assertSameViolations(list, rules().noDuplicates());
+
+    // Nulls just before a chunk boundary, after which the first element of the chunk goes back in time from the last one before them.
+    final int second = boundary * 2;
+    instants[second - 2] = null;
+    instants[second - 1] = null;
+    instants[second] = EPOCH.plusSeconds(second - 4);
+    assertSameViolations(list, rules().noDuplicates());
+    assertSameViolations(list, rules().strictlyIncreasing());
+    assertSameViolations(list, rules().nonDecreasing().maxGap(Duration.ofSeconds(1)));
+  }
+
+  @Test
+  void rulesValidateArguments() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> rules().between(EPOCH.plusSeconds(1), EPOCH));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> rules().maxGap(Duration.ofSeconds(-1)));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> rules().reportingAtMost(0));
+  }
+
+  private static void assertSameViolations(final List<Instant> list, final InstantSequenceRules rules) {
+    final List<String> sequential = violations(Assertions.assertThrows(AssertionError.class,
+        () -> InstantIterableSubject.assertThat(list).satisfies(rules)));
+    Assertions.assertFalse(sequential.isEmpty());
+    for (int run = 0; run < 5; ++run) {
+      Assertions.assertEquals(sequential, violations(Assertions.assertThrows(AssertionError.class,
+          () -> InstantIterableSubject.assertThat(list).inParallel().satisfies(rules))));
+    }
+  }
+
+  private static List<String> violations(final AssertionError error) {
+    final List<String> violations = new ArrayList<>();
+    final Matcher matcher = Pattern.compile("element \\d+: .*").matcher(error.getMessage());
+    while (matcher.find()) {
+      violations.add(matcher.group());
+    }
+    return violations;
+  }
+
+  private static List<Instant> seconds(final long... seconds) {
+    final List<Instant> instants = new ArrayList<>(seconds.length);
+    for (final long second : seconds) {
+      instants.add(EPOCH.plusSeconds(second));
+    }
+    return instants;
+  }
+}
@@ -0,0 +1,98 @@
+package dev.mardroemmar.truthext.time;
+
+import static dev.mardroemmar.truthext.time.InstantSequenceRules.rules;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InstantStreamSubjectTest {
+  private static final Instant EPOCH = Instant.EPOCH;
+
+  @Test
+  void isStrictlyIncreasing() {
+    InstantStreamSubject.assertThat(Stream.empty()).isStrictlyIncreasing();
+    InstantStreamSubject.assertThat(seconds(0, 1, 2)).isStrictlyIncreasing();
+    Assertions.assertThrows(AssertionError.class, () -> InstantStreamSubject.assertThat(seconds(0, 1, 1)).isStrictlyIncreasing());
+    Assertions.assertThrows(AssertionError.class, () -> InstantStreamSubject.assertThat(Stream.of(EPOCH, null)).isStrictlyIncreasing());
+    Assertions.assertThrows(AssertionError.class,
+        () -> InstantStreamSubject.assertThat((Stream<Instant>) null).isStrictlyIncreasing());
+  }
+
+  @Test
+  void isNonDecreasing() {
+    InstantStreamSubject.assertThat(seconds(0, 1, 1, 2).iterator()).isNonDecreasing();
+    Assertions.assertThrows(AssertionError.class, () -> InstantStreamSubject.assertThat(seconds(0, 2, 1).iterator()).isNonDecreasing());
+  }
+
+  @Test
+  void allBetween() {
+    InstantStreamSubject.assertThat(seconds(1, 5, 3)).allBetween(EPOCH.plusSeconds(1), EPOCH.plusSeconds(5));
+    Assertions.assertThrows(AssertionError.class,
+        () -> InstantStreamSubject.assertThat(seconds(1, 6)).allBetween(EPOCH.plusSeconds(1), EPOCH.plusSeconds(5)));
+  }
+
+  @Test
+  void maxGapAtMost() {
+    InstantStreamSubject.assertThat(seconds(0, 10, 20)).maxGapAtMost(Duration.ofSeconds(10));
+    Assertions.assertThrows(AssertionError.class,
+        () -> InstantStreamSubject.assertThat(seconds(0, 11)).maxGapAtMost(Duration.ofSeconds(10)));
+  }
+
+  @Test
+  void stopsAtFirstFailingElement() {
+    final AtomicLong produced = new AtomicLong();
+    final Stream<Instant> infinite = LongStream.iterate(0, second -> second == 5 ? 0 : second + 1)
+        .peek(second -> produced.incrementAndGet())
+        .mapToObj(EPOCH::plusSeconds);
+    Assertions.assertThrows(AssertionError.class, () -> InstantStreamSubject.assertThat(infinite).isStrictlyIncreasing());
+    Assertions.assertEquals(7, produced.get());
+  }
+
+  @Test
+  void satisfiesStopsAtReportedViolations() {
+    final AtomicLong produced = new AtomicLong();
+    final Stream<Instant> infinite = LongStream.iterate(0, second -> second - 1)
+        .peek(second -> produced.incrementAndGet())
+        .mapToObj(EPOCH::plusSeconds);
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> InstantStreamSubject.assertThat(infinite).satisfies(rules().strictlyIncreasing().reportingAtMost(3)));
+    Assertions.assertEquals(4, produced.get());
+    Assertions.assertTrue(error.getMessage().contains("element 3:"), error.getMessage());
+  }
+
+  @Test
+  void closesStream() {
+    final AtomicBoolean closed = new AtomicBoolean();
+    InstantStreamSubject.assertThat(seconds(0, 1).onClose(() -> closed.set(true))).isStrictlyIncreasing();
+    Assertions.assertTrue(closed.get());
+
+    closed.set(false);
+    final Stream<Instant> failing = seconds(1, 0).onClose(() -> closed.set(true));
+    Assertions.assertThrows(AssertionError.class, () -> InstantStreamSubject.assertThat(failing).isStrictlyIncreasing());
+    Assertions.assertTrue(closed.get());
+  }
+
+  @Test
+  void consumesOnce() {
+    final InstantStreamSubject subject = InstantStreamSubject.assertThat(Arrays.asList(EPOCH).iterator());
+    subject.isStrictlyIncreasing();
+    Assertions.assertThrows(IllegalStateException.class, subject::isNonDecreasing);
+  }
+
+  @Test
+  void truthTimeAliases() {
+    TruthTime.assertThatStream(seconds(0, 1)).isStrictlyIncreasing();
+    TruthTime.assertThatIterator(seconds(0, 1).iterator()).isStrictlyIncreasing();
+  }
+
+  private static Stream<Instant> seconds(final long... seconds) {
+    return Arrays.stream(seconds).mapToObj(EPOCH::plusSeconds);
+  }
+}
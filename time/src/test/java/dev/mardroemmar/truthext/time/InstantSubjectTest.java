@@ -75,4 +75,17 @@ class InstantSubjectTest {
     Assertions.assertThrows(AssertionError.class,
         () -> InstantSubject.assertThat(Instant.now()).isAfter(Instant.now().plus(1, ChronoUnit.DAYS)));
   }
+
+  @Test
+  void assertThatIso() {
+    InstantSubject.assertThatIso("2022-04-20T13:37:00.5Z").isEqualTo(Instant.parse("2022-04-20T13:37:00.500Z"));
+    InstantSubject.assertThatIso("2022-04-20T15:37:00+02:00").isEqualTo(Instant.parse("2022-04-20T13:37:00Z"));
+    InstantSubject.assertThatIso(new StringBuilder("+10000-01-01T00:00:00Z")).isEqualTo(Instant.parse("+10000-01-01T00:00:00Z"));
+    InstantSubject.assertThatIso(null).isNull();
+    Assertions.assertThrows(AssertionError.class, () -> InstantSubject.assertThatIso("2022-04-20T13:37:00"));
+    Assertions.assertThrows(AssertionError.class, () -> InstantSubject.assertThatIso("2022-04-31T13:37:00Z"));
+    Assertions.assertThrows(AssertionError.class,
+        () -> InstantSubject.assertThatIso("2022-04-20T13:37:00Z").isEqualTo(Instant.parse("2022-04-20T13:37:01Z")));
+    TruthTime.assertThatIsoInstant("1970-01-01T00:00:00Z").isEqualTo(Instant.EPOCH);
+  }
 }
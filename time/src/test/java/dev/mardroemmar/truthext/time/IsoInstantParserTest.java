@@ -0,0 +1,51 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IsoInstantParserTest {
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "1970-01-01T00:00Z",
+      "1970-01-01T00:00:00Z",
+      "1969-12-31T23:59:59.999999999Z",
+      "2000-02-29T12:34:56.7+01:00",
+      "2100-12-31T23:59:59-18:00",
+      "0000-01-01T00:00:00+18:00",
+      "9999-12-31T23:59:59.123456789-05:30:15",
+      "2022-04-20t13:37:00z",
+      "+10000-01-01T00:00:00Z",
+      "1970-01-01T00:00:00.Z",
+  })
+  void parsesLikeIsoOffsetDateTime(final String text) {
+    final Instant expected = DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text, Instant::from);
+    final IsoInstantParser parser = new IsoInstantParser();
+    Assertions.assertTrue(parser.parse("> " + text + " <", 2, text.length() + 2), text);
+    Assertions.assertEquals(expected, Instant.ofEpochSecond(parser.epochSecond(), parser.nano()), text);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "",
+      "1970-01-01",
+      "1970-01-01T00:00",
+      "1970-01-01T00:00:00",
+      "1970-13-01T00:00:00Z",
+      "1970-02-29T00:00:00Z",
+      "1970-01-01T24:00:00Z",
+      "1970-01-01T00:60:00Z",
+      "1970-01-01T00:00:00.1234567890Z",
+      "1970-01-01T00:00:00+19:00",
+      "1970-01-01T00:00:00+0100",
+      "1970-01-01 00:00:00Z",
+  })
+  void rejectsLikeIsoOffsetDateTime(final String text) {
+    Assertions.assertThrows(DateTimeParseException.class, () -> OffsetDateTime.parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+    Assertions.assertFalse(new IsoInstantParser().parse(text, 0, text.length()), text);
+  }
+}
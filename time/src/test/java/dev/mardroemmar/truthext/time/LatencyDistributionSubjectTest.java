@@ -0,0 +1,123 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LatencyDistributionSubjectTest {
+  @Test
+  void percentiles() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 100; ++i) {
+      histogram.record(i);
+    }
+    LatencyDistributionSubject.assertThat(histogram).p50().isEqualTo(Duration.ofNanos(50));
+    LatencyDistributionSubject.assertThat(histogram).p90().isEqualTo(Duration.ofNanos(90));
+    LatencyDistributionSubject.assertThat(histogram).p99().isEqualTo(Duration.ofNanos(99));
+    LatencyDistributionSubject.assertThat(histogram).p999().isEqualTo(Duration.ofNanos(100));
+    LatencyDistributionSubject.assertThat(histogram).percentile(0).isEqualTo(Duration.ofNanos(1));
+    LatencyDistributionSubject.assertThat(histogram).percentile(100).isEqualTo(Duration.ofNanos(100));
+    Assertions.assertThrows(AssertionError.class,
+        () -> LatencyDistributionSubject.assertThat(histogram).p99().isAtMost(Duration.ofNanos(98)));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> LatencyDistributionSubject.assertThat(histogram).percentile(100.1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> LatencyDistributionSubject.assertThat(histogram).percentile(Double.NaN));
+  }
+
+  @Test
+  void percentilesAreWithinOnePercentAbove() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 100_000; ++i) {
+      histogram.record(i * 1_000);
+    }
+    LatencyDistributionSubject.assertThat(histogram).p99().isAtLeast(Duration.ofMillis(99));
+    LatencyDistributionSubject.assertThat(histogram).p99().isAtMost(Duration.ofMillis(100));
+    LatencyDistributionSubject.assertThat(histogram).p50().isWithin(Duration.ofMillis(1).dividedBy(2)).of(Duration.ofMillis(50));
+  }
+
+  @Test
+  void minMaxAndMeanAreExact() {
+    final LatencyHistogram histogram = LatencyHistogram.of(1_000_003, 7, 2_000_000_001);
+    LatencyDistributionSubject.assertThat(histogram).min().isEqualTo(Duration.ofNanos(7));
+    LatencyDistributionSubject.assertThat(histogram).max().isEqualTo(Duration.ofNanos(2_000_000_001));
+    LatencyDistributionSubject.assertThat(histogram).mean().isEqualTo(Duration.ofNanos(667_000_003));
+    LatencyDistributionSubject.assertThat(histogram).count().isEqualTo(3);
+  }
+
+  @Test
+  void meanDoesNotOverflow() {
+    final LatencyHistogram histogram = LatencyHistogram.of(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE - 3);
+    LatencyDistributionSubject.assertThat(histogram).mean().isEqualTo(Duration.ofNanos(Long.MAX_VALUE - 1));
+    LatencyDistributionSubject.assertThat(histogram).p50().isEqualTo(Duration.ofNanos(Long.MAX_VALUE));
+  }
+
+  @Test
+  void add() {
+    final LatencyHistogram histogram = LatencyHistogram.of(10, 20);
+    histogram.add(LatencyHistogram.of(5, 30));
+    histogram.add(new LatencyHistogram());
+    LatencyDistributionSubject.assertThat(histogram).count().isEqualTo(4);
+    LatencyDistributionSubject.assertThat(histogram).min().isEqualTo(Duration.ofNanos(5));
+    LatencyDistributionSubject.assertThat(histogram).max().isEqualTo(Duration.ofNanos(30));
+    LatencyDistributionSubject.assertThat(histogram).mean().isEqualTo(Duration.ofNanos(16));
+  }
+
+  @Test
+  void correctedForCoordinatedOmission() {
+    // 99 responses at 1ms, then one stall of 100ms that held up the 99 requests due in the meantime.
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 99; ++i) {
+      histogram.record(Duration.ofMillis(1).toNanos());
+    }
+    histogram.record(Duration.ofMillis(100).toNanos());
+    LatencyDistributionSubject.assertThat(histogram).p90().isAtMost(Duration.ofMillis(2));
+
+    final Duration interval = Duration.ofMillis(1);
+    LatencyDistributionSubject.assertThat(histogram).correctedForCoordinatedOmission(interval).count().isEqualTo(199);
+    LatencyDistributionSubject.assertThat(histogram).correctedForCoordinatedOmission(interval).p90().isAtLeast(Duration.ofMillis(79));
+    LatencyDistributionSubject.assertThat(histogram).correctedForCoordinatedOmission(interval).max().isEqualTo(Duration.ofMillis(100));
+    LatencyDistributionSubject.assertThat(histogram).correctedForCoordinatedOmission(interval).min().isEqualTo(Duration.ofMillis(1));
+    LatencyDistributionSubject.assertThat(histogram).correctedForCoordinatedOmission(interval).mean()
+        .isWithin(Duration.ofMillis(1)).of(Duration.ofNanos((99 * 1_000_000L + 100 * 50_500_000L) / 199));
+    Assertions.assertThrows(AssertionError.class,
+        () -> LatencyDistributionSubject.assertThat(histogram).correctedForCoordinatedOmission(interval)
+            .p90().isAtMost(Duration.ofMillis(5)));
+
+    // Samples shorter than twice the interval held nothing up.
+    LatencyDistributionSubject.assertThat(histogram).correctedForCoordinatedOmission(Duration.ofMillis(60)).count().isEqualTo(100);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> histogram.correctedForCoordinatedOmission(Duration.ZERO));
+  }
+
+  @Test
+  void failsOnEmptyAndNull() {
+    Assertions.assertThrows(AssertionError.class, () -> LatencyDistributionSubject.assertThat(new LatencyHistogram()).p99());
+    Assertions.assertThrows(AssertionError.class, () -> LatencyDistributionSubject.assertThat(null).max());
+    LatencyDistributionSubject.assertThat(new LatencyHistogram()).count().isEqualTo(0);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().record(-1));
+  }
+
+  @Test
+  void describesPercentile() {
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> LatencyDistributionSubject.assertThat(LatencyHistogram.of(6_000_000)).p99().isAtMost(Duration.ofMillis(5)));
+    Assertions.assertTrue(error.getMessage().contains("p99()"), error.getMessage());
+    Assertions.assertTrue(error.getMessage().contains("PT0.006S"), error.getMessage());
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, 255, 256, 257, 511, 512, 1_000_000, 123_456_789_012L, Long.MAX_VALUE - 1, Long.MAX_VALUE})
+  void bucketsHoldTheirValues(final long value) {
+    final int index = LatencyHistogram.index(value);
+    Assertions.assertTrue(LatencyHistogram.lowestValue(index) <= value && value <= LatencyHistogram.highestValue(index));
+    Assertions.assertTrue(LatencyHistogram.highestValue(index) - value <= value / LatencyHistogram.SUB_BUCKETS_PER_POWER);
+    if (index > 0) {
+      Assertions.assertEquals(LatencyHistogram.lowestValue(index) - 1, LatencyHistogram.highestValue(index - 1));
+    }
+  }
+
+  @Test
+  void truthTimeAlias() {
+    TruthTime.assertThat(LatencyHistogram.of(1)).max().isEqualTo(Duration.ofNanos(1));
+  }
+}
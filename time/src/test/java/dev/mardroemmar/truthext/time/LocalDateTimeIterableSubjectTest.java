@@ -0,0 +1,86 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LocalDateTimeIterableSubjectTest {
+  private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+  @Test
+  void allValidIn() {
+    final List<LocalDateTime> valid = Arrays.asList(
+        LocalDateTime.of(2022, 3, 27, 1, 59, 59),
+        LocalDateTime.of(2022, 3, 27, 3, 0),
+        LocalDateTime.of(2022, 10, 30, 2, 30),
+        LocalDateTime.of(2300, 3, 25, 3, 30)
+    );
+    LocalDateTimeIterableSubject.assertThat(valid).allValidIn(PARIS);
+    LocalDateTimeIterableSubject.assertThat(Collections.emptyList()).allUnambiguousIn(PARIS);
+
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, () -> LocalDateTimeIterableSubject.assertThat(Arrays.asList(
+        LocalDateTime.of(2022, 3, 27, 1, 0),
+        LocalDateTime.of(2022, 3, 27, 2, 30),
+        LocalDateTime.of(2300, 3, 25, 2, 30)
+    )).allValidIn(PARIS));
+    final String message = error.getMessage();
+    Assertions.assertTrue(
+        message.contains("element 1: 2022-03-27T02:30 is in a gap (Transition[Gap at 2022-03-27T02:00+01:00 to +02:00])"), message);
+    Assertions.assertTrue(message.contains("element 2: 2300-03-25T02:30 is in a gap"), message);
+  }
+
+  @Test
+  void allUnambiguousIn() {
+    LocalDateTimeIterableSubject.assertThat(Arrays.asList(LocalDateTime.of(2022, 10, 30, 1, 59), LocalDateTime.of(2022, 10, 30, 3, 0)))
+        .allUnambiguousIn(PARIS);
+    final List<LocalDateTime> overlap = Collections.singletonList(LocalDateTime.of(2022, 10, 30, 2, 0));
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> LocalDateTimeIterableSubject.assertThat(overlap).allUnambiguousIn(PARIS));
+    Assertions.assertTrue(error.getMessage().contains("element 0: 2022-10-30T02:00 is in an overlap"), error.getMessage());
+  }
+
+  @Test
+  void agreesWithZoneRulesInAnyOrder() {
+    final List<LocalDateTime> hours = new ArrayList<>();
+    for (LocalDateTime time = LocalDateTime.of(2020, 1, 1, 0, 30); time.getYear() < 2025; time = time.plusHours(1)) {
+      if (PARIS.getRules().getValidOffsets(time).size() == 1) {
+        hours.add(time);
+      }
+    }
+    LocalDateTimeIterableSubject.assertThat(hours).allUnambiguousIn(PARIS);
+    Collections.reverse(hours);
+    LocalDateTimeIterableSubject.assertThat(hours).allUnambiguousIn(PARIS);
+    Collections.shuffle(hours);
+    LocalDateTimeIterableSubject.assertThat(hours).allUnambiguousIn(PARIS);
+
+    hours.add(hours.size() / 2, LocalDateTime.of(2021, 3, 28, 2, 0));
+    Assertions.assertThrows(AssertionError.class, () -> LocalDateTimeIterableSubject.assertThat(hours).allValidIn(PARIS));
+  }
+
+  @Test
+  void reportsFirstViolationsOnly() {
+    final List<LocalDateTime> gaps = Collections.nCopies(50, LocalDateTime.of(2022, 3, 27, 2, 30));
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> LocalDateTimeIterableSubject.assertThat(gaps).allValidIn(PARIS));
+    Assertions.assertTrue(error.getMessage().contains("stopped checking after 10 violations"), error.getMessage());
+    Assertions.assertFalse(error.getMessage().contains("element 10:"), error.getMessage());
+  }
+
+  @Test
+  void failsOnNull() {
+    Assertions.assertThrows(AssertionError.class, () -> LocalDateTimeIterableSubject.assertThat(null).allValidIn(PARIS));
+    Assertions.assertThrows(AssertionError.class,
+        () -> LocalDateTimeIterableSubject.assertThat(Collections.singletonList(null)).allValidIn(ZoneOffset.UTC));
+  }
+
+  @Test
+  void truthTimeAlias() {
+    TruthTime.assertThatLocalDateTimes(Collections.singletonList(LocalDateTime.of(2022, 3, 27, 2, 30))).allValidIn(ZoneOffset.UTC);
+  }
+}
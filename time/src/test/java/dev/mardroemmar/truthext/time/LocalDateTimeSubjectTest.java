@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.chrono.ThaiBuddhistDate;
 import org.junit.jupiter.api.Test;
@@ -112,4 +113,22 @@ class LocalDateTimeSubjectTest {
     LocalDateTimeSubject.assertThat(actual.plusHours(1L)).second().isEqualTo(5);
     LocalDateTimeSubject.assertThat(actual.plusDays(1L)).second().isEqualTo(5);
   }
+
+  @Test
+  void isInGapAndOverlap() {
+    final ZoneId paris = ZoneId.of("Europe/Paris");
+    LocalDateTimeSubject.assertThat(LocalDateTime.of(2022, 3, 27, 2, 0)).isInGap(paris);
+    LocalDateTimeSubject.assertThat(LocalDateTime.of(2022, 3, 27, 2, 59, 59, 999_999_999)).isInGap(paris);
+    LocalDateTimeSubject.assertThat(LocalDateTime.of(2022, 3, 27, 3, 0)).isNotInGap(paris);
+    LocalDateTimeSubject.assertThat(LocalDateTime.of(2022, 3, 27, 1, 59, 59)).isNotInGap(paris);
+    LocalDateTimeSubject.assertThat(LocalDateTime.of(2022, 10, 30, 2, 0)).isInOverlap(paris);
+    LocalDateTimeSubject.assertThat(LocalDateTime.of(2022, 10, 30, 3, 0)).isNotInOverlap(paris);
+    LocalDateTimeSubject.assertThat(LocalDateTime.of(2300, 3, 25, 2, 30)).isInGap(paris);
+    LocalDateTimeSubject.assertThat(LocalDateTime.of(2022, 3, 27, 2, 30)).isNotInGap(ZoneOffset.UTC);
+    assertThrows(AssertionError.class, () -> LocalDateTimeSubject.assertThat(LocalDateTime.of(2022, 3, 27, 2, 30)).isNotInGap(paris));
+    assertThrows(AssertionError.class, () -> LocalDateTimeSubject.assertThat(LocalDateTime.of(2022, 3, 27, 2, 30)).isInOverlap(paris));
+    assertThrows(AssertionError.class, () -> LocalDateTimeSubject.assertThat(LocalDateTime.of(2022, 10, 30, 2, 30)).isInGap(paris));
+    assertThrows(AssertionError.class, () -> LocalDateTimeSubject.assertThat(LocalDateTime.of(2022, 10, 30, 2, 30)).isNotInOverlap(paris));
+    assertThrows(AssertionError.class, () -> LocalDateTimeSubject.assertThat(null).isInGap(paris));
+  }
 }
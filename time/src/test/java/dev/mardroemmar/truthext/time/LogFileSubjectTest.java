@@ -0,0 +1,137 @@
+package dev.mardroemmar.truthext.time;
+
+import static dev.mardroemmar.truthext.time.InstantSequenceRules.rules;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogFileSubjectTest {
+  private static final Instant EPOCH = Instant.EPOCH;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void isNonDecreasing() throws IOException {
+    final Path log = this.log(
+        "1970-01-01T00:00:00Z INFO starting",
+        "1970-01-01T00:00:01.5Z INFO ready",
+        "1970-01-01T02:00:01.5+02:00 WARN same instant"
+    );
+    LogFileSubject.assertThat(log, TimestampLocation.column(0)).isNonDecreasing();
+    Assertions.assertThrows(AssertionError.class, () -> LogFileSubject.assertThat(log, TimestampLocation.column(0)).isStrictlyIncreasing());
+    Assertions.assertThrows(AssertionError.class, () -> LogFileSubject.assertThat(null, TimestampLocation.column(0)).isNonDecreasing());
+  }
+
+  @Test
+  void reportsLineNumbers() throws IOException {
+    final Path log = this.log(
+        "1970-01-01T00:00:02Z a",
+        "1970-01-01T00:00:03Z b",
+        "1970-01-01T00:00:01Z c",
+        "garbage d"
+    );
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> LogFileSubject.assertThat(log, TimestampLocation.column(0)).isNonDecreasing());
+    final String message = error.getMessage();
+    Assertions.assertTrue(message.contains("line 3: 1970-01-01T00:00:01Z is before the previous element 1970-01-01T00:00:03Z"), message);
+    Assertions.assertTrue(message.contains("line 4: has no valid timestamp at the start of \"garbage d\""), message);
+  }
+
+  @Test
+  void findsTimestampByColumn() throws IOException {
+    final Path spaced = this.log("  INFO \t1970-01-01T00:00:00Z x", "WARN 1970-01-01T00:00:01Z y");
+    LogFileSubject.assertThat(spaced, TimestampLocation.column(1)).isStrictlyIncreasing();
+
+    final Path csv = this.log("a,,1970-01-01T00:00:00Z,x", "b,c,1970-01-01T00:00:01Z");
+    LogFileSubject.assertThat(csv, TimestampLocation.column(2, ',')).isStrictlyIncreasing();
+    Assertions.assertThrows(AssertionError.class, () -> LogFileSubject.assertThat(csv, TimestampLocation.column(3, ',')).isNonDecreasing());
+  }
+
+  @Test
+  void findsTimestampByPrefix() throws IOException {
+    final Path log = this.log(
+        "{\"msg\":\"up\",\"ts\":\"1970-01-01T00:00:00Z\"}",
+        "{\"ts\":\"1970-01-01T00:00:01.000000001Z\",\"msg\":\"down\"}"
+    );
+    LogFileSubject.assertThat(log, TimestampLocation.after("\"ts\":\"")).isStrictlyIncreasing();
+  }
+
+  @Test
+  void ignoringUnmatchedLines() throws IOException {
+    final Path log = this.log(
+        "ts=1970-01-01T00:00:00Z failed",
+        "java.lang.IllegalStateException: oops",
+        "",
+        "ts=1970-01-01T00:00:01Z recovered"
+    );
+    Assertions.assertThrows(AssertionError.class, () -> LogFileSubject.assertThat(log, TimestampLocation.after("ts=")).isNonDecreasing());
+    LogFileSubject.assertThat(log, TimestampLocation.after("ts=").ignoringUnmatchedLines()).isNonDecreasing();
+
+    final Path invalid = this.log("ts=1970-01-01T00:00:00Z", "ts=yesterday");
+    Assertions.assertThrows(AssertionError.class,
+        () -> LogFileSubject.assertThat(invalid, TimestampLocation.after("ts=").ignoringUnmatchedLines()).isNonDecreasing());
+  }
+
+  @Test
+  void allBetweenIsInclusive() throws IOException {
+    final Path log = this.log("1970-01-01T00:00:01Z", "1970-01-01T00:00:05Z");
+    LogFileSubject.assertThat(log, TimestampLocation.column(0)).allBetween(EPOCH.plusSeconds(1), EPOCH.plusSeconds(5));
+    Assertions.assertThrows(AssertionError.class,
+        () -> LogFileSubject.assertThat(log, TimestampLocation.column(0)).allBetween(EPOCH, EPOCH.plusSeconds(5).minusNanos(1)));
+  }
+
+  @Test
+  void maxGapAtMost() throws IOException {
+    final Path log = this.log("1970-01-01T00:00:00Z", "1970-01-01T00:01:00Z");
+    LogFileSubject.assertThat(log, TimestampLocation.column(0)).maxGapAtMost(Duration.ofMinutes(1));
+    Assertions.assertThrows(AssertionError.class,
+        () -> LogFileSubject.assertThat(log, TimestampLocation.column(0)).maxGapAtMost(Duration.ofSeconds(59)));
+  }
+
+  @Test
+  void readsGzipAndCrLf() throws IOException {
+    final Path log = this.directory.resolve("service.log.gz");
+    try (final OutputStream out = new GZIPOutputStream(Files.newOutputStream(log))) {
+      out.write("1970-01-01T00:00:00Z a\r\n1970-01-01T00:00:01Z b\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+    LogFileSubject.assertThat(log, TimestampLocation.column(0))
+        .satisfies(rules().strictlyIncreasing().between(EPOCH, EPOCH.plusSeconds(1)));
+  }
+
+  @Test
+  void readsLinesLongerThanTheBuffer() throws IOException {
+    final StringBuilder padding = new StringBuilder();
+    for (int i = 0; i < 100_000; ++i) {
+      padding.append('x');
+    }
+    final Path log = this.log("1970-01-01T00:00:00Z " + padding, "1970-01-01T00:00:01Z " + padding, "1970-01-01T00:00:00Z");
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> LogFileSubject.assertThat(log, TimestampLocation.column(0)).isNonDecreasing());
+    Assertions.assertTrue(error.getMessage().contains("line 3:"), error.getMessage());
+  }
+
+  @Test
+  void failsOnMissingFile() {
+    Assertions.assertThrows(AssertionError.class,
+        () -> LogFileSubject.assertThat(this.directory.resolve("missing.log"), TimestampLocation.column(0)).isNonDecreasing());
+  }
+
+  @Test
+  void truthTimeAlias() throws IOException {
+    TruthTime.assertThatLog(this.log("1970-01-01T00:00:00Z"), TimestampLocation.column(0)).isStrictlyIncreasing();
+  }
+
+  private Path log(final String... lines) throws IOException {
+    return Files.write(Files.createTempFile(this.directory, "service", ".log"), String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+  }
+}
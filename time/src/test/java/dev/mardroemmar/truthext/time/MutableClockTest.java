@@ -0,0 +1,92 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MutableClockTest {
+  private static final Instant START = Instant.parse("2022-04-20T13:37:00.123456789Z");
+
+  @Test
+  void advance() {
+    final MutableClock clock = MutableClock.of(START);
+    Assertions.assertEquals(START.plusSeconds(90), clock.advance(Duration.ofSeconds(90)));
+    Assertions.assertEquals(START.plusSeconds(89).plusNanos(999_999_999), clock.advance(Duration.ofNanos(-1)));
+    ClockSubject.assertThat(clock).instant().isAfter(START);
+    ClockSubject.assertThat(clock).millis().isEqualTo(START.plusSeconds(89).plusNanos(999_999_999).toEpochMilli());
+    Assertions.assertThrows(AssertionError.class, () -> ClockSubject.assertThat(clock).instant().isBefore(START));
+  }
+
+  @Test
+  void set() {
+    final MutableClock clock = MutableClock.of(START, ZoneId.of("Europe/Stockholm"));
+    clock.set(Instant.EPOCH.minusNanos(1));
+    ClockSubject.assertThat(clock).instant().isEqualTo(Instant.EPOCH.minusNanos(1));
+    ClockSubject.assertThat(clock).millis().isEqualTo(-1);
+    Assertions.assertEquals(-1, clock.epochNanos());
+    ClockSubject.assertThat(clock).zonedDateTime().isEqualTo(Instant.EPOCH.minusNanos(1).atZone(ZoneId.of("Europe/Stockholm")));
+    Assertions.assertThrows(ArithmeticException.class, () -> clock.set(Instant.MAX));
+  }
+
+  @Test
+  void withZoneSharesTime() {
+    final MutableClock clock = MutableClock.of(START);
+    final MutableClock paris = clock.withZone(ZoneId.of("Europe/Paris"));
+    clock.advance(Duration.ofHours(1));
+    ClockSubject.assertThat(paris).instant().isEqualTo(START.plusSeconds(3_600));
+    ClockSubject.assertThat(paris).zone().isEqualTo(ZoneId.of("Europe/Paris"));
+    Assertions.assertSame(clock, clock.withZone(ZoneOffset.UTC));
+    Assertions.assertEquals(clock, paris.withZone(ZoneOffset.UTC));
+    Assertions.assertNotEquals(clock, MutableClock.of(START.plusSeconds(3_600)));
+  }
+
+  @Test
+  void advancesFromManyThreads() throws InterruptedException {
+    final MutableClock clock = MutableClock.of(Instant.EPOCH);
+    final int threads = 4;
+    final int advances = 10_000;
+    final CountDownLatch start = new CountDownLatch(1);
+    final Thread[] workers = new Thread[threads];
+    for (int i = 0; i < threads; ++i) {
+      workers[i] = new Thread(() -> {
+        try {
+          start.await();
+        } catch (final InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for (int j = 0; j < advances; ++j) {
+          clock.advanceNanos(1);
+        }
+      });
+      workers[i].start();
+    }
+    start.countDown();
+    for (final Thread worker : workers) {
+      worker.join();
+    }
+    ClockSubject.assertThat(clock).instant().isEqualTo(Instant.EPOCH.plusNanos((long) threads * advances));
+  }
+
+  @Test
+  void advanceDoesNotOverflow() {
+    final MutableClock clock = MutableClock.of(Instant.EPOCH);
+    clock.advanceNanos(Long.MAX_VALUE);
+    Assertions.assertThrows(ArithmeticException.class, () -> clock.advanceNanos(1));
+    Assertions.assertEquals(Long.MAX_VALUE, clock.epochNanos());
+  }
+
+  @Test
+  void failsOnNull() {
+    Assertions.assertThrows(AssertionError.class, () -> ClockSubject.assertThat(null).instant());
+  }
+
+  @Test
+  void truthTimeAlias() {
+    TruthTime.assertThat(MutableClock.of(START)).instant().isEqualTo(START);
+  }
+}
@@ -0,0 +1,79 @@
+package dev.mardroemmar.truthext.time;
+
+import static com.google.common.truth.Truth.assertAbout;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ThroughputSubjectTest {
+  private long now;
+
+  @Test
+  void isAtLeast() {
+    // Every run takes a microsecond, so a million per second.
+    final ThroughputSubject subject = this.assertThatThroughputOf(() -> this.now += 1_000);
+    subject.opsPerSecond().isAtLeast(1_000_000);
+    subject.opsPerSecond().isAtMost(1_000_000);
+    Assertions.assertThrows(AssertionError.class, () -> subject.opsPerSecond().isAtLeast(1_000_001));
+    Assertions.assertThrows(AssertionError.class, () -> subject.opsPerSecond().isAtMost(999_999));
+  }
+
+  @Test
+  void usesMedianWindow() {
+    final long[] runs = {0};
+    // One window's worth of runs right after warmup is slowed down a hundredfold.
+    final ThroughputSubject subject = this.assertThatThroughputOf(() -> this.now += ++runs[0] > 1_000 && runs[0] <= 1_100 ? 100_000 : 1_000)
+        .withWarmup(Duration.ofMillis(1))
+        .withWindows(3, Duration.ofMillis(1));
+    subject.opsPerSecond().isAtLeast(1_000_000);
+  }
+
+  @Test
+  void reportsEveryWindow() {
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> this.assertThatThroughputOf(() -> this.now += 1_000).withWindows(3, Duration.ofMillis(1)).opsPerSecond()
+            .isAtLeast(2_000_000));
+    final String message = error.getMessage();
+    Assertions.assertTrue(message.contains("expected at least: 2,000,000.0 ops/s"), message);
+    Assertions.assertTrue(message.contains("but median window was: 1,000,000.0 ops/s"), message);
+    Assertions.assertTrue(message.contains("window 3: 1,000,000.0 ops/s"), message);
+  }
+
+  @Test
+  void warmsUp() {
+    final long[] runs = {0};
+    this.assertThatThroughputOf(() -> {
+      ++runs[0];
+      this.now += 1_000;
+    }).withWarmup(Duration.ofMillis(10)).withWindows(1, Duration.ofMillis(1)).opsPerSecond().isAtLeast(0);
+    Assertions.assertTrue(runs[0] >= 11_000, "ran " + runs[0] + " times");
+  }
+
+  @Test
+  void cannotReconfigureAfterMeasuring() {
+    final ThroughputSubject subject = this.assertThatThroughputOf(() -> this.now += 1_000);
+    subject.opsPerSecond().isAtLeast(0);
+    Assertions.assertThrows(IllegalStateException.class, () -> subject.withWarmup(Duration.ZERO));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> subject.withWindows(0, Duration.ofMillis(1)));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> subject.withWindows(1, Duration.ZERO));
+  }
+
+  @Test
+  void failsOnNull() {
+    Assertions.assertThrows(AssertionError.class, () -> ThroughputSubject.assertThatThroughputOf(null).opsPerSecond().isAtLeast(0));
+  }
+
+  @Test
+  void measuresRealTime() {
+    TruthTime.assertThatThroughputOf(() -> { })
+        .withWarmup(Duration.ofMillis(10))
+        .withWindows(3, Duration.ofMillis(10))
+        .opsPerSecond()
+        .isAtLeast(1);
+  }
+
+  private ThroughputSubject assertThatThroughputOf(final Runnable actual) {
+    return assertAbout(ThroughputSubject.throughputs(() -> this.now)).that(actual);
+  }
+}
@@ -0,0 +1,88 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TimeExpectTest {
+  private static final Instant START = Instant.parse("2022-04-20T13:37:00Z");
+
+  @Test
+  void passesWithoutFailures() {
+    final TimeExpect expect = TimeExpect.create();
+    expect.that(START).isAfter(Instant.EPOCH);
+    expect.that(START.atZone(ZoneOffset.UTC)).isEqualTo(START.atZone(ZoneOffset.UTC));
+    expect.that(Duration.ofSeconds(1)).isLongerThan(Duration.ZERO);
+    expect.check().that(1L).isEqualTo(1L);
+    Assertions.assertFalse(expect.hasFailures());
+    expect.verify();
+  }
+
+  @Test
+  void collectsFailuresWithoutThrowing() {
+    final TimeExpect expect = TimeExpect.create();
+    expect.that(START).isBefore(Instant.EPOCH);
+    expect.about(InstantSubject.instants()).that(START).isEqualTo(Instant.EPOCH);
+    Assertions.assertTrue(expect.hasFailures());
+
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, expect::verify);
+    final String message = error.getMessage();
+    Assertions.assertTrue(message.startsWith("2 expectations failed:\n  1. "), message);
+    Assertions.assertTrue(message.contains("\n  2. "), message);
+    Assertions.assertEquals(2, error.getSuppressed().length);
+  }
+
+  @Test
+  void deduplicatesFailuresFromManyThreads() throws InterruptedException {
+    final TimeExpect expect = TimeExpect.create();
+    final int threads = 32;
+    final int failuresPerThread = 1_000;
+    final CountDownLatch start = new CountDownLatch(1);
+    final List<Thread> workers = new ArrayList<>();
+    for (int i = 0; i < threads; ++i) {
+      final Instant mine = START.plusSeconds(i % 2);
+      final Thread worker = new Thread(() -> {
+        try {
+          start.await();
+        } catch (final InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for (int j = 0; j < failuresPerThread; ++j) {
+          expect.that(mine).isBefore(START);
+        }
+      });
+      worker.start();
+      workers.add(worker);
+    }
+    start.countDown();
+    for (final Thread worker : workers) {
+      worker.join();
+    }
+
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, expect::verify);
+    final String message = error.getMessage();
+    Assertions.assertTrue(message.startsWith("32000 expectations failed, 2 distinct:"), message);
+    Assertions.assertEquals(2, message.split("\\(failed 16000 times\\)", -1).length - 1, message);
+    Assertions.assertEquals(2, error.getSuppressed().length);
+  }
+
+  @Test
+  void recordsNullBeforeStopping() {
+    final TimeExpect expect = TimeExpect.create();
+    Assertions.assertThrows(AssertionError.class, () -> expect.that((Instant) null).isAfter(START));
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, expect::verify);
+    Assertions.assertTrue(error.getMessage().startsWith("1 expectation failed:"), error.getMessage());
+    Assertions.assertTrue(error.getMessage().contains("non-null"), error.getMessage());
+  }
+
+  @Test
+  void truthTimeAlias() {
+    TruthTime.expect().verify();
+  }
+}
@@ -0,0 +1,125 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TimelineSubjectTest {
+  @Test
+  void recordsInOrder() {
+    final AtomicLong now = new AtomicLong();
+    final TimelineRecorder timeline = TimelineRecorder.create(5, now::incrementAndGet);
+    Assertions.assertEquals(8, timeline.capacity());
+    final int event = timeline.event("event");
+    Assertions.assertEquals(event, timeline.event("event"));
+    for (int i = 0; i < 20; ++i) {
+      timeline.record(event);
+    }
+    Assertions.assertEquals(20, timeline.recorded());
+    final TimelineRecorder.Snapshot snapshot = timeline.snapshot();
+    Assertions.assertEquals(8, snapshot.size);
+    Assertions.assertEquals(12, snapshot.overwritten);
+    Assertions.assertEquals(13, snapshot.nanoTimes[0]);
+    Assertions.assertEquals(20, snapshot.nanoTimes[7]);
+    Assertions.assertEquals(13, snapshot.earliestNanoTime);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> TimelineRecorder.create(0));
+  }
+
+  @Test
+  void isMonotonicPerThread() throws InterruptedException {
+    final TimelineRecorder timeline = TimelineRecorder.create(1 << 16);
+    final int event = timeline.event("event");
+    final List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; ++i) {
+      final Thread thread = new Thread(() -> {
+        for (int j = 0; j < 1_000; ++j) {
+          timeline.record(event);
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    Assertions.assertEquals(8_000, timeline.snapshot().size);
+    TimelineSubject.assertThat(timeline).isMonotonicPerThread();
+
+    final AtomicLong now = new AtomicLong(100);
+    final TimelineRecorder backwards = TimelineRecorder.create(4, () -> now.addAndGet(-10));
+    backwards.record(backwards.event("first"));
+    backwards.record(backwards.event("second"));
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> TimelineSubject.assertThat(backwards).isMonotonicPerThread());
+    // Times are given from the earliest event, so none is negative even when recorded out of order.
+    Assertions.assertTrue(error.getMessage().contains("recorded second at PT0S, before first at PT0.00000001S"), error.getMessage());
+  }
+
+  @Test
+  void happensBefore() {
+    final AtomicLong now = new AtomicLong();
+    final TimelineRecorder timeline = TimelineRecorder.create(16, now::incrementAndGet);
+    final int published = timeline.event("published");
+    final int consumed = timeline.event("consumed");
+    timeline.record(published);
+    timeline.record(published);
+    timeline.record(consumed);
+    TimelineSubject.assertThat(timeline).happensBefore("published", "consumed");
+
+    timeline.record(published);
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> TimelineSubject.assertThat(timeline).happensBefore("published", "consumed"));
+    Assertions.assertTrue(error.getMessage().contains("expected every published to be recorded before every consumed"), error.getMessage());
+    Assertions.assertThrows(AssertionError.class, () -> TimelineSubject.assertThat(timeline).happensBefore("published", "missing"));
+  }
+
+  @Test
+  void crossThreadLag() throws InterruptedException {
+    final AtomicLong now = new AtomicLong();
+    final TimelineRecorder timeline = TimelineRecorder.create(16, now::get);
+    final int tick = timeline.event("tick");
+    now.set(100);
+    timeline.record(tick);
+    now.set(1_000);
+    timeline.record(tick);
+    final Thread other = new Thread(() -> {
+      now.set(130);
+      timeline.record(tick);
+      now.set(1_050);
+      timeline.record(tick);
+    });
+    other.start();
+    other.join();
+
+    TimelineSubject.assertThat(timeline).crossThreadLag("tick").isEqualTo(Duration.ofNanos(50));
+    Assertions.assertThrows(AssertionError.class, () -> TimelineSubject.assertThat(timeline).crossThreadLag("tock"));
+  }
+
+  @Test
+  void missingEventsFailOnceWithoutThrowingStrategy() {
+    final TimelineRecorder timeline = TimelineRecorder.create(16, new AtomicLong()::incrementAndGet);
+    timeline.record(timeline.event("other"));
+    final TimeExpect expect = TimeExpect.create();
+    expect.about(TimelineSubject.timelines()).that(timeline).happensBefore("published", "consumed");
+    // No subject is returned for a lag that was never measured.
+    Assertions.assertThrows(AssertionError.class, () -> expect.about(TimelineSubject.timelines()).that(timeline).crossThreadLag("tick"));
+
+    final AssertionError error = Assertions.assertThrows(AssertionError.class, expect::verify);
+    Assertions.assertTrue(error.getMessage().startsWith("2 expectations failed:"), error.getMessage());
+    Assertions.assertTrue(error.getMessage().contains("expected published and consumed to be recorded"), error.getMessage());
+    Assertions.assertTrue(error.getMessage().contains("expected tick to be recorded"), error.getMessage());
+  }
+
+  @Test
+  void failsOnNull() {
+    Assertions.assertThrows(AssertionError.class, () -> TimelineSubject.assertThat(null).isMonotonicPerThread());
+  }
+
+  @Test
+  void truthTimeAlias() {
+    TruthTime.assertThat(TimelineRecorder.create(1)).isMonotonicPerThread();
+  }
+}
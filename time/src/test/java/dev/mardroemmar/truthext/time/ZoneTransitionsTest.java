@@ -0,0 +1,56 @@
+package dev.mardroemmar.truthext.time;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ZoneTransitionsTest {
+  private static final long HOUR = 3_600L;
+
+  @Test
+  void agreesWithZoneRulesAroundEveryTransition() {
+    for (final String id : ZoneId.getAvailableZoneIds()) {
+      final ZoneId zone = ZoneId.of(id);
+      final ZoneRules rules = zone.getRules();
+      final ZoneTransitions transitions = ZoneTransitions.of(zone);
+      ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("1900-01-01T00:00:00Z"));
+      while (transition != null && transition.toEpochSecond() < ZoneTransitions.CUTOFF_EPOCH_SECOND + 2 * 366 * 24 * HOUR) {
+        final long epochSecond = transition.toEpochSecond();
+        final long[] probes = {epochSecond - 2 * HOUR, epochSecond - 1, epochSecond, epochSecond + HOUR - 1, epochSecond + HOUR};
+        for (final long probe : probes) {
+          assertAgrees(id, rules, transitions, probe);
+        }
+        transition = rules.nextTransition(transition.getInstant());
+      }
+    }
+  }
+
+  @Test
+  void agreesWithZoneRulesHourly() {
+    for (final String id : new String[] {"Europe/Paris", "America/Indiana/Petersburg", "Australia/Lord_Howe", "Pacific/Apia", "UTC"}) {
+      final ZoneId zone = ZoneId.of(id);
+      final ZoneTransitions transitions = ZoneTransitions.of(zone);
+      for (long epochSecond = Instant.parse("1970-01-01T00:00:00Z").getEpochSecond();
+          epochSecond < Instant.parse("2030-01-01T00:00:00Z").getEpochSecond(); epochSecond += HOUR) {
+        assertAgrees(id, zone.getRules(), transitions, epochSecond);
+      }
+    }
+  }
+
+  @Test
+  void cachesPerZone() {
+    Assertions.assertSame(ZoneTransitions.of(ZoneId.of("Europe/Paris")), ZoneTransitions.of(ZoneId.of("Europe/Paris")));
+  }
+
+  private static void assertAgrees(final String id, final ZoneRules rules, final ZoneTransitions transitions, final long epochSecond) {
+    final Instant instant = Instant.ofEpochSecond(epochSecond);
+    Assertions.assertEquals(rules.isDaylightSavings(instant), transitions.isDaylightSavings(epochSecond), id + " at " + instant);
+    final LocalDateTime local = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    Assertions.assertEquals(rules.getValidOffsets(local).size(), transitions.validOffsetCount(epochSecond), id + " at " + local);
+  }
+}
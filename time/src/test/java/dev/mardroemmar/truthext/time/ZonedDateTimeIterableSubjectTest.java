@@ -0,0 +1,57 @@
+package dev.mardroemmar.truthext.time;
+
+import static dev.mardroemmar.truthext.time.InstantSequenceRules.rules;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ZonedDateTimeIterableSubjectTest {
+  private static final ZonedDateTime START = ZonedDateTime.of(2022, 1, 11, 12, 0, 0, 0, ZoneOffset.UTC);
+
+  @Test
+  void comparesInstantsAcrossZones() {
+    final ZonedDateTime tokyo = START.plusSeconds(1).withZoneSameInstant(ZoneId.of("Asia/Tokyo"));
+    ZonedDateTimeIterableSubject.assertThat(Arrays.asList(START, tokyo)).isStrictlyIncreasing();
+    // Same instant in time, different zones: a duplicate as far as the sequence rules are concerned.
+    final List<ZonedDateTime> sameInstant = Arrays.asList(START, START.withZoneSameInstant(ZoneOffset.MAX));
+    Assertions.assertThrows(AssertionError.class, () -> ZonedDateTimeIterableSubject.assertThat(sameInstant).isStrictlyIncreasing());
+    Assertions.assertThrows(AssertionError.class,
+        () -> ZonedDateTimeIterableSubject.assertThat(sameInstant).satisfies(rules().noDuplicates()));
+  }
+
+  @Test
+  void allBetween() {
+    final Instant start = START.toInstant();
+    ZonedDateTimeIterableSubject.assertThat(Arrays.asList(START, START.plusHours(1))).allBetween(start, start.plusSeconds(3600));
+    Assertions.assertThrows(AssertionError.class,
+        () -> ZonedDateTimeIterableSubject.assertThat(Arrays.asList(START, START.plusHours(2))).allBetween(start, start.plusSeconds(3600)));
+  }
+
+  @Test
+  void maxGapAtMost() {
+    ZonedDateTimeIterableSubject.assertThat(Arrays.asList(START, START.plusMinutes(1))).maxGapAtMost(Duration.ofMinutes(1));
+    Assertions.assertThrows(AssertionError.class,
+        () -> ZonedDateTimeIterableSubject.assertThat(Arrays.asList(START, START.plusMinutes(2))).maxGapAtMost(Duration.ofMinutes(1)));
+  }
+
+  @Test
+  void inParallel() {
+    final ZonedDateTime[] values = new ZonedDateTime[300_000];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = START.plusSeconds(i);
+    }
+    ZonedDateTimeIterableSubject.assertThat(Arrays.asList(values)).inParallel().isStrictlyIncreasing();
+
+    values[250_000] = START;
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> ZonedDateTimeIterableSubject.assertThat(Arrays.asList(values)).inParallel().isStrictlyIncreasing());
+    Assertions.assertTrue(error.getMessage().contains("element 250000:"), error.getMessage());
+  }
+}
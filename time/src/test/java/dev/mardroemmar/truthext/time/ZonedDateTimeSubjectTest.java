@@ -5,6 +5,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Month;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -181,6 +182,10 @@ class ZonedDateTimeSubjectTest {
         .epochMilli().isEqualTo(1_000);
     ZonedDateTimeSubject.assertThat(ZonedDateTime.of(1971, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC))
         .epochMilli().isEqualTo(TimeUnit.DAYS.toMillis(365));
+    ZonedDateTimeSubject.assertThat(ZonedDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_999, ZoneOffset.UTC))
+        .epochMilli().isEqualTo(-1);
+    ZonedDateTimeSubject.assertThat(ZonedDateTime.of(1969, 12, 31, 23, 59, 59, 1, ZoneOffset.UTC))
+        .epochMilli().isEqualTo(-1_000);
   }
 
   @Test
@@ -228,4 +233,70 @@ class ZonedDateTimeSubjectTest {
     ZonedDateTimeSubject.assertThat(ZonedDateTime.of(1970, 12, 1, 0, 0, 0, 0, ZoneOffset.UTC))
         .month().isEqualTo(Month.DECEMBER);
   }
+
+  @Test
+  void assertThatIso() {
+    final String[] texts = {
+        "2022-04-20T15:37:00+02:00",
+        "2022-04-20T15:37:00.123+02:00[Europe/Paris]",
+        "2022-04-20T15:37:00+05:00[Europe/Paris]",
+        "2022-10-30T02:30:00+01:00[Europe/Paris]",
+        "2022-10-30T02:30:00+02:00[Europe/Paris]",
+        "2022-04-20T13:37:00Z[UTC]",
+        "2022-04-20T13:37:00Z",
+        "+10000-01-01T00:00:00Z",
+    };
+    for (final String text : texts) {
+      ZonedDateTimeSubject.assertThatIso(text).isEqualTo(ZonedDateTime.parse(text));
+    }
+    ZonedDateTimeSubject.assertThatIso(null).isNull();
+    Assertions.assertThrows(AssertionError.class, () -> ZonedDateTimeSubject.assertThatIso("2022-04-20T13:37:00"));
+    Assertions.assertThrows(AssertionError.class, () -> ZonedDateTimeSubject.assertThatIso("2022-04-20T13:37:00Z[Mars/Olympus_Mons]"));
+    Assertions.assertThrows(AssertionError.class, () -> ZonedDateTimeSubject.assertThatIso("2022-04-20T13:37:00Z[UTC"));
+    TruthTime.assertThatIsoZonedDateTime("1970-01-01T00:00:00Z").isSameInstantAs(Instant.EPOCH);
+  }
+
+  @Test
+  void isInDaylightSavingTime() {
+    final ZoneId paris = ZoneId.of("Europe/Paris");
+    ZonedDateTimeSubject.assertThat(ZonedDateTime.of(2022, 7, 1, 12, 0, 0, 0, paris)).isInDaylightSavingTime();
+    ZonedDateTimeSubject.assertThat(ZonedDateTime.of(2022, 1, 1, 12, 0, 0, 0, paris)).isNotInDaylightSavingTime();
+    ZonedDateTimeSubject.assertThat(ZonedDateTime.of(2022, 7, 1, 12, 0, 0, 0, ZoneOffset.ofHours(2))).isNotInDaylightSavingTime();
+    // Past the indexed transitions.
+    ZonedDateTimeSubject.assertThat(ZonedDateTime.of(2300, 7, 1, 12, 0, 0, 0, paris)).isInDaylightSavingTime();
+    Assertions.assertThrows(AssertionError.class,
+        () -> ZonedDateTimeSubject.assertThat(ZonedDateTime.of(2022, 1, 1, 12, 0, 0, 0, paris)).isInDaylightSavingTime());
+    Assertions.assertThrows(AssertionError.class,
+        () -> ZonedDateTimeSubject.assertThat(ZonedDateTime.of(2022, 7, 1, 12, 0, 0, 0, paris)).isNotInDaylightSavingTime());
+  }
+
+  @Test
+  void isInOverlap() {
+    final ZoneId paris = ZoneId.of("Europe/Paris");
+    final ZonedDateTime earlier = ZonedDateTime.of(2022, 10, 30, 2, 30, 0, 0, paris);
+    ZonedDateTimeSubject.assertThat(earlier).isInOverlap();
+    ZonedDateTimeSubject.assertThat(earlier.withLaterOffsetAtOverlap()).isInOverlap();
+    ZonedDateTimeSubject.assertThat(earlier.plusHours(2)).isNotInOverlap();
+    ZonedDateTimeSubject.assertThat(ZonedDateTime.of(2022, 3, 27, 2, 30, 0, 0, paris)).isNotInOverlap();
+    final AssertionError error = Assertions.assertThrows(AssertionError.class,
+        () -> ZonedDateTimeSubject.assertThat(earlier).isNotInOverlap());
+    Assertions.assertTrue(error.getMessage().contains("Overlap at 2022-10-30T03:00+02:00 to +01:00"), error.getMessage());
+    Assertions.assertThrows(AssertionError.class, () -> ZonedDateTimeSubject.assertThat(earlier.minusHours(1)).isInOverlap());
+  }
+
+  @Test
+  void nearestTransition() {
+    final ZoneId paris = ZoneId.of("Europe/Paris");
+    final Instant spring = Instant.parse("2022-03-27T01:00:00Z");
+    final Instant autumn = Instant.parse("2022-10-30T01:00:00Z");
+    ZonedDateTimeSubject.assertThat(ZonedDateTime.of(2022, 5, 1, 0, 0, 0, 0, paris)).nearestTransition().isEqualTo(spring);
+    ZonedDateTimeSubject.assertThat(ZonedDateTime.of(2022, 9, 1, 0, 0, 0, 0, paris)).nearestTransition().isEqualTo(autumn);
+    ZonedDateTimeSubject.assertThat(autumn.atZone(paris)).nearestTransition().isEqualTo(autumn);
+    ZonedDateTimeSubject.assertThat(ZonedDateTime.of(2199, 12, 31, 0, 0, 0, 0, paris)).nearestTransition()
+        .isEqualTo(Instant.parse("2199-10-27T01:00:00Z"));
+    ZonedDateTimeSubject.assertThat(ZonedDateTime.of(2300, 4, 1, 0, 0, 0, 0, paris)).nearestTransition()
+        .isEqualTo(Instant.parse("2300-03-25T01:00:00Z"));
+    Assertions.assertThrows(AssertionError.class,
+        () -> ZonedDateTimeSubject.assertThat(autumn.atZone(ZoneOffset.UTC)).nearestTransition());
+  }
 }